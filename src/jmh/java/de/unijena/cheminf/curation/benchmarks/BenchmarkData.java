@@ -0,0 +1,225 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.benchmarks;
+
+import de.unijena.cheminf.curation.utils.SyntheticDatasetGenerator;
+import org.openscience.cdk.exception.CDKException;
+import org.openscience.cdk.interfaces.IAtomContainer;
+import org.openscience.cdk.interfaces.IAtomContainerSet;
+import org.openscience.cdk.io.SDFWriter;
+import org.openscience.cdk.silent.AtomContainerSet;
+import org.openscience.cdk.silent.SilentChemObjectBuilder;
+import org.openscience.cdk.smiles.SmilesParser;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Creates the deterministic benchmark inputs: molecules of a given heavy atom count and datasets of a given shape,
+ * built out of fixed SMILES fragments by a seeded random number generator, so that all benchmark runs (and runs of
+ * different commits) process the same structures. Datasets of shape {@link DatasetShapes#REALISTIC} are created by
+ * the {@link SyntheticDatasetGenerator}.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public final class BenchmarkData {
+
+    //<editor-fold desc="public enums" defaultstate="collapsed">
+    /**
+     * Shapes of benchmark datasets, defining the heavy atom count range of the contained molecules.
+     */
+    public enum DatasetShapes {
+        /**
+         * Small molecules of 5 to 20 heavy atoms.
+         */
+        SMALL(5, 20),
+        /**
+         * Drug-like molecules of 20 to 50 heavy atoms.
+         */
+        DRUG_LIKE(20, 50),
+        /**
+         * Large molecules of 100 to 300 heavy atoms.
+         */
+        LARGE(100, 300),
+        /**
+         * Molecules of 5 to 300 heavy atoms.
+         */
+        MIXED(5, 300),
+        /**
+         * Records of the {@link SyntheticDatasetGenerator} with its default size distribution and shares of salts,
+         * pseudo-atoms, invalid valences and missing external identifiers; implicit hydrogen counts are always set,
+         * so that the in-memory dataset equals the one of the SD file.
+         */
+        REALISTIC(SyntheticDatasetGenerator.DEFAULT_MINIMUM_HEAVY_ATOM_COUNT,
+                SyntheticDatasetGenerator.DEFAULT_MAXIMUM_HEAVY_ATOM_COUNT);
+
+        /**
+         * Minimum heavy atom count.
+         */
+        private final int minimumSize;
+
+        /**
+         * Maximum heavy atom count.
+         */
+        private final int maximumSize;
+
+        /**
+         * Constructor.
+         *
+         * @param aMinimumSize minimum heavy atom count
+         * @param aMaximumSize maximum heavy atom count
+         */
+        DatasetShapes(int aMinimumSize, int aMaximumSize) {
+            this.minimumSize = aMinimumSize;
+            this.maximumSize = aMaximumSize;
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public static final constants" defaultstate="collapsed">
+    /**
+     * Seed of the random number generator choosing the fragments.
+     */
+    public static final long SEED = 42L;
+    //</editor-fold>
+
+    //<editor-fold desc="private static final class constants" defaultstate="collapsed">
+    /**
+     * Chain fragments the molecules are built of, each bonding to the previous fragment with its first atom and to
+     * the next fragment with its last atom outside of branches.
+     */
+    private static final String[] CHAIN_FRAGMENTS = {"C", "CC", "N", "O", "C(=O)", "C(C)(C)", "c1ccc(cc1)",
+            "C1CCC(CC1)", "C(F)(F)", "S(=O)(=O)", "C=C", "c1ccc2ccccc2c1"};
+
+    /**
+     * Heavy atom counts of the chain fragments.
+     */
+    private static final int[] CHAIN_FRAGMENT_SIZES = {1, 2, 1, 1, 2, 3, 6, 6, 3, 3, 2, 10};
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Private constructor.
+     */
+    private BenchmarkData() {
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public static methods" defaultstate="collapsed">
+    /**
+     * Returns the SMILES string of a molecule of at least the given heavy atom count built out of the chain
+     * fragments chosen by the given random number generator.
+     *
+     * @param aHeavyAtomCount the minimum heavy atom count
+     * @param aRandom         the random number generator choosing the fragments
+     * @return SMILES string
+     */
+    public static String createSmiles(int aHeavyAtomCount, SplittableRandom aRandom) {
+        StringBuilder tmpSmilesBuilder = new StringBuilder("C");
+        int tmpSize = 1;
+        while (tmpSize < aHeavyAtomCount) {
+            int tmpIndex = aRandom.nextInt(BenchmarkData.CHAIN_FRAGMENTS.length);
+            tmpSmilesBuilder.append(BenchmarkData.CHAIN_FRAGMENTS[tmpIndex]);
+            tmpSize += BenchmarkData.CHAIN_FRAGMENT_SIZES[tmpIndex];
+        }
+        return tmpSmilesBuilder.toString();
+    }
+
+    /**
+     * Returns a molecule of at least the given heavy atom count; the same count always yields the same molecule.
+     *
+     * @param aHeavyAtomCount the minimum heavy atom count
+     * @return IAtomContainer instance
+     * @throws CDKException if the SMILES string could not be parsed
+     */
+    public static IAtomContainer createMolecule(int aHeavyAtomCount) throws CDKException {
+        return new SmilesParser(SilentChemObjectBuilder.getInstance()).parseSmiles(
+                BenchmarkData.createSmiles(aHeavyAtomCount, new SplittableRandom(BenchmarkData.SEED)));
+    }
+
+    /**
+     * Returns a dataset of the given shape and size; the same arguments always yield the same dataset.
+     *
+     * @param aShape         the shape of the dataset
+     * @param aMoleculeCount the number of molecules
+     * @return IAtomContainerSet instance
+     * @throws CDKException if a SMILES string could not be parsed
+     */
+    public static IAtomContainerSet createDataset(DatasetShapes aShape, int aMoleculeCount) throws CDKException {
+        if (aShape == DatasetShapes.REALISTIC) {
+            SyntheticDatasetGenerator tmpGenerator = new SyntheticDatasetGenerator(BenchmarkData.SEED);
+            tmpGenerator.setMissingImplicitHydrogenCountRate(0.0);
+            IAtomContainerSet tmpDataset = new AtomContainerSet();
+            for (int i = 0; i < aMoleculeCount; i++) {
+                tmpDataset.addAtomContainer(tmpGenerator.nextAtomContainer());
+            }
+            return tmpDataset;
+        }
+        SplittableRandom tmpRandom = new SplittableRandom(BenchmarkData.SEED);
+        SmilesParser tmpSmilesParser = new SmilesParser(SilentChemObjectBuilder.getInstance());
+        IAtomContainerSet tmpDataset = new AtomContainerSet();
+        for (int i = 0; i < aMoleculeCount; i++) {
+            int tmpHeavyAtomCount = aShape.minimumSize + tmpRandom.nextInt(aShape.maximumSize - aShape.minimumSize + 1);
+            IAtomContainer tmpAtomContainer = tmpSmilesParser.parseSmiles(BenchmarkData.createSmiles(
+                    tmpHeavyAtomCount, tmpRandom));
+            tmpAtomContainer.setTitle("Molecule_" + i);
+            tmpDataset.addAtomContainer(tmpAtomContainer);
+        }
+        return tmpDataset;
+    }
+
+    /**
+     * Writes a dataset of the given shape and size to a temporary SD file, which is deleted on exit of the JVM.
+     *
+     * @param aShape         the shape of the dataset
+     * @param aMoleculeCount the number of molecules
+     * @return path of the SD file
+     * @throws CDKException if a molecule could not be created or written
+     * @throws IOException  if the file could not be written
+     */
+    public static Path writeSdFile(DatasetShapes aShape, int aMoleculeCount) throws CDKException, IOException {
+        Path tmpFilePath = Files.createTempFile("Benchmark_" + aShape.name() + "_", ".sdf");
+        tmpFilePath.toFile().deleteOnExit();
+        if (aShape == DatasetShapes.REALISTIC) {
+            new SyntheticDatasetGenerator(BenchmarkData.SEED).writeSdFile(tmpFilePath, aMoleculeCount);
+            return tmpFilePath;
+        }
+        try (Writer tmpWriter = Files.newBufferedWriter(tmpFilePath, StandardCharsets.UTF_8);
+             SDFWriter tmpSdfWriter = new SDFWriter(tmpWriter)) {
+            IAtomContainerSet tmpDataset = BenchmarkData.createDataset(aShape, aMoleculeCount);
+            for (IAtomContainer tmpAtomContainer : tmpDataset.atomContainers()) {
+                tmpSdfWriter.write(tmpAtomContainer);
+            }
+        }
+        return tmpFilePath;
+    }
+    //</editor-fold>
+
+}
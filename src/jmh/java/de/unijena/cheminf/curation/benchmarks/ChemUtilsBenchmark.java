@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.benchmarks;
+
+import de.unijena.cheminf.curation.enums.MassComputationFlavours;
+import de.unijena.cheminf.curation.utils.ChemUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openscience.cdk.exception.CDKException;
+import org.openscience.cdk.interfaces.IAtomContainer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link ChemUtils} methods the filters are based on, at several molecule sizes.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChemUtilsBenchmark {
+
+    /**
+     * Heavy atom count of the benchmarked molecule.
+     */
+    @Param({"10", "50", "250"})
+    public int moleculeSize;
+
+    /**
+     * The benchmarked molecule.
+     */
+    private IAtomContainer atomContainer;
+
+    /**
+     * Preallocated array of the sigma bond counts.
+     */
+    private int[] sigmaBondCounts;
+
+    /**
+     * Preallocated array of the pi bond counts.
+     */
+    private int[] piBondCounts;
+
+    /**
+     * Creates the benchmarked molecule.
+     *
+     * @throws CDKException if the molecule could not be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws CDKException {
+        this.atomContainer = BenchmarkData.createMolecule(this.moleculeSize);
+        this.sigmaBondCounts = new int[this.atomContainer.getAtomCount()];
+        this.piBondCounts = new int[this.atomContainer.getAtomCount()];
+    }
+
+    /**
+     * Computes the atom count including implicit hydrogens and pseudo-atoms.
+     *
+     * @return the result, consumed by JMH
+     */
+    @Benchmark
+    public int getAtomCount() {
+        return ChemUtils.getAtomCount(this.atomContainer, true, true);
+    }
+
+    /**
+     * Computes the heavy atom count including pseudo-atoms.
+     *
+     * @return the result, consumed by JMH
+     */
+    @Benchmark
+    public int getHeavyAtomCount() {
+        return ChemUtils.getHeavyAtomCount(this.atomContainer, true);
+    }
+
+    /**
+     * Computes the bond count including bonds to implicit hydrogens and pseudo-atoms.
+     *
+     * @return the result, consumed by JMH
+     */
+    @Benchmark
+    public int getBondCount() {
+        return ChemUtils.getBondCount(this.atomContainer, true, true);
+    }
+
+    /**
+     * Computes the molecular weight.
+     *
+     * @return the result, consumed by JMH
+     */
+    @Benchmark
+    public double getMass() {
+        return ChemUtils.getMass(this.atomContainer, MassComputationFlavours.MOL_WEIGHT);
+    }
+
+    /**
+     * Computes whether the molecule contains pseudo-atoms.
+     *
+     * @return the result, consumed by JMH
+     */
+    @Benchmark
+    public boolean containsPseudoAtoms() {
+        return ChemUtils.containsPseudoAtoms(this.atomContainer);
+    }
+
+    /**
+     * Computes the sigma and pi bond counts of all atoms in a single pass.
+     *
+     * @return the result, consumed by JMH
+     */
+    @Benchmark
+    public int[] fillSigmaAndPiBondCounts() {
+        ChemUtils.fillSigmaAndPiBondCounts(this.atomContainer, this.sigmaBondCounts, this.piBondCounts);
+        return this.sigmaBondCounts;
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.benchmarks;
+
+import de.unijena.cheminf.curation.processingSteps.CurationPipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openscience.cdk.exception.CDKException;
+import org.openscience.cdk.interfaces.IAtomContainerSet;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmarks of a curation pipeline of several filters, processing an in-memory dataset and importing and
+ * processing an SD file, for several dataset shapes; one operation is the processing of the whole dataset.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurationPipelineBenchmark {
+
+    /**
+     * Shape of the processed dataset.
+     */
+    @Param({"SMALL", "DRUG_LIKE", "LARGE", "MIXED", "REALISTIC"})
+    public BenchmarkData.DatasetShapes datasetShape;
+
+    /**
+     * Number of molecules in the processed dataset.
+     */
+    @Param({"1000"})
+    public int moleculeCount;
+
+    /**
+     * The benchmarked pipeline.
+     */
+    private CurationPipeline pipeline;
+
+    /**
+     * The processed in-memory dataset.
+     */
+    private IAtomContainerSet dataset;
+
+    /**
+     * Path of the processed SD file.
+     */
+    private Path sdFilePath;
+
+    /**
+     * Creates the pipeline, the dataset and the SD file.
+     *
+     * @throws CDKException if a molecule could not be created
+     * @throws IOException  if the file could not be written
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws CDKException, IOException {
+        this.pipeline = new CurationPipeline(new NoOpReporter())
+                .withHasAllValidAtomicNumbersFilter(false)
+                .withContainsNoPseudoAtomsFilter()
+                .withOrganicSubsetFilter()
+                .withMaxHeavyAtomCountFilter(150, false)
+                .withMaxMolecularMassFilter(2000.0)
+                .withHasAllValidValencesFilter(false);
+        this.dataset = BenchmarkData.createDataset(this.datasetShape, this.moleculeCount);
+        this.sdFilePath = BenchmarkData.writeSdFile(this.datasetShape, this.moleculeCount);
+    }
+
+    /**
+     * Processes clones of the molecules of the in-memory dataset.
+     *
+     * @return the processed dataset, consumed by JMH
+     * @throws Exception if the processing fails
+     */
+    @Benchmark
+    public IAtomContainerSet process() throws Exception {
+        return this.pipeline.process(this.dataset, true);
+    }
+
+    /**
+     * Imports and processes the molecules of the SD file.
+     *
+     * @return the processed dataset, consumed by JMH
+     * @throws Exception if the import or processing fails
+     */
+    @Benchmark
+    public IAtomContainerSet importAndProcess() throws Exception {
+        return this.pipeline.importAndProcess(this.sdFilePath.toString());
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.benchmarks;
+
+import de.unijena.cheminf.curation.enums.MassComputationFlavours;
+import de.unijena.cheminf.curation.processingSteps.filters.ContainsNoPseudoAtomsFilter;
+import de.unijena.cheminf.curation.processingSteps.filters.ElementCompositionFilter;
+import de.unijena.cheminf.curation.processingSteps.filters.FilterOutcome;
+import de.unijena.cheminf.curation.processingSteps.filters.HasAllValidAtomicNumbersFilter;
+import de.unijena.cheminf.curation.processingSteps.filters.HasAllValidValencesFilter;
+import de.unijena.cheminf.curation.processingSteps.filters.IFilter;
+import de.unijena.cheminf.curation.processingSteps.filters.MaxAtomCountFilter;
+import de.unijena.cheminf.curation.processingSteps.filters.MaxBondCountFilter;
+import de.unijena.cheminf.curation.processingSteps.filters.MaxHeavyAtomCountFilter;
+import de.unijena.cheminf.curation.processingSteps.filters.MaxMolecularMassFilter;
+import de.unijena.cheminf.curation.reporter.IReporter;
+import de.unijena.cheminf.curation.utils.ChemUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openscience.cdk.exception.CDKException;
+import org.openscience.cdk.interfaces.IAtomContainer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the filtering of a single molecule by each filter, at several molecule sizes, via both {@link
+ * IFilter#isFiltered(IAtomContainer)} and {@link IFilter#evaluate(IAtomContainer)}. The thresholds of the count and
+ * mass filters equal the respective count (including implicit hydrogens where the filter considers them) or mass of
+ * the molecule, so that the molecule passes and the counting is not ended early.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark {
+
+    /**
+     * Name of the benchmarked filter.
+     */
+    @Param({"MaxAtomCount", "MaxHeavyAtomCount", "MaxBondCount", "MaxMolecularMass", "ContainsNoPseudoAtoms",
+            "HasAllValidAtomicNumbers", "HasAllValidValences", "OrganicSubset"})
+    public String filterName;
+
+    /**
+     * Heavy atom count of the benchmarked molecule.
+     */
+    @Param({"10", "50", "250"})
+    public int moleculeSize;
+
+    /**
+     * The benchmarked filter.
+     */
+    private IFilter filter;
+
+    /**
+     * The benchmarked molecule.
+     */
+    private IAtomContainer atomContainer;
+
+    /**
+     * Creates the benchmarked filter and molecule.
+     *
+     * @throws CDKException if the molecule could not be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws CDKException {
+        this.atomContainer = BenchmarkData.createMolecule(this.moleculeSize);
+        IReporter tmpReporter = new NoOpReporter();
+        this.filter = switch (this.filterName) {
+            case "MaxAtomCount" -> new MaxAtomCountFilter(ChemUtils.getAtomCount(this.atomContainer, true, true),
+                    true, true, tmpReporter);
+            case "MaxHeavyAtomCount" -> new MaxHeavyAtomCountFilter(
+                    ChemUtils.getHeavyAtomCount(this.atomContainer, true), true, tmpReporter);
+            case "MaxBondCount" -> new MaxBondCountFilter(ChemUtils.getBondCount(this.atomContainer, true, true),
+                    true, true, tmpReporter);
+            case "MaxMolecularMass" -> new MaxMolecularMassFilter(ChemUtils.getMass(this.atomContainer,
+                    MassComputationFlavours.MOL_WEIGHT), MassComputationFlavours.MOL_WEIGHT, tmpReporter);
+            case "ContainsNoPseudoAtoms" -> new ContainsNoPseudoAtomsFilter(tmpReporter);
+            case "HasAllValidAtomicNumbers" -> new HasAllValidAtomicNumbersFilter(false, tmpReporter);
+            case "HasAllValidValences" -> new HasAllValidValencesFilter(false, tmpReporter);
+            case "OrganicSubset" -> new ElementCompositionFilter(tmpReporter);
+            default -> throw new IllegalArgumentException("Unknown filter name: " + this.filterName);
+        };
+    }
+
+    /**
+     * Decides whether the molecule is filtered.
+     *
+     * @return the result, consumed by JMH
+     * @throws Exception if the filter throws an exception
+     */
+    @Benchmark
+    public boolean isFiltered() throws Exception {
+        return this.filter.isFiltered(this.atomContainer);
+    }
+
+    /**
+     * Evaluates the molecule, returning the outcome instead of signalling issues via exceptions.
+     *
+     * @return the outcome, consumed by JMH
+     * @throws Exception if the filter throws an exception
+     */
+    @Benchmark
+    public FilterOutcome evaluate() throws Exception {
+        return this.filter.evaluate(this.atomContainer);
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.benchmarks;
+
+import de.unijena.cheminf.curation.reporter.IReporter;
+import de.unijena.cheminf.curation.reporter.ReportDataObject;
+
+/**
+ * Reporter discarding all reported data, so that the benchmarks measure the processing and not the reporting.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public class NoOpReporter implements IReporter {
+
+    /**
+     * Does nothing.
+     */
+    @Override
+    public void initializeNewReport() {
+        // nothing to initialize
+    }
+
+    /**
+     * Discards the given ReportDataObject.
+     *
+     * @param aReportDataObject the report to discard
+     */
+    @Override
+    public void appendReport(ReportDataObject aReportDataObject) {
+        // the reported data is discarded
+    }
+
+    /**
+     * Does nothing.
+     */
+    @Override
+    public void report() {
+        // nothing to report
+    }
+
+    /**
+     * Does nothing.
+     */
+    @Override
+    public void reportAfterFatalException() {
+        // nothing to report
+    }
+
+    /**
+     * Does nothing.
+     */
+    @Override
+    public void clear() {
+        // nothing to clear
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.benchmarks;
+
+import de.unijena.cheminf.curation.fileReaders.CustomIteratingSDFReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openscience.cdk.exception.CDKException;
+import org.openscience.cdk.silent.SilentChemObjectBuilder;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the import throughput of the {@link CustomIteratingSDFReader} for SD files of several dataset shapes;
+ * one operation is the import of the whole file.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SdfImportBenchmark {
+
+    /**
+     * Shape of the imported dataset.
+     */
+    @Param({"SMALL", "DRUG_LIKE", "LARGE", "MIXED", "REALISTIC"})
+    public BenchmarkData.DatasetShapes datasetShape;
+
+    /**
+     * Number of molecules in the imported file.
+     */
+    @Param({"1000"})
+    public int moleculeCount;
+
+    /**
+     * Path of the imported SD file.
+     */
+    private Path sdFilePath;
+
+    /**
+     * Writes the imported SD file.
+     *
+     * @throws CDKException if a molecule could not be created
+     * @throws IOException  if the file could not be written
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws CDKException, IOException {
+        this.sdFilePath = BenchmarkData.writeSdFile(this.datasetShape, this.moleculeCount);
+    }
+
+    /**
+     * Imports all molecules of the SD file.
+     *
+     * @return the number of imported molecules, consumed by JMH
+     * @throws IOException if the file could not be read
+     */
+    @Benchmark
+    public int importSdFile() throws IOException {
+        int tmpCount = 0;
+        try (InputStream tmpInputStream = new BufferedInputStream(Files.newInputStream(this.sdFilePath));
+             CustomIteratingSDFReader tmpReader = new CustomIteratingSDFReader(tmpInputStream,
+                     SilentChemObjectBuilder.getInstance())) {
+            while (tmpReader.hasNext()) {
+                if (tmpReader.next() != null) {
+                    tmpCount++;
+                }
+            }
+        }
+        return tmpCount;
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.benchmarks;
+
+import de.unijena.cheminf.curation.utils.FilterUtils;
+import de.unijena.cheminf.curation.valenceHandling.valenceModels.CachingValenceModel;
+import de.unijena.cheminf.curation.valenceHandling.valenceModels.CompositeValenceModel;
+import de.unijena.cheminf.curation.valenceHandling.valenceModels.IValenceModel;
+import de.unijena.cheminf.curation.valenceHandling.valenceModels.PubChemValenceModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openscience.cdk.exception.CDKException;
+import org.openscience.cdk.interfaces.IAtom;
+import org.openscience.cdk.interfaces.IAtomContainer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the valence models, checking all atoms of a molecule at once (via {@link
+ * FilterUtils#hasAllValidValences(IAtomContainer, boolean, IValenceModel)}) and atom by atom, at several molecule
+ * sizes.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValenceModelBenchmark {
+
+    /**
+     * Name of the benchmarked valence model.
+     */
+    @Param({"PubChem", "Caching", "Composite"})
+    public String valenceModelName;
+
+    /**
+     * Heavy atom count of the benchmarked molecule.
+     */
+    @Param({"10", "50", "250"})
+    public int moleculeSize;
+
+    /**
+     * The benchmarked valence model.
+     */
+    private IValenceModel valenceModel;
+
+    /**
+     * The benchmarked molecule.
+     */
+    private IAtomContainer atomContainer;
+
+    /**
+     * Creates the benchmarked valence model and molecule.
+     *
+     * @throws CDKException if the molecule could not be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws CDKException {
+        this.atomContainer = BenchmarkData.createMolecule(this.moleculeSize);
+        this.valenceModel = switch (this.valenceModelName) {
+            case "PubChem" -> new PubChemValenceModel();
+            case "Caching" -> new CachingValenceModel(new PubChemValenceModel());
+            case "Composite" -> new CompositeValenceModel(new PubChemValenceModel(), new PubChemValenceModel());
+            default -> throw new IllegalArgumentException("Unknown valence model name: " + this.valenceModelName);
+        };
+    }
+
+    /**
+     * Checks the valences of all atoms of the molecule in a single pass over its bonds.
+     *
+     * @return the result, consumed by JMH
+     */
+    @Benchmark
+    public boolean hasAllValidValences() {
+        return FilterUtils.hasAllValidValences(this.atomContainer, false, this.valenceModel);
+    }
+
+    /**
+     * Checks the valences of the atoms of the molecule one by one.
+     *
+     * @return the result, consumed by JMH
+     */
+    @Benchmark
+    public int hasValidValencePerAtom() {
+        int tmpValidCount = 0;
+        for (IAtom tmpAtom : this.atomContainer.atoms()) {
+            if (this.valenceModel.hasValidValence(tmpAtom, false)) {
+                tmpValidCount++;
+            }
+        }
+        return tmpValidCount;
+    }
+
+}
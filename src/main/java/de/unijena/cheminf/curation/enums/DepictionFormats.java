@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.enums;
+
+/**
+ * Enum that defines the image formats the depictions of molecules in reports may be created in.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public enum DepictionFormats {
+
+    /**
+     * Raster image in the Portable Network Graphics format.
+     */
+    PNG("image/png"),
+
+    /**
+     * Vector image in the Scalable Vector Graphics format; considerably cheaper to generate and, for most molecules,
+     * smaller than PNG images.
+     */
+    SVG("image/svg+xml");
+
+    /**
+     * MIME type of the image format.
+     */
+    private final String mimeType;
+
+    /**
+     * Constructor.
+     *
+     * @param aMimeType MIME type of the image format
+     */
+    DepictionFormats(String aMimeType) {
+        this.mimeType = aMimeType;
+    }
+
+    /**
+     * Returns the MIME type of the image format, e.g. to be used in data URIs.
+     *
+     * @return String value
+     */
+    public String getMimeType() {
+        return this.mimeType;
+    }
+
+}
@@ -136,6 +136,15 @@ public enum ErrorCodes {
     /**
      * The import of the structure out of an SD file failed.
      */
-    SDF_IMPORT_FAILED_ERROR
+    SDF_IMPORT_FAILED_ERROR,
+
+    /* valence reporting */
+    /**
+     * Atoms with invalid valences were detected in a filtered structure; only reported by the valence filters if
+     * requested (see {@link
+     * de.unijena.cheminf.curation.processingSteps.filters.HasAllValidValencesFilter#setReportingInvalidValenceAtoms(
+     * boolean)}).
+     */
+    INVALID_VALENCE_ERROR
 
 }
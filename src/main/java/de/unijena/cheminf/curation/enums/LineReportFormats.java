@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.enums;
+
+/**
+ * Enum that defines the machine-readable, line-based formats reports may be written in.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public enum LineReportFormats {
+
+    /**
+     * Comma-separated values (RFC 4180) with a header line; fields are quoted if necessary.
+     */
+    CSV(".csv"),
+
+    /**
+     * JSON Lines; one JSON object per line.
+     */
+    JSON_LINES(".jsonl");
+
+    /**
+     * File name extension of the format.
+     */
+    private final String fileExtension;
+
+    /**
+     * Constructor.
+     *
+     * @param aFileExtension file name extension of the format, including the leading dot
+     */
+    LineReportFormats(String aFileExtension) {
+        this.fileExtension = aFileExtension;
+    }
+
+    /**
+     * Returns the file name extension of the format, including the leading dot.
+     *
+     * @return String value
+     */
+    public String getFileExtension() {
+        return this.fileExtension;
+    }
+
+}
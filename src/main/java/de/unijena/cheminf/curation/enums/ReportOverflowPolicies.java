@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.enums;
+
+/**
+ * Enum that defines how the {@link de.unijena.cheminf.curation.reporter.AsyncReporter} handles report data objects
+ * that are appended while its ring buffer is full.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public enum ReportOverflowPolicies {
+
+    /**
+     * The appending thread waits until the consumer has made room in the ring buffer; no report data object is lost,
+     * but the appending thread may be delayed.
+     */
+    BLOCK,
+
+    /**
+     * The report data object is discarded and counted; the appending thread is never delayed.
+     */
+    DROP,
+
+    /**
+     * A snapshot of the report data object (including its absolute SMILES string) is written to a temporary file and
+     * passed to the wrapped reporter when the report is generated; no report data object is lost and the appending
+     * thread is only delayed by the (buffered) file output.
+     * <br>
+     * <b>Note:</b> The spilled report data objects are passed to the wrapped reporter after all published ones, so the
+     * wrapped reporter does not receive them in the order they were appended in; the published ones have already been
+     * passed on by the time the spilled ones are read back. Use this policy with a wrapped reporter that sorts its
+     * entries (e.g. the {@link de.unijena.cheminf.curation.reporter.MarkDownReporter}) if the order matters.
+     */
+    SPILL_TO_DISK
+
+}
@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.enums;
+
+/**
+ * Enum that defines which of the reported issues of a sampling group are rendered in detail (with depiction) by a
+ * reporter using a {@link de.unijena.cheminf.curation.reporter.ReportSamplingPolicy}; the other issues are only
+ * counted.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public enum ReportSamplingModes {
+
+    /**
+     * All reported issues are rendered.
+     */
+    ALL,
+
+    /**
+     * The first N reported issues of each group are rendered.
+     */
+    FIRST_N,
+
+    /**
+     * N reported issues of each group, drawn uniformly at random by (seeded) reservoir sampling, are rendered.
+     */
+    RESERVOIR
+
+}
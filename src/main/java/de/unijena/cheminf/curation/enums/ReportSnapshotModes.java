@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.enums;
+
+import de.unijena.cheminf.curation.reporter.ReportDataObject;
+
+/**
+ * Enum that defines in which form reporters keeping the reported data in memory store the appended report data
+ * objects.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see ReportDataObject#toSnapshot(boolean)
+ */
+public enum ReportSnapshotModes {
+
+    /**
+     * The report data objects are stored as they are, including the atom containers of the reported structures.
+     */
+    FULL,
+
+    /**
+     * Snapshots holding the identifiers, the error code and the indices of the affected atoms are stored instead of
+     * the report data objects; the reported structures may be garbage collected right away.
+     */
+    IDENTIFIERS_ONLY,
+
+    /**
+     * Like {@link #IDENTIFIERS_ONLY}, but the snapshots additionally hold the absolute SMILES strings of the reported
+     * structures, e.g. to be depicted in the report.
+     */
+    IDENTIFIERS_AND_SMILES;
+
+    /**
+     * Returns the given report data object in the form defined by the snapshot mode.
+     *
+     * @param aReportDataObject the report data object to store
+     * @return the given report data object or a snapshot of it
+     */
+    public ReportDataObject apply(ReportDataObject aReportDataObject) {
+        return switch (this) {
+            case FULL -> aReportDataObject;
+            case IDENTIFIERS_ONLY -> aReportDataObject.toSnapshot(false);
+            case IDENTIFIERS_AND_SMILES -> aReportDataObject.toSnapshot(true);
+        };
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.enums;
+
+import de.unijena.cheminf.curation.utils.FilterUtils;
+
+/**
+ * Enum that defines the results of checking a count of a structure against a threshold value without signalling issues
+ * with the structure via exceptions (see e.g. {@link FilterUtils#checkAtomCount}). Besides the threshold being reached
+ * or not, the check may be prevented by data of the structure that is needed for the count being null; such results
+ * are associated with the respective error code.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public enum ThresholdCheckResults {
+
+    /**
+     * The count exceeds or equals the threshold value.
+     */
+    THRESHOLD_REACHED(null),
+
+    /**
+     * The count falls short of the threshold value.
+     */
+    THRESHOLD_NOT_REACHED(null),
+
+    /**
+     * The implicit hydrogen count of an atom visited before the outcome was decided is null.
+     */
+    IMPLICIT_HYDROGEN_COUNT_NULL(ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR),
+
+    /**
+     * The atomic number of an atom visited before the outcome was decided is null.
+     */
+    ATOMIC_NUMBER_NULL(ErrorCodes.ATOMIC_NUMBER_NULL_ERROR);
+
+    /**
+     * Error code associated with the result or null, if the check was not prevented by an issue.
+     */
+    private final ErrorCodes errorCode;
+
+    /**
+     * Internal constructor.
+     *
+     * @param anErrorCode the error code associated with the result or null
+     */
+    ThresholdCheckResults(ErrorCodes anErrorCode) {
+        this.errorCode = anErrorCode;
+    }
+
+    /**
+     * Returns whether the check was prevented by an issue with the structure.
+     *
+     * @return true, if an issue occurred
+     */
+    public boolean isIssue() {
+        return this.errorCode != null;
+    }
+
+    /**
+     * Returns the error code associated with the result or null, if the check was not prevented by an issue.
+     *
+     * @return ErrorCodes constant or null
+     */
+    public ErrorCodes getErrorCode() {
+        return this.errorCode;
+    }
+
+}
@@ -25,6 +25,7 @@
 
 package de.unijena.cheminf.curation.fileReaders;
 
+import de.unijena.cheminf.curation.jfr.SdfImportChunkEvent;
 import org.openscience.cdk.interfaces.IAtomContainer;
 import org.openscience.cdk.interfaces.IChemObjectBuilder;
 import org.openscience.cdk.io.ISimpleChemObjectReader;
@@ -101,6 +102,13 @@ public class CustomIteratingSDFReader extends DefaultIteratingChemObjectReader<I
             5);
     //</editor-fold>
 
+    //<editor-fold desc="public static final constants (custom)" defaultstate="collapsed">
+    /**
+     * Number of records covered by one {@link SdfImportChunkEvent}.
+     */
+    public static final int IMPORT_EVENT_CHUNK_SIZE = 1000;
+    //</editor-fold>
+
     //<editor-fold desc="private variables (custom)" defaultstate="collapsed">
     /**
      * The counter of how many molecules have been detected in the file so far - including null molecules / molecules
@@ -127,6 +135,28 @@ public class CustomIteratingSDFReader extends DefaultIteratingChemObjectReader<I
      * Boolean value whether a fatal exception caused the {@link #hasNext()} method to return false.
      */
     private boolean endedWithFatalException = false;
+
+    /**
+     * JDK Flight Recorder event of the current chunk of records or null, if none has been created yet or the last one
+     * has been committed. While the event is disabled, the same instance is reused for all chunks, so that no event is
+     * allocated per chunk.
+     */
+    private SdfImportChunkEvent importChunkEvent = null;
+
+    /**
+     * Whether a chunk of records has been started and not been committed yet.
+     */
+    private boolean isImportChunkStarted = false;
+
+    /**
+     * Index of the first record of the current chunk.
+     */
+    private int importChunkFirstRecordIndex = 0;
+
+    /**
+     * Count of null molecules at the start of the current chunk.
+     */
+    private int importChunkNullMoleculesCounterAtStart = 0;
     //</editor-fold>
 
     //<editor-fold desc="Constructors" defaultstate="collapsed">
@@ -184,14 +214,44 @@ public class CustomIteratingSDFReader extends DefaultIteratingChemObjectReader<I
     /**
      * Returns true if the file contains a next entry. Null molecules - structures that fail to be imported - may be
      * skipped (see {@link #setSkip(boolean)}).
+     * <br>
+     * The reading is recorded by JDK Flight Recorder events, one per {@link #IMPORT_EVENT_CHUNK_SIZE} records (see
+     * {@link SdfImportChunkEvent}).
      */
     @Override
     public boolean hasNext() {
-
         if (nextAvailableIsKnown) {
             return hasNext;
         }
+        if (!this.isImportChunkStarted) {
+            if (this.importChunkEvent == null) {
+                this.importChunkEvent = new SdfImportChunkEvent();
+            }
+            this.isImportChunkStarted = true;
+            this.importChunkEvent.begin();
+            this.importChunkFirstRecordIndex = this.moleculesInFileCounter;
+            this.importChunkNullMoleculesCounterAtStart = this.nullMoleculesCounter;
+            this.importChunkEvent.setFirstLineNumber(this.currentLineCount + 1);
+        }
+        boolean tmpIsEventEnabled = this.importChunkEvent.isEnabled();
+        long tmpStartTime = tmpIsEventEnabled ? System.nanoTime() : 0L;
+        boolean tmpHasNext = this.readNext();
+        if (tmpIsEventEnabled) {
+            this.importChunkEvent.addParsingTime(System.nanoTime() - tmpStartTime);
+        }
+        if (!tmpHasNext || this.moleculesInFileCounter - this.importChunkFirstRecordIndex
+                >= CustomIteratingSDFReader.IMPORT_EVENT_CHUNK_SIZE) {
+            this.commitImportChunkEvent();
+        }
+        return tmpHasNext;
+    }
 
+    /**
+     * Reads the next entry of the file; the actual logic of {@link #hasNext()}.
+     *
+     * @return true if the file contains a next entry
+     */
+    private boolean readNext() {
         hasNext = false;
         nextMolecule = null;
         this.lineCountAtBeginOfNext = this.currentLineCount + 1;
@@ -309,6 +369,33 @@ public class CustomIteratingSDFReader extends DefaultIteratingChemObjectReader<I
         }
         return tmpReadLine;
     }
+
+    /**
+     * Commits the JDK Flight Recorder event of the current chunk of records, if it contains at least one record and
+     * the event is enabled; the next call of {@link #hasNext()} starts a new chunk. A disabled event is kept for
+     * reuse.
+     */
+    private void commitImportChunkEvent() {
+        if (!this.isImportChunkStarted) {
+            return;
+        }
+        this.isImportChunkStarted = false;
+        if (!this.importChunkEvent.isEnabled()) {
+            return;
+        }
+        int tmpRecordCount = this.moleculesInFileCounter - this.importChunkFirstRecordIndex;
+        if (tmpRecordCount > 0) {
+            this.importChunkEvent.end();
+            if (this.importChunkEvent.shouldCommit()) {
+                this.importChunkEvent.setFirstRecordIndex(this.importChunkFirstRecordIndex);
+                this.importChunkEvent.setRecordCount(tmpRecordCount);
+                this.importChunkEvent.setFailedRecordCount(this.nullMoleculesCounter
+                        - this.importChunkNullMoleculesCounterAtStart);
+                this.importChunkEvent.commit();
+            }
+        }
+        this.importChunkEvent = null;
+    }
     //</editor-fold>
 
     //<editor-fold desc="private and public methods (unmodified)">
@@ -433,6 +520,7 @@ public class CustomIteratingSDFReader extends DefaultIteratingChemObjectReader<I
 
     @Override
     public void close() throws IOException {
+        this.commitImportChunkEvent();
         input.close();
     }
 
@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.jfr;
+
+import de.unijena.cheminf.curation.processingSteps.CurationPipeline;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event covering a call of {@link CurationPipeline#importAndProcess(java.io.File)}, i.e. the
+ * import of the structures, their processing and the generation of the report. The time spent importing is given
+ * separately; the processing steps and the report generation emit their own events.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see SdfImportChunkEvent
+ * @see ProcessingStepEvent
+ * @see ReportGenerationEvent
+ */
+@Name("de.unijena.cheminf.curation.CurationRun")
+@Label("Curation Run")
+@Category({"Chemical Structure Curation", "Processing"})
+@Description("Import and processing of the structures of a file by a curation pipeline")
+@StackTrace(false)
+public final class CurationRunEvent extends Event {
+
+    /**
+     * Path of the imported file.
+     */
+    @Label("File Path")
+    private String filePath;
+
+    /**
+     * Number of structures in the file.
+     */
+    @Label("Structures In File")
+    private int structuresInFileCount;
+
+    /**
+     * Number of structures that failed the import.
+     */
+    @Label("Failed Import Count")
+    private int failedImportCount;
+
+    /**
+     * Number of structures returned by the pipeline.
+     */
+    @Label("Output Count")
+    @Description("Number of structures returned by the pipeline; -1 if the processing failed")
+    private int outputCount = -1;
+
+    /**
+     * Time spent importing the structures in nanoseconds.
+     */
+    @Label("Import Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long importTime;
+
+    /**
+     * Sets the path of the imported file.
+     *
+     * @param aFilePath String instance
+     */
+    public void setFilePath(String aFilePath) {
+        this.filePath = aFilePath;
+    }
+
+    /**
+     * Sets the number of structures in the file.
+     *
+     * @param aStructuresInFileCount integer value
+     */
+    public void setStructuresInFileCount(int aStructuresInFileCount) {
+        this.structuresInFileCount = aStructuresInFileCount;
+    }
+
+    /**
+     * Sets the number of structures that failed the import.
+     *
+     * @param aFailedImportCount integer value
+     */
+    public void setFailedImportCount(int aFailedImportCount) {
+        this.failedImportCount = aFailedImportCount;
+    }
+
+    /**
+     * Sets the number of structures returned by the pipeline.
+     *
+     * @param anOutputCount integer value
+     */
+    public void setOutputCount(int anOutputCount) {
+        this.outputCount = anOutputCount;
+    }
+
+    /**
+     * Sets the time spent importing the structures.
+     *
+     * @param anImportTimeNanos time in nanoseconds
+     */
+    public void setImportTime(long anImportTimeNanos) {
+        this.importTime = anImportTimeNanos;
+    }
+
+}
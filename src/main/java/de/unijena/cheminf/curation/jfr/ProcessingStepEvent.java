@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.jfr;
+
+import de.unijena.cheminf.curation.processingSteps.BaseProcessingStep;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event covering a call of {@link BaseProcessingStep#process}, including the cloning of the
+ * given structures and the generation of the report (if the reporter is self-contained). Events of the processing
+ * steps of a pipeline are nested in the one of the pipeline.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+@Name("de.unijena.cheminf.curation.ProcessingStep")
+@Label("Processing Step")
+@Category({"Chemical Structure Curation", "Processing"})
+@Description("Processing of a set of structures by a processing step")
+@StackTrace(false)
+public final class ProcessingStepEvent extends Event {
+
+    /**
+     * Identifier of the processing step in the pipeline or null.
+     */
+    @Label("Processing Step ID")
+    @Description("Identifier of the processing step in the pipeline; null if it is not part of a pipeline")
+    private String processingStepID;
+
+    /**
+     * Class of the processing step.
+     */
+    @Label("Processing Step Class")
+    private Class<?> processingStepClass;
+
+    /**
+     * Number of given structures.
+     */
+    @Label("Input Count")
+    @Description("Number of structures given to the processing step")
+    private int inputCount;
+
+    /**
+     * Number of returned structures.
+     */
+    @Label("Output Count")
+    @Description("Number of structures returned by the processing step; -1 if the processing failed")
+    private int outputCount = -1;
+
+    /**
+     * Whether the given structures were cloned.
+     */
+    @Label("Cloned")
+    private boolean cloned;
+
+    /**
+     * Whether the processing was interrupted by a fatal exception.
+     */
+    @Label("Failed")
+    @Description("Whether the processing was interrupted by an unexpected, fatal exception")
+    private boolean failed;
+
+    /**
+     * Sets the identifier of the processing step in the pipeline.
+     *
+     * @param aProcessingStepID String instance or null
+     */
+    public void setProcessingStepID(String aProcessingStepID) {
+        this.processingStepID = aProcessingStepID;
+    }
+
+    /**
+     * Sets the class of the processing step.
+     *
+     * @param aProcessingStepClass Class instance
+     */
+    public void setProcessingStepClass(Class<?> aProcessingStepClass) {
+        this.processingStepClass = aProcessingStepClass;
+    }
+
+    /**
+     * Sets the number of given structures.
+     *
+     * @param anInputCount integer value
+     */
+    public void setInputCount(int anInputCount) {
+        this.inputCount = anInputCount;
+    }
+
+    /**
+     * Sets the number of returned structures.
+     *
+     * @param anOutputCount integer value
+     */
+    public void setOutputCount(int anOutputCount) {
+        this.outputCount = anOutputCount;
+    }
+
+    /**
+     * Sets whether the given structures were cloned.
+     *
+     * @param anIsCloned boolean value
+     */
+    public void setCloned(boolean anIsCloned) {
+        this.cloned = anIsCloned;
+    }
+
+    /**
+     * Sets whether the processing was interrupted by a fatal exception.
+     *
+     * @param anIsFailed boolean value
+     */
+    public void setFailed(boolean anIsFailed) {
+        this.failed = anIsFailed;
+    }
+
+}
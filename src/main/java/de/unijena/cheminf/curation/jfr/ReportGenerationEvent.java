@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.jfr;
+
+import de.unijena.cheminf.curation.reporter.MarkDownReporter;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event covering the generation of a report by a reporter, e.g. {@link
+ * MarkDownReporter#report()}, including the rendering of the structure depictions and the writing of the file.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+@Name("de.unijena.cheminf.curation.ReportGeneration")
+@Label("Report Generation")
+@Category({"Chemical Structure Curation", "Reporting"})
+@Description("Generation of a report out of the reported issues")
+@StackTrace(false)
+public final class ReportGenerationEvent extends Event {
+
+    /**
+     * Class of the reporter.
+     */
+    @Label("Reporter Class")
+    private Class<?> reporterClass;
+
+    /**
+     * Number of reported issues.
+     */
+    @Label("Reported Issue Count")
+    private long reportedIssueCount;
+
+    /**
+     * Number of rendered entries.
+     */
+    @Label("Rendered Entry Count")
+    @Description("Number of issues rendered as entries of the report; may be less than the number of reported issues"
+            + " if the entries are sampled")
+    private int renderedEntryCount;
+
+    /**
+     * Path of the report file; null if the report generation failed.
+     */
+    @Label("Report File Path")
+    private String reportFilePath;
+
+    /**
+     * Sets the class of the reporter.
+     *
+     * @param aReporterClass Class instance
+     */
+    public void setReporterClass(Class<?> aReporterClass) {
+        this.reporterClass = aReporterClass;
+    }
+
+    /**
+     * Sets the number of reported issues.
+     *
+     * @param aReportedIssueCount long value
+     */
+    public void setReportedIssueCount(long aReportedIssueCount) {
+        this.reportedIssueCount = aReportedIssueCount;
+    }
+
+    /**
+     * Sets the number of rendered entries.
+     *
+     * @param aRenderedEntryCount integer value
+     */
+    public void setRenderedEntryCount(int aRenderedEntryCount) {
+        this.renderedEntryCount = aRenderedEntryCount;
+    }
+
+    /**
+     * Sets the path of the report file.
+     *
+     * @param aReportFilePath String instance
+     */
+    public void setReportFilePath(String aReportFilePath) {
+        this.reportFilePath = aReportFilePath;
+    }
+
+}
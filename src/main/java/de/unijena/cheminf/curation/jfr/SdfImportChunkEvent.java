@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.jfr;
+
+import de.unijena.cheminf.curation.fileReaders.CustomIteratingSDFReader;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event covering a chunk of consecutive records read by a {@link CustomIteratingSDFReader}; one
+ * event is emitted per {@link CustomIteratingSDFReader#IMPORT_EVENT_CHUNK_SIZE} records (and for the remaining records
+ * at the end of the file) to keep the overhead negligible. The duration of the event spans from the reading of the
+ * first to the one of the last record of the chunk, including the time the consumer of the reader spent in between;
+ * the time spent reading and parsing the records is given separately.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+@Name("de.unijena.cheminf.curation.SdfImportChunk")
+@Label("SDF Import Chunk")
+@Category({"Chemical Structure Curation", "Import"})
+@Description("Chunk of consecutive records read from an SD file")
+@StackTrace(false)
+public final class SdfImportChunkEvent extends Event {
+
+    /**
+     * Index of the first record of the chunk in the file.
+     */
+    @Label("First Record Index")
+    private int firstRecordIndex;
+
+    /**
+     * Line number the first record of the chunk begins at.
+     */
+    @Label("First Line Number")
+    private int firstLineNumber;
+
+    /**
+     * Number of records of the chunk.
+     */
+    @Label("Record Count")
+    private int recordCount;
+
+    /**
+     * Number of records of the chunk that failed to be parsed.
+     */
+    @Label("Failed Record Count")
+    @Description("Number of records of the chunk that failed to be parsed")
+    private int failedRecordCount;
+
+    /**
+     * Time spent reading and parsing the records of the chunk in nanoseconds.
+     */
+    @Label("Parsing Time")
+    @Description("Time spent reading and parsing the records of the chunk")
+    @Timespan(Timespan.NANOSECONDS)
+    private long parsingTime;
+
+    /**
+     * Sets the index of the first record of the chunk in the file.
+     *
+     * @param aFirstRecordIndex integer value
+     */
+    public void setFirstRecordIndex(int aFirstRecordIndex) {
+        this.firstRecordIndex = aFirstRecordIndex;
+    }
+
+    /**
+     * Sets the line number the first record of the chunk begins at.
+     *
+     * @param aFirstLineNumber integer value
+     */
+    public void setFirstLineNumber(int aFirstLineNumber) {
+        this.firstLineNumber = aFirstLineNumber;
+    }
+
+    /**
+     * Sets the number of records of the chunk.
+     *
+     * @param aRecordCount integer value
+     */
+    public void setRecordCount(int aRecordCount) {
+        this.recordCount = aRecordCount;
+    }
+
+    /**
+     * Sets the number of records of the chunk that failed to be parsed.
+     *
+     * @param aFailedRecordCount integer value
+     */
+    public void setFailedRecordCount(int aFailedRecordCount) {
+        this.failedRecordCount = aFailedRecordCount;
+    }
+
+    /**
+     * Adds the given time to the time spent reading and parsing the records of the chunk.
+     *
+     * @param aParsingTimeNanos time in nanoseconds
+     */
+    public void addParsingTime(long aParsingTimeNanos) {
+        this.parsingTime += aParsingTimeNanos;
+    }
+
+}
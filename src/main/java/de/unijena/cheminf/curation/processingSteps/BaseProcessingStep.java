@@ -26,6 +26,8 @@
 package de.unijena.cheminf.curation.processingSteps;
 
 import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.jfr.ProcessingStepEvent;
+import de.unijena.cheminf.curation.processingSteps.metrics.IProcessingStepMetricsListener;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
 import de.unijena.cheminf.curation.reporter.ReportDataObject;
@@ -35,6 +37,8 @@ import org.openscience.cdk.interfaces.IAtomContainer;
 import org.openscience.cdk.interfaces.IAtomContainerSet;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -58,6 +62,11 @@ public abstract class BaseProcessingStep implements IProcessingStep {
      */
     private static final Logger LOGGER = Logger.getLogger(BaseProcessingStep.class.getName());
 
+    /**
+     * Thread management bean used to measure the CPU time of the processing thread.
+     */
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
     /**
      * Name string of the atom container property structures processed by this processing step are expected to store a
      * second, external identifier in. The respective atom container property might contain information such as name or
@@ -86,6 +95,11 @@ public abstract class BaseProcessingStep implements IProcessingStep {
      */
     private boolean isReporterSelfContained = true;
 
+    /**
+     * Listener that is notified about the processed sets of structures and the reported issues, or null (default).
+     */
+    private IProcessingStepMetricsListener metricsListener = null;
+
     //<editor-fold desc="Constructors" defaultstate="collapsed">
     /**
      * Constructor; initializes the fields {@link #reporter} and {@link #externalIDPropertyName}. Since not every
@@ -132,11 +146,19 @@ public abstract class BaseProcessingStep implements IProcessingStep {
     }
     //</editor-fold>
 
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Each call is recorded by a JDK Flight Recorder event (see {@link ProcessingStepEvent}).
+     */
     @Override
     public IAtomContainerSet process(IAtomContainerSet anAtomContainerSet, boolean aCloneBeforeProcessing)
             throws NullPointerException, Exception {
         Objects.requireNonNull(anAtomContainerSet,
                 "anAtomContainerSet (instance of IAtomContainerSet) is null.");
+        ProcessingStepEvent tmpEvent = new ProcessingStepEvent();
+        tmpEvent.begin();
+        int tmpInputCount = anAtomContainerSet.getAtomContainerCount();
         //
         if (this.isReporterSelfContained) {
             // initialize the report and assign MolIDs to the given structures
@@ -155,7 +177,7 @@ public abstract class BaseProcessingStep implements IProcessingStep {
         // apply the logic of the processing step on the atom container set
         IAtomContainerSet tmpProcessedACSet;
         try {
-            tmpProcessedACSet = this.applyLogic(tmpACSetToProcess);
+            tmpProcessedACSet = this.applyLogicAndNotifyMetricsListener(tmpACSetToProcess);
         } catch (Exception aFatalException) {
             // the exception is considered as fatal
             BaseProcessingStep.LOGGER.severe("The processing was interrupted due to an unexpected, fatal" +
@@ -170,6 +192,7 @@ public abstract class BaseProcessingStep implements IProcessingStep {
                     BaseProcessingStep.LOGGER.warning("The report could not be generated / finished.");
                 }
             }
+            this.commitProcessingStepEvent(tmpEvent, tmpInputCount, -1, aCloneBeforeProcessing, true);
             throw aFatalException;
         }
         //
@@ -178,6 +201,9 @@ public abstract class BaseProcessingStep implements IProcessingStep {
             this.reporter.report();
         }
         //
+        this.commitProcessingStepEvent(tmpEvent, tmpInputCount,
+                tmpProcessedACSet == null ? 0 : tmpProcessedACSet.getAtomContainerCount(), aCloneBeforeProcessing,
+                false);
         return tmpProcessedACSet;
     }
 
@@ -196,6 +222,40 @@ public abstract class BaseProcessingStep implements IProcessingStep {
     protected abstract IAtomContainerSet applyLogic(IAtomContainerSet anAtomContainerSet)
             throws NullPointerException, Exception;
 
+    /**
+     * Calls {@link #applyLogic(IAtomContainerSet)} and - if a metrics listener is set - measures the wall clock and
+     * CPU time of the call and notifies the listener afterwards. Nothing is measured if no listener is set; the
+     * listener is not notified if the call throws an exception.
+     *
+     * @param anAtomContainerSet atom container set to process
+     * @return the processed atom container set
+     * @throws NullPointerException if the given IAtomContainerSet instance is null or an atom container of the set
+     * does not possess a MolID (this will only cause an exception, if the processing of the atom container causes an
+     * issue)
+     * @throws Exception if an unexpected, fatal exception occurred
+     * @see IProcessingStepMetricsListener#processingFinished(IProcessingStep, int, int, long, long)
+     */
+    protected IAtomContainerSet applyLogicAndNotifyMetricsListener(IAtomContainerSet anAtomContainerSet)
+            throws NullPointerException, Exception {
+        Objects.requireNonNull(anAtomContainerSet, "anAtomContainerSet (instance of IAtomContainerSet) is null.");
+        IProcessingStepMetricsListener tmpMetricsListener = this.metricsListener;
+        if (tmpMetricsListener == null) {
+            return this.applyLogic(anAtomContainerSet);
+        }
+        int tmpInputCount = anAtomContainerSet.getAtomContainerCount();
+        long tmpCpuTimeNanos = BaseProcessingStep.getCurrentThreadCpuTimeNanos();
+        long tmpWallTimeNanos = System.nanoTime();
+        IAtomContainerSet tmpProcessedACSet = this.applyLogic(anAtomContainerSet);
+        tmpWallTimeNanos = System.nanoTime() - tmpWallTimeNanos;
+        if (tmpCpuTimeNanos >= 0) {
+            tmpCpuTimeNanos = BaseProcessingStep.getCurrentThreadCpuTimeNanos() - tmpCpuTimeNanos;
+        }
+        tmpMetricsListener.processingFinished(this, tmpInputCount,
+                tmpProcessedACSet == null ? 0 : tmpProcessedACSet.getAtomContainerCount(), tmpWallTimeNanos,
+                tmpCpuTimeNanos);
+        return tmpProcessedACSet;
+    }
+
     /**
      * Generates a report data object on the basis of the given error code and atom container and info respective to the
      * processing step and passes it to the reporter. The given atom container may only be null in combination with
@@ -215,6 +275,28 @@ public abstract class BaseProcessingStep implements IProcessingStep {
      */
     protected void appendToReport(ErrorCodes anErrorCode, IAtomContainer anAtomContainer) throws NullPointerException,
             IllegalArgumentException {
+        this.appendToReport(anErrorCode, anAtomContainer, null);
+    }
+
+    /**
+     * Generates a report data object on the basis of the given error code and atom container and info respective to the
+     * processing step, attaches the given indices of the atoms the issue refers to and passes it to the reporter (see
+     * {@link #appendToReport(ErrorCodes, IAtomContainer)}).
+     *
+     * @param anErrorCode           error code of the reported issue
+     * @param anAtomContainer       atom container instance the issue refers to
+     * @param anAffectedAtomIndices indices of the atoms the issue refers to; may be null
+     * @throws NullPointerException     if the given ErrorCodes constant is null; if an atom container is given, but it
+     *                                  possesses no MolID; if the report has not been initialized (dependent on the
+     *                                  type of reporter)
+     * @throws IllegalArgumentException if the atom container is null but the reported issue is neither {@link
+     *                                  ErrorCodes#UNEXPECTED_EXCEPTION_ERROR} nor {@link
+     *                                  ErrorCodes#ATOM_CONTAINER_NULL_ERROR}; if an identifier of the structure or the
+     *                                  identifier of the processing step is not null but empty or blank
+     * @see ReportDataObject#setAffectedAtomIndices(int[])
+     */
+    protected void appendToReport(ErrorCodes anErrorCode, IAtomContainer anAtomContainer, int[] anAffectedAtomIndices)
+            throws NullPointerException, IllegalArgumentException {
         Objects.requireNonNull(anErrorCode, "anErrorCode (ErrorCodes constant) is null.");
         byte tmpCase;
         if (anAtomContainer == null) {
@@ -250,7 +332,13 @@ public abstract class BaseProcessingStep implements IProcessingStep {
                     anAtomContainer, this.getMolIDString(anAtomContainer), this.getExternalIDString(anAtomContainer));
             default -> throw new IllegalStateException("An illegal state has been reached.");
         };
+        if (anAffectedAtomIndices != null) {
+            tmpReportDataObject.setAffectedAtomIndices(anAffectedAtomIndices);
+        }
         this.reporter.appendReport(tmpReportDataObject);
+        if (this.metricsListener != null) {
+            this.metricsListener.issueReported(this, anErrorCode);
+        }
     }
 
     /**
@@ -377,4 +465,51 @@ public abstract class BaseProcessingStep implements IProcessingStep {
         this.pipelineProcessingStepID = aProcessingStepID;
     }
 
+    @Override
+    public IProcessingStepMetricsListener getMetricsListener() {
+        return this.metricsListener;
+    }
+
+    @Override
+    public void setMetricsListener(IProcessingStepMetricsListener aMetricsListener) {
+        this.metricsListener = aMetricsListener;
+    }
+
+    /**
+     * Ends the given JDK Flight Recorder event and commits it with the given values, if it is enabled and exceeds the
+     * configured threshold.
+     *
+     * @param anEvent                the event to commit
+     * @param anInputCount           number of given structures
+     * @param anOutputCount          number of returned structures or -1, if the processing failed
+     * @param aCloneBeforeProcessing whether the given structures were cloned
+     * @param anIsFailed             whether the processing was interrupted by a fatal exception
+     */
+    private void commitProcessingStepEvent(ProcessingStepEvent anEvent, int anInputCount, int anOutputCount,
+                                           boolean aCloneBeforeProcessing, boolean anIsFailed) {
+        anEvent.end();
+        if (anEvent.shouldCommit()) {
+            anEvent.setProcessingStepID(this.pipelineProcessingStepID);
+            anEvent.setProcessingStepClass(this.getClass());
+            anEvent.setInputCount(anInputCount);
+            anEvent.setOutputCount(anOutputCount);
+            anEvent.setCloned(aCloneBeforeProcessing);
+            anEvent.setFailed(anIsFailed);
+            anEvent.commit();
+        }
+    }
+
+    /**
+     * Returns the CPU time of the current thread in nanoseconds or -1, if the measurement of the CPU time is not
+     * supported or disabled.
+     *
+     * @return long value
+     */
+    private static long getCurrentThreadCpuTimeNanos() {
+        if (!BaseProcessingStep.THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()) {
+            return -1;
+        }
+        return BaseProcessingStep.THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    }
+
 }
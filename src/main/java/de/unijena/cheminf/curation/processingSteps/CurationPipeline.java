@@ -28,13 +28,17 @@ package de.unijena.cheminf.curation.processingSteps;
 import de.unijena.cheminf.curation.enums.ErrorCodes;
 import de.unijena.cheminf.curation.enums.MassComputationFlavours;
 import de.unijena.cheminf.curation.fileReaders.CustomIteratingSDFReader;
+import de.unijena.cheminf.curation.jfr.CurationRunEvent;
+import de.unijena.cheminf.curation.processingSteps.filters.BondOrderCountsFilter;
 import de.unijena.cheminf.curation.processingSteps.filters.ContainsNoPseudoAtomsFilter;
 import de.unijena.cheminf.curation.processingSteps.filters.ContainsPseudoAtomsFilter;
+import de.unijena.cheminf.curation.processingSteps.filters.ElementCompositionFilter;
 import de.unijena.cheminf.curation.processingSteps.filters.HasAllValidAtomicNumbersFilter;
 import de.unijena.cheminf.curation.processingSteps.filters.HasAllValidValencesFilter;
 import de.unijena.cheminf.curation.processingSteps.filters.HasInvalidAtomicNumbersFilter;
 import de.unijena.cheminf.curation.processingSteps.filters.HasInvalidValencesFilter;
 import de.unijena.cheminf.curation.processingSteps.filters.IFilter;
+import de.unijena.cheminf.curation.processingSteps.filters.IInvalidValenceAtomsListener;
 import de.unijena.cheminf.curation.processingSteps.filters.MaxAtomCountFilter;
 import de.unijena.cheminf.curation.processingSteps.filters.MaxBondCountFilter;
 import de.unijena.cheminf.curation.processingSteps.filters.MaxBondsOfSpecificBondOrderFilter;
@@ -49,9 +53,11 @@ import de.unijena.cheminf.curation.processingSteps.filters.hasProperty.HasNoExte
 import de.unijena.cheminf.curation.processingSteps.filters.hasProperty.HasPropertyFilter;
 import de.unijena.cheminf.curation.processingSteps.filters.hasProperty.HasExternalIDFilter;
 import de.unijena.cheminf.curation.processingSteps.filters.hasProperty.NotHasPropertyFilter;
+import de.unijena.cheminf.curation.processingSteps.metrics.IProcessingStepMetricsListener;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
 import de.unijena.cheminf.curation.reporter.ReportDataObject;
+import de.unijena.cheminf.curation.utils.AtomicNumbersMask;
 import de.unijena.cheminf.curation.valenceHandling.valenceModels.IValenceModel;
 import de.unijena.cheminf.curation.valenceHandling.valenceModels.PubChemValenceModel;
 import de.unijena.cheminf.curation.valenceHandling.valenceModels.ValenceListBasedValenceModel;
@@ -69,6 +75,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -302,9 +309,36 @@ public class CurationPipeline extends BaseProcessingStep {
      * @throws SecurityException if a security manager exists and its checkRead method denies read access to the file
      * @throws IOException if the import process fails due to ... TODO
      * @throws Exception if an unexpected, fatal exception occurs
+     * @see CurationRunEvent
      */
     public IAtomContainerSet importAndProcess(File aFileToImport) throws FileNotFoundException, IOException, Exception {
         Objects.requireNonNull(aFileToImport, "aFileToImport (instance of File) is null.");
+        CurationRunEvent tmpEvent = new CurationRunEvent();
+        tmpEvent.begin();
+        tmpEvent.setFilePath(aFileToImport.getPath());
+        try {
+            return this.importAndProcess(aFileToImport, tmpEvent);
+        } finally {
+            // the event is committed on failure as well; its output count stays -1 then
+            tmpEvent.commit();
+        }
+    }
+
+    /**
+     * Imports and processes the structures of the given file; the actual logic of {@link #importAndProcess(File)}.
+     * The given event is filled with the details of the run but not committed.
+     *
+     * @param aFileToImport the file to import a set of structures from (currently only supports SD files)
+     * @param anEvent       JDK Flight Recorder event of the run
+     * @return the imported and processed atom container set
+     * @throws FileNotFoundException if the file does not exist, is a directory rather than a regular file, or for some
+     *                               other reason cannot be opened for reading
+     * @throws IOException if the import process fails
+     * @throws Exception if an unexpected, fatal exception occurs
+     */
+    private IAtomContainerSet importAndProcess(File aFileToImport, CurationRunEvent anEvent)
+            throws FileNotFoundException, IOException, Exception {
+        long tmpImportStartTime = System.nanoTime();
         //
         // initialize the report
         this.getReporter().initializeNewReport();
@@ -315,9 +349,9 @@ public class CurationPipeline extends BaseProcessingStep {
         CustomIteratingSDFReader tmpSDFReader = new CustomIteratingSDFReader(new FileInputStream(aFileToImport),
                 SilentChemObjectBuilder.getInstance(), false);
         tmpSDFReader.setReaderMode(IChemObjectReader.Mode.RELAXED);
-        int tmpCounter = 0; //TODO: remove (?!)
-        int tmpFailedStructureImportsCounter = 0; //TODO: remove (?!)
-        int tmpQueryAtomContainersCount = 0; //TODO: remove
+        int tmpCounter = 0;
+        int tmpFailedStructureImportsCounter = 0;
+        int tmpQueryAtomContainersCount = 0;
         // continue until the thread is interrupted or the end of the file is reached
         while(!Thread.currentThread().isInterrupted() && tmpSDFReader.hasNext()) {  //TODO: remove listening to thread interruption?
             try {
@@ -331,12 +365,12 @@ public class CurationPipeline extends BaseProcessingStep {
                     //TODO: throw exception?
                     throw new Exception(ErrorCodes.SDF_IMPORT_FAILED_ERROR.name());
                 }
-                if (tmpNextMolecule instanceof QueryAtomContainer) {   //TODO: remove
-                    System.out.printf("Structure %d (index), line %dff, was imported as QueryAtomContainer" +
-                            " instance.\n", tmpSDFReader.getMoleculesInFileCounter(),
-                            tmpSDFReader.getLineCountAtBeginOfNext());
-                    System.out.println("\t" + tmpNextMolecule.getProperty("ChEBI ID"));
-                    System.out.println("\t" + tmpNextMolecule.getProperty("ChEBI Name"));
+                if (tmpNextMolecule instanceof QueryAtomContainer) {
+                    if (CurationPipeline.LOGGER.isLoggable(Level.FINE)) {
+                        CurationPipeline.LOGGER.fine(String.format("Structure %d (index), line %dff, was imported as" +
+                                " QueryAtomContainer instance.", tmpSDFReader.getMoleculesInFileCounter(),
+                                tmpSDFReader.getLineCountAtBeginOfNext()));
+                    }
                     tmpQueryAtomContainersCount++;
                 }
                 /* setting the index of the structure in combination with the line number the entry begins at in the
@@ -367,15 +401,25 @@ public class CurationPipeline extends BaseProcessingStep {
             }
             tmpCounter++;
         }
-        // TODO: probably remove the following lines of code or use the ILoggingTool of the CDK and put this as "debug"
-        System.out.println("Check: Structures in file count is correct: " + (tmpCounter == tmpSDFReader.getMoleculesInFileCounter()));
-        System.out.println("Check: Structures failing import count is correct: " + (tmpFailedStructureImportsCounter == tmpSDFReader.getNullMoleculesCounter()));
+        if (tmpCounter != tmpSDFReader.getMoleculesInFileCounter()
+                || tmpFailedStructureImportsCounter != tmpSDFReader.getNullMoleculesCounter()) {
+            CurationPipeline.LOGGER.fine(String.format("The import counts deviate from the counts of the reader:" +
+                    " %d structures and %d failed imports counted, %d structures and %d failed imports read.",
+                    tmpCounter, tmpFailedStructureImportsCounter, tmpSDFReader.getMoleculesInFileCounter(),
+                    tmpSDFReader.getNullMoleculesCounter()));
+        }
         CurationPipeline.LOGGER.info("Structures in file count: " + tmpSDFReader.getMoleculesInFileCounter());
         CurationPipeline.LOGGER.info("Successfully imported structures: " + (tmpSDFReader.getMoleculesInFileCounter() - tmpFailedStructureImportsCounter));
         if (tmpFailedStructureImportsCounter > 0) {
             CurationPipeline.LOGGER.severe("Structures failing the import process: " + tmpFailedStructureImportsCounter);
         }
-        System.out.println("Detected QueryAtomContainer Count: " + tmpQueryAtomContainersCount);
+        if (tmpQueryAtomContainersCount > 0) {
+            CurationPipeline.LOGGER.fine("Structures imported as QueryAtomContainer instances: "
+                    + tmpQueryAtomContainersCount);
+        }
+        anEvent.setImportTime(System.nanoTime() - tmpImportStartTime);
+        anEvent.setStructuresInFileCount(tmpSDFReader.getMoleculesInFileCounter());
+        anEvent.setFailedImportCount(tmpFailedStructureImportsCounter);
         //</editor-fold>
         //
         // the following code is an adaption of the core part of the .process() method of the BaseProcessingStep class
@@ -383,7 +427,7 @@ public class CurationPipeline extends BaseProcessingStep {
         //<editor-fold desc="process and handle fatal exceptions" defaultstate="collapsed">
         try {
             // do the processing
-            tmpProcessedAtomContainerSet = this.applyLogic(tmpImportedMoleculeSet);
+            tmpProcessedAtomContainerSet = this.applyLogicAndNotifyMetricsListener(tmpImportedMoleculeSet);
         } catch (Exception aFatalException) {
             // the exception is considered as fatal
             CurationPipeline.LOGGER.severe("The processing was interrupted due to an unexpected, fatal" +
@@ -403,6 +447,7 @@ public class CurationPipeline extends BaseProcessingStep {
         // generate / finish the report
         this.getReporter().report();
         //
+        anEvent.setOutputCount(tmpProcessedAtomContainerSet.getAtomContainerCount());
         return tmpProcessedAtomContainerSet;
     }
 
@@ -417,9 +462,6 @@ public class CurationPipeline extends BaseProcessingStep {
     @Override
     protected IAtomContainerSet applyLogic(IAtomContainerSet anAtomContainerSet) throws NullPointerException, Exception {
         Objects.requireNonNull(anAtomContainerSet, "anAtomContainerSet (instance of IAtomContainerSet) is null.");
-        if (this.isIsReporterSelfContained()) {
-            System.out.printf("Processing started with %d structures.\n", anAtomContainerSet.getAtomContainerCount());  //TODO: remove
-        }
         IAtomContainerSet tmpResultingACSet = anAtomContainerSet;
         //
         for (IProcessingStep tmpProcessingStep : this.listOfPipelineSteps) {
@@ -435,8 +477,6 @@ public class CurationPipeline extends BaseProcessingStep {
                         tmpProcessingStep.getClass().getName()));
                 throw aFatalException;
             }
-            System.out.printf("Step %s ended with %d structures remaining.\n",
-                    tmpProcessingStep.getPipelineProcessingStepID(), tmpResultingACSet.getAtomContainerCount()); //TODO: remove
         }
         return tmpResultingACSet;
     }
@@ -463,6 +503,9 @@ public class CurationPipeline extends BaseProcessingStep {
         ReportDataObject tmpReportDataObject = new ReportDataObject(anErrorCode, this.getClass(),
                 anImportRoutine.getIdentifier(), aMolID);
         this.getReporter().appendReport(tmpReportDataObject);
+        if (this.getMetricsListener() != null) {
+            this.getMetricsListener().issueReported(this, anErrorCode);
+        }
     }
 
     //<editor-fold desc="with...Filter methods" defaultstate="collapsed">
@@ -674,6 +717,36 @@ public class CurationPipeline extends BaseProcessingStep {
     }
     //</editor-fold>
 
+    //<editor-fold desc="withBondOrderCountsFilter" defaultstate="collapsed">
+    /**
+     * Adds a bond order counts filter with the given parameters to the curation pipeline. The filter checks max and
+     * min counts of bonds of multiple bond orders in a single traversal of the bonds of each atom container; either map
+     * may be null. Bonds to implicit hydrogen atoms may or may not be considered when counting bonds of bond order
+     * single. If the second boolean parameter is false, instances of {@link IPseudoAtom} and their implicit hydrogen
+     * atoms are not taken into account. Atom containers that equal a max or min count do not get filtered.
+     *
+     * @param aMaxCountsOfBondOrders map of bond orders to the max count of bonds of the respective order; may be null
+     * @param aMinCountsOfBondOrders map of bond orders to the min count of bonds of the respective order; may be null
+     * @param aConsiderImplicitHydrogens boolean value whether to consider bonds to implicit hydrogen atoms; this is
+     *                                   only relevant when counting bonds of the order one / single
+     * @param aConsiderPseudoAtoms boolean value whether to consider bonds to pseudo-atoms and their implicit hydrogens
+     * @return the CurationPipeline instance itself
+     * @throws NullPointerException if a key or value of the given maps is null
+     * @throws IllegalArgumentException if a count is below zero; if the min count of a bond order exceeds its max count
+     * @see BondOrderCountsFilter
+     */
+    public CurationPipeline withBondOrderCountsFilter(Map<IBond.Order, Integer> aMaxCountsOfBondOrders,
+                                                      Map<IBond.Order, Integer> aMinCountsOfBondOrders,
+                                                      boolean aConsiderImplicitHydrogens,
+                                                      boolean aConsiderPseudoAtoms)
+            throws NullPointerException, IllegalArgumentException {
+        IFilter tmpFilter = new BondOrderCountsFilter(aMaxCountsOfBondOrders, aMinCountsOfBondOrders,
+                aConsiderImplicitHydrogens, aConsiderPseudoAtoms, this.getReporter());
+        this.addToListOfProcessingSteps(tmpFilter);
+        return this;
+    }
+    //</editor-fold>
+
     //<editor-fold desc="withHasAllValidAtomicNumbersFilter" defaultstate="collapsed">
     /**
      * Adds a has all valid atomic numbers filter with the given boolean parameter to the curation pipeline.
@@ -830,6 +903,50 @@ public class CurationPipeline extends BaseProcessingStep {
     }
     //</editor-fold>
 
+    //<editor-fold desc="withElementCompositionFilter" defaultstate="collapsed">
+    /**
+     * Adds an {@link ElementCompositionFilter} as step to the curation pipeline. Atom containers get filtered if they
+     * contain atoms of elements that are not part of the given whitelist or if the count of atoms of an element exceeds
+     * the max count given for this element; atom containers that equal a max count do not get filtered.
+     *
+     * @param anAllowedElementsMask mask of the atomic numbers of the allowed elements
+     * @param aMaxCountsOfElements map of atomic numbers to the max count of atoms of the respective element; may be
+     *                             null
+     * @param aConsiderImplicitHydrogens boolean value whether to consider implicit hydrogen atoms as atoms of the
+     *                                   element hydrogen
+     * @return the CurationPipeline instance itself
+     * @throws NullPointerException if the given mask or a key or value of the given map is null
+     * @throws IllegalArgumentException if a key of the given map is no valid atomic number; if a max count is below
+     *                                  zero
+     * @see ElementCompositionFilter
+     * @see AtomicNumbersMask
+     */
+    public CurationPipeline withElementCompositionFilter(AtomicNumbersMask anAllowedElementsMask,
+                                                         Map<Integer, Integer> aMaxCountsOfElements,
+                                                         boolean aConsiderImplicitHydrogens)
+            throws NullPointerException, IllegalArgumentException {
+        IFilter tmpFilter = new ElementCompositionFilter(anAllowedElementsMask, aMaxCountsOfElements,
+                aConsiderImplicitHydrogens, this.getReporter());
+        this.addToListOfProcessingSteps(tmpFilter);
+        return this;
+    }
+
+    /**
+     * Adds an {@link ElementCompositionFilter} in organic subset mode as step to the curation pipeline. All atom
+     * containers that contain atoms of elements other than the ones of the organic subset of the SMILES notation and
+     * hydrogen get filtered.
+     *
+     * @return the CurationPipeline instance itself
+     * @see ElementCompositionFilter
+     * @see AtomicNumbersMask#ORGANIC_SUBSET
+     */
+    public CurationPipeline withOrganicSubsetFilter() {
+        IFilter tmpFilter = new ElementCompositionFilter(this.getReporter());
+        this.addToListOfProcessingSteps(tmpFilter);
+        return this;
+    }
+    //</editor-fold>
+
     //<editor-fold desc="withHasAllValidValencesFilter" defaultstate="collapsed">
     /**
      * Adds a {@link HasAllValidValencesFilter} as step to the curation pipeline. The filter is initialized with the
@@ -868,6 +985,31 @@ public class CurationPipeline extends BaseProcessingStep {
         this.addToListOfProcessingSteps(tmpFilter);
         return this;
     }
+
+    /**
+     * Adds a {@link HasAllValidValencesFilter} as step to the curation pipeline. The filter is initialized with the
+     * given valence model, boolean value whether to generally consider atoms with wildcard atomic number (zero) as
+     * having a valid valence and the listener to notify about the atoms with invalid valences (see {@link
+     * HasAllValidValencesFilter#setInvalidValenceAtomsListener(IInvalidValenceAtomsListener)}).
+     *
+     * @param aValenceModel                the valence model to check the valences for their validity with
+     * @param aWildcardAtomicNumberIsValid boolean value whether to generally consider atoms with wildcard atomic number
+     *                                     (zero) as having a valid valence
+     * @param aListener                    the listener to notify about the atoms with invalid valences; may be null
+     * @return the CurationPipeline instance itself
+     * @throws NullPointerException if the given valence model is null
+     * @see HasAllValidValencesFilter
+     */
+    public CurationPipeline withHasAllValidValencesFilter(IValenceModel aValenceModel,
+                                                          boolean aWildcardAtomicNumberIsValid,
+                                                          IInvalidValenceAtomsListener aListener)
+            throws NullPointerException {
+        HasAllValidValencesFilter tmpFilter
+                = new HasAllValidValencesFilter(aValenceModel, aWildcardAtomicNumberIsValid, this.getReporter());
+        tmpFilter.setInvalidValenceAtomsListener(aListener);
+        this.addToListOfProcessingSteps(tmpFilter);
+        return this;
+    }
     //</editor-fold>
 
     //<editor-fold desc="withHasInvalidValencesFilter" defaultstate="collapsed">
@@ -1045,6 +1187,7 @@ public class CurationPipeline extends BaseProcessingStep {
         aProcessingStep.setExternalIDPropertyName(this.getExternalIDPropertyName());
         aProcessingStep.setReporter(this.getReporter());    //TODO: remove this? or just keep it to make sure?
         aProcessingStep.setIsReporterSelfContained(false);
+        aProcessingStep.setMetricsListener(this.getMetricsListener());
         String tmpStepID = ((this.getPipelineProcessingStepID() == null) ?
                 "" : this.getPipelineProcessingStepID() + ".") +
                 (this.listOfPipelineSteps.size() - 1);
@@ -1090,6 +1233,18 @@ public class CurationPipeline extends BaseProcessingStep {
         });
     }
 
+    /**
+     * Sets the metrics listener of the pipeline and of every processing step in the pipeline; thereby, the metrics of
+     * the pipeline and of each of its processing steps are recorded by the same listener.
+     */
+    @Override
+    public void setMetricsListener(IProcessingStepMetricsListener aMetricsListener) {
+        super.setMetricsListener(aMetricsListener);
+        this.listOfPipelineSteps.forEach(aProcessingStep -> {
+            aProcessingStep.setMetricsListener(aMetricsListener);
+        });
+    }
+
     /**
      * Sets the identifier of the pipeline and - in combination with the respective index of the step in this pipeline
      * - to every processing step that is part of this pipeline. The identifier should equal the index the pipeline has
@@ -25,6 +25,7 @@
 
 package de.unijena.cheminf.curation.processingSteps;
 
+import de.unijena.cheminf.curation.processingSteps.metrics.IProcessingStepMetricsListener;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.utils.ProcessingStepUtils;
 import org.openscience.cdk.interfaces.IAtomContainer;
@@ -168,4 +169,26 @@ public interface IProcessingStep {
      */
     public void setPipelineProcessingStepID(String aProcessingStepID) throws IllegalArgumentException;
 
+    /**
+     * Returns the listener that is notified about the processed sets of structures and the reported issues of the
+     * processing step, or null if no listener is set (default). Processing steps that do not support metrics, e.g.
+     * implementations predating the listener, always return null.
+     *
+     * @return IProcessingStepMetricsListener instance or null
+     */
+    public default IProcessingStepMetricsListener getMetricsListener() {
+        return null;
+    }
+
+    /**
+     * Sets the listener that is notified about the processed sets of structures and the reported issues of the
+     * processing step; null removes the listener. No metrics are measured if no listener is set. Processing steps
+     * that do not support metrics ignore the listener.
+     *
+     * @param aMetricsListener IProcessingStepMetricsListener instance or null
+     */
+    public default void setMetricsListener(IProcessingStepMetricsListener aMetricsListener) {
+        // metrics are not supported by default
+    }
+
 }
@@ -25,6 +25,7 @@
 
 package de.unijena.cheminf.curation.processingSteps.filters;
 
+import de.unijena.cheminf.curation.enums.ErrorCodes;
 import de.unijena.cheminf.curation.processingSteps.BaseProcessingStep;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
@@ -89,8 +90,11 @@ public abstract class BaseFilter extends BaseProcessingStep implements IFilter {
     }
 
     /**
-     * Filters the atom containers of the given atom container set according to the values returned by {@link
-     * #isFiltered(IAtomContainer)}. Returns all those atom containers that meet the filter criterion.
+     * Filters the atom containers of the given atom container set according to the outcomes returned by {@link
+     * #evaluate(IAtomContainer)}. Returns all those atom containers that meet the filter criterion. Issue outcomes and
+     * exceptions thrown by the evaluation are both passed to {@link #reportIssue(IAtomContainer, Exception)}, so that
+     * the filter decides whether the issue is fatal just as if it had been thrown by {@link
+     * #isFiltered(IAtomContainer)}.
      *
      * @return the set of all atom containers that meet the filter criterion
      */
@@ -98,15 +102,26 @@ public abstract class BaseFilter extends BaseProcessingStep implements IFilter {
     protected IAtomContainerSet applyLogic(IAtomContainerSet anAtomContainerSet) throws NullPointerException, Exception {
         Objects.requireNonNull(anAtomContainerSet, "anAtomContainerSet (instance of IAtomContainerSet) is null.");
         final IAtomContainerSet tmpFilteredACSet = new AtomContainerSet();
+        FilterOutcome tmpOutcome;
         for (IAtomContainer tmpAtomContainer : anAtomContainerSet.atomContainers()) {
+            if (tmpAtomContainer == null) {
+                //appends report to the reporter; the structure does not pass the filter
+                this.reportIssue(null, new NullPointerException(ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name()));
+                continue;
+            }
             try {
-                //check whether the atom container meets the filter criterion; the structure passes the filter
-                if (!this.isFiltered(tmpAtomContainer)) {
-                    tmpFilteredACSet.addAtomContainer(tmpAtomContainer);
-                }
+                tmpOutcome = this.evaluate(tmpAtomContainer);
             } catch (Exception anException) {
                 //appends report to the reporter; the structure does not pass the filter
                 this.reportIssue(tmpAtomContainer, anException);
+                continue;
+            }
+            if (tmpOutcome.isPassed()) {
+                //the atom container meets the filter criterion; the structure passes the filter
+                tmpFilteredACSet.addAtomContainer(tmpAtomContainer);
+            } else if (tmpOutcome.isIssue()) {
+                //appends report to the reporter, re-throws the issue if fatal; the structure does not pass the filter
+                this.reportIssue(tmpAtomContainer, new IllegalArgumentException(tmpOutcome.getErrorCode().name()));
             }
         }
         return tmpFilteredACSet;
@@ -126,4 +141,37 @@ public abstract class BaseFilter extends BaseProcessingStep implements IFilter {
     protected abstract void reportIssue(IAtomContainer anAtomContainer, Exception anException)
             throws NullPointerException, Exception;
 
+    /**
+     * Default handling of exceptions that carry the name of an ErrorCodes enum constant as message string: appends a
+     * report with the respective error code to the reporter. If the message string does not match the name of any
+     * constant, the exception is considered as fatal; a report with {@link ErrorCodes#UNEXPECTED_EXCEPTION_ERROR} is
+     * appended and the exception is re-thrown. Meant to be called by implementations of {@link
+     * #reportIssue(IAtomContainer, Exception)} that do not need a specific handling.
+     *
+     * @param anAtomContainer the atom container the issue refers to
+     * @param anException the thrown exception
+     * @throws NullPointerException if the given atom container (if it is not null) does not possess a MolID; if the
+     *                              exception is null
+     * @throws Exception if the message string of the given exception does not match the name of an ErrorCodes enum
+     *                   constant
+     */
+    protected void reportIssueOfErrorCodeName(IAtomContainer anAtomContainer, Exception anException)
+            throws NullPointerException, Exception {
+        Objects.requireNonNull(anException, "anException (instance of Exception) is null.");
+        String tmpExceptionMessageString = anException.getMessage();
+        ErrorCodes tmpErrorCode;
+        try {
+            // the message of the exception is expected to match the name of an ErrorCodes enum's constant
+            tmpErrorCode = ErrorCodes.valueOf(tmpExceptionMessageString);
+        } catch (Exception aFatalException) {
+            /*
+             * the message string of the given exception did not match the name of an ErrorCodes enum's constant; the
+             * exception is considered as fatal and re-thrown
+             */
+            this.appendToReport(ErrorCodes.UNEXPECTED_EXCEPTION_ERROR, anAtomContainer);
+            throw anException;
+        }
+        this.appendToReport(tmpErrorCode, anAtomContainer);
+    }
+
 }
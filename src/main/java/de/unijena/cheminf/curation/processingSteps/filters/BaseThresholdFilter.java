@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.processingSteps.filters;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ThresholdCheckResults;
+import de.unijena.cheminf.curation.reporter.IReporter;
+import de.unijena.cheminf.curation.reporter.MarkDownReporter;
+import org.openscience.cdk.interfaces.IAtomContainer;
+
+/**
+ * Abstract class of the filters that filter atom containers based on a min or max threshold of a molecular
+ * descriptor value. The filters check the threshold without signalling issues via exceptions (see {@link
+ * #checkThreshold(IAtomContainer)}); the mapping of the result of this check to the outcome of the filter is shared:
+ * max filters filter the atom containers reaching the threshold, min filters those falling short of it (see {@link
+ * #isFilteringIfThresholdReached()}).
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see ThresholdCheckResults
+ */
+public abstract class BaseThresholdFilter extends BaseFilter {
+
+    /**
+     * Constructor; calls the super constructor with the given reporter and external ID property name string.
+     *
+     * @param aReporter the reporter that is to be used when processing sets of structures
+     * @param anExternalIDPropertyName name string of the atom container property containing a second, external
+     *                                 identifier for each structure; may be null (see {@link
+     *                                 BaseFilter#BaseFilter(IReporter, String)})
+     * @throws NullPointerException if the given IReporter instance is null
+     * @throws IllegalArgumentException if an external ID property name is given, but it is blank or empty
+     */
+    public BaseThresholdFilter(IReporter aReporter, String anExternalIDPropertyName) throws NullPointerException,
+            IllegalArgumentException {
+        super(aReporter, anExternalIDPropertyName);
+    }
+
+    /**
+     * Constructor; calls the super constructor that initializes the reporter with an instance of {@link
+     * MarkDownReporter} - initialized with the given report files directory path.
+     *
+     * @param aReportFilesDirectoryPath the directory path for the MarkDownReporter to create the report files at
+     * @param anExternalIDPropertyName name string of the atom container property containing a second, external
+     *                                 identifier for each structure; may be null (see {@link
+     *                                 BaseFilter#BaseFilter(String, String)})
+     * @throws NullPointerException if the given String with the directory path is null
+     * @throws IllegalArgumentException if the given file path is no directory path; if a property name string is given,
+     *                                  but it is blank or empty
+     */
+    public BaseThresholdFilter(String aReportFilesDirectoryPath, String anExternalIDPropertyName) {
+        super(aReportFilesDirectoryPath, anExternalIDPropertyName);
+    }
+
+    /**
+     * Evaluates the given atom container without signalling issues via exceptions by checking it against the threshold
+     * of the filter (see {@link #checkThreshold(IAtomContainer)}); results associated with an error code are returned
+     * as issue outcomes.
+     */
+    @Override
+    public FilterOutcome evaluate(IAtomContainer anAtomContainer) {
+        if (anAtomContainer == null) {
+            return FilterOutcome.issue(ErrorCodes.ATOM_CONTAINER_NULL_ERROR);
+        }
+        final ThresholdCheckResults tmpResult = this.checkThreshold(anAtomContainer);
+        if (tmpResult.isIssue()) {
+            return FilterOutcome.issue(tmpResult.getErrorCode());
+        }
+        return FilterOutcome.of(
+                (tmpResult == ThresholdCheckResults.THRESHOLD_REACHED) == this.isFilteringIfThresholdReached()
+        );
+    }
+
+    /**
+     * Checks the given atom container against the threshold of the filter without signalling issues with the
+     * structure via exceptions.
+     *
+     * @param anAtomContainer IAtomContainer instance to check; not null
+     * @return ThresholdCheckResults constant
+     */
+    protected abstract ThresholdCheckResults checkThreshold(IAtomContainer anAtomContainer);
+
+    /**
+     * Returns whether atom containers reaching the threshold are filtered, as it is the case for max filters; min
+     * filters filter the atom containers that do not reach the threshold.
+     *
+     * @return true, if atom containers reaching the threshold do not pass the filter
+     */
+    protected abstract boolean isFilteringIfThresholdReached();
+
+}
@@ -0,0 +1,289 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.processingSteps.filters;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.reporter.IReporter;
+import de.unijena.cheminf.curation.reporter.MarkDownReporter;
+import de.unijena.cheminf.curation.utils.BondOrderHistogram;
+import org.openscience.cdk.interfaces.IAtomContainer;
+import org.openscience.cdk.interfaces.IBond;
+import org.openscience.cdk.interfaces.IPseudoAtom;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bond order counts filter for filtering atom containers based on max and min counts of bonds of multiple bond orders
+ * at once. Other than combining multiple instances of {@link MaxBondsOfSpecificBondOrderFilter} and {@link
+ * MinBondsOfSpecificBondOrderFilter}, the bonds of an atom container are traversed only once, independent of the
+ * number of bond orders filtered on (see {@link BondOrderHistogram}).
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see BondOrderHistogram
+ */
+public class BondOrderCountsFilter extends BaseFilter {
+
+    /**
+     * Integer value used in the threshold arrays for bond orders without the respective threshold.
+     */
+    protected static final int NO_THRESHOLD = -1;
+
+    /**
+     * Array of all constants of the IBond.Order enum.
+     */
+    private static final IBond.Order[] BOND_ORDERS = IBond.Order.values();
+
+    /**
+     * Array of the max bond counts indexed by the ordinal of the bond order; bond orders without max count have the
+     * value {@link #NO_THRESHOLD}.
+     */
+    protected final int[] maxCountOfBondOrderArray;
+
+    /**
+     * Array of the min bond counts indexed by the ordinal of the bond order; bond orders without min count have the
+     * value {@link #NO_THRESHOLD}.
+     */
+    protected final int[] minCountOfBondOrderArray;
+
+    /**
+     * Boolean value whether implicit hydrogen atoms should be considered when counting bonds of bond order single.
+     */
+    protected final boolean considerImplicitHydrogens;
+
+    /**
+     * Boolean value whether to consider bonds to instances of {@link IPseudoAtom}.
+     */
+    protected final boolean considerPseudoAtoms;
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; initializes the filter with the given max and min counts of bonds per bond order and sets the
+     * reporter. Either map may be null. When filtering on the count of bonds with bond order single, bonds to implicit
+     * hydrogen atoms may or may not be considered. If the second boolean parameter is false, instances of {@link
+     * IPseudoAtom} and their implicit hydrogen atoms are not taken into account. Atom containers that equal a max or
+     * min count do not get filtered.
+     *
+     * @param aMaxCountsOfBondOrders map of bond orders to the max count of bonds of the respective order; may be null
+     * @param aMinCountsOfBondOrders map of bond orders to the min count of bonds of the respective order; may be null
+     * @param aConsiderImplicitHydrogens boolean value whether implicit hydrogen atoms should be considered when
+     *                                   counting bonds of bond order single
+     * @param aConsiderPseudoAtoms boolean value whether to consider bonds to pseudo-atoms and their implicit hydrogens
+     * @param aReporter the reporter that is to be used when processing sets of structures
+     * @throws NullPointerException if a key or value of the given maps or the given IReporter instance is null
+     * @throws IllegalArgumentException if a count is below zero; if the min count of a bond order exceeds its max count
+     */
+    public BondOrderCountsFilter(Map<IBond.Order, Integer> aMaxCountsOfBondOrders,
+                                 Map<IBond.Order, Integer> aMinCountsOfBondOrders,
+                                 boolean aConsiderImplicitHydrogens, boolean aConsiderPseudoAtoms, IReporter aReporter)
+            throws NullPointerException, IllegalArgumentException {
+        super(aReporter, null);
+        this.maxCountOfBondOrderArray = BondOrderCountsFilter.compileThresholds(aMaxCountsOfBondOrders);
+        this.minCountOfBondOrderArray = BondOrderCountsFilter.compileThresholds(aMinCountsOfBondOrders);
+        BondOrderCountsFilter.checkThresholds(this.maxCountOfBondOrderArray, this.minCountOfBondOrderArray);
+        this.considerImplicitHydrogens = aConsiderImplicitHydrogens;
+        this.considerPseudoAtoms = aConsiderPseudoAtoms;
+    }
+
+    /**
+     * Constructor; initializes the filter with the given max and min counts of bonds per bond order and an instance
+     * of {@link MarkDownReporter} as reporter. Either map may be null. When filtering on the count of bonds with bond
+     * order single, bonds to implicit hydrogen atoms may or may not be considered. If the second boolean parameter is
+     * false, instances of {@link IPseudoAtom} and their implicit hydrogen atoms are not taken into account. Atom
+     * containers that equal a max or min count do not get filtered.
+     *
+     * @param aMaxCountsOfBondOrders map of bond orders to the max count of bonds of the respective order; may be null
+     * @param aMinCountsOfBondOrders map of bond orders to the min count of bonds of the respective order; may be null
+     * @param aConsiderImplicitHydrogens boolean value whether implicit hydrogen atoms should be considered when
+     *                                   counting bonds of bond order single
+     * @param aConsiderPseudoAtoms boolean value whether to consider bonds to pseudo-atoms and their implicit hydrogens
+     * @param aReportFilesDirectoryPath the directory path for the MarkDownReporter to create the report files at
+     * @throws NullPointerException if a key or value of the given maps or the given String with the directory path is
+     *                              null
+     * @throws IllegalArgumentException if a count is below zero; if the min count of a bond order exceeds its max
+     *                                  count; if the given file path is no directory path
+     */
+    public BondOrderCountsFilter(Map<IBond.Order, Integer> aMaxCountsOfBondOrders,
+                                 Map<IBond.Order, Integer> aMinCountsOfBondOrders,
+                                 boolean aConsiderImplicitHydrogens, boolean aConsiderPseudoAtoms,
+                                 String aReportFilesDirectoryPath)
+            throws NullPointerException, IllegalArgumentException {
+        super(aReportFilesDirectoryPath, null);
+        this.maxCountOfBondOrderArray = BondOrderCountsFilter.compileThresholds(aMaxCountsOfBondOrders);
+        this.minCountOfBondOrderArray = BondOrderCountsFilter.compileThresholds(aMinCountsOfBondOrders);
+        BondOrderCountsFilter.checkThresholds(this.maxCountOfBondOrderArray, this.minCountOfBondOrderArray);
+        this.considerImplicitHydrogens = aConsiderImplicitHydrogens;
+        this.considerPseudoAtoms = aConsiderPseudoAtoms;
+    }
+    //</editor-fold>
+
+    /**
+     * @throws NullPointerException {@inheritDoc}; if bonds to implicit hydrogen atoms are relevant but the implicit
+     *                              hydrogen count of an atom is null
+     * @see #evaluate(IAtomContainer)
+     */
+    @Override
+    public boolean isFiltered(IAtomContainer anAtomContainer) throws NullPointerException {
+        final FilterOutcome tmpOutcome = this.evaluate(anAtomContainer);
+        if (tmpOutcome.isIssue()) {
+            // all issues of this filter are related to values being null
+            throw new NullPointerException(tmpOutcome.getErrorCode().name());
+        }
+        return tmpOutcome.isFiltered();
+    }
+
+    /**
+     * Evaluates the given atom container on the basis of a single {@link BondOrderHistogram} without signalling issues
+     * via exceptions. If bonds to implicit hydrogen atoms are relevant (a threshold on bonds of bond order single with
+     * implicit hydrogen atoms being considered), an implicit hydrogen count being null results in an issue outcome
+     * ({@link ErrorCodes#IMPLICIT_HYDROGEN_COUNT_NULL_ERROR}).
+     */
+    @Override
+    public FilterOutcome evaluate(IAtomContainer anAtomContainer) {
+        if (anAtomContainer == null) {
+            return FilterOutcome.issue(ErrorCodes.ATOM_CONTAINER_NULL_ERROR);
+        }
+        final int tmpSingleIndex = IBond.Order.SINGLE.ordinal();
+        final boolean tmpCountImplicitHydrogens = this.considerImplicitHydrogens
+                && (this.maxCountOfBondOrderArray[tmpSingleIndex] != BondOrderCountsFilter.NO_THRESHOLD
+                || this.minCountOfBondOrderArray[tmpSingleIndex] != BondOrderCountsFilter.NO_THRESHOLD);
+        final BondOrderHistogram tmpHistogram = new BondOrderHistogram(anAtomContainer, tmpCountImplicitHydrogens);
+        if (tmpCountImplicitHydrogens && tmpHistogram.isImplicitHydrogenCountMissing(this.considerPseudoAtoms)) {
+            return FilterOutcome.issue(ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR);
+        }
+        int tmpCount;
+        for (IBond.Order tmpBondOrder : BondOrderCountsFilter.BOND_ORDERS) {
+            if (this.maxCountOfBondOrderArray[tmpBondOrder.ordinal()] == BondOrderCountsFilter.NO_THRESHOLD
+                    && this.minCountOfBondOrderArray[tmpBondOrder.ordinal()] == BondOrderCountsFilter.NO_THRESHOLD) {
+                continue;
+            }
+            tmpCount = tmpHistogram.getCount(tmpBondOrder, this.considerImplicitHydrogens, this.considerPseudoAtoms);
+            if (this.maxCountOfBondOrderArray[tmpBondOrder.ordinal()] != BondOrderCountsFilter.NO_THRESHOLD
+                    && tmpCount > this.maxCountOfBondOrderArray[tmpBondOrder.ordinal()]) {
+                return FilterOutcome.FILTERED;
+            }
+            if (tmpCount < this.minCountOfBondOrderArray[tmpBondOrder.ordinal()]) {
+                return FilterOutcome.FILTERED;
+            }
+        }
+        return FilterOutcome.PASSED;
+    }
+
+    @Override
+    protected void reportIssue(IAtomContainer anAtomContainer, Exception anException) throws Exception {
+        this.reportIssueOfErrorCodeName(anAtomContainer, anException);
+    }
+
+    //<editor-fold desc="private static methods" defaultstate="collapsed">
+    /**
+     * Compiles the given map of thresholds into an array indexed by the ordinal of the bond order; bond orders without
+     * threshold are given the value {@link #NO_THRESHOLD}.
+     *
+     * @param aThresholdsOfBondOrders map of bond orders to thresholds or null
+     * @return integer array with one entry per IBond.Order constant
+     * @throws NullPointerException if a key or value of the given map is null
+     * @throws IllegalArgumentException if a threshold is below zero
+     */
+    private static int[] compileThresholds(Map<IBond.Order, Integer> aThresholdsOfBondOrders)
+            throws NullPointerException, IllegalArgumentException {
+        int[] tmpThresholdArray = new int[BondOrderCountsFilter.BOND_ORDERS.length];
+        Arrays.fill(tmpThresholdArray, BondOrderCountsFilter.NO_THRESHOLD);
+        if (aThresholdsOfBondOrders == null) {
+            return tmpThresholdArray;
+        }
+        for (Map.Entry<IBond.Order, Integer> tmpEntry : aThresholdsOfBondOrders.entrySet()) {
+            Objects.requireNonNull(tmpEntry.getKey(), "A key of the map of bond count thresholds is null.");
+            Objects.requireNonNull(tmpEntry.getValue(), "A value of the map of bond count thresholds is null.");
+            if (tmpEntry.getValue() < 0) {
+                throw new IllegalArgumentException("A bond count threshold (Integer) is below zero.");
+            }
+            tmpThresholdArray[tmpEntry.getKey().ordinal()] = tmpEntry.getValue();
+        }
+        return tmpThresholdArray;
+    }
+
+    /**
+     * Checks whether the min count of a bond order exceeds its max count.
+     *
+     * @param aMaxCountArray array of max counts indexed by the ordinal of the bond order
+     * @param aMinCountArray array of min counts indexed by the ordinal of the bond order
+     * @throws IllegalArgumentException if the min count of a bond order exceeds its max count
+     */
+    private static void checkThresholds(int[] aMaxCountArray, int[] aMinCountArray) throws IllegalArgumentException {
+        for (int i = 0; i < aMaxCountArray.length; i++) {
+            if (aMaxCountArray[i] != BondOrderCountsFilter.NO_THRESHOLD && aMinCountArray[i] > aMaxCountArray[i]) {
+                throw new IllegalArgumentException("The min bond count of a bond order exceeds its max bond count.");
+            }
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public properties" defaultstate="collapsed">
+    /**
+     * Returns the max count of bonds of the given bond order or {@link #NO_THRESHOLD} if no max count has been set.
+     *
+     * @param aBondOrder the bond order
+     * @return integer value
+     * @throws NullPointerException if the given bond order is null
+     */
+    public int getMaxCountOfBondOrder(IBond.Order aBondOrder) throws NullPointerException {
+        Objects.requireNonNull(aBondOrder, "aBondOrder (IBond.Order constant) is null.");
+        return this.maxCountOfBondOrderArray[aBondOrder.ordinal()];
+    }
+
+    /**
+     * Returns the min count of bonds of the given bond order or {@link #NO_THRESHOLD} if no min count has been set.
+     *
+     * @param aBondOrder the bond order
+     * @return integer value
+     * @throws NullPointerException if the given bond order is null
+     */
+    public int getMinCountOfBondOrder(IBond.Order aBondOrder) throws NullPointerException {
+        Objects.requireNonNull(aBondOrder, "aBondOrder (IBond.Order constant) is null.");
+        return this.minCountOfBondOrderArray[aBondOrder.ordinal()];
+    }
+
+    /**
+     * Returns whether bonds to implicit hydrogen atoms are considered when counting bonds of bond order single.
+     *
+     * @return boolean value
+     */
+    public boolean isConsiderImplicitHydrogens() {
+        return this.considerImplicitHydrogens;
+    }
+
+    /**
+     * Returns whether bonds to pseudo-atoms are considered.
+     *
+     * @return boolean value
+     */
+    public boolean isConsiderPseudoAtoms() {
+        return this.considerPseudoAtoms;
+    }
+    //</editor-fold>
+
+}
@@ -67,4 +67,13 @@ public class ContainsNoPseudoAtomsFilter extends ContainsPseudoAtomsFilter {
         return !super.isFiltered(anAtomContainer);
     }
 
+    /**
+     * Evaluates the given atom container without signalling issues via exceptions; returns the inverse of the outcome
+     * of {@link ContainsPseudoAtomsFilter#evaluate(IAtomContainer)}.
+     */
+    @Override
+    public FilterOutcome evaluate(IAtomContainer anAtomContainer) {
+        return super.evaluate(anAtomContainer).invert();
+    }
+
 }
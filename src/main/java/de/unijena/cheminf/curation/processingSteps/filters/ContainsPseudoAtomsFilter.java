@@ -70,6 +70,17 @@ public class ContainsPseudoAtomsFilter extends BaseFilter {
         return !ChemUtils.containsPseudoAtoms(anAtomContainer);
     }
 
+    /**
+     * Evaluates the given atom container without signalling issues via exceptions.
+     */
+    @Override
+    public FilterOutcome evaluate(IAtomContainer anAtomContainer) {
+        if (anAtomContainer == null) {
+            return FilterOutcome.issue(ErrorCodes.ATOM_CONTAINER_NULL_ERROR);
+        }
+        return FilterOutcome.of(!ChemUtils.containsPseudoAtoms(anAtomContainer));
+    }
+
     /**
      * Handles the given exception by appending a report to the reporter; if the message string of the given exception
      * does not match the name of {@link ErrorCodes#ATOM_CONTAINER_NULL_ERROR}, any unexpected, fatal exception has been
@@ -0,0 +1,330 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.processingSteps.filters;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.reporter.IReporter;
+import de.unijena.cheminf.curation.reporter.MarkDownReporter;
+import de.unijena.cheminf.curation.utils.AtomicNumbersMask;
+import org.openscience.cdk.interfaces.IAtom;
+import org.openscience.cdk.interfaces.IAtomContainer;
+import org.openscience.cdk.interfaces.IElement;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Element composition filter for filtering atom containers based on the elements they are composed of. Atom containers
+ * get filtered if they contain an atom of an element that is not part of the whitelist of allowed elements or if the
+ * count of atoms of a specific element exceeds the max count that has been set for this element. The whitelist and
+ * the max counts are precompiled at the initialization of the filter (see {@link AtomicNumbersMask}), so that the
+ * filtering of an atom container only costs a single pass over its atoms.
+ * <br>
+ * Pseudo-atoms are treated as atoms of the wildcard atomic number zero. Implicit hydrogen atoms may or may not be
+ * considered as atoms of the element hydrogen.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see AtomicNumbersMask
+ */
+public class ElementCompositionFilter extends BaseFilter {
+
+    /**
+     * Integer value used in the {@link #maxCountOfElementArray} for elements that have no max count.
+     */
+    protected static final int NO_MAX_COUNT = -1;
+
+    /**
+     * Mask of the atomic numbers of the allowed elements.
+     */
+    protected final AtomicNumbersMask allowedElementsMask;
+
+    /**
+     * Array of the max atom counts indexed by atomic number; elements without max count have the value {@link
+     * #NO_MAX_COUNT}.
+     */
+    protected final int[] maxCountOfElementArray;
+
+    /**
+     * Array indexed by atomic number that holds for every element with max count the index of its atom counter; the
+     * value is {@link #NO_MAX_COUNT} for elements without max count.
+     */
+    protected final int[] counterIndexOfElementArray;
+
+    /**
+     * Number of elements with max count; equals the number of atom counters needed during the filtering.
+     */
+    protected final int numberOfElementsWithMaxCount;
+
+    /**
+     * Boolean value whether implicit hydrogen atoms should be considered as atoms of the element hydrogen.
+     */
+    protected final boolean considerImplicitHydrogens;
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; initializes the filter with the mask of allowed elements, the max counts per element and the
+     * reporter. The map of max counts may be null or empty if only the whitelist shall be applied; atom containers that
+     * equal a max count do not get filtered.
+     *
+     * @param anAllowedElementsMask mask of the atomic numbers of the allowed elements
+     * @param aMaxCountsOfElements map of atomic numbers to the max count of atoms of the respective element; may be
+     *                             null
+     * @param aConsiderImplicitHydrogens boolean value whether to consider implicit hydrogen atoms as atoms of the
+     *                                   element hydrogen
+     * @param aReporter the reporter that is to be used when processing sets of structures
+     * @throws NullPointerException if the given mask, a key or value of the given map or the given IReporter instance
+     *                              is null
+     * @throws IllegalArgumentException if a key of the given map is no valid atomic number; if a max count is below
+     *                                  zero
+     */
+    public ElementCompositionFilter(AtomicNumbersMask anAllowedElementsMask, Map<Integer, Integer> aMaxCountsOfElements,
+                                    boolean aConsiderImplicitHydrogens, IReporter aReporter)
+            throws NullPointerException, IllegalArgumentException {
+        super(aReporter, null);
+        Objects.requireNonNull(anAllowedElementsMask, "anAllowedElementsMask (instance of AtomicNumbersMask) is null.");
+        this.allowedElementsMask = anAllowedElementsMask;
+        this.maxCountOfElementArray = ElementCompositionFilter.compileMaxCounts(aMaxCountsOfElements);
+        this.counterIndexOfElementArray = ElementCompositionFilter.getCounterIndices(this.maxCountOfElementArray);
+        this.numberOfElementsWithMaxCount = (int) Arrays.stream(this.counterIndexOfElementArray)
+                .filter(anIndex -> anIndex != ElementCompositionFilter.NO_MAX_COUNT).count();
+        this.considerImplicitHydrogens = aConsiderImplicitHydrogens;
+    }
+
+    /**
+     * Constructor; initializes the filter with the mask of allowed elements, the max counts per element and an instance
+     * of {@link MarkDownReporter} as reporter. The map of max counts may be null or empty if only the whitelist shall
+     * be applied; atom containers that equal a max count do not get filtered.
+     *
+     * @param anAllowedElementsMask mask of the atomic numbers of the allowed elements
+     * @param aMaxCountsOfElements map of atomic numbers to the max count of atoms of the respective element; may be
+     *                             null
+     * @param aConsiderImplicitHydrogens boolean value whether to consider implicit hydrogen atoms as atoms of the
+     *                                   element hydrogen
+     * @param aReportFilesDirectoryPath the directory path for the MarkDownReporter to create the report files at
+     * @throws NullPointerException if the given mask, a key or value of the given map or the given String with the
+     *                              directory path is null
+     * @throws IllegalArgumentException if a key of the given map is no valid atomic number; if a max count is below
+     *                                  zero; if the given file path is no directory path
+     */
+    public ElementCompositionFilter(AtomicNumbersMask anAllowedElementsMask, Map<Integer, Integer> aMaxCountsOfElements,
+                                    boolean aConsiderImplicitHydrogens, String aReportFilesDirectoryPath)
+            throws NullPointerException, IllegalArgumentException {
+        super(aReportFilesDirectoryPath, null);
+        Objects.requireNonNull(anAllowedElementsMask, "anAllowedElementsMask (instance of AtomicNumbersMask) is null.");
+        this.allowedElementsMask = anAllowedElementsMask;
+        this.maxCountOfElementArray = ElementCompositionFilter.compileMaxCounts(aMaxCountsOfElements);
+        this.counterIndexOfElementArray = ElementCompositionFilter.getCounterIndices(this.maxCountOfElementArray);
+        this.numberOfElementsWithMaxCount = (int) Arrays.stream(this.counterIndexOfElementArray)
+                .filter(anIndex -> anIndex != ElementCompositionFilter.NO_MAX_COUNT).count();
+        this.considerImplicitHydrogens = aConsiderImplicitHydrogens;
+    }
+
+    /**
+     * Constructor; initializes the filter in organic subset mode: only atoms of the elements of the organic subset of
+     * the SMILES notation and hydrogen are allowed (see {@link AtomicNumbersMask#ORGANIC_SUBSET}); no max counts are
+     * set.
+     *
+     * @param aReporter the reporter that is to be used when processing sets of structures
+     * @throws NullPointerException if the given IReporter instance is null
+     */
+    public ElementCompositionFilter(IReporter aReporter) throws NullPointerException {
+        this(AtomicNumbersMask.ORGANIC_SUBSET, null, false, aReporter);
+    }
+
+    /**
+     * Constructor; initializes the filter in organic subset mode: only atoms of the elements of the organic subset of
+     * the SMILES notation and hydrogen are allowed (see {@link AtomicNumbersMask#ORGANIC_SUBSET}); no max counts are
+     * set. An instance of {@link MarkDownReporter} is used as reporter.
+     *
+     * @param aReportFilesDirectoryPath the directory path for the MarkDownReporter to create the report files at
+     * @throws NullPointerException if the given String with the directory path is null
+     * @throws IllegalArgumentException if the given file path is no directory path
+     */
+    public ElementCompositionFilter(String aReportFilesDirectoryPath) throws NullPointerException,
+            IllegalArgumentException {
+        this(AtomicNumbersMask.ORGANIC_SUBSET, null, false, aReportFilesDirectoryPath);
+    }
+    //</editor-fold>
+
+    /**
+     * @throws NullPointerException {@inheritDoc}; if the atomic number of an atom is null; if implicit hydrogen atoms
+     *                              are to be considered but the implicit hydrogen count of an atom is null
+     * @see #evaluate(IAtomContainer)
+     */
+    @Override
+    public boolean isFiltered(IAtomContainer anAtomContainer) throws NullPointerException {
+        final FilterOutcome tmpOutcome = this.evaluate(anAtomContainer);
+        if (tmpOutcome.isIssue()) {
+            // all issues of this filter are related to values being null
+            throw new NullPointerException(tmpOutcome.getErrorCode().name());
+        }
+        return tmpOutcome.isFiltered();
+    }
+
+    /**
+     * Evaluates the given atom container in a single pass over its atoms without signalling issues via exceptions. An
+     * atomic number being null or - if implicit hydrogen atoms are to be considered - an implicit hydrogen count being
+     * null result in the respective issue outcome.
+     */
+    @Override
+    public FilterOutcome evaluate(IAtomContainer anAtomContainer) {
+        if (anAtomContainer == null) {
+            return FilterOutcome.issue(ErrorCodes.ATOM_CONTAINER_NULL_ERROR);
+        }
+        //
+        final int[] tmpAtomCounts = new int[this.numberOfElementsWithMaxCount];
+        int tmpImplicitHydrogenCount = 0;
+        Integer tmpNotNullInteger;
+        int tmpAtomicNumber;
+        int tmpCounterIndex;
+        for (IAtom tmpAtom : anAtomContainer.atoms()) {
+            if ((tmpNotNullInteger = tmpAtom.getAtomicNumber()) == null) {
+                return FilterOutcome.issue(ErrorCodes.ATOMIC_NUMBER_NULL_ERROR);
+            }
+            tmpAtomicNumber = tmpNotNullInteger;
+            if (!this.allowedElementsMask.contains(tmpAtomicNumber)) {
+                return FilterOutcome.FILTERED;
+            }
+            if (this.considerImplicitHydrogens) {
+                if ((tmpNotNullInteger = tmpAtom.getImplicitHydrogenCount()) == null) {
+                    return FilterOutcome.issue(ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR);
+                }
+                tmpImplicitHydrogenCount += tmpNotNullInteger;
+            }
+            tmpCounterIndex = this.counterIndexOfElementArray[tmpAtomicNumber];
+            if (tmpCounterIndex != ElementCompositionFilter.NO_MAX_COUNT) {
+                if (++tmpAtomCounts[tmpCounterIndex] > this.maxCountOfElementArray[tmpAtomicNumber]) {
+                    return FilterOutcome.FILTERED;
+                }
+            }
+        }
+        if (tmpImplicitHydrogenCount > 0) {
+            if (!this.allowedElementsMask.contains(IElement.H)) {
+                return FilterOutcome.FILTERED;
+            }
+            tmpCounterIndex = this.counterIndexOfElementArray[IElement.H];
+            if (tmpCounterIndex != ElementCompositionFilter.NO_MAX_COUNT) {
+                return FilterOutcome.of(tmpAtomCounts[tmpCounterIndex] + tmpImplicitHydrogenCount
+                        > this.maxCountOfElementArray[IElement.H]);
+            }
+        }
+        return FilterOutcome.PASSED;
+    }
+
+    @Override
+    protected void reportIssue(IAtomContainer anAtomContainer, Exception anException) throws Exception {
+        this.reportIssueOfErrorCodeName(anAtomContainer, anException);
+    }
+
+    //<editor-fold desc="private static methods" defaultstate="collapsed">
+    /**
+     * Compiles the given map of max counts into an array indexed by atomic number; elements without max count are
+     * given the value {@link #NO_MAX_COUNT}.
+     *
+     * @param aMaxCountsOfElements map of atomic numbers to max counts or null
+     * @return integer array of length 119
+     * @throws NullPointerException if a key or value of the given map is null
+     * @throws IllegalArgumentException if a key is no valid atomic number; if a max count is below zero
+     */
+    private static int[] compileMaxCounts(Map<Integer, Integer> aMaxCountsOfElements) throws NullPointerException,
+            IllegalArgumentException {
+        int[] tmpMaxCountOfElementArray = new int[AtomicNumbersMask.HIGHEST_ATOMIC_NUMBER + 1];
+        Arrays.fill(tmpMaxCountOfElementArray, ElementCompositionFilter.NO_MAX_COUNT);
+        if (aMaxCountsOfElements == null) {
+            return tmpMaxCountOfElementArray;
+        }
+        for (Map.Entry<Integer, Integer> tmpEntry : aMaxCountsOfElements.entrySet()) {
+            Objects.requireNonNull(tmpEntry.getKey(), "A key of aMaxCountsOfElements (Integer) is null.");
+            Objects.requireNonNull(tmpEntry.getValue(), "A value of aMaxCountsOfElements (Integer) is null.");
+            if (tmpEntry.getKey() < 0 || tmpEntry.getKey() > AtomicNumbersMask.HIGHEST_ATOMIC_NUMBER) {
+                throw new IllegalArgumentException(ErrorCodes.INVALID_ATOMIC_NUMBER_ERROR.name());
+            }
+            if (tmpEntry.getValue() < 0) {
+                throw new IllegalArgumentException("A max count of aMaxCountsOfElements (Integer) is below zero.");
+            }
+            tmpMaxCountOfElementArray[tmpEntry.getKey()] = tmpEntry.getValue();
+        }
+        return tmpMaxCountOfElementArray;
+    }
+
+    /**
+     * Returns an array indexed by atomic number that assigns every element with max count an index of an atom counter;
+     * elements without max count are given the value {@link #NO_MAX_COUNT}.
+     *
+     * @param aMaxCountOfElementArray array of max counts indexed by atomic number
+     * @return integer array of the same length
+     */
+    private static int[] getCounterIndices(int[] aMaxCountOfElementArray) {
+        int[] tmpCounterIndexOfElementArray = new int[aMaxCountOfElementArray.length];
+        int tmpNextIndex = 0;
+        for (int i = 0; i < aMaxCountOfElementArray.length; i++) {
+            if (aMaxCountOfElementArray[i] == ElementCompositionFilter.NO_MAX_COUNT) {
+                tmpCounterIndexOfElementArray[i] = ElementCompositionFilter.NO_MAX_COUNT;
+            } else {
+                tmpCounterIndexOfElementArray[i] = tmpNextIndex++;
+            }
+        }
+        return tmpCounterIndexOfElementArray;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public properties" defaultstate="collapsed">
+    /**
+     * Returns the mask of the atomic numbers of the allowed elements.
+     *
+     * @return AtomicNumbersMask instance
+     */
+    public AtomicNumbersMask getAllowedElementsMask() {
+        return this.allowedElementsMask;
+    }
+
+    /**
+     * Returns the max count of atoms of the element with the given atomic number or {@link #NO_MAX_COUNT} if no max
+     * count has been set for the element.
+     *
+     * @param anAtomicNumber the atomic number of the element
+     * @return integer value
+     * @throws IllegalArgumentException if the given integer value is no valid atomic number
+     */
+    public int getMaxCountOfElement(int anAtomicNumber) throws IllegalArgumentException {
+        if (anAtomicNumber < 0 || anAtomicNumber > AtomicNumbersMask.HIGHEST_ATOMIC_NUMBER) {
+            throw new IllegalArgumentException(ErrorCodes.INVALID_ATOMIC_NUMBER_ERROR.name());
+        }
+        return this.maxCountOfElementArray[anAtomicNumber];
+    }
+
+    /**
+     * Returns whether implicit hydrogen atoms are considered as atoms of the element hydrogen.
+     *
+     * @return boolean value
+     */
+    public boolean isConsiderImplicitHydrogens() {
+        return this.considerImplicitHydrogens;
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.processingSteps.filters;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+
+import java.util.Objects;
+
+/**
+ * Outcome of the evaluation of a structure by a filter (see {@link IFilter#evaluate}). A structure either passes the
+ * filter, gets filtered, or causes an issue, which is described by a constant of the {@link ErrorCodes} enum.
+ * Structures causing an issue do not pass the filter.
+ * <br>
+ * Instances of this class are immutable and shared: the two plain outcomes are constants and there is exactly one
+ * issue outcome per error code. Hence, the evaluation of a structure does not allocate any objects, neither on success
+ * nor in case of an issue.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see IFilter#evaluate
+ */
+public final class FilterOutcome {
+
+    /**
+     * Outcome of a structure that passes the filter.
+     */
+    public static final FilterOutcome PASSED = new FilterOutcome(false, null);
+
+    /**
+     * Outcome of a structure that does not meet the filter criterion and gets filtered.
+     */
+    public static final FilterOutcome FILTERED = new FilterOutcome(true, null);
+
+    /**
+     * Array of the issue outcomes indexed by the ordinal of their error code.
+     */
+    private static final FilterOutcome[] ISSUE_OUTCOMES;
+
+    static {
+        ErrorCodes[] tmpErrorCodes = ErrorCodes.values();
+        ISSUE_OUTCOMES = new FilterOutcome[tmpErrorCodes.length];
+        for (ErrorCodes tmpErrorCode : tmpErrorCodes) {
+            FilterOutcome.ISSUE_OUTCOMES[tmpErrorCode.ordinal()] = new FilterOutcome(true, tmpErrorCode);
+        }
+    }
+
+    /**
+     * Boolean value whether the structure does not pass the filter.
+     */
+    private final boolean isFiltered;
+
+    /**
+     * Error code of the issue caused by the structure; null if no issue occurred.
+     */
+    private final ErrorCodes errorCode;
+
+    /**
+     * Private constructor; instances are only obtainable via the constants and static methods of this class.
+     *
+     * @param anIsFiltered boolean value whether the structure does not pass the filter
+     * @param anErrorCode error code of the issue or null
+     */
+    private FilterOutcome(boolean anIsFiltered, ErrorCodes anErrorCode) {
+        this.isFiltered = anIsFiltered;
+        this.errorCode = anErrorCode;
+    }
+
+    /**
+     * Returns {@link #FILTERED} if the given boolean value is true and {@link #PASSED} otherwise.
+     *
+     * @param anIsFiltered boolean value whether the structure does not pass the filter
+     * @return FilterOutcome constant
+     */
+    public static FilterOutcome of(boolean anIsFiltered) {
+        return anIsFiltered ? FilterOutcome.FILTERED : FilterOutcome.PASSED;
+    }
+
+    /**
+     * Returns the outcome of a structure causing an issue with the given error code.
+     *
+     * @param anErrorCode error code of the issue
+     * @return FilterOutcome instance of the issue
+     * @throws NullPointerException if the given ErrorCodes constant is null
+     */
+    public static FilterOutcome issue(ErrorCodes anErrorCode) throws NullPointerException {
+        Objects.requireNonNull(anErrorCode, "anErrorCode (ErrorCodes constant) is null.");
+        return FilterOutcome.ISSUE_OUTCOMES[anErrorCode.ordinal()];
+    }
+
+    /**
+     * Returns the inverse outcome as needed by a filter with the inverse filter criterion: {@link #FILTERED} for
+     * {@link #PASSED} and vice versa. Issue outcomes are returned as they are, as structures causing an issue pass
+     * neither of the two filters.
+     *
+     * @return FilterOutcome instance
+     */
+    public FilterOutcome invert() {
+        if (this.errorCode != null) {
+            return this;
+        }
+        return this.isFiltered ? FilterOutcome.PASSED : FilterOutcome.FILTERED;
+    }
+
+    /**
+     * Returns whether the structure passes the filter.
+     *
+     * @return true, if the structure passes the filter
+     */
+    public boolean isPassed() {
+        return !this.isFiltered;
+    }
+
+    /**
+     * Returns whether the structure does not pass the filter; this is the case for filtered structures as well as for
+     * structures that caused an issue.
+     *
+     * @return true, if the structure does not pass the filter
+     */
+    public boolean isFiltered() {
+        return this.isFiltered;
+    }
+
+    /**
+     * Returns whether the structure caused an issue.
+     *
+     * @return true, if an issue occurred
+     */
+    public boolean isIssue() {
+        return this.errorCode != null;
+    }
+
+    /**
+     * Returns the error code of the issue caused by the structure or null, if no issue occurred.
+     *
+     * @return ErrorCodes constant or null
+     */
+    public ErrorCodes getErrorCode() {
+        return this.errorCode;
+    }
+
+    @Override
+    public String toString() {
+        if (this.errorCode != null) {
+            return "FilterOutcome{ISSUE: " + this.errorCode.name() + "}";
+        }
+        return this.isFiltered ? "FilterOutcome{FILTERED}" : "FilterOutcome{PASSED}";
+    }
+
+}
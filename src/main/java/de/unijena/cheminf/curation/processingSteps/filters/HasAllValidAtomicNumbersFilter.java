@@ -29,6 +29,7 @@ import de.unijena.cheminf.curation.enums.ErrorCodes;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
 import de.unijena.cheminf.curation.utils.FilterUtils;
+import org.openscience.cdk.interfaces.IAtom;
 import org.openscience.cdk.interfaces.IAtomContainer;
 
 import java.util.Objects;
@@ -89,38 +90,43 @@ public class HasAllValidAtomicNumbersFilter extends BaseFilter {
     public boolean isFiltered(IAtomContainer anAtomContainer) throws NullPointerException {
         Objects.requireNonNull(anAtomContainer, ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name());
         //
-        try {
-            return !FilterUtils.hasAllValidAtomicNumbers(anAtomContainer, this.wildcardAtomicNumberIsValid);
-        } catch (NullPointerException aNullPointerException) {
-            //check whether it is an ATOMIC_NUMBER_NULL_ERROR; re-throw exception otherwise
-            try {
-                if (ErrorCodes.valueOf(aNullPointerException.getMessage()) == ErrorCodes.ATOMIC_NUMBER_NULL_ERROR) {
-                    //atomic number being null is considered as an invalid atomic number
-                    return true;
-                }
-            } catch (Exception ignored) {
-                //ignored
+        for (IAtom tmpAtom : anAtomContainer.atoms()) {
+            Objects.requireNonNull(tmpAtom, ErrorCodes.ATOM_NULL_ERROR.name());
+            //atomic number being null is considered as an invalid atomic number; checked here to not rely on catching
+            //the ATOMIC_NUMBER_NULL_ERROR thrown by FilterUtils.hasValidAtomicNumber()
+            if (tmpAtom.getAtomicNumber() == null
+                    || !FilterUtils.hasValidAtomicNumber(tmpAtom, this.wildcardAtomicNumberIsValid)) {
+                return true;
             }
-            throw aNullPointerException;
         }
+        return false;
     }
 
+    /**
+     * Evaluates the given atom container without signalling issues via exceptions. An atom being null results in an
+     * issue outcome ({@link ErrorCodes#ATOM_NULL_ERROR}); an atomic number being null is considered as invalid atomic
+     * number.
+     */
     @Override
-    protected void reportIssue(IAtomContainer anAtomContainer, Exception anException) throws Exception {
-        String tmpExceptionMessageString = anException.getMessage();
-        ErrorCodes tmpErrorCode;
-        try {
-            // the message of the exception is expected to match the name of an ErrorCodes enum's constant
-            tmpErrorCode = ErrorCodes.valueOf(tmpExceptionMessageString);
-        } catch (Exception aFatalException) {
-            /*
-             * the message string of the given exception did not match the name of an ErrorCodes enum's constant; the
-             * exception is considered as fatal and re-thrown
-             */
-            this.appendToReport(ErrorCodes.UNEXPECTED_EXCEPTION_ERROR, anAtomContainer);
-            throw anException;
+    public FilterOutcome evaluate(IAtomContainer anAtomContainer) {
+        if (anAtomContainer == null) {
+            return FilterOutcome.issue(ErrorCodes.ATOM_CONTAINER_NULL_ERROR);
+        }
+        for (IAtom tmpAtom : anAtomContainer.atoms()) {
+            if (tmpAtom == null) {
+                return FilterOutcome.issue(ErrorCodes.ATOM_NULL_ERROR);
+            }
+            if (tmpAtom.getAtomicNumber() == null
+                    || !FilterUtils.hasValidAtomicNumber(tmpAtom, this.wildcardAtomicNumberIsValid)) {
+                return FilterOutcome.FILTERED;
+            }
         }
-        this.appendToReport(tmpErrorCode, anAtomContainer);
+        return FilterOutcome.PASSED;
+    }
+
+    @Override
+    protected void reportIssue(IAtomContainer anAtomContainer, Exception anException) throws Exception {
+        this.reportIssueOfErrorCodeName(anAtomContainer, anException);
     }
 
     /**
@@ -29,6 +29,7 @@ import de.unijena.cheminf.curation.enums.ErrorCodes;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
 import de.unijena.cheminf.curation.utils.FilterUtils;
+import de.unijena.cheminf.curation.utils.ValenceCheckResult;
 import de.unijena.cheminf.curation.valenceHandling.valenceModels.IValenceModel;
 import de.unijena.cheminf.curation.valenceHandling.valenceModels.PubChemValenceModel;
 import org.openscience.cdk.interfaces.IAtom;
@@ -39,6 +40,11 @@ import java.util.Objects;
 /**
  * Has all valid valences filter to filter atom containers with all valid valences out of a set of atom containers. The
  * valences of the atoms are checked based on a valence model which is by default the {@link PubChemValenceModel}.
+ * <br>
+ * Optionally, the atoms with invalid valences are recorded during the check and passed to a listener (see {@link
+ * #setInvalidValenceAtomsListener(IInvalidValenceAtomsListener)}) and / or reported with their indices attached to the
+ * report data object (see {@link #setReportingInvalidValenceAtoms(boolean)}), so no second validation pass is needed to
+ * analyse them; the verdict of the filter is not affected by this.
  *
  * @author Samuel Behr
  * @version 1.0.0.0
@@ -56,6 +62,18 @@ public class HasAllValidValencesFilter extends BaseFilter {
      */
     private final boolean wildcardAtomicNumberIsValid;
 
+    /**
+     * Listener to notify about the atoms with invalid valences of the checked atom containers; null by default, in
+     * which case the atoms are not recorded.
+     */
+    private IInvalidValenceAtomsListener invalidValenceAtomsListener = null;
+
+    /**
+     * Boolean value whether to append a report with error code {@link ErrorCodes#INVALID_VALENCE_ERROR} and the
+     * indices of the atoms with invalid valences for every checked atom container with such atoms; false by default.
+     */
+    private boolean reportingInvalidValenceAtoms = false;
+
     //<editor-fold desc="Constructors" defaultstate="collapsed">
     /**
      * Constructor; initializes a {@link HasAllValidValencesFilter} with the given valence model and reporter and
@@ -129,7 +147,8 @@ public class HasAllValidValencesFilter extends BaseFilter {
      * <br>
      * The class field {@link #wildcardAtomicNumberIsValid} decides whether atoms with atomic number zero are generally
      * to be considered as having a valid valence. Otherwise the wildcard atomic number is considered as invalid if not
-     * covered by the valence model.
+     * covered by the valence model. If atoms with invalid valences are to be recorded, they are recorded the same way
+     * as by {@link #evaluate(IAtomContainer)}.
      *
      * @throws NullPointerException if the given atom container or an atom contained by it is null; if atomic number,
      *                              formal charge or the implicit hydrogen count of an atom is null; if the bond order
@@ -145,26 +164,40 @@ public class HasAllValidValencesFilter extends BaseFilter {
             UnsupportedOperationException {
         Objects.requireNonNull(anAtomContainer, ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name());
         //
-        return !FilterUtils.hasAllValidValences(anAtomContainer, this.wildcardAtomicNumberIsValid, this.valenceModel);
+        if (!this.isRecordingInvalidValenceAtoms()) {
+            return !FilterUtils.hasAllValidValences(anAtomContainer, this.wildcardAtomicNumberIsValid,
+                    this.valenceModel);
+        }
+        final FilterOutcome tmpOutcome = this.evaluateValences(anAtomContainer);
+        if (tmpOutcome.isIssue()) {
+            throw FilterUtils.getExceptionOfValenceDataIssue(tmpOutcome.getErrorCode());
+        }
+        return tmpOutcome.isFiltered();
+    }
+
+    /**
+     * Evaluates the given atom container without signalling issues via exceptions. The data needed to check the
+     * valences is validated within the validation pass (see {@link FilterUtils#checkValences(IAtomContainer,
+     * boolean, IValenceModel, boolean)}); atom containers with missing data result in an issue
+     * outcome with the respective error code. If a listener is set or the atoms with invalid valences are to be
+     * reported, the check is not stopped at the first atom with an invalid valence to pass all of them to the listener
+     * respectively attach them to the report.
+     *
+     * @throws UnsupportedOperationException if an IAtom instance of the given atom container does not support its bonds
+     *                                       to be queried ({@link IAtom#bonds()})
+     */
+    @Override
+    public FilterOutcome evaluate(IAtomContainer anAtomContainer) throws UnsupportedOperationException {
+        if (anAtomContainer == null) {
+            return FilterOutcome.issue(ErrorCodes.ATOM_CONTAINER_NULL_ERROR);
+        }
+        return this.evaluateValences(anAtomContainer);
     }
 
     @Override
     protected void reportIssue(IAtomContainer anAtomContainer, Exception anException) throws NullPointerException,
             Exception {
-        String tmpExceptionMessageString = anException.getMessage();
-        ErrorCodes tmpErrorCode;
-        try {
-            // the message of the exception is expected to match the name of an ErrorCodes enum's constant
-            tmpErrorCode = ErrorCodes.valueOf(tmpExceptionMessageString);
-        } catch (Exception aFatalException) {
-            /*
-             * the message string of the given exception did not match the name of an ErrorCodes enum's constant; the
-             * exception is considered as fatal and re-thrown
-             */
-            this.appendToReport(ErrorCodes.UNEXPECTED_EXCEPTION_ERROR, anAtomContainer);
-            throw anException;
-        }
-        this.appendToReport(tmpErrorCode, anAtomContainer);
+        this.reportIssueOfErrorCodeName(anAtomContainer, anException);
     }
 
     /**
@@ -185,4 +218,123 @@ public class HasAllValidValencesFilter extends BaseFilter {
         return this.wildcardAtomicNumberIsValid;
     }
 
+    /**
+     * Returns the listener that is notified about the atoms with invalid valences of the checked atom containers or
+     * null, if none is set.
+     *
+     * @return IInvalidValenceAtomsListener instance or null
+     */
+    public IInvalidValenceAtomsListener getInvalidValenceAtomsListener() {
+        return this.invalidValenceAtomsListener;
+    }
+
+    /**
+     * Sets the listener to notify about the atoms with invalid valences of the checked atom containers; null to not
+     * record these atoms. With a listener set, all atoms of a structure are checked instead of stopping at the first
+     * atom with an invalid valence; the verdict of the filter stays the same.
+     *
+     * @param aListener IInvalidValenceAtomsListener instance or null
+     */
+    public void setInvalidValenceAtomsListener(IInvalidValenceAtomsListener aListener) {
+        this.invalidValenceAtomsListener = aListener;
+    }
+
+    /**
+     * Returns whether a report with error code {@link ErrorCodes#INVALID_VALENCE_ERROR} and the indices of the atoms
+     * with invalid valences is appended for every atom container that is filtered due to such atoms.
+     *
+     * @return boolean value
+     */
+    public boolean isReportingInvalidValenceAtoms() {
+        return this.reportingInvalidValenceAtoms;
+    }
+
+    /**
+     * Sets whether to append a report with error code {@link ErrorCodes#INVALID_VALENCE_ERROR} for every atom
+     * container that is filtered due to atoms with invalid valences; the indices of these atoms are attached to the
+     * report data object (see {@link de.unijena.cheminf.curation.reporter.ReportDataObject#getAffectedAtomIndices()}).
+     * Atom containers passing the filter are not reported, which is why this setting has no effect on filters that
+     * let atom containers with invalid valences pass (see {@link #isFilteringInvalidValences()}). The reports are
+     * appended by {@link #isFiltered(IAtomContainer)} and {@link #evaluate(IAtomContainer)} alike; the checked atom
+     * containers are therefore expected to possess a MolID, as is the case when processed by this filter. The verdict
+     * of the filter stays the same.
+     *
+     * @param aReportingInvalidValenceAtoms boolean value whether to report the atoms with invalid valences
+     */
+    public void setReportingInvalidValenceAtoms(boolean aReportingInvalidValenceAtoms) {
+        this.reportingInvalidValenceAtoms = aReportingInvalidValenceAtoms;
+    }
+
+    /**
+     * Returns whether atom containers with atoms with invalid valences are filtered by this filter; only these atom
+     * containers are reported if reporting the atoms with invalid valences is requested. To be overridden by
+     * subclasses inverting the verdict of this filter.
+     *
+     * @return true
+     */
+    protected boolean isFilteringInvalidValences() {
+        return true;
+    }
+
+    /**
+     * Returns whether the atoms with invalid valences are to be reported, i.e. whether it is requested and the atom
+     * containers with such atoms are filtered.
+     *
+     * @return boolean value
+     */
+    private boolean isReportingInvalidValenceAtomsOfFilteredAtomContainers() {
+        return this.reportingInvalidValenceAtoms && this.isFilteringInvalidValences();
+    }
+
+    /**
+     * Returns whether the atoms with invalid valences are to be recorded, i.e. whether they are to be reported or a
+     * listener is set.
+     *
+     * @return boolean value
+     */
+    private boolean isRecordingInvalidValenceAtoms() {
+        return this.isReportingInvalidValenceAtomsOfFilteredAtomContainers()
+                || this.invalidValenceAtomsListener != null;
+    }
+
+    /**
+     * Evaluates the valences of the given atom container, recording the atoms with invalid valences if requested;
+     * private so that the verdict is not inverted by subclasses when called by {@link #isFiltered(IAtomContainer)}.
+     *
+     * @param anAtomContainer the atom container to check the valences of; not null
+     * @return the outcome of the evaluation of this filter
+     * @throws UnsupportedOperationException if an IAtom instance of the given atom container does not support its bonds
+     *                                       to be queried ({@link IAtom#bonds()})
+     */
+    private FilterOutcome evaluateValences(IAtomContainer anAtomContainer) throws UnsupportedOperationException {
+        final ValenceCheckResult tmpResult = FilterUtils.checkValences(anAtomContainer,
+                this.wildcardAtomicNumberIsValid, this.valenceModel, this.isRecordingInvalidValenceAtoms());
+        if (tmpResult.isIssue()) {
+            return FilterOutcome.issue(tmpResult.getErrorCode());
+        }
+        if (tmpResult.hasAllValidValences()) {
+            return FilterOutcome.PASSED;
+        }
+        if (this.isRecordingInvalidValenceAtoms()) {
+            this.recordInvalidValenceAtoms(anAtomContainer, tmpResult.getInvalidAtomIndices());
+        }
+        return FilterOutcome.FILTERED;
+    }
+
+    /**
+     * Appends the report of the given atoms with invalid valences, if requested and the atom container is filtered,
+     * and passes the atoms on to the listener set by the user, if there is one.
+     *
+     * @param anAtomContainer      the atom container the atoms belong to
+     * @param anInvalidAtomIndices ascending indices of the atoms with invalid valences
+     */
+    private void recordInvalidValenceAtoms(IAtomContainer anAtomContainer, int[] anInvalidAtomIndices) {
+        if (this.isReportingInvalidValenceAtomsOfFilteredAtomContainers()) {
+            this.appendToReport(ErrorCodes.INVALID_VALENCE_ERROR, anAtomContainer, anInvalidAtomIndices);
+        }
+        if (this.invalidValenceAtomsListener != null) {
+            this.invalidValenceAtomsListener.invalidValenceAtomsDetected(anAtomContainer, anInvalidAtomIndices);
+        }
+    }
+
 }
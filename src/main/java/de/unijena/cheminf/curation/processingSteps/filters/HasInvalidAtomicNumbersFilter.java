@@ -71,4 +71,13 @@ public class HasInvalidAtomicNumbersFilter extends HasAllValidAtomicNumbersFilte
         return !super.isFiltered(anAtomContainer);
     }
 
+    /**
+     * Evaluates the given atom container without signalling issues via exceptions; returns the inverse of the outcome
+     * of {@link HasAllValidAtomicNumbersFilter#evaluate(IAtomContainer)}.
+     */
+    @Override
+    public FilterOutcome evaluate(IAtomContainer anAtomContainer) {
+        return super.evaluate(anAtomContainer).invert();
+    }
+
 }
@@ -111,4 +111,19 @@ public class HasInvalidValencesFilter extends HasAllValidValencesFilter {
         return !super.isFiltered(anAtomContainer);
     }
 
+    @Override
+    public FilterOutcome evaluate(IAtomContainer anAtomContainer) throws UnsupportedOperationException {
+        return super.evaluate(anAtomContainer).invert();
+    }
+
+    /**
+     * Atom containers with atoms with invalid valences pass this filter; they are therefore not reported as such.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean isFilteringInvalidValences() {
+        return false;
+    }
+
 }
@@ -71,4 +71,22 @@ public interface IFilter extends IProcessingStep {
      */
     public boolean isFiltered(IAtomContainer anAtomContainer) throws NullPointerException, Exception;
 
+    /**
+     * Evaluates the given IAtomContainer instance without signalling issues (with the structure) via exceptions;
+     * returns {@link FilterOutcome#PASSED} if the atom container passes the filter, {@link FilterOutcome#FILTERED} if
+     * it does not meet the filter criterion and an issue outcome with the respective error code (see {@link
+     * FilterOutcome#issue}) if an issue is encountered. Exceptions are only thrown in case of unexpected, fatal errors.
+     * <br>
+     * The default implementation delegates to {@link #isFiltered(IAtomContainer)} and thereby still signals issues via
+     * exceptions; filters are encouraged to override it.
+     *
+     * @param anAtomContainer IAtomContainer instance to be evaluated
+     * @return the outcome of the evaluation
+     * @throws Exception if an unexpected, fatal error occurred (or any issue, if the default implementation is used)
+     * @see #isFiltered(IAtomContainer)
+     */
+    public default FilterOutcome evaluate(IAtomContainer anAtomContainer) throws Exception {
+        return FilterOutcome.of(this.isFiltered(anAtomContainer));
+    }
+
 }
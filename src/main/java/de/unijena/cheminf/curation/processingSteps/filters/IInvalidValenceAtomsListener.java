@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.processingSteps.filters;
+
+import de.unijena.cheminf.curation.utils.FilterUtils;
+import org.openscience.cdk.interfaces.IAtomContainer;
+
+/**
+ * Interface of listeners that are notified about the atoms with invalid valences detected by the valence filters (see
+ * {@link HasAllValidValencesFilter#setInvalidValenceAtomsListener(IInvalidValenceAtomsListener)}). The atoms are
+ * recorded in the same pass that validates the valences; the verdict of the filter is not affected by the listener.
+ * <br>
+ * The method is called on the processing thread once per structure with at least one atom with an invalid valence;
+ * implementations should therefore return quickly and must not throw exceptions.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see FilterUtils#checkValences(IAtomContainer, boolean,
+ *      de.unijena.cheminf.curation.valenceHandling.valenceModels.IValenceModel, boolean)
+ */
+public interface IInvalidValenceAtomsListener {
+
+    /**
+     * Called after the atoms with invalid valences of the given atom container have been detected.
+     *
+     * @param anAtomContainer      the atom container the atoms belong to
+     * @param anInvalidAtomIndices     ascending indices of the atoms with invalid valences; never empty
+     */
+    public void invalidValenceAtomsDetected(IAtomContainer anAtomContainer, int[] anInvalidAtomIndices);
+
+}
@@ -26,6 +26,7 @@
 package de.unijena.cheminf.curation.processingSteps.filters;
 
 import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ThresholdCheckResults;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
 import de.unijena.cheminf.curation.utils.FilterUtils;
@@ -40,7 +41,7 @@ import java.util.Objects;
  * @author Samuel Behr
  * @version 1.0.0.0
  */
-public class MaxBondCountFilter extends BaseFilter {
+public class MaxBondCountFilter extends BaseThresholdFilter {
 
     /**
      * Integer value of the bond count threshold.
@@ -128,6 +129,25 @@ public class MaxBondCountFilter extends BaseFilter {
         );
     }
 
+    /**
+     * Checks whether the given atom container exceeds the threshold without signalling issues via exceptions. If bonds
+     * to implicit hydrogen atoms are to be considered, an implicit hydrogen count being null is detected while counting
+     * and results in an issue result ({@link ErrorCodes#IMPLICIT_HYDROGEN_COUNT_NULL_ERROR}).
+     */
+    @Override
+    protected ThresholdCheckResults checkThreshold(IAtomContainer anAtomContainer) {
+        return FilterUtils.checkBondCount(anAtomContainer,
+                this.bondCountThreshold + 1, this.considerImplicitHydrogens, this.considerPseudoAtoms);
+    }
+
+    /**
+     * Atom containers exceeding the max threshold do not pass the filter.
+     */
+    @Override
+    protected boolean isFilteringIfThresholdReached() {
+        return true;
+    }
+
     @Override
     protected void reportIssue(IAtomContainer anAtomContainer, Exception anException) throws Exception {
         String tmpExceptionMessageString = anException.getMessage();
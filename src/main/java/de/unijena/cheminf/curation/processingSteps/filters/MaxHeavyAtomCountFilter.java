@@ -26,6 +26,7 @@
 package de.unijena.cheminf.curation.processingSteps.filters;
 
 import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ThresholdCheckResults;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
 import de.unijena.cheminf.curation.utils.FilterUtils;
@@ -40,7 +41,7 @@ import java.util.Objects;
  * @author Samuel Behr
  * @version 1.0.0.0
  */
-public class MaxHeavyAtomCountFilter extends BaseFilter {
+public class MaxHeavyAtomCountFilter extends BaseThresholdFilter {
 
     /**
      * Integer value of the heavy atom count threshold value.
@@ -102,6 +103,25 @@ public class MaxHeavyAtomCountFilter extends BaseFilter {
                 this.considerPseudoAtoms);
     }
 
+    /**
+     * Checks whether the given atom container exceeds the threshold without signalling issues via exceptions. An atomic
+     * number being null is detected while counting and results in an issue result ({@link
+     * ErrorCodes#ATOMIC_NUMBER_NULL_ERROR}).
+     */
+    @Override
+    protected ThresholdCheckResults checkThreshold(IAtomContainer anAtomContainer) {
+        return FilterUtils.checkHeavyAtomCount(anAtomContainer,
+                this.heavyAtomCountThreshold + 1, this.considerPseudoAtoms);
+    }
+
+    /**
+     * Atom containers exceeding the max threshold do not pass the filter.
+     */
+    @Override
+    protected boolean isFilteringIfThresholdReached() {
+        return true;
+    }
+
     @Override
     protected void reportIssue(IAtomContainer anAtomContainer, Exception anException) throws Exception {
         String tmpExceptionMessageString = anException.getMessage();
@@ -29,7 +29,9 @@ import de.unijena.cheminf.curation.enums.ErrorCodes;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
 import de.unijena.cheminf.curation.utils.ChemUtils;
+import de.unijena.cheminf.curation.utils.FilterUtils;
 import de.unijena.cheminf.curation.enums.MassComputationFlavours;
+import de.unijena.cheminf.curation.enums.ThresholdCheckResults;
 import org.openscience.cdk.interfaces.IAtomContainer;
 import org.openscience.cdk.tools.manipulator.AtomContainerManipulator;
 
@@ -41,7 +43,7 @@ import java.util.Objects;
  * @author Samuel Behr
  * @version 1.0.0.0
  */
-public class MaxMolecularMassFilter extends BaseFilter {
+public class MaxMolecularMassFilter extends BaseThresholdFilter {
 
     /**
      * Double value of the molecular mass threshold.
@@ -136,11 +138,62 @@ public class MaxMolecularMassFilter extends BaseFilter {
     }
     //</editor-fold>
 
+    /**
+     * @throws NullPointerException {@inheritDoc}; if the implicit hydrogen count of an atom is null
+     * @see #evaluate(IAtomContainer)
+     */
     @Override
     public boolean isFiltered(IAtomContainer anAtomContainer) throws NullPointerException {
-        Objects.requireNonNull(anAtomContainer, ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name());
-        //
-        return ChemUtils.getMass(anAtomContainer, this.massComputationFlavour) > this.molecularMassThreshold;
+        final FilterOutcome tmpOutcome = this.evaluate(anAtomContainer);
+        if (tmpOutcome.isIssue()) {
+            // all issues of this filter are related to values being null
+            throw new NullPointerException(tmpOutcome.getErrorCode().name());
+        }
+        return tmpOutcome.isFiltered();
+    }
+
+    /**
+     * Checks whether the mass of the given atom container exceeds the threshold without signalling issues via
+     * exceptions. The computation of the mass needs the implicit hydrogen counts of all atoms; a count being null
+     * results in an issue result ({@link ErrorCodes#IMPLICIT_HYDROGEN_COUNT_NULL_ERROR}) instead of the exception
+     * thrown by the CDK. The counts are only checked if the mass computation failed, so that the atoms are visited
+     * once.
+     *
+     * @throws NullPointerException if the mass computation failed for any other reason than an implicit hydrogen count
+     *                              being null
+     */
+    @Override
+    protected ThresholdCheckResults checkThreshold(IAtomContainer anAtomContainer) throws NullPointerException {
+        final double tmpMass;
+        try {
+            tmpMass = ChemUtils.getMass(anAtomContainer, this.massComputationFlavour);
+        } catch (NullPointerException aNullPointerException) {
+            if (FilterUtils.getImplicitHydrogenCountIssue(anAtomContainer, true) != null) {
+                return ThresholdCheckResults.IMPLICIT_HYDROGEN_COUNT_NULL;
+            }
+            throw aNullPointerException;
+        }
+        return this.isMassThresholdReached(tmpMass) ? ThresholdCheckResults.THRESHOLD_REACHED
+                : ThresholdCheckResults.THRESHOLD_NOT_REACHED;
+    }
+
+    /**
+     * Atom containers exceeding the max molecular mass do not pass the filter.
+     */
+    @Override
+    protected boolean isFilteringIfThresholdReached() {
+        return true;
+    }
+
+    /**
+     * Returns whether the given mass reaches the threshold in terms of {@link #checkThreshold(IAtomContainer)}; for
+     * the max filter, this is the case if the mass exceeds the molecular mass threshold.
+     *
+     * @param aMass mass of the checked atom container
+     * @return true, if the threshold is reached
+     */
+    protected boolean isMassThresholdReached(double aMass) {
+        return aMass > this.molecularMassThreshold;
     }
 
     @Override
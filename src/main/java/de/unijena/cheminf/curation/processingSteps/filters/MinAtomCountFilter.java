@@ -26,6 +26,7 @@
 package de.unijena.cheminf.curation.processingSteps.filters;
 
 import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ThresholdCheckResults;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
 import de.unijena.cheminf.curation.utils.FilterUtils;
@@ -93,4 +94,22 @@ public class MinAtomCountFilter extends MaxAtomCountFilter {
         );
     }
 
+    /**
+     * Checks the given atom container against the min atom count threshold without signalling issues via exceptions
+     * (see {@link MaxAtomCountFilter#checkThreshold(IAtomContainer)}).
+     */
+    @Override
+    protected ThresholdCheckResults checkThreshold(IAtomContainer anAtomContainer) {
+        return FilterUtils.checkAtomCount(anAtomContainer,
+                this.atomCountThreshold, this.considerImplicitHydrogens, this.considerPseudoAtoms);
+    }
+
+    /**
+     * Atom containers falling short of the min threshold do not pass the filter.
+     */
+    @Override
+    protected boolean isFilteringIfThresholdReached() {
+        return false;
+    }
+
 }
@@ -26,6 +26,7 @@
 package de.unijena.cheminf.curation.processingSteps.filters;
 
 import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ThresholdCheckResults;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
 import de.unijena.cheminf.curation.utils.FilterUtils;
@@ -96,4 +97,22 @@ public class MinBondCountFilter extends MaxBondCountFilter {
         );
     }
 
+    /**
+     * Checks the given atom container against the min bond count threshold without signalling issues via exceptions
+     * (see {@link MaxBondCountFilter#checkThreshold(IAtomContainer)}).
+     */
+    @Override
+    protected ThresholdCheckResults checkThreshold(IAtomContainer anAtomContainer) {
+        return FilterUtils.checkBondCount(anAtomContainer,
+                this.bondCountThreshold, this.considerImplicitHydrogens, this.considerPseudoAtoms);
+    }
+
+    /**
+     * Atom containers falling short of the min threshold do not pass the filter.
+     */
+    @Override
+    protected boolean isFilteringIfThresholdReached() {
+        return false;
+    }
+
 }
@@ -26,6 +26,7 @@
 package de.unijena.cheminf.curation.processingSteps.filters;
 
 import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ThresholdCheckResults;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
 import de.unijena.cheminf.curation.utils.FilterUtils;
@@ -103,4 +104,23 @@ public class MinBondsOfSpecificBondOrderFilter extends MaxBondsOfSpecificBondOrd
         );
     }
 
+    /**
+     * Checks the given atom container against the min threshold of bonds of the specific bond order without signalling
+     * issues via exceptions (see {@link MaxBondsOfSpecificBondOrderFilter#checkThreshold(IAtomContainer)}).
+     */
+    @Override
+    protected ThresholdCheckResults checkThreshold(IAtomContainer anAtomContainer) {
+        return FilterUtils.checkBondsOfSpecificBondOrderCount(anAtomContainer,
+                this.bondOrderOfInterest, this.specificBondCountThreshold, this.considerImplicitHydrogens,
+                this.considerPseudoAtoms);
+    }
+
+    /**
+     * Atom containers falling short of the min threshold do not pass the filter.
+     */
+    @Override
+    protected boolean isFilteringIfThresholdReached() {
+        return false;
+    }
+
 }
@@ -26,6 +26,7 @@
 package de.unijena.cheminf.curation.processingSteps.filters;
 
 import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ThresholdCheckResults;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
 import de.unijena.cheminf.curation.utils.FilterUtils;
@@ -81,4 +82,22 @@ public class MinHeavyAtomCountFilter extends MaxHeavyAtomCountFilter {
                 this.considerPseudoAtoms);
     }
 
+    /**
+     * Checks the given atom container against the min heavy atom count threshold without signalling issues via
+     * exceptions (see {@link MaxHeavyAtomCountFilter#checkThreshold(IAtomContainer)}).
+     */
+    @Override
+    protected ThresholdCheckResults checkThreshold(IAtomContainer anAtomContainer) {
+        return FilterUtils.checkHeavyAtomCount(anAtomContainer,
+                this.heavyAtomCountThreshold, this.considerPseudoAtoms);
+    }
+
+    /**
+     * Atom containers falling short of the min threshold do not pass the filter.
+     */
+    @Override
+    protected boolean isFilteringIfThresholdReached() {
+        return false;
+    }
+
 }
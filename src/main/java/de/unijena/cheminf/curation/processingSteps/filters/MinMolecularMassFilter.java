@@ -25,16 +25,12 @@
 
 package de.unijena.cheminf.curation.processingSteps.filters;
 
-import de.unijena.cheminf.curation.enums.ErrorCodes;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
-import de.unijena.cheminf.curation.utils.ChemUtils;
 import de.unijena.cheminf.curation.enums.MassComputationFlavours;
 import org.openscience.cdk.interfaces.IAtomContainer;
 import org.openscience.cdk.tools.manipulator.AtomContainerManipulator;
 
-import java.util.Objects;
-
 /**
  * Min molecular mass filter for filtering atom containers based on a minimum molecular mass.
  *
@@ -114,11 +110,23 @@ public class MinMolecularMassFilter extends MaxMolecularMassFilter {
     }
     //</editor-fold>
 
+    /**
+     * Atom containers falling short of the min molecular mass do not pass the filter.
+     */
+    @Override
+    protected boolean isFilteringIfThresholdReached() {
+        return false;
+    }
+
+    /**
+     * Returns whether the given mass reaches the min molecular mass threshold, i.e. exceeds or equals it.
+     *
+     * @param aMass mass of the checked atom container
+     * @return true, if the threshold is reached
+     */
     @Override
-    public boolean isFiltered(IAtomContainer anAtomContainer) throws NullPointerException {
-        Objects.requireNonNull(anAtomContainer, ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name());
-        //
-        return ChemUtils.getMass(anAtomContainer, this.massComputationFlavour) < this.molecularMassThreshold;
+    protected boolean isMassThresholdReached(double aMass) {
+        return aMass >= this.molecularMassThreshold;
     }
 
 }
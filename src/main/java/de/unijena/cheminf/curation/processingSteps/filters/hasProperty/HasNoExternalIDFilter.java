@@ -25,6 +25,7 @@
 
 package de.unijena.cheminf.curation.processingSteps.filters.hasProperty;
 
+import de.unijena.cheminf.curation.processingSteps.filters.FilterOutcome;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
 import org.openscience.cdk.interfaces.IAtomContainer;
@@ -92,4 +93,13 @@ public class HasNoExternalIDFilter extends HasExternalIDFilter {
         return !super.isFiltered(anAtomContainer);
     }
 
+    /**
+     * Evaluates the given atom container without signalling issues via exceptions; returns the inverse of the outcome
+     * of {@link HasExternalIDFilter#evaluate(IAtomContainer)}.
+     */
+    @Override
+    public FilterOutcome evaluate(IAtomContainer anAtomContainer) {
+        return super.evaluate(anAtomContainer).invert();
+    }
+
 }
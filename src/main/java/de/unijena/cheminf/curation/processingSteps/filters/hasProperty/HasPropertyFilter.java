@@ -28,6 +28,7 @@ package de.unijena.cheminf.curation.processingSteps.filters.hasProperty;
 import de.unijena.cheminf.curation.enums.ErrorCodes;
 import de.unijena.cheminf.curation.processingSteps.IProcessingStep;
 import de.unijena.cheminf.curation.processingSteps.filters.BaseFilter;
+import de.unijena.cheminf.curation.processingSteps.filters.FilterOutcome;
 import de.unijena.cheminf.curation.processingSteps.filters.IFilter;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
@@ -116,6 +117,17 @@ public class HasPropertyFilter extends BaseFilter {
         return (anAtomContainer.getProperty(this.nameOfProperty) == null);
     }
 
+    /**
+     * Evaluates the given atom container without signalling issues via exceptions.
+     */
+    @Override
+    public FilterOutcome evaluate(IAtomContainer anAtomContainer) {
+        if (anAtomContainer == null) {
+            return FilterOutcome.issue(ErrorCodes.ATOM_CONTAINER_NULL_ERROR);
+        }
+        return FilterOutcome.of(anAtomContainer.getProperty(this.nameOfProperty) == null);
+    }
+
     /**
      * Handles the given exception by appending a report to the reporter; if the message string of the given exception
      * does not match the name of {@link ErrorCodes#ATOM_CONTAINER_NULL_ERROR}, the exception is considered as fatal and
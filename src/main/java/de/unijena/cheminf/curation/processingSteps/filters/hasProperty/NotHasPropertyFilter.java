@@ -25,6 +25,7 @@
 
 package de.unijena.cheminf.curation.processingSteps.filters.hasProperty;
 
+import de.unijena.cheminf.curation.processingSteps.filters.FilterOutcome;
 import de.unijena.cheminf.curation.reporter.IReporter;
 import de.unijena.cheminf.curation.reporter.MarkDownReporter;
 import org.openscience.cdk.interfaces.IAtomContainer;
@@ -85,4 +86,13 @@ public class NotHasPropertyFilter extends HasPropertyFilter {
         return !super.isFiltered(anAtomContainer);
     }
 
+    /**
+     * Evaluates the given atom container without signalling issues via exceptions; returns the inverse of the outcome
+     * of {@link HasPropertyFilter#evaluate(IAtomContainer)}.
+     */
+    @Override
+    public FilterOutcome evaluate(IAtomContainer anAtomContainer) {
+        return super.evaluate(anAtomContainer).invert();
+    }
+
 }
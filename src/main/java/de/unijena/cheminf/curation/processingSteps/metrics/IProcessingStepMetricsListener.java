@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.processingSteps.metrics;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.processingSteps.BaseProcessingStep;
+import de.unijena.cheminf.curation.processingSteps.CurationPipeline;
+import de.unijena.cheminf.curation.processingSteps.IProcessingStep;
+
+/**
+ * Interface of listeners that are notified by processing steps about the sets of structures they processed and the
+ * issues they reported; used to collect metrics like wall and CPU time, throughput and selectivity per processing
+ * step (see {@link ProcessingStepMetricsRecorder}). A listener set to a {@link CurationPipeline} is also set to all
+ * of its processing steps.
+ * <br>
+ * The methods are called on the processing thread, {@link #issueReported(IProcessingStep, ErrorCodes)} once per
+ * reported issue; implementations should therefore return quickly and must not throw exceptions.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see IProcessingStep#setMetricsListener(IProcessingStepMetricsListener)
+ */
+public interface IProcessingStepMetricsListener {
+
+    /**
+     * Called after the given processing step finished the processing of a set of structures without fatal exception.
+     * The times only cover the logic of the processing step (see {@link BaseProcessingStep}), not the cloning of the
+     * given structures or the generation of the report; the times of a pipeline include the ones of its processing
+     * steps.
+     *
+     * @param aProcessingStep the processing step
+     * @param anInputCount    number of structures given to the processing step
+     * @param anOutputCount   number of structures returned by the processing step
+     * @param aWallTimeNanos  elapsed wall clock time in nanoseconds
+     * @param aCpuTimeNanos   CPU time of the processing thread in nanoseconds or -1, if the measurement of the CPU time
+     *                        is not supported by the JVM
+     */
+    public void processingFinished(IProcessingStep aProcessingStep, int anInputCount, int anOutputCount,
+                                   long aWallTimeNanos, long aCpuTimeNanos);
+
+    /**
+     * Called after the given processing step reported an issue with the given error code to its reporter.
+     *
+     * @param aProcessingStep the processing step
+     * @param anErrorCode     error code of the reported issue
+     */
+    public void issueReported(IProcessingStep aProcessingStep, ErrorCodes anErrorCode);
+
+}
@@ -0,0 +1,250 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.processingSteps.metrics;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.processingSteps.IProcessingStep;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the metrics recorded for a processing step by a {@link ProcessingStepMetricsRecorder}; the
+ * counts and times are summed over all invocations of the processing step since the last reset of the recorder.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public final class ProcessingStepMetrics {
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * Identifier of the processing step in the pipeline or null, if the processing step is not part of a pipeline.
+     */
+    private final String processingStepID;
+
+    /**
+     * Class of the processing step.
+     */
+    private final Class<? extends IProcessingStep> processingStepClass;
+
+    /**
+     * Number of finished invocations of the processing step.
+     */
+    private final long invocationCount;
+
+    /**
+     * Number of structures given to the processing step.
+     */
+    private final long inputCount;
+
+    /**
+     * Number of structures returned by the processing step.
+     */
+    private final long outputCount;
+
+    /**
+     * Wall clock time in nanoseconds.
+     */
+    private final long wallTimeNanos;
+
+    /**
+     * CPU time in nanoseconds or -1, if not measured.
+     */
+    private final long cpuTimeNanos;
+
+    /**
+     * Counts of the reported issues indexed by the ordinal of the error codes.
+     */
+    private final long[] issueCounts;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor.
+     *
+     * @param aProcessingStepID    identifier of the processing step in the pipeline or null
+     * @param aProcessingStepClass class of the processing step
+     * @param anInvocationCount    number of finished invocations
+     * @param anInputCount         number of structures given to the processing step
+     * @param anOutputCount        number of structures returned by the processing step
+     * @param aWallTimeNanos       wall clock time in nanoseconds
+     * @param aCpuTimeNanos        CPU time in nanoseconds or -1, if not measured
+     * @param anIssueCounts        counts of the reported issues indexed by the ordinal of the error codes; not copied
+     * @throws NullPointerException if the given class or array is null
+     */
+    ProcessingStepMetrics(String aProcessingStepID, Class<? extends IProcessingStep> aProcessingStepClass,
+                          long anInvocationCount, long anInputCount, long anOutputCount, long aWallTimeNanos,
+                          long aCpuTimeNanos, long[] anIssueCounts) throws NullPointerException {
+        Objects.requireNonNull(aProcessingStepClass, "aProcessingStepClass (instance of Class) is null.");
+        Objects.requireNonNull(anIssueCounts, "anIssueCounts (instance of long[]) is null.");
+        this.processingStepID = aProcessingStepID;
+        this.processingStepClass = aProcessingStepClass;
+        this.invocationCount = anInvocationCount;
+        this.inputCount = anInputCount;
+        this.outputCount = anOutputCount;
+        this.wallTimeNanos = aWallTimeNanos;
+        this.cpuTimeNanos = aCpuTimeNanos;
+        this.issueCounts = anIssueCounts;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public properties" defaultstate="collapsed">
+    /**
+     * Returns the identifier of the processing step in the pipeline or null, if the processing step is not part of a
+     * pipeline.
+     *
+     * @return String instance or null
+     */
+    public String getProcessingStepID() {
+        return this.processingStepID;
+    }
+
+    /**
+     * Returns the class of the processing step.
+     *
+     * @return Class instance
+     */
+    public Class<? extends IProcessingStep> getProcessingStepClass() {
+        return this.processingStepClass;
+    }
+
+    /**
+     * Returns the number of finished invocations of the processing step.
+     *
+     * @return long value
+     */
+    public long getInvocationCount() {
+        return this.invocationCount;
+    }
+
+    /**
+     * Returns the number of structures given to the processing step.
+     *
+     * @return long value
+     */
+    public long getInputCount() {
+        return this.inputCount;
+    }
+
+    /**
+     * Returns the number of structures returned by the processing step.
+     *
+     * @return long value
+     */
+    public long getOutputCount() {
+        return this.outputCount;
+    }
+
+    /**
+     * Returns the wall clock time the processing step took in nanoseconds; for a pipeline, the time includes the
+     * times of its subordinate processing steps.
+     *
+     * @return long value
+     */
+    public long getWallTimeNanos() {
+        return this.wallTimeNanos;
+    }
+
+    /**
+     * Returns the CPU time the processing step took in nanoseconds or -1, if the measurement of the CPU time is not
+     * supported by the JVM; for a pipeline, the time includes the times of its subordinate processing steps.
+     *
+     * @return long value
+     */
+    public long getCpuTimeNanos() {
+        return this.cpuTimeNanos;
+    }
+
+    /**
+     * Returns the number of reported issues with the given error code.
+     *
+     * @param anErrorCode the error code
+     * @return long value
+     * @throws NullPointerException if the given error code is null
+     */
+    public long getIssueCount(ErrorCodes anErrorCode) throws NullPointerException {
+        Objects.requireNonNull(anErrorCode, "anErrorCode (ErrorCodes constant) is null.");
+        return this.issueCounts[anErrorCode.ordinal()];
+    }
+
+    /**
+     * Returns the total number of reported issues.
+     *
+     * @return long value
+     */
+    public long getTotalIssueCount() {
+        long tmpTotalCount = 0;
+        for (long tmpCount : this.issueCounts) {
+            tmpTotalCount += tmpCount;
+        }
+        return tmpTotalCount;
+    }
+
+    /**
+     * Returns the numbers of reported issues of all error codes that have been reported at least once.
+     *
+     * @return unmodifiable map of the error codes to their counts, in the order of the error codes
+     */
+    public Map<ErrorCodes, Long> getIssueCounts() {
+        Map<ErrorCodes, Long> tmpIssueCountsMap = new EnumMap<>(ErrorCodes.class);
+        for (ErrorCodes tmpErrorCode : ErrorCodes.values()) {
+            if (this.issueCounts[tmpErrorCode.ordinal()] > 0) {
+                tmpIssueCountsMap.put(tmpErrorCode, this.issueCounts[tmpErrorCode.ordinal()]);
+            }
+        }
+        return Collections.unmodifiableMap(tmpIssueCountsMap);
+    }
+
+    /**
+     * Returns the throughput of the processing step in structures per second, based on the input count and the wall
+     * clock time; returns zero if no time has been measured.
+     *
+     * @return double value
+     */
+    public double getMoleculesPerSecond() {
+        if (this.wallTimeNanos <= 0) {
+            return 0.0;
+        }
+        return this.inputCount * 1_000_000_000.0 / this.wallTimeNanos;
+    }
+
+    /**
+     * Returns the selectivity of the processing step, i.e. the share of the given structures that have been returned;
+     * returns {@link Double#NaN} if no structures have been given to the processing step.
+     *
+     * @return double value between zero and one (or above, if a processing step returns more structures than given)
+     */
+    public double getPassRate() {
+        if (this.inputCount == 0) {
+            return Double.NaN;
+        }
+        return (double) this.outputCount / this.inputCount;
+    }
+    //</editor-fold>
+
+}
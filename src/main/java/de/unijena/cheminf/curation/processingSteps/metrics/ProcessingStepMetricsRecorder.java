@@ -0,0 +1,349 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.processingSteps.metrics;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.processingSteps.IProcessingStep;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Metrics listener that records per processing step the number of invocations, the numbers of given and returned
+ * structures, the wall clock and CPU time and the numbers of reported issues per error code. The notifications only
+ * update lock-free counters of the respective processing step; nothing is logged or allocated per reported issue.
+ * <br>
+ * The recorded metrics are accessible as immutable snapshots via {@link #getSnapshot()} and {@link
+ * #getMetrics(IProcessingStep)}, and as a markdown table via {@link #getSummaryTable()}. Optionally, the summary
+ * table is logged once a top-level processing step (one with a self-contained reporter, e.g. the outermost pipeline)
+ * finished its processing. The metrics are summed over all invocations until {@link #reset()} is called.
+ * <br>
+ * The times of a pipeline are inclusive: they contain the times of its subordinate processing steps, which are
+ * recorded in rows of their own as well. The times of the rows of a pipeline and of its processing steps therefore
+ * must not be added up.
+ * <pre>{@code
+ * ProcessingStepMetricsRecorder tmpRecorder = new ProcessingStepMetricsRecorder(true);
+ * CurationPipeline tmpPipeline = new CurationPipeline(*aReporter*)
+ *                 .withMaxAtomCountFilter(20, true)
+ *                 .withHasAllValidValencesFilter(false);
+ * tmpPipeline.setMetricsListener(tmpRecorder);
+ * tmpPipeline.process(tmpMoleculeSet, true);
+ * List<ProcessingStepMetrics> tmpMetricsList = tmpRecorder.getSnapshot();
+ * }</pre>
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see IProcessingStep#setMetricsListener(IProcessingStepMetricsListener)
+ */
+public class ProcessingStepMetricsRecorder implements IProcessingStepMetricsListener {
+
+    //<editor-fold desc="private static final class constants" defaultstate="collapsed">
+    /**
+     * Logger of this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ProcessingStepMetricsRecorder.class.getName());
+
+    /**
+     * Number of error codes; length of the issue counter arrays.
+     */
+    private static final int ERROR_CODES_COUNT = ErrorCodes.values().length;
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * Accumulators of the metrics per processing step; the keys are compared by identity since processing steps do
+     * not override {@link Object#equals(Object)}.
+     */
+    private final Map<IProcessingStep, Accumulator> accumulators;
+
+    /**
+     * Source of the sequence numbers of the accumulators, which determine the order of the snapshots.
+     */
+    private final AtomicLong accumulatorSequence;
+    //</editor-fold>
+
+    //<editor-fold desc="private variables" defaultstate="collapsed">
+    /**
+     * Whether the summary table is logged once a top-level processing step finished its processing.
+     */
+    private volatile boolean isSummaryLoggedAfterRun;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor.
+     *
+     * @param anIsSummaryLoggedAfterRun whether the summary table is logged (level INFO) once a top-level processing
+     *                                  step finished its processing
+     */
+    public ProcessingStepMetricsRecorder(boolean anIsSummaryLoggedAfterRun) {
+        this.accumulators = new ConcurrentHashMap<>();
+        this.accumulatorSequence = new AtomicLong();
+        this.isSummaryLoggedAfterRun = anIsSummaryLoggedAfterRun;
+    }
+
+    /**
+     * Constructor; the summary table is not logged.
+     */
+    public ProcessingStepMetricsRecorder() {
+        this(false);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public methods" defaultstate="collapsed">
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Logs the summary table, if so desired and the given processing step is a top-level one.
+     */
+    @Override
+    public void processingFinished(IProcessingStep aProcessingStep, int anInputCount, int anOutputCount,
+                                   long aWallTimeNanos, long aCpuTimeNanos) {
+        Accumulator tmpAccumulator = this.getAccumulator(aProcessingStep);
+        tmpAccumulator.invocationCount.increment();
+        tmpAccumulator.inputCount.add(anInputCount);
+        tmpAccumulator.outputCount.add(anOutputCount);
+        tmpAccumulator.wallTimeNanos.add(aWallTimeNanos);
+        if (aCpuTimeNanos < 0) {
+            tmpAccumulator.isCpuTimeUnmeasured = true;
+        } else {
+            tmpAccumulator.cpuTimeNanos.add(aCpuTimeNanos);
+        }
+        if (this.isSummaryLoggedAfterRun && aProcessingStep.isIsReporterSelfContained()) {
+            ProcessingStepMetricsRecorder.LOGGER.info("Processing step metrics:\n" + this.getSummaryTable());
+        }
+    }
+
+    @Override
+    public void issueReported(IProcessingStep aProcessingStep, ErrorCodes anErrorCode) {
+        this.getAccumulator(aProcessingStep).issueCounts.incrementAndGet(anErrorCode.ordinal());
+    }
+
+    /**
+     * Returns snapshots of the metrics of all processing steps that notified this recorder since the last reset, in
+     * the order they first did so; the ones of a pipeline therefore usually follow the ones of its processing steps.
+     *
+     * @return list of ProcessingStepMetrics instances
+     */
+    public List<ProcessingStepMetrics> getSnapshot() {
+        List<Accumulator> tmpAccumulatorsList = new ArrayList<>(this.accumulators.values());
+        tmpAccumulatorsList.sort(Comparator.comparingLong(anAccumulator -> anAccumulator.sequenceNumber));
+        List<ProcessingStepMetrics> tmpMetricsList = new ArrayList<>(tmpAccumulatorsList.size());
+        for (Accumulator tmpAccumulator : tmpAccumulatorsList) {
+            tmpMetricsList.add(tmpAccumulator.toMetrics());
+        }
+        return tmpMetricsList;
+    }
+
+    /**
+     * Returns a snapshot of the metrics of the given processing step or null, if it did not notify this recorder
+     * since the last reset.
+     *
+     * @param aProcessingStep the processing step
+     * @return ProcessingStepMetrics instance or null
+     * @throws NullPointerException if the given processing step is null
+     */
+    public ProcessingStepMetrics getMetrics(IProcessingStep aProcessingStep) throws NullPointerException {
+        Objects.requireNonNull(aProcessingStep, "aProcessingStep (instance of IProcessingStep) is null.");
+        Accumulator tmpAccumulator = this.accumulators.get(aProcessingStep);
+        return tmpAccumulator == null ? null : tmpAccumulator.toMetrics();
+    }
+
+    /**
+     * Returns the metrics of all processing steps as markdown table, one row per processing step in the order of
+     * {@link #getSnapshot()}. The times of pipelines are inclusive of the times of their subordinate processing steps.
+     *
+     * @return String instance
+     */
+    public String getSummaryTable() {
+        StringBuilder tmpStringBuilder = new StringBuilder();
+        tmpStringBuilder.append("| Step ID | Processing Step | Invocations | In | Out | Pass Rate | Issues |")
+                .append(" Wall Time [ms] | CPU Time [ms] | Molecules/s |\n")
+                .append("| --- | --- | ---: | ---: | ---: | ---: | --- | ---: | ---: | ---: |\n");
+        for (ProcessingStepMetrics tmpMetrics : this.getSnapshot()) {
+            tmpStringBuilder.append("| ")
+                    .append(tmpMetrics.getProcessingStepID() == null ? "-" : tmpMetrics.getProcessingStepID())
+                    .append(" | ").append(tmpMetrics.getProcessingStepClass().getSimpleName())
+                    .append(" | ").append(tmpMetrics.getInvocationCount())
+                    .append(" | ").append(tmpMetrics.getInputCount())
+                    .append(" | ").append(tmpMetrics.getOutputCount())
+                    .append(" | ").append(Double.isNaN(tmpMetrics.getPassRate()) ? "-" :
+                            String.format(Locale.ROOT, "%.1f %%", tmpMetrics.getPassRate() * 100))
+                    .append(" | ").append(tmpMetrics.getTotalIssueCount());
+            Map<ErrorCodes, Long> tmpIssueCountsMap = tmpMetrics.getIssueCounts();
+            if (!tmpIssueCountsMap.isEmpty()) {
+                StringBuilder tmpIssuesStringBuilder = new StringBuilder();
+                tmpIssueCountsMap.forEach((anErrorCode, aCount) -> tmpIssuesStringBuilder
+                        .append(tmpIssuesStringBuilder.length() == 0 ? "" : ", ")
+                        .append(anErrorCode.name()).append(": ").append(aCount));
+                tmpStringBuilder.append(" (").append(tmpIssuesStringBuilder).append(")");
+            }
+            tmpStringBuilder.append(" | ").append(String.format(Locale.ROOT, "%.3f",
+                            tmpMetrics.getWallTimeNanos() / 1_000_000.0))
+                    .append(" | ").append(tmpMetrics.getCpuTimeNanos() < 0 ? "-" : String.format(Locale.ROOT,
+                            "%.3f", tmpMetrics.getCpuTimeNanos() / 1_000_000.0))
+                    .append(" | ").append(String.format(Locale.ROOT, "%.1f", tmpMetrics.getMoleculesPerSecond()))
+                    .append(" |\n");
+        }
+        return tmpStringBuilder.toString();
+    }
+
+    /**
+     * Discards all recorded metrics.
+     */
+    public void reset() {
+        this.accumulators.clear();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public properties" defaultstate="collapsed">
+    /**
+     * Returns whether the summary table is logged once a top-level processing step finished its processing.
+     *
+     * @return boolean value
+     */
+    public boolean isSummaryLoggedAfterRun() {
+        return this.isSummaryLoggedAfterRun;
+    }
+
+    /**
+     * Sets whether the summary table is logged (level INFO) once a top-level processing step finished its processing.
+     *
+     * @param anIsSummaryLoggedAfterRun boolean value
+     */
+    public void setIsSummaryLoggedAfterRun(boolean anIsSummaryLoggedAfterRun) {
+        this.isSummaryLoggedAfterRun = anIsSummaryLoggedAfterRun;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private methods" defaultstate="collapsed">
+    /**
+     * Returns the accumulator of the given processing step; creates it if it does not exist yet.
+     *
+     * @param aProcessingStep the processing step
+     * @return Accumulator instance
+     */
+    private Accumulator getAccumulator(IProcessingStep aProcessingStep) {
+        Accumulator tmpAccumulator = this.accumulators.get(aProcessingStep);
+        if (tmpAccumulator == null) {
+            tmpAccumulator = this.accumulators.computeIfAbsent(aProcessingStep, aKey -> new Accumulator(aKey,
+                    this.accumulatorSequence.getAndIncrement()));
+        }
+        return tmpAccumulator;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Accumulator class" defaultstate="collapsed">
+    /**
+     * Lock-free accumulator of the metrics of a processing step.
+     */
+    private static final class Accumulator {
+
+        /**
+         * The processing step.
+         */
+        private final IProcessingStep processingStep;
+
+        /**
+         * Sequence number determining the order of the snapshots.
+         */
+        private final long sequenceNumber;
+
+        /**
+         * Number of finished invocations.
+         */
+        private final LongAdder invocationCount = new LongAdder();
+
+        /**
+         * Number of given structures.
+         */
+        private final LongAdder inputCount = new LongAdder();
+
+        /**
+         * Number of returned structures.
+         */
+        private final LongAdder outputCount = new LongAdder();
+
+        /**
+         * Wall clock time in nanoseconds.
+         */
+        private final LongAdder wallTimeNanos = new LongAdder();
+
+        /**
+         * CPU time in nanoseconds.
+         */
+        private final LongAdder cpuTimeNanos = new LongAdder();
+
+        /**
+         * Counts of the reported issues indexed by the ordinal of the error codes.
+         */
+        private final AtomicLongArray issueCounts =
+                new AtomicLongArray(ProcessingStepMetricsRecorder.ERROR_CODES_COUNT);
+
+        /**
+         * Whether the CPU time of an invocation could not be measured.
+         */
+        private volatile boolean isCpuTimeUnmeasured = false;
+
+        /**
+         * Constructor.
+         *
+         * @param aProcessingStep the processing step
+         * @param aSequenceNumber sequence number determining the order of the snapshots
+         */
+        private Accumulator(IProcessingStep aProcessingStep, long aSequenceNumber) {
+            this.processingStep = aProcessingStep;
+            this.sequenceNumber = aSequenceNumber;
+        }
+
+        /**
+         * Returns a snapshot of the accumulated metrics.
+         *
+         * @return ProcessingStepMetrics instance
+         */
+        private ProcessingStepMetrics toMetrics() {
+            long[] tmpIssueCounts = new long[this.issueCounts.length()];
+            for (int i = 0; i < tmpIssueCounts.length; i++) {
+                tmpIssueCounts[i] = this.issueCounts.get(i);
+            }
+            return new ProcessingStepMetrics(this.processingStep.getPipelineProcessingStepID(),
+                    this.processingStep.getClass(), this.invocationCount.sum(), this.inputCount.sum(),
+                    this.outputCount.sum(), this.wallTimeNanos.sum(),
+                    this.isCpuTimeUnmeasured ? -1 : this.cpuTimeNanos.sum(), tmpIssueCounts);
+        }
+
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,712 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ReportOverflowPolicies;
+import de.unijena.cheminf.curation.processingSteps.IProcessingStep;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reporter wrapping another reporter that decouples the appending of report data from the processing threads. The
+ * appended ReportDataObjects are published into a bounded ring buffer preallocated on construction; a dedicated
+ * consumer thread drains them in batches into the wrapped reporter via {@link IReporter#appendReports(Collection)}.
+ * The processing threads thereby do not wait for the wrapped reporter (e.g. for file output). If the ring buffer is
+ * full, the appended ReportDataObject is handled according to the {@link ReportOverflowPolicies overflow policy} of
+ * the reporter.
+ * <br>
+ * The consumer thread is started on the first append and stopped on {@link #report()},
+ * {@link #reportAfterFatalException()}, {@link #initializeNewReport()} or {@link #clear()} after it passed all
+ * published ReportDataObjects to the wrapped reporter; ReportDataObjects spilled to disk are passed to the wrapped
+ * reporter afterwards and thereby out of append order (see {@link ReportOverflowPolicies#SPILL_TO_DISK}). The
+ * wrapped reporter is only accessed by one thread at a time and thereby does not need to be thread-safe itself. All
+ * appends are expected to have been finished when the report is generated.
+ * <br>
+ * If the wrapped reporter throws an Error, the consumer thread records it (see {@link #getConsumerFailure()}) and
+ * stops; from then on, all appended ReportDataObjects are dropped instead of being published until the reporter is
+ * initialized or cleared, so that no appending or reporting thread waits for the stopped consumer.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see IReporter
+ * @see ReportOverflowPolicies
+ */
+public class AsyncReporter implements IReporter {
+
+    //<editor-fold desc="public static final constants" defaultstate="collapsed">
+    /**
+     * Default capacity of the ring buffer.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * Maximum number of ReportDataObjects passed to the wrapped reporter at once.
+     */
+    public static final int DRAIN_BATCH_SIZE = 256;
+    //</editor-fold>
+
+    //<editor-fold desc="private static final class constants" defaultstate="collapsed">
+    /**
+     * Logger of this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(AsyncReporter.class.getName());
+
+    /**
+     * Marker published to make the consumer thread stop after it passed all ReportDataObjects published before.
+     */
+    private static final ReportDataObject END_OF_STREAM = new ReportDataObject(ErrorCodes.UNEXPECTED_EXCEPTION_ERROR,
+            IProcessingStep.class);
+
+    /**
+     * Interval in milliseconds in which threads waiting for free space in the ring buffer check whether the consumer
+     * thread is still able to free it.
+     */
+    private static final long CONSUMER_CHECK_INTERVAL_MILLIS = 100;
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * The wrapped reporter the published data is passed to.
+     */
+    private final IReporter reporter;
+
+    /**
+     * Ring buffer the appended ReportDataObjects are published into.
+     */
+    private final BlockingQueue<ReportDataObject> ringBuffer;
+
+    /**
+     * Capacity of the ring buffer.
+     */
+    private final int capacity;
+
+    /**
+     * Policy defining the handling of ReportDataObjects appended while the ring buffer is full.
+     */
+    private final ReportOverflowPolicies overflowPolicy;
+
+    /**
+     * Number of discarded ReportDataObjects.
+     */
+    private final LongAdder droppedReportsCount;
+
+    /**
+     * Number of ReportDataObjects spilled to disk.
+     */
+    private final LongAdder spilledReportsCount;
+
+    /**
+     * Lock guarding the spill file.
+     */
+    private final Object spillLock;
+    //</editor-fold>
+
+    //<editor-fold desc="private variables" defaultstate="collapsed">
+    /**
+     * Consumer thread draining the ring buffer; null if not running.
+     */
+    private volatile Thread consumer = null;
+
+    /**
+     * Error that made the consumer thread stop; null if no failure occurred since the last initialization or clearing
+     * of the reporter.
+     */
+    private volatile Throwable consumerFailure = null;
+
+    /**
+     * Path of the temporary file the ReportDataObjects are spilled to; null if nothing has been spilled.
+     */
+    private Path spillFilePath = null;
+
+    /**
+     * Output stream writing to the spill file.
+     */
+    private DataOutputStream spillOutputStream = null;
+
+    /**
+     * Number of ReportDataObjects written to the current spill file.
+     */
+    private int spillFileRecordCount = 0;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; wraps the given reporter using a ring buffer of the default capacity (see {@link
+     * #DEFAULT_CAPACITY}) and the {@link ReportOverflowPolicies#BLOCK} overflow policy.
+     *
+     * @param aReporter the reporter to pass the published data to
+     * @throws NullPointerException if the given reporter is null
+     */
+    public AsyncReporter(IReporter aReporter) throws NullPointerException {
+        this(aReporter, AsyncReporter.DEFAULT_CAPACITY, ReportOverflowPolicies.BLOCK);
+    }
+
+    /**
+     * Constructor; wraps the given reporter using a ring buffer of the given capacity and the given overflow policy.
+     *
+     * @param aReporter        the reporter to pass the published data to
+     * @param aCapacity        capacity of the ring buffer
+     * @param anOverflowPolicy policy defining the handling of ReportDataObjects appended while the ring buffer is full
+     * @throws NullPointerException     if the given reporter or overflow policy is null
+     * @throws IllegalArgumentException if the given capacity is less than one
+     */
+    public AsyncReporter(IReporter aReporter, int aCapacity, ReportOverflowPolicies anOverflowPolicy)
+            throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(aReporter, "The given reporter (aReporter) is null.");
+        Objects.requireNonNull(anOverflowPolicy, "The given overflow policy (anOverflowPolicy) is null.");
+        if (aCapacity < 1) {
+            throw new IllegalArgumentException("The given capacity (aCapacity) needs to be at least one.");
+        }
+        this.reporter = aReporter;
+        this.capacity = aCapacity;
+        this.ringBuffer = new ArrayBlockingQueue<>(aCapacity);
+        this.overflowPolicy = anOverflowPolicy;
+        this.droppedReportsCount = new LongAdder();
+        this.spilledReportsCount = new LongAdder();
+        this.spillLock = new Object();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public methods" defaultstate="collapsed">
+    /**
+     * Discards all pending data and initializes a new report of the wrapped reporter.
+     *
+     * @throws IOException if an IOException occurs initializing the report of the wrapped reporter
+     */
+    @Override
+    public void initializeNewReport() throws IOException {
+        this.discardPendingReports();
+        this.reporter.initializeNewReport();
+    }
+
+    /**
+     * Publishes the given ReportDataObject into the ring buffer; if the ring buffer is full, the ReportDataObject is
+     * handled according to the overflow policy.
+     *
+     * @throws NullPointerException if the given ReportDataObject instance is null
+     */
+    @Override
+    public void appendReport(ReportDataObject aReportDataObject) throws NullPointerException {
+        Objects.requireNonNull(aReportDataObject, "The given ReportDataObject instance (aReportDataObject) is null.");
+        this.ensureConsumerIsRunning();
+        this.publish(aReportDataObject);
+    }
+
+    /**
+     * Publishes all given ReportDataObjects into the ring buffer; if the ring buffer is full, the ReportDataObjects
+     * are handled according to the overflow policy.
+     *
+     * @throws NullPointerException if the given collection or a ReportDataObject instance contained by it is null
+     */
+    @Override
+    public void appendReports(Collection<ReportDataObject> aReportDataObjects) throws NullPointerException {
+        Objects.requireNonNull(aReportDataObjects, "The given collection of ReportDataObject instances" +
+                " (aReportDataObjects) is null.");
+        for (ReportDataObject tmpReportDataObject : aReportDataObjects) {
+            Objects.requireNonNull(tmpReportDataObject, "The given collection contains a ReportDataObject instance" +
+                    " that is null.");
+        }
+        this.ensureConsumerIsRunning();
+        for (ReportDataObject tmpReportDataObject : aReportDataObjects) {
+            this.publish(tmpReportDataObject);
+        }
+    }
+
+    /**
+     * Waits for the consumer to pass all published data to the wrapped reporter, passes the data spilled to disk to
+     * it and requests it to generate the report.
+     *
+     * @throws Exception if an exception occurs reading the spilled data or generating the report by the wrapped
+     *                   reporter
+     */
+    @Override
+    public void report() throws Exception {
+        this.stopConsumer();
+        this.appendSpilledReports();
+        this.reporter.report();
+    }
+
+    /**
+     * Waits for the consumer to pass all published data to the wrapped reporter, passes the data spilled to disk to
+     * it and requests it to generate the report after a fatal exception. If the spilled data can not be read, it is
+     * discarded and the report is generated anyway.
+     *
+     * @throws IOException if an IOException occurs generating the report by the wrapped reporter
+     */
+    @Override
+    public void reportAfterFatalException() throws IOException {
+        this.stopConsumer();
+        try {
+            this.appendSpilledReports();
+        } catch (IOException anIOException) {
+            AsyncReporter.LOGGER.log(Level.WARNING, anIOException.toString(), anIOException);
+            this.deleteSpillFile();
+        }
+        this.reporter.reportAfterFatalException();
+    }
+
+    /**
+     * Discards all pending data and clears the wrapped reporter.
+     */
+    @Override
+    public void clear() {
+        this.discardPendingReports();
+        this.reporter.clear();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public properties" defaultstate="collapsed">
+    /**
+     * Returns the wrapped reporter.
+     *
+     * @return IReporter instance
+     */
+    public IReporter getReporter() {
+        return this.reporter;
+    }
+
+    /**
+     * Returns the capacity of the ring buffer.
+     *
+     * @return integer value
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the policy defining the handling of ReportDataObjects appended while the ring buffer is full.
+     *
+     * @return ReportOverflowPolicies constant
+     */
+    public ReportOverflowPolicies getOverflowPolicy() {
+        return this.overflowPolicy;
+    }
+
+    /**
+     * Returns the number of ReportDataObjects discarded since the last initialization or clearing of the reporter;
+     * besides the ones discarded due to the {@link ReportOverflowPolicies#DROP} overflow policy, this includes the
+     * ones that could not be blocked for, spilled to disk or passed to the wrapped reporter due to an exception.
+     *
+     * @return long value
+     */
+    public long getDroppedReportsCount() {
+        return this.droppedReportsCount.sum();
+    }
+
+    /**
+     * Returns the number of ReportDataObjects spilled to disk since the last initialization or clearing of the
+     * reporter.
+     *
+     * @return long value
+     */
+    public long getSpilledReportsCount() {
+        return this.spilledReportsCount.sum();
+    }
+
+    /**
+     * Returns the Error thrown by the wrapped reporter that made the consumer thread stop, or null if no such failure
+     * occurred since the last initialization or clearing of the reporter. While a failure is recorded, all appended
+     * ReportDataObjects are dropped.
+     *
+     * @return Throwable instance or null
+     */
+    public Throwable getConsumerFailure() {
+        return this.consumerFailure;
+    }
+
+    /**
+     * Returns the number of ReportDataObjects currently waiting in the ring buffer.
+     *
+     * @return integer value
+     */
+    public int getPendingReportsCount() {
+        return this.ringBuffer.size();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private methods" defaultstate="collapsed">
+    /**
+     * Publishes the given ReportDataObject into the ring buffer or handles it according to the overflow policy if the
+     * ring buffer is full.
+     *
+     * @param aReportDataObject the ReportDataObject to publish
+     */
+    private void publish(ReportDataObject aReportDataObject) {
+        if (this.consumerFailure != null) {
+            // the consumer stopped due to a failure and would not free the ring buffer anymore
+            this.droppedReportsCount.increment();
+            return;
+        }
+        if (this.ringBuffer.offer(aReportDataObject)) {
+            return;
+        }
+        switch (this.overflowPolicy) {
+            case BLOCK -> this.publishBlocking(aReportDataObject);
+            case DROP -> this.droppedReportsCount.increment();
+            case SPILL_TO_DISK -> this.spill(aReportDataObject);
+        }
+    }
+
+    /**
+     * Waits for free space in the ring buffer to publish the given ReportDataObject; the waiting is stopped and the
+     * ReportDataObject dropped if the consumer thread stops due to a failure or the appending thread is interrupted.
+     *
+     * @param aReportDataObject the ReportDataObject to publish
+     */
+    private void publishBlocking(ReportDataObject aReportDataObject) {
+        try {
+            while (!this.ringBuffer.offer(aReportDataObject, AsyncReporter.CONSUMER_CHECK_INTERVAL_MILLIS,
+                    TimeUnit.MILLISECONDS)) {
+                if (this.consumerFailure != null) {
+                    this.droppedReportsCount.increment();
+                    return;
+                }
+            }
+        } catch (InterruptedException anInterruptedException) {
+            Thread.currentThread().interrupt();
+            this.droppedReportsCount.increment();
+            AsyncReporter.LOGGER.log(Level.WARNING, "A report was dropped since the appending thread was" +
+                    " interrupted while waiting for the ring buffer.");
+        }
+    }
+
+    /**
+     * Starts the consumer thread if it is not running.
+     */
+    private void ensureConsumerIsRunning() {
+        if (this.consumer != null) {
+            return;
+        }
+        synchronized (this) {
+            if (this.consumer == null) {
+                Thread tmpConsumer = new Thread(this::consume, "AsyncReporter-consumer");
+                tmpConsumer.setDaemon(true);
+                tmpConsumer.start();
+                this.consumer = tmpConsumer;
+            }
+        }
+    }
+
+    /**
+     * Stops the consumer thread after it passed all ReportDataObjects published before to the wrapped reporter and
+     * passes the ReportDataObjects published concurrently to the stopping to the wrapped reporter. If the consumer
+     * thread stopped due to a failure, the remaining ReportDataObjects are dropped instead.
+     */
+    private synchronized void stopConsumer() {
+        Thread tmpConsumer = this.consumer;
+        if (tmpConsumer == null) {
+            return;
+        }
+        boolean tmpWasInterrupted = false;
+        // the end of stream marker is only needed as long as the consumer is alive to take it from the ring buffer
+        while (tmpConsumer.isAlive()) {
+            try {
+                if (this.ringBuffer.offer(AsyncReporter.END_OF_STREAM, AsyncReporter.CONSUMER_CHECK_INTERVAL_MILLIS,
+                        TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException anInterruptedException) {
+                tmpWasInterrupted = true;
+            }
+        }
+        while (true) {
+            try {
+                tmpConsumer.join();
+                break;
+            } catch (InterruptedException anInterruptedException) {
+                tmpWasInterrupted = true;
+            }
+        }
+        this.consumer = null;
+        if (tmpWasInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+        List<ReportDataObject> tmpRemainingReports = new ArrayList<>();
+        this.ringBuffer.drainTo(tmpRemainingReports);
+        tmpRemainingReports.removeIf(aReportDataObject -> aReportDataObject == AsyncReporter.END_OF_STREAM);
+        if (this.consumerFailure != null) {
+            this.droppedReportsCount.add(tmpRemainingReports.size());
+            return;
+        }
+        this.passToReporter(tmpRemainingReports);
+    }
+
+    /**
+     * Body of the consumer thread; drains the ring buffer in batches into the wrapped reporter until the end of
+     * stream marker is reached. If the wrapped reporter throws an Error, it is recorded as failure, the batch and the
+     * data pending in the ring buffer are counted as dropped and the consumer stops.
+     */
+    private void consume() {
+        List<ReportDataObject> tmpBatch = new ArrayList<>(AsyncReporter.DRAIN_BATCH_SIZE);
+        boolean tmpIsEndOfStream = false;
+        try {
+            while (!tmpIsEndOfStream) {
+                try {
+                    tmpBatch.add(this.ringBuffer.take());
+                } catch (InterruptedException anInterruptedException) {
+                    // the remaining data is passed to the wrapped reporter by the stopping thread
+                    return;
+                }
+                this.ringBuffer.drainTo(tmpBatch, AsyncReporter.DRAIN_BATCH_SIZE - 1);
+                tmpIsEndOfStream = tmpBatch.removeIf(
+                        aReportDataObject -> aReportDataObject == AsyncReporter.END_OF_STREAM);
+                this.passToReporter(tmpBatch);
+                tmpBatch.clear();
+            }
+        } catch (Throwable aThrowable) {
+            // the failure is recorded first to make the appending threads stop waiting for the ring buffer
+            this.consumerFailure = aThrowable;
+            AsyncReporter.LOGGER.log(Level.SEVERE, "The consumer thread stopped due to a failure of the wrapped" +
+                    " reporter; all further reports are dropped.", aThrowable);
+            this.droppedReportsCount.add(tmpBatch.size());
+            tmpBatch.clear();
+            this.ringBuffer.drainTo(tmpBatch);
+            tmpBatch.removeIf(aReportDataObject -> aReportDataObject == AsyncReporter.END_OF_STREAM);
+            this.droppedReportsCount.add(tmpBatch.size());
+        }
+    }
+
+    /**
+     * Passes the given ReportDataObjects to the wrapped reporter; if the wrapped reporter throws a runtime exception,
+     * it is logged and the ReportDataObjects are counted as dropped.
+     *
+     * @param aReportDataObjects the ReportDataObjects to pass
+     */
+    private void passToReporter(List<ReportDataObject> aReportDataObjects) {
+        if (aReportDataObjects.isEmpty()) {
+            return;
+        }
+        try {
+            this.reporter.appendReports(aReportDataObjects);
+        } catch (RuntimeException aRuntimeException) {
+            this.droppedReportsCount.add(aReportDataObjects.size());
+            AsyncReporter.LOGGER.log(Level.WARNING, aRuntimeException.toString(), aRuntimeException);
+        }
+    }
+
+    /**
+     * Discards all pending data and resets the counters and the recorded consumer failure; the data still in the ring
+     * buffer is passed to the wrapped reporter by the stopping consumer and thereby discarded when the wrapped
+     * reporter is initialized or cleared.
+     */
+    private void discardPendingReports() {
+        this.stopConsumer();
+        this.consumerFailure = null;
+        this.deleteSpillFile();
+        this.droppedReportsCount.reset();
+        this.spilledReportsCount.reset();
+    }
+
+    /**
+     * Writes a snapshot of the given ReportDataObject including its absolute SMILES string to the spill file; if the
+     * writing fails, the ReportDataObject is counted as dropped.
+     *
+     * @param aReportDataObject the ReportDataObject to spill
+     */
+    private void spill(ReportDataObject aReportDataObject) {
+        // taking the snapshot outside the lock, since generating the SMILES string is the expensive part
+        ReportDataObject tmpSnapshot = aReportDataObject.toSnapshot(true);
+        synchronized (this.spillLock) {
+            try {
+                if (this.spillOutputStream == null) {
+                    this.spillFilePath = Files.createTempFile("AsyncReporter_", ".spill");
+                    this.spillOutputStream = new DataOutputStream(new BufferedOutputStream(
+                            Files.newOutputStream(this.spillFilePath)));
+                }
+                AsyncReporter.writeReportDataObject(this.spillOutputStream, tmpSnapshot);
+                this.spillFileRecordCount++;
+                this.spilledReportsCount.increment();
+            } catch (IOException anIOException) {
+                this.droppedReportsCount.increment();
+                AsyncReporter.LOGGER.log(Level.WARNING, anIOException.toString(), anIOException);
+            }
+        }
+    }
+
+    /**
+     * Passes the ReportDataObjects spilled to disk to the wrapped reporter in batches and deletes the spill file.
+     *
+     * @throws IOException if the spill file could not be read
+     */
+    private void appendSpilledReports() throws IOException {
+        synchronized (this.spillLock) {
+            if (this.spillFilePath == null) {
+                return;
+            }
+            this.spillOutputStream.close();
+            this.spillOutputStream = null;
+            try (DataInputStream tmpInputStream = new DataInputStream(new BufferedInputStream(
+                    Files.newInputStream(this.spillFilePath)))) {
+                List<ReportDataObject> tmpBatch = new ArrayList<>(AsyncReporter.DRAIN_BATCH_SIZE);
+                for (int i = 0; i < this.spillFileRecordCount; i++) {
+                    tmpBatch.add(AsyncReporter.readReportDataObject(tmpInputStream));
+                    if (tmpBatch.size() == AsyncReporter.DRAIN_BATCH_SIZE) {
+                        this.passToReporter(tmpBatch);
+                        tmpBatch.clear();
+                    }
+                }
+                this.passToReporter(tmpBatch);
+            } finally {
+                this.deleteSpillFile();
+            }
+        }
+    }
+
+    /**
+     * Closes and deletes the spill file, if existing.
+     */
+    private void deleteSpillFile() {
+        synchronized (this.spillLock) {
+            try {
+                if (this.spillOutputStream != null) {
+                    this.spillOutputStream.close();
+                }
+                if (this.spillFilePath != null) {
+                    Files.deleteIfExists(this.spillFilePath);
+                }
+            } catch (IOException anIOException) {
+                AsyncReporter.LOGGER.log(Level.WARNING, anIOException.toString(), anIOException);
+            } finally {
+                this.spillOutputStream = null;
+                this.spillFilePath = null;
+                this.spillFileRecordCount = 0;
+            }
+        }
+    }
+
+    /**
+     * Writes the data of the given ReportDataObject snapshot to the given output stream.
+     *
+     * @param anOutputStream the stream to write to
+     * @param aSnapshot      the snapshot to write
+     * @throws IOException if an IOException occurs writing to the stream
+     */
+    private static void writeReportDataObject(DataOutputStream anOutputStream, ReportDataObject aSnapshot)
+            throws IOException {
+        anOutputStream.writeUTF(aSnapshot.getErrorCode().name());
+        anOutputStream.writeUTF(aSnapshot.getClassOfProcessingStep().getName());
+        AsyncReporter.writeString(anOutputStream, aSnapshot.getProcessingStepIdentifier());
+        AsyncReporter.writeString(anOutputStream, aSnapshot.getIdentifier());
+        AsyncReporter.writeString(anOutputStream, aSnapshot.getExternalIdentifier());
+        AsyncReporter.writeString(anOutputStream, aSnapshot.getSmiles());
+        int[] tmpAffectedAtomIndices = aSnapshot.getAffectedAtomIndices();
+        if (tmpAffectedAtomIndices == null) {
+            anOutputStream.writeInt(-1);
+            return;
+        }
+        anOutputStream.writeInt(tmpAffectedAtomIndices.length);
+        for (int tmpIndex : tmpAffectedAtomIndices) {
+            anOutputStream.writeInt(tmpIndex);
+        }
+    }
+
+    /**
+     * Reads a ReportDataObject snapshot written by {@link #writeReportDataObject(DataOutputStream, ReportDataObject)}
+     * from the given input stream.
+     *
+     * @param anInputStream the stream to read from
+     * @return ReportDataObject snapshot
+     * @throws IOException if an IOException occurs reading from the stream or the class of the processing step could
+     *                     not be loaded
+     */
+    private static ReportDataObject readReportDataObject(DataInputStream anInputStream) throws IOException {
+        ErrorCodes tmpErrorCode = ErrorCodes.valueOf(anInputStream.readUTF());
+        Class<? extends IProcessingStep> tmpClassOfProcessingStep;
+        try {
+            tmpClassOfProcessingStep = Class.forName(anInputStream.readUTF()).asSubclass(IProcessingStep.class);
+        } catch (ClassNotFoundException aClassNotFoundException) {
+            throw new IOException(aClassNotFoundException);
+        }
+        String tmpProcessingStepIdentifier = AsyncReporter.readString(anInputStream);
+        String tmpIdentifier = AsyncReporter.readString(anInputStream);
+        String tmpExternalIdentifier = AsyncReporter.readString(anInputStream);
+        String tmpSmiles = AsyncReporter.readString(anInputStream);
+        int tmpAffectedAtomCount = anInputStream.readInt();
+        int[] tmpAffectedAtomIndices = null;
+        if (tmpAffectedAtomCount >= 0) {
+            tmpAffectedAtomIndices = new int[tmpAffectedAtomCount];
+            for (int i = 0; i < tmpAffectedAtomCount; i++) {
+                tmpAffectedAtomIndices[i] = anInputStream.readInt();
+            }
+        }
+        return new ReportDataObject(tmpErrorCode, tmpClassOfProcessingStep, tmpProcessingStepIdentifier,
+                tmpIdentifier, tmpExternalIdentifier, tmpSmiles, tmpAffectedAtomIndices);
+    }
+
+    /**
+     * Writes the given, possibly null string to the given output stream; strings are not limited in length.
+     *
+     * @param anOutputStream the stream to write to
+     * @param aString        the string to write
+     * @throws IOException if an IOException occurs writing to the stream
+     */
+    private static void writeString(DataOutputStream anOutputStream, String aString) throws IOException {
+        if (aString == null) {
+            anOutputStream.writeInt(-1);
+            return;
+        }
+        byte[] tmpBytes = aString.getBytes(StandardCharsets.UTF_8);
+        anOutputStream.writeInt(tmpBytes.length);
+        anOutputStream.write(tmpBytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)} from the given input stream.
+     *
+     * @param anInputStream the stream to read from
+     * @return string or null
+     * @throws IOException if an IOException occurs reading from the stream
+     */
+    private static String readString(DataInputStream anInputStream) throws IOException {
+        int tmpLength = anInputStream.readInt();
+        if (tmpLength < 0) {
+            return null;
+        }
+        byte[] tmpBytes = new byte[tmpLength];
+        anInputStream.readFully(tmpBytes);
+        return new String(tmpBytes, StandardCharsets.UTF_8);
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,383 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.enums.ReportSnapshotModes;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Thread-safe reporter wrapping another reporter, meant to be used by processing steps processing structures
+ * concurrently. Each thread appends its reported data to a buffer of its own, so that concurrently reporting threads
+ * do not contend for a shared lock; a thread only synchronizes on its own buffer, which is uncontended except while
+ * the buffers are merged. On {@link #report()} (or {@link #reportAfterFatalException()}), the buffers of all threads
+ * are merged into a deterministic order independent of the thread scheduling, appended to the wrapped reporter via
+ * {@link IReporter#appendReports(Collection)} and the wrapped reporter is requested to generate the report.
+ * <br>
+ * The merged ReportDataObjects are ordered by their processing step identifier, identifier (MolID), error code and
+ * external identifier, with null values first; identifiers consisting of digits only are compared by their numeric
+ * value and precede all other identifiers, which are compared lexicographically. ReportDataObjects equal with respect
+ * to these are kept in the order they were appended in by the same thread.
+ * <br>
+ * The buffers are handed over on merge: a merged buffer is detached from its thread, which starts a new buffer on its
+ * next append, so that the buffers of threads that ended or stopped reporting do not pile up.
+ * <br>
+ * The wrapped reporter is only accessed by the thread calling {@link #initializeNewReport()}, {@link #report()},
+ * {@link #reportAfterFatalException()} or {@link #clear()} and thereby does not need to be thread-safe itself.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see IReporter
+ */
+public class ConcurrentReporter implements IReporter {
+
+    //<editor-fold desc="private static final class constants" defaultstate="collapsed">
+    /**
+     * Comparator defining the deterministic order of the merged ReportDataObjects.
+     */
+    private static final Comparator<ReportDataObject> MERGE_ORDER = Comparator
+            .comparing(ReportDataObject::getProcessingStepIdentifier, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ReportDataObject::getIdentifier, Comparator.nullsFirst(ConcurrentReporter::compareMolIDs))
+            .thenComparing(ReportDataObject::getErrorCode, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ReportDataObject::getExternalIdentifier, Comparator.nullsFirst(Comparator.naturalOrder()));
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * The wrapped reporter the merged data is passed to.
+     */
+    private final IReporter reporter;
+
+    /**
+     * Buffers of the threads that appended data to the reporter since the last merge; a buffer is registered on the
+     * first append of its thread and removed when it is merged or the reporter is cleared.
+     */
+    private final Queue<ThreadBuffer> buffers;
+
+    /**
+     * Buffer of the current thread; replaced on the next append of the thread after it was merged or cleared.
+     */
+    private final ThreadLocal<ThreadBuffer> threadBuffer;
+    //</editor-fold>
+
+    //<editor-fold desc="private variables" defaultstate="collapsed">
+    /**
+     * Form in which the appended ReportDataObjects are buffered.
+     */
+    private volatile ReportSnapshotModes snapshotMode = ReportSnapshotModes.FULL;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; wraps the given reporter.
+     *
+     * @param aReporter the reporter to pass the merged data to
+     * @throws NullPointerException if the given reporter is null
+     */
+    public ConcurrentReporter(IReporter aReporter) throws NullPointerException {
+        Objects.requireNonNull(aReporter, "The given reporter (aReporter) is null.");
+        this.reporter = aReporter;
+        this.buffers = new ConcurrentLinkedQueue<>();
+        this.threadBuffer = ThreadLocal.withInitial(() -> {
+            ThreadBuffer tmpBuffer = new ThreadBuffer();
+            this.buffers.add(tmpBuffer);
+            return tmpBuffer;
+        });
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public methods" defaultstate="collapsed">
+    /**
+     * Discards all buffered data and initializes a new report of the wrapped reporter.
+     *
+     * @throws IOException if an IOException occurs initializing the report of the wrapped reporter
+     */
+    @Override
+    public void initializeNewReport() throws IOException {
+        this.clearBuffers();
+        this.reporter.initializeNewReport();
+    }
+
+    /**
+     * Appends the given ReportDataObject to the buffer of the current thread.
+     *
+     * @throws NullPointerException if the given ReportDataObject instance is null
+     */
+    @Override
+    public void appendReport(ReportDataObject aReportDataObject) throws NullPointerException {
+        Objects.requireNonNull(aReportDataObject, "The given ReportDataObject instance (aReportDataObject) is null.");
+        ReportDataObject tmpReportDataObject = this.snapshotMode.apply(aReportDataObject);
+        while (true) {
+            ThreadBuffer tmpBuffer = this.threadBuffer.get();
+            synchronized (tmpBuffer) {
+                if (tmpBuffer.reportDataObjects != null) {
+                    tmpBuffer.reportDataObjects.add(tmpReportDataObject);
+                    return;
+                }
+            }
+            // the buffer of the thread has been detached by a merge
+            this.threadBuffer.remove();
+        }
+    }
+
+    /**
+     * Appends all given ReportDataObjects to the buffer of the current thread at once.
+     *
+     * @throws NullPointerException if the given collection or a ReportDataObject instance contained by it is null
+     */
+    @Override
+    public void appendReports(Collection<ReportDataObject> aReportDataObjects) throws NullPointerException {
+        Objects.requireNonNull(aReportDataObjects, "The given collection of ReportDataObject instances" +
+                " (aReportDataObjects) is null.");
+        for (ReportDataObject tmpReportDataObject : aReportDataObjects) {
+            Objects.requireNonNull(tmpReportDataObject, "The given collection contains a ReportDataObject instance" +
+                    " that is null.");
+        }
+        ReportSnapshotModes tmpSnapshotMode = this.snapshotMode;
+        List<ReportDataObject> tmpSnapshots = new ArrayList<>(aReportDataObjects.size());
+        for (ReportDataObject tmpReportDataObject : aReportDataObjects) {
+            tmpSnapshots.add(tmpSnapshotMode.apply(tmpReportDataObject));
+        }
+        while (true) {
+            ThreadBuffer tmpBuffer = this.threadBuffer.get();
+            synchronized (tmpBuffer) {
+                if (tmpBuffer.reportDataObjects != null) {
+                    tmpBuffer.reportDataObjects.addAll(tmpSnapshots);
+                    return;
+                }
+            }
+            // the buffer of the thread has been detached by a merge
+            this.threadBuffer.remove();
+        }
+    }
+
+    /**
+     * Merges the buffers of all threads, appends the merged data to the wrapped reporter and requests it to generate
+     * the report.
+     *
+     * @throws Exception if an exception occurs generating the report by the wrapped reporter
+     */
+    @Override
+    public void report() throws Exception {
+        this.reporter.appendReports(this.drainBuffers());
+        this.reporter.report();
+    }
+
+    /**
+     * Merges the buffers of all threads, appends the merged data to the wrapped reporter and requests it to generate
+     * the report after a fatal exception.
+     *
+     * @throws IOException if an IOException occurs generating the report by the wrapped reporter
+     */
+    @Override
+    public void reportAfterFatalException() throws IOException {
+        this.reporter.appendReports(this.drainBuffers());
+        this.reporter.reportAfterFatalException();
+    }
+
+    /**
+     * Discards all buffered data and clears the wrapped reporter.
+     */
+    @Override
+    public void clear() {
+        this.clearBuffers();
+        this.reporter.clear();
+    }
+
+    /**
+     * Returns the number of currently buffered ReportDataObjects of all threads.
+     *
+     * @return integer value
+     */
+    public int getBufferedReportsCount() {
+        int tmpCount = 0;
+        for (ThreadBuffer tmpBuffer : this.buffers) {
+            synchronized (tmpBuffer) {
+                if (tmpBuffer.reportDataObjects != null) {
+                    tmpCount += tmpBuffer.reportDataObjects.size();
+                }
+            }
+        }
+        return tmpCount;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public properties" defaultstate="collapsed">
+    /**
+     * Returns the wrapped reporter.
+     *
+     * @return IReporter instance
+     */
+    public IReporter getReporter() {
+        return this.reporter;
+    }
+
+    /**
+     * Returns the form in which the appended ReportDataObjects are buffered.
+     *
+     * @return ReportSnapshotModes constant
+     */
+    public ReportSnapshotModes getSnapshotMode() {
+        return this.snapshotMode;
+    }
+
+    /**
+     * Sets the form in which the appended ReportDataObjects are buffered; buffering snapshots allows the reported
+     * structures to be garbage collected right away. The snapshots are taken by the appending threads. Defaults to
+     * {@link ReportSnapshotModes#FULL}.
+     *
+     * @param aSnapshotMode the snapshot mode
+     * @throws NullPointerException if the given snapshot mode is null
+     */
+    public void setSnapshotMode(ReportSnapshotModes aSnapshotMode) throws NullPointerException {
+        Objects.requireNonNull(aSnapshotMode, "The given snapshot mode (aSnapshotMode) is null.");
+        this.snapshotMode = aSnapshotMode;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private methods" defaultstate="collapsed">
+    /**
+     * Detaches the buffers of all threads and returns their content in merge order.
+     *
+     * @return list of the merged ReportDataObjects
+     */
+    private List<ReportDataObject> drainBuffers() {
+        List<ReportDataObject> tmpMergedList = new ArrayList<>(this.getBufferedReportsCount());
+        Iterator<ThreadBuffer> tmpIterator = this.buffers.iterator();
+        while (tmpIterator.hasNext()) {
+            ThreadBuffer tmpBuffer = tmpIterator.next();
+            synchronized (tmpBuffer) {
+                tmpMergedList.addAll(tmpBuffer.reportDataObjects);
+                tmpBuffer.reportDataObjects = null;
+            }
+            tmpIterator.remove();
+        }
+        // the sort is stable; the order of the buffers only affects fully equal entries
+        tmpMergedList.sort(ConcurrentReporter.MERGE_ORDER);
+        return tmpMergedList;
+    }
+
+    /**
+     * Detaches the buffers of all threads, discarding their content.
+     */
+    private void clearBuffers() {
+        Iterator<ThreadBuffer> tmpIterator = this.buffers.iterator();
+        while (tmpIterator.hasNext()) {
+            ThreadBuffer tmpBuffer = tmpIterator.next();
+            synchronized (tmpBuffer) {
+                tmpBuffer.reportDataObjects = null;
+            }
+            tmpIterator.remove();
+        }
+    }
+
+    /**
+     * Compares the given MolIDs; MolIDs consisting of digits only are compared by their numeric value and precede all
+     * other MolIDs, which are compared lexicographically. Numerically equal MolIDs (e.g. "9" and "09") are compared
+     * lexicographically to keep the order total.
+     *
+     * @param aMolID1 first MolID
+     * @param aMolID2 second MolID
+     * @return negative integer, zero or positive integer as the first MolID precedes, equals or follows the second
+     */
+    private static int compareMolIDs(String aMolID1, String aMolID2) {
+        boolean tmpIsNumeric1 = ConcurrentReporter.isDigitsOnly(aMolID1);
+        boolean tmpIsNumeric2 = ConcurrentReporter.isDigitsOnly(aMolID2);
+        if (tmpIsNumeric1 != tmpIsNumeric2) {
+            return tmpIsNumeric1 ? -1 : 1;
+        }
+        if (tmpIsNumeric1) {
+            // compares the digits without leading zeros by their length first, so that MolIDs of any length work
+            int tmpStart1 = ConcurrentReporter.getIndexOfFirstSignificantDigit(aMolID1);
+            int tmpStart2 = ConcurrentReporter.getIndexOfFirstSignificantDigit(aMolID2);
+            int tmpResult = Integer.compare(aMolID1.length() - tmpStart1, aMolID2.length() - tmpStart2);
+            if (tmpResult == 0) {
+                tmpResult = aMolID1.substring(tmpStart1).compareTo(aMolID2.substring(tmpStart2));
+            }
+            if (tmpResult != 0) {
+                return tmpResult;
+            }
+        }
+        return aMolID1.compareTo(aMolID2);
+    }
+
+    /**
+     * Returns whether the given string is not empty and consists of the digits 0-9 only.
+     *
+     * @param aString the string to check
+     * @return true if the string consists of digits only
+     */
+    private static boolean isDigitsOnly(String aString) {
+        if (aString.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < aString.length(); i++) {
+            char tmpChar = aString.charAt(i);
+            if (tmpChar < '0' || tmpChar > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the first digit of the given string of digits that is not a leading zero; the last digit is
+     * returned for a string of zeros only.
+     *
+     * @param aDigits string of digits only
+     * @return integer value
+     */
+    private static int getIndexOfFirstSignificantDigit(String aDigits) {
+        int tmpIndex = 0;
+        while (tmpIndex < aDigits.length() - 1 && aDigits.charAt(tmpIndex) == '0') {
+            tmpIndex++;
+        }
+        return tmpIndex;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="ThreadBuffer" defaultstate="collapsed">
+    /**
+     * Buffer of the ReportDataObjects appended by a single thread; guarded by its own monitor.
+     */
+    private static final class ThreadBuffer {
+
+        /**
+         * The buffered ReportDataObjects; null after the buffer has been detached from its thread by a merge or clear.
+         */
+        private List<ReportDataObject> reportDataObjects = new ArrayList<>();
+
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,279 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.enums.DepictionFormats;
+import org.openscience.cdk.exception.CDKException;
+import org.openscience.cdk.interfaces.IAtomContainer;
+import org.openscience.cdk.smiles.SmiFlavor;
+import org.openscience.cdk.smiles.SmilesGenerator;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of the depictions created for a report. The depictions are created via {@link
+ * ReportDepictionUtils#getDepictionAsString(IAtomContainer)} and cached with the canonical (absolute) SMILES string of
+ * the depicted structure as key, so that structures occurring multiple times in a report (e.g. salts and small
+ * fragments) are only depicted once. Structures no canonical SMILES string could be generated for are depicted
+ * without being cached.
+ * <br>
+ * The cache is thread-safe and bounded; once the maximum number of entries is reached, no further depictions are
+ * cached, while the already cached ones are still used. The numbers of cache hits and misses are counted.
+ * <br>
+ * <b>Note:</b> Structures with the same canonical SMILES string share the depiction of the first one of them being
+ * depicted, even if their atom coordinates differ.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see ReportDepictionUtils
+ */
+public class DepictionCache {
+
+    //<editor-fold desc="public static final class constants" defaultstate="collapsed">
+    /**
+     * Default value of the maximum number of cached depictions.
+     */
+    public static final int DEFAULT_MAXIMUM_CACHE_SIZE = 1024;
+    //</editor-fold>
+
+    //<editor-fold desc="private static final class constants" defaultstate="collapsed">
+    /**
+     * SMILES generator creating the keys of the cache; reused per thread.
+     */
+    private static final ThreadLocal<SmilesGenerator> SMILES_GENERATOR = ThreadLocal.withInitial(
+            () -> new SmilesGenerator(SmiFlavor.Absolute));
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * Integer value of the maximum number of cached depictions.
+     */
+    private final int maximumCacheSize;
+
+    /**
+     * Image format of the depictions.
+     */
+    private final DepictionFormats depictionFormat;
+
+    /**
+     * Maximum width of the depictions in pixels.
+     */
+    private final int maximumDepictionWidth;
+
+    /**
+     * Cache of the depictions as base64 strings with the canonical SMILES strings of the structures as keys.
+     */
+    private final ConcurrentHashMap<String, String> cache;
+
+    /**
+     * Counter of the depictions taken from the cache.
+     */
+    private final LongAdder hitCounter;
+
+    /**
+     * Counter of the depictions that needed to be created.
+     */
+    private final LongAdder missCounter;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; caches up to the given number of depictions created in the given format with the given maximum
+     * width (see {@link ReportDepictionUtils#getDepictionAsString(IAtomContainer, DepictionFormats, int)}).
+     *
+     * @param aMaximumCacheSize      maximum number of depictions to cache
+     * @param aDepictionFormat       image format of the depictions
+     * @param aMaximumDepictionWidth maximum width of the depictions in pixels
+     * @throws NullPointerException if the given depiction format is null
+     * @throws IllegalArgumentException if the given maximum cache size or maximum depiction width is less than one
+     */
+    public DepictionCache(int aMaximumCacheSize, DepictionFormats aDepictionFormat, int aMaximumDepictionWidth)
+            throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(aDepictionFormat, "The given depiction format (aDepictionFormat) is null.");
+        if (aMaximumCacheSize < 1) {
+            throw new IllegalArgumentException("The maximum cache size (aMaximumCacheSize) needs to be at least one.");
+        }
+        if (aMaximumDepictionWidth < 1) {
+            throw new IllegalArgumentException("The maximum depiction width (aMaximumDepictionWidth) needs to be at" +
+                    " least one.");
+        }
+        this.maximumCacheSize = aMaximumCacheSize;
+        this.depictionFormat = aDepictionFormat;
+        this.maximumDepictionWidth = aMaximumDepictionWidth;
+        this.cache = new ConcurrentHashMap<>();
+        this.hitCounter = new LongAdder();
+        this.missCounter = new LongAdder();
+    }
+
+    /**
+     * Constructor; caches up to the given number of PNG depictions with the default maximum width.
+     *
+     * @param aMaximumCacheSize maximum number of depictions to cache
+     * @throws IllegalArgumentException if the given maximum cache size is less than one
+     */
+    public DepictionCache(int aMaximumCacheSize) throws IllegalArgumentException {
+        this(aMaximumCacheSize, DepictionFormats.PNG, ReportDepictionUtils.DEFAULT_MAXIMUM_DEPICTION_WIDTH);
+    }
+
+    /**
+     * Constructor; caches up to {@link #DEFAULT_MAXIMUM_CACHE_SIZE} PNG depictions with the default maximum width.
+     */
+    public DepictionCache() {
+        this(DepictionCache.DEFAULT_MAXIMUM_CACHE_SIZE);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public methods" defaultstate="collapsed">
+    /**
+     * Returns the depiction of the given atom container as base64 string, either taken from the cache or created via
+     * {@link ReportDepictionUtils#getDepictionAsString(IAtomContainer, DepictionFormats, int)}.
+     *
+     * @param anAtomContainer the atom container to depict
+     * @return base64 string of the depiction
+     * @throws NullPointerException if the given atom container is null
+     * @throws IOException if an error occurs while creating the depiction
+     * @throws CDKException if the atom container could not be depicted
+     */
+    public String getDepictionAsString(IAtomContainer anAtomContainer) throws NullPointerException, IOException,
+            CDKException {
+        Objects.requireNonNull(anAtomContainer, "The given atom container (anAtomContainer) is null.");
+        return this.getDepictionAsString(anAtomContainer, DepictionCache.getKey(anAtomContainer));
+    }
+
+    /**
+     * Clears the cache and resets the hit and miss counters.
+     */
+    public void clear() {
+        this.cache.clear();
+        this.hitCounter.reset();
+        this.missCounter.reset();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="package-private methods" defaultstate="collapsed">
+    /**
+     * Returns the depiction of the given atom container as base64 string like {@link
+     * #getDepictionAsString(IAtomContainer)}, using the given key (see {@link #getKey(IAtomContainer)}) that has
+     * already been generated by the caller.
+     *
+     * @param anAtomContainer the atom container to depict
+     * @param aKey            canonical SMILES string of the atom container or null, if it could not be generated
+     * @return base64 string of the depiction
+     * @throws IOException if an error occurs while creating the depiction
+     * @throws CDKException if the atom container could not be depicted
+     */
+    String getDepictionAsString(IAtomContainer anAtomContainer, String aKey) throws IOException, CDKException {
+        String tmpDepiction;
+        if (aKey != null && (tmpDepiction = this.cache.get(aKey)) != null) {
+            this.hitCounter.increment();
+            return tmpDepiction;
+        }
+        this.missCounter.increment();
+        tmpDepiction = ReportDepictionUtils.getDepictionAsString(anAtomContainer, this.depictionFormat,
+                this.maximumDepictionWidth);
+        if (aKey != null && this.cache.size() < this.maximumCacheSize) {
+            this.cache.putIfAbsent(aKey, tmpDepiction);
+        }
+        return tmpDepiction;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public properties" defaultstate="collapsed">
+    /**
+     * Returns the maximum number of cached depictions.
+     *
+     * @return integer value
+     */
+    public int getMaximumCacheSize() {
+        return this.maximumCacheSize;
+    }
+
+    /**
+     * Returns the image format of the depictions.
+     *
+     * @return DepictionFormats constant
+     */
+    public DepictionFormats getDepictionFormat() {
+        return this.depictionFormat;
+    }
+
+    /**
+     * Returns the maximum width of the depictions in pixels.
+     *
+     * @return integer value
+     */
+    public int getMaximumDepictionWidth() {
+        return this.maximumDepictionWidth;
+    }
+
+    /**
+     * Returns the number of currently cached depictions.
+     *
+     * @return integer value
+     */
+    public int getCacheSize() {
+        return this.cache.size();
+    }
+
+    /**
+     * Returns the number of depictions taken from the cache.
+     *
+     * @return long value
+     */
+    public long getHitCount() {
+        return this.hitCounter.sum();
+    }
+
+    /**
+     * Returns the number of depictions that needed to be created.
+     *
+     * @return long value
+     */
+    public long getMissCount() {
+        return this.missCounter.sum();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="package-private static methods" defaultstate="collapsed">
+    /**
+     * Returns the canonical SMILES string of the given atom container used as cache key or null, if it could not be
+     * generated.
+     *
+     * @param anAtomContainer the atom container to generate the key of
+     * @return canonical SMILES string or null
+     */
+    static String getKey(IAtomContainer anAtomContainer) {
+        try {
+            return DepictionCache.SMILES_GENERATOR.get().create(anAtomContainer);
+        } catch (CDKException | RuntimeException anException) {
+            return null;
+        }
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,252 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package de.unijena.cheminf.curation.reporter;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of daemon worker threads rendering the depictions of a reporter. A reporter holds one pool for its whole
+ * lifetime instead of creating one per report; idle workers terminate after {@link #KEEP_ALIVE_SECONDS} seconds, so
+ * that an unused reporter does not hold any threads. The submitted tasks are queued without bound; the reporters
+ * limit the number of pending tasks themselves.
+ * <br>
+ * The rendering of CDK does not react to interrupts, so a rendering task that is given up on (see {@link
+ * #abandon(Future)}) keeps its worker busy until it finishes. To not let the pool shrink with every such task, an
+ * additional worker thread is started for each abandoned task that is still running; the pool returns to its size
+ * once the abandoned task finished.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+final class DepictionWorkerPool {
+
+    //<editor-fold desc="package-private static final constants" defaultstate="collapsed">
+    /**
+     * Time in seconds after which idle worker threads terminate.
+     */
+    static final long KEEP_ALIVE_SECONDS = 30L;
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * Executor running the rendering tasks.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Number of worker threads.
+     */
+    private final int threadCount;
+    //</editor-fold>
+
+    //<editor-fold desc="private variables" defaultstate="collapsed">
+    /**
+     * Number of abandoned tasks that are still running, each one replaced by an additional worker thread.
+     */
+    private int replacedWorkersCount = 0;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; initializes the pool with the given number of worker threads named after the given name.
+     *
+     * @param aThreadName  name of the worker threads
+     * @param aThreadCount number of worker threads
+     * @throws NullPointerException if the given thread name is null
+     * @throws IllegalArgumentException if the given number of worker threads is less than one
+     */
+    DepictionWorkerPool(String aThreadName, int aThreadCount) throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(aThreadName, "The given thread name (aThreadName) is null.");
+        if (aThreadCount < 1) {
+            throw new IllegalArgumentException("The given thread count (aThreadCount) needs to be at least one.");
+        }
+        this.threadCount = aThreadCount;
+        this.executor = new ThreadPoolExecutor(aThreadCount, aThreadCount, DepictionWorkerPool.KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), aRunnable -> {
+            Thread tmpThread = new Thread(aRunnable, aThreadName);
+            tmpThread.setDaemon(true);
+            return tmpThread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="package-private methods" defaultstate="collapsed">
+    /**
+     * Submits the given rendering task to the pool.
+     *
+     * @param aTask the task to run
+     * @param <T>   type of the result of the task
+     * @return future of the result of the task
+     * @throws NullPointerException if the given task is null
+     */
+    <T> Future<T> submit(Callable<T> aTask) throws NullPointerException {
+        Objects.requireNonNull(aTask, "The given task (aTask) is null.");
+        RenderingTask<T> tmpRenderingTask = new RenderingTask<>(aTask);
+        this.executor.execute(tmpRenderingTask);
+        return tmpRenderingTask;
+    }
+
+    /**
+     * Gives up on the given task by cancelling it; if the task is already running, its worker thread stays busy until
+     * the task finished and is replaced by an additional worker thread in the meantime.
+     *
+     * @param aFuture future of a task submitted to this pool
+     * @throws NullPointerException if the given future is null
+     */
+    synchronized void abandon(Future<?> aFuture) throws NullPointerException {
+        Objects.requireNonNull(aFuture, "The given future (aFuture) is null.");
+        aFuture.cancel(true);
+        if (!(aFuture instanceof RenderingTask)) {
+            return;
+        }
+        RenderingTask<?> tmpRenderingTask = (RenderingTask<?>) aFuture;
+        if (tmpRenderingTask.isStarted && !tmpRenderingTask.isEnded && !tmpRenderingTask.isReplaced) {
+            tmpRenderingTask.isReplaced = true;
+            this.replacedWorkersCount++;
+            this.resize();
+        }
+    }
+
+    /**
+     * Shuts the pool down; tasks submitted before are still run, but no further tasks are accepted and the worker
+     * threads terminate once the queue is empty.
+     */
+    void shutdown() {
+        this.executor.shutdown();
+    }
+
+    /**
+     * Returns whether the pool has been shut down.
+     *
+     * @return true, if {@link #shutdown()} has been called
+     */
+    boolean isShutdown() {
+        return this.executor.isShutdown();
+    }
+
+    /**
+     * Returns the number of abandoned tasks that are still running and replaced by additional worker threads.
+     *
+     * @return integer value
+     */
+    synchronized int getReplacedWorkersCount() {
+        return this.replacedWorkersCount;
+    }
+
+    /**
+     * Returns the number of worker threads of the pool.
+     *
+     * @return integer value
+     */
+    int getThreadCount() {
+        return this.threadCount;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private methods" defaultstate="collapsed">
+    /**
+     * Called by the worker thread after the given task ended; removes the additional worker thread if the task had
+     * been abandoned.
+     *
+     * @param aRenderingTask the ended task
+     */
+    private synchronized void taskEnded(RenderingTask<?> aRenderingTask) {
+        aRenderingTask.isEnded = true;
+        if (aRenderingTask.isReplaced) {
+            this.replacedWorkersCount--;
+            this.resize();
+        }
+    }
+
+    /**
+     * Sets the size of the executor to the number of worker threads plus the number of replaced ones; the core size
+     * must never exceed the maximum size.
+     */
+    private void resize() {
+        int tmpPoolSize = this.threadCount + this.replacedWorkersCount;
+        if (tmpPoolSize > this.executor.getMaximumPoolSize()) {
+            this.executor.setMaximumPoolSize(tmpPoolSize);
+            this.executor.setCorePoolSize(tmpPoolSize);
+        } else {
+            this.executor.setCorePoolSize(tmpPoolSize);
+            this.executor.setMaximumPoolSize(tmpPoolSize);
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="RenderingTask" defaultstate="collapsed">
+    /**
+     * Future task recording whether it has been started and ended on a worker thread.
+     *
+     * @param <T> type of the result of the task
+     */
+    private final class RenderingTask<T> extends FutureTask<T> {
+
+        /**
+         * Whether a worker thread started to run the task.
+         */
+        private volatile boolean isStarted = false;
+
+        /**
+         * Whether the run of the task ended; guarded by the pool.
+         */
+        private boolean isEnded = false;
+
+        /**
+         * Whether the worker thread running the abandoned task is replaced; guarded by the pool.
+         */
+        private boolean isReplaced = false;
+
+        /**
+         * Constructor.
+         *
+         * @param aCallable the task to run
+         */
+        private RenderingTask(Callable<T> aCallable) {
+            super(aCallable);
+        }
+
+        @Override
+        public void run() {
+            this.isStarted = true;
+            try {
+                super.run();
+            } finally {
+                DepictionWorkerPool.this.taskEnded(this);
+            }
+        }
+
+    }
+    //</editor-fold>
+
+}
@@ -29,6 +29,8 @@ import de.unijena.cheminf.curation.processingSteps.IProcessingStep;
 import org.apache.commons.lang3.NotImplementedException;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Objects;
 
 /**
  * Interface of all reporters; reporters are meant to generate reports out of data referring to issues with structures.
@@ -88,6 +90,24 @@ public interface IReporter {
      */
     public void appendReport(ReportDataObject aReportDataObject) throws NullPointerException;
 
+    /**
+     * Appends the reported data of all given ReportDataObjects to the reporter in the order of the collection (see
+     * {@link #appendReport(ReportDataObject)}). Reporters may override this method to append a batch of data at lower
+     * cost than by single calls; the default implementation calls {@link #appendReport(ReportDataObject)} for each
+     * ReportDataObject.
+     *
+     * @param aReportDataObjects the data referring to the reported issues
+     * @throws NullPointerException if the given collection or a ReportDataObject instance contained by it is null; if
+     *                              the report has not been initialized (dependent on the reporter)
+     */
+    public default void appendReports(Collection<ReportDataObject> aReportDataObjects) throws NullPointerException {
+        Objects.requireNonNull(aReportDataObjects, "The given collection of ReportDataObject instances" +
+                " (aReportDataObjects) is null.");
+        for (ReportDataObject tmpReportDataObject : aReportDataObjects) {
+            this.appendReport(tmpReportDataObject);
+        }
+    }
+
     /**
      * Either generates the report out of all data kept in memory or finalizes the report that has already been
      * initialized and appended with the reported data (depending on the type of reporter). Data kept in memory is
@@ -25,8 +25,15 @@
 
 package de.unijena.cheminf.curation.reporter;
 
+import de.unijena.cheminf.curation.enums.DepictionFormats;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ReportSnapshotModes;
+import de.unijena.cheminf.curation.jfr.ReportGenerationEvent;
 import org.openscience.cdk.exception.CDKException;
+import org.openscience.cdk.exception.InvalidSmilesException;
 import org.openscience.cdk.interfaces.IAtomContainer;
+import org.openscience.cdk.silent.SilentChemObjectBuilder;
+import org.openscience.cdk.smiles.SmilesParser;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
@@ -38,6 +45,10 @@ import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -60,6 +71,16 @@ public class MarkDownReporter implements IReporter {
      */
     public static final String REPORTS_FOLDER_PATH_STRING = "Processing_Reports" + File.separator;
 
+    /**
+     * Default timeout in milliseconds of the rendering of a single depiction.
+     */
+    public static final long DEFAULT_DEPICTION_TIMEOUT_MILLIS = 10000L;
+
+    /**
+     * Maximum number of depictions per worker thread that are rendered or held ahead of the entry written next.
+     */
+    public static final int DEPICTION_WINDOW_SIZE_FACTOR = 4;
+
     /**
      * ArrayList storing ReportDataObjects.
      */
@@ -70,6 +91,42 @@ public class MarkDownReporter implements IReporter {
      */
     private String filePathString;
 
+    /**
+     * Number of worker threads rendering the depictions; one means the depictions are rendered on the calling thread.
+     */
+    private int depictionThreadCount = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Pool of the worker threads rendering the depictions of the current report; created when the depictions of a
+     * report are rendered in parallel and shut down once the report is finished.
+     */
+    private DepictionWorkerPool depictionWorkerPool = null;
+
+    /**
+     * Timeout in milliseconds of the rendering of a single depiction.
+     */
+    private long depictionTimeoutMillis = MarkDownReporter.DEFAULT_DEPICTION_TIMEOUT_MILLIS;
+
+    /**
+     * Image format of the depictions.
+     */
+    private DepictionFormats depictionFormat = DepictionFormats.PNG;
+
+    /**
+     * Maximum width of the depictions in pixels.
+     */
+    private int maximumDepictionWidth = ReportDepictionUtils.DEFAULT_MAXIMUM_DEPICTION_WIDTH;
+
+    /**
+     * Form in which the appended ReportDataObjects are stored until the report is generated.
+     */
+    private ReportSnapshotModes snapshotMode = ReportSnapshotModes.FULL;
+
+    /**
+     * Sampler drawing the ReportDataObjects rendered in detail; null if all ReportDataObjects are rendered.
+     */
+    private ReportSampler sampler = null;
+
     /**
      * Resource Bundle for String literals in the report.
      */
@@ -117,64 +174,79 @@ public class MarkDownReporter implements IReporter {
     @Override
     public void appendReport(ReportDataObject aReportDataObject) throws NullPointerException {
         Objects.requireNonNull(aReportDataObject, "aReportDataObject (instance of ReportDataObject) is null.");
-        this.reportDataObjectList.add(aReportDataObject);
+        this.store(aReportDataObject);
+    }
+
+    /**
+     * Appends all given ReportDataObjects to the list which is displayed in the markdown report.
+     *
+     * @param aReportDataObjects the reports to append
+     * @throws NullPointerException if the given collection or a contained ReportDataObject is null
+     */
+    @Override
+    public void appendReports(Collection<ReportDataObject> aReportDataObjects) throws NullPointerException {
+        Objects.requireNonNull(aReportDataObjects, "aReportDataObjects (instance of Collection) is null.");
+        for (ReportDataObject tmpReportDataObject : aReportDataObjects) {
+            Objects.requireNonNull(tmpReportDataObject, "aReportDataObject (instance of ReportDataObject) is null.");
+        }
+        for (ReportDataObject tmpReportDataObject : aReportDataObjects) {
+            this.store(tmpReportDataObject);
+        }
     }
 
     /**
      * Content to fill the report, a header with timestamp, a table with the number of errors
      * and a table with processing step followed by tables for every molecule that caused an error in that processing step.
+     * The generation is recorded by a JDK Flight Recorder event (see {@link ReportGenerationEvent}).
      *
      * @throws CDKException when parsing a SMILES fails.
      * @throws IOException if an error occurs while accessing or writing the report file.
      */
     @Override
     public void report() throws CDKException, IOException {
+        ReportGenerationEvent tmpEvent = new ReportGenerationEvent();
+        tmpEvent.begin();
+        tmpEvent.setReporterClass(this.getClass());
+        try {
+            this.generateReport(tmpEvent);
+        } finally {
+            this.shutDownDepictionWorkerPool();
+            // the event is committed on failure as well; it lacks the report file path then
+            tmpEvent.commit();
+        }
+    }
+
+    /**
+     * Generates the report; the actual logic of {@link #report()}. The given event is filled with the details of the
+     * report but not committed.
+     *
+     * @param anEvent JDK Flight Recorder event of the report generation
+     * @throws CDKException when parsing a SMILES fails.
+     * @throws IOException if an error occurs while accessing or writing the report file.
+     */
+    private void generateReport(ReportGenerationEvent anEvent) throws CDKException, IOException {
         // sorting list of objects for ProcessingStep
-        List<ReportDataObject> sortedReportDataObjects = reportDataObjectList.stream()
+        List<ReportDataObject> tmpReportDataObjects = this.sampler == null ? this.reportDataObjectList
+                : this.sampler.getSampledReportDataObjects();
+        List<ReportDataObject> sortedReportDataObjects = tmpReportDataObjects.stream()
                 .sorted(Comparator.comparing(ReportDataObject::getProcessingStepIdentifier)
                         .thenComparing(ReportDataObject::getErrorCode)).toList();
+        long tmpErrorCount = this.sampler == null ? sortedReportDataObjects.size() : this.sampler.getTotalCount();
+        anEvent.setReportedIssueCount(tmpErrorCount);
+        anEvent.setRenderedEntryCount(sortedReportDataObjects.size());
         
         StringBuilder markdownReport = new StringBuilder();
         markdownReport.append("# ").append(reportStringLiterals.getString("HEADER")).append("\n");
         markdownReport.append(reportStringLiterals.getString("TIMESTAMPOFREPORTGENERATION")).append(getCurrentTimeStamp()).append("\n\n");
-        markdownReport.append(reportStringLiterals.getString("NUMBEROFERRORS")).append(sortedReportDataObjects.size()).append("\n\n");
+        markdownReport.append(reportStringLiterals.getString("NUMBEROFERRORS")).append(tmpErrorCount).append("\n\n");
+        if (this.sampler != null && this.sampler.hasOmittedIssues()) {
+            this.appendSamplingSummary(markdownReport);
+        }
         markdownReport.append("## ").append(reportStringLiterals.getString("DETAILS")).append("\n\n");
 
         //TODO  not repeating the ProcessingStep for more than one object with the same ProcessingStep
         //TODO Bringing string literals into properties file
-        for (ReportDataObject reportDataObject : this.reportDataObjectList) {
-            markdownReport.append("Processing Step ID: ").append(reportDataObject.getProcessingStepIdentifier()).append("\n");
-            markdownReport.append("* **Processing Step Class:** ").append(reportDataObject.getClassOfProcessingStep()).append("\n");
-            markdownReport.append("* **Error Code:** ").append(reportDataObject.getErrorCode()).append("\n");
-            markdownReport.append("* **Identifier:** ").append(reportDataObject.getIdentifier()).append("\n");
-            markdownReport.append("* **External Identifier:** ").append(reportDataObject.getExternalIdentifier()).append("\n");
-
-            IAtomContainer atomContainer = reportDataObject.getAtomContainer();
-
-            // Check if AtomContainer is available and valid, if so, create depiction, else error message
-            //TODO bring depiction in line
-            boolean tmpImageCouldBeGenerated;
-            if (atomContainer != null && atomContainer.getAtomCount() > 0) {
-                try {
-                    String depictionBase64 = ReportDepictionUtils.getDepictionAsString(atomContainer);
-                    markdownReport.append(" * **Molecule Depiction:**\n");
-                    markdownReport.append("![Molecule Depiction](data:image/png;base64,").append(depictionBase64).append(")\n");
-                    //
-                    tmpImageCouldBeGenerated = true;
-                } catch (Exception anException) {
-                    MarkDownReporter.LOGGER.log(Level.WARNING, anException.toString(), anException);
-                    tmpImageCouldBeGenerated = false;
-                }
-            } else {
-                tmpImageCouldBeGenerated = false;
-            }
-            // image generation failed
-            if (!tmpImageCouldBeGenerated) {//TODO bring message in line
-                String ErrorMessageBase64 = ReportDepictionUtils.getErrorMessageImage();
-                markdownReport.append("* ![Error Message](data:image/png;base64,").append(ErrorMessageBase64).append(")\n");
-            }
-            markdownReport.append("\n\n");
-        }
+        this.appendEntries(markdownReport, sortedReportDataObjects);
 
         try {
             String tmpFileName = MarkDownReporter.getFileName();
@@ -183,6 +255,7 @@ public class MarkDownReporter implements IReporter {
             tmpWriter.write(markdownReport.toString());
             tmpWriter.flush();
             tmpWriter.close();
+            anEvent.setReportFilePath(tmpFile.getPath());
         } catch (IOException anIOException) {
             anIOException.printStackTrace();
             throw new IOException("Error writing to file:" + anIOException.getMessage());
@@ -199,6 +272,9 @@ public class MarkDownReporter implements IReporter {
     @Override
     public void clear () {
         this.reportDataObjectList.clear();
+        if (this.sampler != null) {
+            this.sampler.clear();
+        }
     }
 
     /**
@@ -219,7 +295,379 @@ public class MarkDownReporter implements IReporter {
         this.filePathString = aFilePath;
     }
 
-    private static String getFileName(){
+    /**
+     * Returns the number of worker threads rendering the depictions of the report.
+     *
+     * @return integer value
+     */
+    public int getDepictionThreadCount() {
+        return this.depictionThreadCount;
+    }
+
+    /**
+     * Sets the number of worker threads rendering the depictions of the report; with a value of one, the depictions
+     * are rendered on the thread calling {@link #report()} without timeout. Defaults to the number of available
+     * processors.
+     *
+     * @param aDepictionThreadCount number of worker threads
+     * @throws IllegalArgumentException if the given value is less than one
+     */
+    public void setDepictionThreadCount(int aDepictionThreadCount) throws IllegalArgumentException {
+        if (aDepictionThreadCount < 1) {
+            throw new IllegalArgumentException("The depiction thread count (aDepictionThreadCount) needs to be at"
+                    + " least one.");
+        }
+        this.depictionThreadCount = aDepictionThreadCount;
+    }
+
+    /**
+     * Returns the timeout in milliseconds of the rendering of a single depiction.
+     *
+     * @return long value
+     */
+    public long getDepictionTimeoutMillis() {
+        return this.depictionTimeoutMillis;
+    }
+
+    /**
+     * Sets the timeout in milliseconds of the rendering of a single depiction; depictions exceeding it are replaced by
+     * the error message image. Defaults to {@link #DEFAULT_DEPICTION_TIMEOUT_MILLIS}.
+     * <br>
+     * <b>Note:</b> The timeout only bounds the waiting for a depiction, not its rendering; CDK does not react to
+     * interrupts, so a timed out rendering goes on on its worker thread until it finished. The worker is replaced by an
+     * additional thread in the meantime, so that the number of threads available for rendering does not shrink.
+     *
+     * @param aDepictionTimeoutMillis timeout in milliseconds
+     * @throws IllegalArgumentException if the given value is less than one
+     */
+    public void setDepictionTimeoutMillis(long aDepictionTimeoutMillis) throws IllegalArgumentException {
+        if (aDepictionTimeoutMillis < 1) {
+            throw new IllegalArgumentException("The depiction timeout (aDepictionTimeoutMillis) needs to be at"
+                    + " least one millisecond.");
+        }
+        this.depictionTimeoutMillis = aDepictionTimeoutMillis;
+    }
+
+    /**
+     * Returns the form in which the appended ReportDataObjects are stored until the report is generated.
+     *
+     * @return ReportSnapshotModes constant
+     */
+    public ReportSnapshotModes getSnapshotMode() {
+        return this.snapshotMode;
+    }
+
+    /**
+     * Sets the form in which the appended ReportDataObjects are stored until the report is generated; storing
+     * snapshots allows the reported structures to be garbage collected right away. Structures of snapshots with SMILES
+     * string are depicted out of the SMILES string. Defaults to {@link ReportSnapshotModes#FULL}.
+     *
+     * @param aSnapshotMode the snapshot mode
+     * @throws NullPointerException if the given snapshot mode is null
+     */
+    public void setSnapshotMode(ReportSnapshotModes aSnapshotMode) throws NullPointerException {
+        Objects.requireNonNull(aSnapshotMode, "aSnapshotMode (instance of ReportSnapshotModes) is null.");
+        this.snapshotMode = aSnapshotMode;
+    }
+
+    /**
+     * Returns a copy of the policy defining which of the appended ReportDataObjects are rendered in detail; null if
+     * all are rendered.
+     *
+     * @return ReportSamplingPolicy instance or null
+     */
+    public ReportSamplingPolicy getSamplingPolicy() {
+        return this.sampler == null ? null : new ReportSamplingPolicy(this.sampler.getPolicy());
+    }
+
+    /**
+     * Sets the policy defining which of the appended ReportDataObjects are rendered in detail (with depiction); the
+     * others are only counted and the report lists the numbers of rendered and omitted issues per sampling group.
+     * Only the sampled ReportDataObjects are kept in memory. Null means that all ReportDataObjects are rendered, which
+     * is the default. Setting the policy discards the data appended so far; the policy is copied, so changing the
+     * given instance afterwards does not affect the reporter.
+     *
+     * @param aSamplingPolicy the sampling policy or null
+     */
+    public void setSamplingPolicy(ReportSamplingPolicy aSamplingPolicy) {
+        this.clear();
+        this.sampler = aSamplingPolicy == null ? null : new ReportSampler(aSamplingPolicy);
+    }
+
+    /**
+     * Returns the image format of the depictions of the report.
+     *
+     * @return DepictionFormats constant
+     */
+    public DepictionFormats getDepictionFormat() {
+        return this.depictionFormat;
+    }
+
+    /**
+     * Sets the image format of the depictions of the report; SVG depictions are cheaper to create and usually smaller
+     * than PNG ones. Defaults to {@link DepictionFormats#PNG}.
+     *
+     * @param aDepictionFormat image format of the depictions
+     * @throws NullPointerException if the given format is null
+     */
+    public void setDepictionFormat(DepictionFormats aDepictionFormat) throws NullPointerException {
+        Objects.requireNonNull(aDepictionFormat, "aDepictionFormat (instance of DepictionFormats) is null.");
+        this.depictionFormat = aDepictionFormat;
+    }
+
+    /**
+     * Returns the maximum width of the depictions of the report in pixels.
+     *
+     * @return integer value
+     */
+    public int getMaximumDepictionWidth() {
+        return this.maximumDepictionWidth;
+    }
+
+    /**
+     * Sets the maximum width of the depictions of the report in pixels; depictions of large molecules are scaled down
+     * to it (see {@link ReportDepictionUtils#getDepictionSize(int, int)}). Defaults to {@link
+     * ReportDepictionUtils#DEFAULT_MAXIMUM_DEPICTION_WIDTH}.
+     *
+     * @param aMaximumDepictionWidth maximum width in pixels
+     * @throws IllegalArgumentException if the given value is less than one
+     */
+    public void setMaximumDepictionWidth(int aMaximumDepictionWidth) throws IllegalArgumentException {
+        if (aMaximumDepictionWidth < 1) {
+            throw new IllegalArgumentException("The maximum depiction width (aMaximumDepictionWidth) needs to be at"
+                    + " least one.");
+        }
+        this.maximumDepictionWidth = aMaximumDepictionWidth;
+    }
+
+    /**
+     * Appends the markdown entry of the given ReportDataObject, including the depiction of its atom container, to the
+     * given appendable; shared by the MarkDownReporter and the {@link StreamingMarkDownReporter}.
+     *
+     * @param anAppendable the appendable to write the entry to
+     * @param aReportDataObject the reported data to create the entry of
+     * @param aDepictionCache the cache to take the depiction from
+     * @throws IOException if an error occurs while writing to the appendable
+     */
+    static void appendEntry(Appendable anAppendable, ReportDataObject aReportDataObject,
+                            DepictionCache aDepictionCache) throws IOException {
+        MarkDownReporter.appendEntry(anAppendable, aReportDataObject,
+                MarkDownReporter.createDepiction(aReportDataObject, aDepictionCache),
+                aDepictionCache.getDepictionFormat());
+    }
+
+    /**
+     * Appends the markdown entry of the given ReportDataObject with the given, already created depiction to the given
+     * appendable; if the depiction is null, an error message image is inserted instead.
+     *
+     * @param anAppendable the appendable to write the entry to
+     * @param aReportDataObject the reported data to create the entry of
+     * @param aDepictionBase64 base64 string of the depiction of the atom container or null
+     * @param aDepictionFormat image format of the depiction
+     * @throws IOException if an error occurs while writing to the appendable
+     */
+    static void appendEntry(Appendable anAppendable, ReportDataObject aReportDataObject, String aDepictionBase64,
+                            DepictionFormats aDepictionFormat) throws IOException {
+        MarkDownReporter.appendEntryFields(anAppendable, aReportDataObject);
+        if (aDepictionBase64 != null) {
+            anAppendable.append(" * **Molecule Depiction:**\n");
+            anAppendable.append("![Molecule Depiction](data:").append(aDepictionFormat.getMimeType()).append(";base64,")
+                    .append(aDepictionBase64).append(")\n");
+        } else {
+            // image generation failed
+            String ErrorMessageBase64 = ReportDepictionUtils.getErrorMessageImage();
+            anAppendable.append("* ![Error Message](data:image/png;base64,").append(ErrorMessageBase64).append(")\n");
+        }
+        anAppendable.append("\n\n");
+    }
+
+    /**
+     * Appends the textual fields of the markdown entry of the given ReportDataObject (everything but the depiction)
+     * to the given appendable.
+     *
+     * @param anAppendable the appendable to write the fields to
+     * @param aReportDataObject the reported data to write the fields of
+     * @throws IOException if an error occurs while writing to the appendable
+     */
+    static void appendEntryFields(Appendable anAppendable, ReportDataObject aReportDataObject) throws IOException {
+        anAppendable.append("Processing Step ID: ").append(aReportDataObject.getProcessingStepIdentifier()).append("\n");
+        anAppendable.append("* **Processing Step Class:** ").append(String.valueOf(aReportDataObject.getClassOfProcessingStep())).append("\n");
+        anAppendable.append("* **Error Code:** ").append(String.valueOf(aReportDataObject.getErrorCode())).append("\n");
+        anAppendable.append("* **Identifier:** ").append(aReportDataObject.getIdentifier()).append("\n");
+        anAppendable.append("* **External Identifier:** ").append(aReportDataObject.getExternalIdentifier()).append("\n");
+        int[] tmpAffectedAtomIndices = aReportDataObject.getAffectedAtomIndices();
+        if (tmpAffectedAtomIndices != null) {
+            anAppendable.append("* **Affected Atom Indices:** ").append(Arrays.toString(tmpAffectedAtomIndices)).append("\n");
+        }
+    }
+
+    /**
+     * Creates the depiction of the atom container of the given ReportDataObject (or of the SMILES string of a
+     * snapshot) as base64 string or takes it from the given cache; returns null if the atom container is not
+     * available, empty or could not be depicted.
+     *
+     * @param aReportDataObject the reported data to depict the atom container of
+     * @param aDepictionCache the cache to take the depiction from
+     * @return base64 string of the depiction or null
+     */
+    static String createDepiction(ReportDataObject aReportDataObject, DepictionCache aDepictionCache) {
+        try {
+            IAtomContainer atomContainer = MarkDownReporter.getAtomContainerToDepict(aReportDataObject);
+            if (atomContainer == null) {
+                return null;
+            }
+            return aDepictionCache.getDepictionAsString(atomContainer);
+        } catch (Exception anException) {
+            MarkDownReporter.LOGGER.log(Level.WARNING, anException.toString(), anException);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the atom container of the given ReportDataObject to depict (or the structure parsed from the SMILES
+     * string of a snapshot); returns null if no atom container is available or it is empty.
+     *
+     * @param aReportDataObject the reported data to get the atom container of
+     * @return IAtomContainer instance or null
+     * @throws InvalidSmilesException if the SMILES string of a snapshot could not be parsed
+     */
+    static IAtomContainer getAtomContainerToDepict(ReportDataObject aReportDataObject) throws InvalidSmilesException {
+        IAtomContainer atomContainer = aReportDataObject.getAtomContainer();
+        // snapshots are depicted out of their SMILES string
+        if (atomContainer == null && aReportDataObject.getSmiles() != null) {
+            atomContainer = new SmilesParser(SilentChemObjectBuilder.getInstance())
+                    .parseSmiles(aReportDataObject.getSmiles());
+        }
+        // Check if AtomContainer is available and valid
+        if (atomContainer == null || atomContainer.getAtomCount() == 0) {
+            return null;
+        }
+        return atomContainer;
+    }
+
+    /**
+     * Appends the entries of the given ReportDataObjects to the given appendable in the order of the list. The
+     * depictions are taken from a {@link DepictionCache} shared by all entries of the report, so that structures
+     * occurring multiple times are depicted only once, and rendered on a pool of {@link #getDepictionThreadCount()}
+     * worker threads, with at most {@link
+     * #DEPICTION_WINDOW_SIZE_FACTOR} depictions per thread being rendered or held ahead of the entry written next. A
+     * depiction that is not finished within {@link #getDepictionTimeoutMillis()} milliseconds after the entry is due
+     * is given up on and replaced by the error message image; the worker thread still rendering it is replaced (see
+     * {@link DepictionWorkerPool#abandon(Future)}). The worker threads are shut down by {@link #report()} once the
+     * report is finished.
+     *
+     * @param anAppendable the appendable to write the entries to
+     * @param aReportDataObjectList the reported data to create the entries of
+     * @throws IOException if an error occurs while writing to the appendable
+     */
+    private void appendEntries(Appendable anAppendable, List<ReportDataObject> aReportDataObjectList)
+            throws IOException {
+        DepictionCache tmpDepictionCache = new DepictionCache(DepictionCache.DEFAULT_MAXIMUM_CACHE_SIZE,
+                this.depictionFormat, this.maximumDepictionWidth);
+        if (this.depictionThreadCount == 1) {
+            for (ReportDataObject tmpReportDataObject : aReportDataObjectList) {
+                MarkDownReporter.appendEntry(anAppendable, tmpReportDataObject, tmpDepictionCache);
+            }
+            return;
+        }
+        if (this.depictionWorkerPool == null) {
+            this.depictionWorkerPool = new DepictionWorkerPool("MarkDownReporter-depiction",
+                    this.depictionThreadCount);
+        }
+        final DepictionWorkerPool tmpDepictionWorkerPool = this.depictionWorkerPool;
+        final int tmpWindowSize = this.depictionThreadCount * MarkDownReporter.DEPICTION_WINDOW_SIZE_FACTOR;
+        Deque<Future<String>> tmpPendingDepictions = new ArrayDeque<>(tmpWindowSize);
+        try {
+            int tmpSubmittedCount = 0;
+            for (ReportDataObject tmpReportDataObject : aReportDataObjectList) {
+                while (tmpSubmittedCount < aReportDataObjectList.size()
+                        && tmpPendingDepictions.size() < tmpWindowSize) {
+                    ReportDataObject tmpObjectToDepict = aReportDataObjectList.get(tmpSubmittedCount++);
+                    tmpPendingDepictions.addLast(tmpDepictionWorkerPool.submit(
+                            () -> MarkDownReporter.createDepiction(tmpObjectToDepict, tmpDepictionCache)));
+                }
+                MarkDownReporter.appendEntry(anAppendable, tmpReportDataObject,
+                        this.awaitDepiction(tmpPendingDepictions.removeFirst()), this.depictionFormat);
+            }
+        } finally {
+            // only left over if writing an entry failed
+            for (Future<String> tmpPendingDepiction : tmpPendingDepictions) {
+                tmpDepictionWorkerPool.abandon(tmpPendingDepiction);
+            }
+        }
+    }
+
+    /**
+     * Waits for the given depiction to be rendered for at most {@link #getDepictionTimeoutMillis()} milliseconds;
+     * gives up on the rendering (see {@link DepictionWorkerPool#abandon(Future)}) and returns null if it timed out,
+     * failed or the waiting thread was interrupted.
+     *
+     * @param aDepictionFuture the future of the depiction
+     * @return base64 string of the depiction or null
+     */
+    private String awaitDepiction(Future<String> aDepictionFuture) {
+        try {
+            return aDepictionFuture.get(this.depictionTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException aTimeoutException) {
+            MarkDownReporter.LOGGER.log(Level.WARNING, "The depiction of a molecule timed out after "
+                    + this.depictionTimeoutMillis + " ms.");
+        } catch (ExecutionException anExecutionException) {
+            MarkDownReporter.LOGGER.log(Level.WARNING, anExecutionException.toString(), anExecutionException);
+        } catch (InterruptedException anInterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        this.depictionWorkerPool.abandon(aDepictionFuture);
+        return null;
+    }
+
+    /**
+     * Shuts down the pool of the worker threads rendering the depictions, if one has been created; depictions that
+     * have been given up on may still finish on their worker threads afterwards.
+     */
+    private void shutDownDepictionWorkerPool() {
+        if (this.depictionWorkerPool != null) {
+            this.depictionWorkerPool.shutdown();
+            this.depictionWorkerPool = null;
+        }
+    }
+
+    /**
+     * Stores the given ReportDataObject in the form defined by the snapshot mode or offers it to the sampler.
+     *
+     * @param aReportDataObject the ReportDataObject to store
+     */
+    private void store(ReportDataObject aReportDataObject) {
+        if (this.sampler == null) {
+            this.reportDataObjectList.add(this.snapshotMode.apply(aReportDataObject));
+        } else {
+            this.sampler.offer(aReportDataObject, this.snapshotMode);
+        }
+    }
+
+    /**
+     * Appends the table of the numbers of reported and rendered issues per sampling group to the given string
+     * builder.
+     *
+     * @param aStringBuilder the string builder to append the table to
+     */
+    private void appendSamplingSummary(StringBuilder aStringBuilder) {
+        aStringBuilder.append(reportStringLiterals.getString("SAMPLINGSUMMARY")).append("\n\n");
+        aStringBuilder.append("| Processing Step ID | Error Code | Count | Rendered |\n");
+        aStringBuilder.append("| --- | --- | --- | --- |\n");
+        for (Map.Entry<String, Map<ErrorCodes, ReportSampler.Group>> tmpStepEntry :
+                this.sampler.getGroups().entrySet()) {
+            for (Map.Entry<ErrorCodes, ReportSampler.Group> tmpCodeEntry : tmpStepEntry.getValue().entrySet()) {
+                // the step is not listed if the sample is not stratified by step
+                aStringBuilder.append("| ").append(tmpStepEntry.getKey().isEmpty() ? "-" : tmpStepEntry.getKey())
+                        .append(" | ").append(tmpCodeEntry.getKey()).append(" | ")
+                        .append(tmpCodeEntry.getValue().getCount()).append(" | ")
+                        .append(tmpCodeEntry.getValue().getSampleSize()).append(" |\n");
+            }
+        }
+        aStringBuilder.append("\n");
+    }
+
+    static String getFileName(){
         return "Report_" + getCurrentTimeStamp() + ".md";
     }
 
@@ -228,7 +676,7 @@ public class MarkDownReporter implements IReporter {
      *
      * @return timestamp as legit String for filename
      */
-    private static String getCurrentTimeStamp(){
+    static String getCurrentTimeStamp(){
         LocalDateTime tmpNow = LocalDateTime.now();
         DateTimeFormatter tmpFormatter = DateTimeFormatter.ofPattern("yyyy_MM_dd_HH_mm_ss");
         return tmpNow.format(tmpFormatter);
@@ -0,0 +1,354 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package de.unijena.cheminf.curation.reporter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes the entries of a streaming report in the order they have been appended while their depictions are rendered
+ * off the appending threads. Appending an entry only submits the rendering of its depiction to a {@link
+ * DepictionWorkerPool} and queues the entry; a dedicated writer thread takes the queued entries in order, waits for
+ * their depictions and passes both to the {@link EntryWriter} of the reporter. The queue is bounded, so that at most
+ * its capacity of entries (and the atom containers referenced by them) are held in memory; appending threads wait
+ * for free space if it is full. The writer thread waits for each depiction at most for the given timeout after the
+ * entry is due; a depiction exceeding it is abandoned (see {@link DepictionWorkerPool#abandon(Future)}) and the entry
+ * is written without depiction, so that a single pathological structure does not block the report.
+ * <br>
+ * If writing an entry fails, the failure is recorded (see {@link #getFailure()}) and all entries queued afterwards are
+ * dropped, so that no appending thread waits for the stopped output; further appends throw an UncheckedIOException.
+ * The entry writer is only called by the writer thread and thereby does not need to be thread-safe; state it
+ * updates may be read by other threads after {@link #finish()} returned.
+ *
+ * @param <T> type of the rendered depictions
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+final class OrderedEntryWriter<T> {
+
+    //<editor-fold desc="EntryWriter" defaultstate="collapsed">
+    /**
+     * Writes a single entry of a report with its rendered depiction.
+     *
+     * @param <T> type of the rendered depictions
+     */
+    @FunctionalInterface
+    interface EntryWriter<T> {
+
+        /**
+         * Writes the entry of the given ReportDataObject with the given depiction.
+         *
+         * @param aReportDataObject the reported data to write the entry of
+         * @param aDepiction        the rendered depiction or null, if the structure could not be depicted
+         * @throws IOException if an error occurs while writing the entry
+         */
+        void writeEntry(ReportDataObject aReportDataObject, T aDepiction) throws IOException;
+
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="PendingEntry" defaultstate="collapsed">
+    /**
+     * Entry waiting to be written together with the future of its depiction.
+     *
+     * @param <T> type of the rendered depiction
+     */
+    private static final class PendingEntry<T> {
+
+        /**
+         * The reported data of the entry; null for the end of stream marker.
+         */
+        private final ReportDataObject reportDataObject;
+
+        /**
+         * Future of the depiction of the entry.
+         */
+        private final Future<T> depiction;
+
+        /**
+         * Constructor.
+         *
+         * @param aReportDataObject the reported data of the entry
+         * @param aDepiction        future of the depiction of the entry
+         */
+        private PendingEntry(ReportDataObject aReportDataObject, Future<T> aDepiction) {
+            this.reportDataObject = aReportDataObject;
+            this.depiction = aDepiction;
+        }
+
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private static final class constants" defaultstate="collapsed">
+    /**
+     * Logger of this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(OrderedEntryWriter.class.getName());
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * Pool the depictions are rendered on.
+     */
+    private final DepictionWorkerPool depictionWorkerPool;
+
+    /**
+     * Function rendering the depiction of a ReportDataObject; expected to return null instead of throwing an
+     * exception if the structure could not be depicted.
+     */
+    private final Function<ReportDataObject, T> depictionFunction;
+
+    /**
+     * Writer of the entries of the report.
+     */
+    private final EntryWriter<T> entryWriter;
+
+    /**
+     * Timeout in milliseconds of the waiting for a single depiction.
+     */
+    private final long depictionTimeoutMillis;
+
+    /**
+     * Queue of the entries waiting to be written, in the order they have been appended.
+     */
+    private final BlockingQueue<PendingEntry<T>> pendingEntries;
+
+    /**
+     * Marker queued to make the writer thread stop after it wrote all entries queued before.
+     */
+    private final PendingEntry<T> endOfStream;
+
+    /**
+     * Thread writing the queued entries.
+     */
+    private final Thread writerThread;
+    //</editor-fold>
+
+    //<editor-fold desc="private variables" defaultstate="collapsed">
+    /**
+     * First failure that occurred while writing an entry; null if all entries have been written.
+     */
+    private volatile Throwable failure = null;
+
+    /**
+     * Whether the entries are discarded instead of being written.
+     */
+    private volatile boolean isDiscarded = false;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; starts the writer thread.
+     *
+     * @param aThreadName             name of the writer thread
+     * @param aDepictionWorkerPool    pool to render the depictions on
+     * @param aCapacity               maximum number of entries waiting to be written
+     * @param aDepictionTimeoutMillis timeout in milliseconds of the waiting for a single depiction
+     * @param aDepictionFunction      function rendering the depiction of a ReportDataObject
+     * @param anEntryWriter           writer of the entries of the report
+     * @throws NullPointerException if any of the given parameters is null
+     * @throws IllegalArgumentException if the given capacity or timeout is less than one
+     */
+    OrderedEntryWriter(String aThreadName, DepictionWorkerPool aDepictionWorkerPool, int aCapacity,
+                       long aDepictionTimeoutMillis, Function<ReportDataObject, T> aDepictionFunction,
+                       EntryWriter<T> anEntryWriter) throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(aThreadName, "The given thread name (aThreadName) is null.");
+        Objects.requireNonNull(aDepictionWorkerPool, "The given pool (aDepictionWorkerPool) is null.");
+        Objects.requireNonNull(aDepictionFunction, "The given function (aDepictionFunction) is null.");
+        Objects.requireNonNull(anEntryWriter, "The given entry writer (anEntryWriter) is null.");
+        if (aCapacity < 1) {
+            throw new IllegalArgumentException("The given capacity (aCapacity) needs to be at least one.");
+        }
+        if (aDepictionTimeoutMillis < 1) {
+            throw new IllegalArgumentException("The given timeout (aDepictionTimeoutMillis) needs to be at least one"
+                    + " millisecond.");
+        }
+        this.depictionWorkerPool = aDepictionWorkerPool;
+        this.depictionTimeoutMillis = aDepictionTimeoutMillis;
+        this.depictionFunction = aDepictionFunction;
+        this.entryWriter = anEntryWriter;
+        this.pendingEntries = new ArrayBlockingQueue<>(aCapacity);
+        this.endOfStream = new PendingEntry<>(null, null);
+        this.writerThread = new Thread(this::writeEntries, aThreadName);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="package-private methods" defaultstate="collapsed">
+    /**
+     * Submits the rendering of the depiction of the given ReportDataObject and queues its entry to be written; waits
+     * for free space in the queue if it is full. If the appending thread is interrupted while waiting, the entry is
+     * dropped and the interrupt status is restored.
+     *
+     * @param aReportDataObject the reported data to write the entry of
+     * @throws NullPointerException if the given ReportDataObject is null
+     * @throws UncheckedIOException if writing a previous entry failed
+     */
+    void append(ReportDataObject aReportDataObject) throws NullPointerException, UncheckedIOException {
+        Objects.requireNonNull(aReportDataObject, "The given ReportDataObject instance (aReportDataObject) is null.");
+        if (this.failure != null) {
+            throw new UncheckedIOException(this.getFailureAsIOException());
+        }
+        Future<T> tmpDepiction = this.depictionWorkerPool.submit(
+                () -> this.depictionFunction.apply(aReportDataObject));
+        try {
+            this.pendingEntries.put(new PendingEntry<>(aReportDataObject, tmpDepiction));
+        } catch (InterruptedException anInterruptedException) {
+            tmpDepiction.cancel(false);
+            Thread.currentThread().interrupt();
+            OrderedEntryWriter.LOGGER.log(Level.WARNING, "An entry of the report was dropped since the appending"
+                    + " thread was interrupted.");
+        }
+    }
+
+    /**
+     * Waits for the writer thread to write all queued entries and stops it; returns the failure that occurred while
+     * writing an entry or null, if all entries have been written.
+     *
+     * @return Throwable instance or null
+     * @throws InterruptedIOException if the calling thread is interrupted while waiting; the entries are discarded
+     */
+    Throwable finish() throws InterruptedIOException {
+        try {
+            this.pendingEntries.put(this.endOfStream);
+            this.writerThread.join();
+        } catch (InterruptedException anInterruptedException) {
+            this.discard();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the entries of the report to be written.");
+        }
+        return this.failure;
+    }
+
+    /**
+     * Discards all queued entries and stops the writer thread without writing them.
+     */
+    void discard() {
+        this.isDiscarded = true;
+        this.writerThread.interrupt();
+        boolean tmpIsInterrupted = false;
+        while (this.writerThread.isAlive()) {
+            try {
+                this.writerThread.join();
+            } catch (InterruptedException anInterruptedException) {
+                tmpIsInterrupted = true;
+            }
+        }
+        PendingEntry<T> tmpPendingEntry;
+        while ((tmpPendingEntry = this.pendingEntries.poll()) != null) {
+            if (tmpPendingEntry.depiction != null) {
+                tmpPendingEntry.depiction.cancel(false);
+            }
+        }
+        if (tmpIsInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the failure that occurred while writing an entry or null, if no failure occurred so far.
+     *
+     * @return Throwable instance or null
+     */
+    Throwable getFailure() {
+        return this.failure;
+    }
+
+    /**
+     * Returns the failure that occurred while writing an entry as IOException; an IOException is returned as it is.
+     *
+     * @return IOException instance or null, if no failure occurred
+     */
+    IOException getFailureAsIOException() {
+        Throwable tmpFailure = this.failure;
+        if (tmpFailure == null || tmpFailure instanceof IOException) {
+            return (IOException) tmpFailure;
+        }
+        return new IOException("Writing an entry of the report failed: " + tmpFailure, tmpFailure);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private methods" defaultstate="collapsed">
+    /**
+     * Loop of the writer thread; writes the queued entries in order until the end of stream marker is taken or the
+     * thread is interrupted. After a failure, the entries are taken from the queue without being written.
+     */
+    private void writeEntries() {
+        try {
+            PendingEntry<T> tmpPendingEntry;
+            while ((tmpPendingEntry = this.pendingEntries.take()) != this.endOfStream) {
+                if (this.failure != null || this.isDiscarded) {
+                    tmpPendingEntry.depiction.cancel(false);
+                    continue;
+                }
+                T tmpDepiction = this.awaitDepiction(tmpPendingEntry.depiction);
+                try {
+                    this.entryWriter.writeEntry(tmpPendingEntry.reportDataObject, tmpDepiction);
+                } catch (Throwable aThrowable) {
+                    OrderedEntryWriter.LOGGER.log(Level.SEVERE, aThrowable.toString(), aThrowable);
+                    this.failure = aThrowable;
+                }
+            }
+        } catch (InterruptedException anInterruptedException) {
+            // the entries are discarded
+        }
+    }
+
+    /**
+     * Waits for the given depiction to be rendered for at most the depiction timeout; returns null if the rendering
+     * failed or timed out. A timed out depiction is abandoned.
+     *
+     * @param aDepiction future of the depiction
+     * @return the rendered depiction or null
+     * @throws InterruptedException if the writer thread is interrupted while waiting
+     */
+    private T awaitDepiction(Future<T> aDepiction) throws InterruptedException {
+        try {
+            return aDepiction.get(this.depictionTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException aTimeoutException) {
+            OrderedEntryWriter.LOGGER.log(Level.WARNING, "The depiction of a molecule timed out after "
+                    + this.depictionTimeoutMillis + " ms.");
+            this.depictionWorkerPool.abandon(aDepiction);
+        } catch (ExecutionException anExecutionException) {
+            OrderedEntryWriter.LOGGER.log(Level.WARNING, anExecutionException.toString(), anExecutionException);
+        }
+        return null;
+    }
+    //</editor-fold>
+
+}
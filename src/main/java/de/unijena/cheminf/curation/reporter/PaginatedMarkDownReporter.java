@@ -0,0 +1,880 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.enums.DepictionFormats;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import org.openscience.cdk.interfaces.IAtomContainer;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reporter creating a markdown report split into multiple files, so that reports of hundreds of thousands of entries
+ * stay viewable. Each report is created in a directory of its own (named like the report file of the {@link
+ * MarkDownReporter}, without extension) and consists of
+ * <ul>
+ *     <li>an index page ({@value #INDEX_FILE_NAME}) with the numbers of reported issues per processing step
+ *     identifier, per error code and per combination of both (linking the page of the first respective entry) and a
+ *     list of all detail pages,</li>
+ *     <li>detail pages (page_1.md, page_2.md, ...) holding a configurable number of entries each and linking the
+ *     index and the neighbouring pages,</li>
+ *     <li>and the depictions of the reported structures as image files of their own in the subdirectory
+ *     {@value #IMAGES_DIRECTORY_NAME}, referenced by the entries instead of being inlined as base64 strings;
+ *     structures with the same canonical SMILES string share one image file.</li>
+ * </ul>
+ * Like with the {@link StreamingMarkDownReporter}, the depictions are rendered off the appending threads on a pool of
+ * {@link #getDepictionThreadCount()} worker threads directly as image data (structures whose image file has already
+ * been written are not depicted again), and a dedicated writer thread writes the entries to the current detail page and
+ * their depictions to the images directory in the order they have been appended; depictions not rendered within {@link
+ * #getDepictionTimeoutMillis()} milliseconds are replaced by the error message image. Appending thereby only queues the
+ * entry; at most {@link #getPendingEntriesCapacity()} entries wait to be written, appending threads wait for free space
+ * if this number is reached. Besides the waiting entries, only the numbers of reported issues and the names of the
+ * image files of up to {@link #MAXIMUM_SHARED_IMAGE_FILES_COUNT} distinct structures are kept in memory. If writing an
+ * entry fails, further appends throw an UncheckedIOException and {@link #report()} throws the failure.
+ * <br>
+ * All entries are rendered; a {@link ReportSamplingPolicy} is not supported, since an entry is written before it is
+ * known whether it would remain part of the sample.
+ * <br>
+ * The index page is written by {@link #report()} or {@link #reportAfterFatalException()}; the latter additionally
+ * notes that the report is incomplete. The report needs to be initialized via {@link #initializeNewReport()} before
+ * data may be appended; all appends are expected to have been finished when the report is generated or cleared.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see MarkDownReporter
+ * @see StreamingMarkDownReporter
+ */
+public class PaginatedMarkDownReporter implements IReporter {
+
+    //<editor-fold desc="public static final constants" defaultstate="collapsed">
+    /**
+     * Default number of entries per detail page.
+     */
+    public static final int DEFAULT_ENTRIES_PER_PAGE = 500;
+
+    /**
+     * Name of the index page of a report.
+     */
+    public static final String INDEX_FILE_NAME = "index.md";
+
+    /**
+     * Name of the subdirectory of a report the depictions are written to.
+     */
+    public static final String IMAGES_DIRECTORY_NAME = "images";
+
+    /**
+     * Maximum number of distinct structures per report whose image files are shared by all their entries; the
+     * depictions of further structures are written to an image file per entry.
+     */
+    public static final int MAXIMUM_SHARED_IMAGE_FILES_COUNT = 65536;
+    //</editor-fold>
+
+    //<editor-fold desc="private static final class constants" defaultstate="collapsed">
+    /**
+     * Logger of this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(PaginatedMarkDownReporter.class.getName());
+
+    /**
+     * Resource bundle of the string literals of the report.
+     */
+    private static final ResourceBundle REPORT_STRING_LITERALS = ResourceBundle.getBundle("ReportStringLiterals",
+            Locale.getDefault());
+
+    /**
+     * Name of the image file (without extension) shown for structures that could not be depicted.
+     */
+    private static final String ERROR_MESSAGE_IMAGE_NAME = "depiction_error";
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * Path of the directory the report directories are created in.
+     */
+    private final Path reportDirectoryPath;
+
+    /**
+     * Numbers of reported issues and the page of the first respective entry per processing step identifier and
+     * error code.
+     */
+    private final Map<String, Map<ErrorCodes, long[]>> errorCounts;
+
+    /**
+     * Names of the image files of the current report with the canonical SMILES strings of the depicted structures as
+     * keys; written by the writer thread of the entry writer and read by the depiction worker threads to skip the
+     * structures whose image file has already been written.
+     */
+    private final Map<String, String> imageFileNames;
+    //</editor-fold>
+
+    //<editor-fold desc="private variables" defaultstate="collapsed">
+    /**
+     * Pool of the worker threads rendering the depictions; shared by all reports of the reporter as long as the number
+     * of worker threads is not changed.
+     */
+    private DepictionWorkerPool depictionWorkerPool;
+
+    /**
+     * Number of worker threads rendering the depictions of the reports initialized afterwards.
+     */
+    private int depictionThreadCount = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Timeout in milliseconds of the waiting for a single depiction in the reports initialized afterwards.
+     */
+    private long depictionTimeoutMillis = MarkDownReporter.DEFAULT_DEPICTION_TIMEOUT_MILLIS;
+
+    /**
+     * Number of entries per detail page of the reports initialized afterwards.
+     */
+    private int entriesPerPage;
+
+    /**
+     * Image format of the depictions of the reports initialized afterwards.
+     */
+    private DepictionFormats depictionFormat;
+
+    /**
+     * Maximum width of the depictions of the reports initialized afterwards in pixels.
+     */
+    private int maximumDepictionWidth;
+
+    /**
+     * Writer of the entries of the current report; null if no report is initialized.
+     */
+    private volatile OrderedEntryWriter<RenderedDepiction> entryWriter;
+
+    /**
+     * Number of entries per detail page of the current report.
+     */
+    private int entriesPerPageOfReport;
+
+    /**
+     * Path of the directory of the current report; null if no report is initialized.
+     */
+    private Path currentReportDirectoryPath;
+
+    /**
+     * Buffered writer of the current detail page; null if no report is initialized. Only accessed by the writer thread
+     * of the entry writer while a report is initialized.
+     */
+    private BufferedWriter pageWriter;
+
+    /**
+     * Number of the current detail page; only changed by the writer thread of the entry writer while a report is
+     * initialized.
+     */
+    private volatile int pageCount;
+
+    /**
+     * Number of entries written to the current detail page.
+     */
+    private int pageEntryCount;
+
+    /**
+     * Total number of entries written to the current report; only changed by the writer thread of the entry writer
+     * while a report is initialized.
+     */
+    private volatile long errorCount;
+
+    /**
+     * Whether the error message image has been written to the images directory of the current report.
+     */
+    private boolean isErrorMessageImageWritten;
+
+    /**
+     * Path of the directory of the last created report; null if no report has been created yet.
+     */
+    private Path lastReportDirectoryPath;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; sets the directory the report directories are created in and uses {@link
+     * #DEFAULT_ENTRIES_PER_PAGE} entries per detail page.
+     *
+     * @param aReportDirectoryPathString path string of the directory the report directories are created in
+     * @throws NullPointerException if the given path string is null
+     * @throws IllegalArgumentException if the given path string is blank or does not denote an existing directory
+     */
+    public PaginatedMarkDownReporter(String aReportDirectoryPathString) throws NullPointerException,
+            IllegalArgumentException {
+        this(aReportDirectoryPathString, PaginatedMarkDownReporter.DEFAULT_ENTRIES_PER_PAGE);
+    }
+
+    /**
+     * Constructor; sets the directory the report directories are created in and the number of entries per detail
+     * page.
+     *
+     * @param aReportDirectoryPathString path string of the directory the report directories are created in
+     * @param anEntriesPerPage           number of entries per detail page
+     * @throws NullPointerException if the given path string is null
+     * @throws IllegalArgumentException if the given path string is blank or does not denote an existing directory; if
+     *                                  the given number of entries per page is less than one
+     */
+    public PaginatedMarkDownReporter(String aReportDirectoryPathString, int anEntriesPerPage)
+            throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(aReportDirectoryPathString, "The given directory path string" +
+                " (aReportDirectoryPathString) is null.");
+        if (aReportDirectoryPathString.isBlank()) {
+            throw new IllegalArgumentException("The given directory path string (aReportDirectoryPathString) is" +
+                    " blank.");
+        }
+        Path tmpDirectoryPath = Paths.get(aReportDirectoryPathString);
+        if (!Files.isDirectory(tmpDirectoryPath)) {
+            throw new IllegalArgumentException("The given path string (aReportDirectoryPathString) does not denote" +
+                    " an existing directory.");
+        }
+        this.reportDirectoryPath = tmpDirectoryPath;
+        this.errorCounts = new TreeMap<>();
+        this.imageFileNames = new ConcurrentHashMap<>();
+        this.depictionWorkerPool = new DepictionWorkerPool("PaginatedMarkDownReporter-depiction",
+                this.depictionThreadCount);
+        this.setEntriesPerPage(anEntriesPerPage);
+        this.depictionFormat = DepictionFormats.PNG;
+        this.maximumDepictionWidth = ReportDepictionUtils.DEFAULT_MAXIMUM_DEPICTION_WIDTH;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public methods" defaultstate="collapsed">
+    /**
+     * Initializes a new report by creating its directory and the first detail page; a report that has been
+     * initialized but not finished yet is discarded.
+     *
+     * @throws IOException if the directory or the first detail page could not be created
+     */
+    @Override
+    public synchronized void initializeNewReport() throws IOException {
+        this.clear();
+        String tmpDirectoryName = MarkDownReporter.getFileName().replace(".md", "");
+        Path tmpDirectoryPath = this.reportDirectoryPath.resolve(tmpDirectoryName);
+        // reports initialized within the same second get a running number
+        for (int i = 2; ; i++) {
+            try {
+                Files.createDirectory(tmpDirectoryPath);
+                break;
+            } catch (FileAlreadyExistsException aFileAlreadyExistsException) {
+                tmpDirectoryPath = this.reportDirectoryPath.resolve(tmpDirectoryName + "_" + i);
+            }
+        }
+        this.currentReportDirectoryPath = tmpDirectoryPath;
+        Files.createDirectory(tmpDirectoryPath.resolve(PaginatedMarkDownReporter.IMAGES_DIRECTORY_NAME));
+        this.entriesPerPageOfReport = this.entriesPerPage;
+        this.openPage(1);
+        final DepictionFormats tmpDepictionFormat = this.depictionFormat;
+        final int tmpMaximumDepictionWidth = this.maximumDepictionWidth;
+        final Map<String, String> tmpImageFileNames = this.imageFileNames;
+        if (this.depictionWorkerPool.getThreadCount() != this.depictionThreadCount) {
+            this.depictionWorkerPool = new DepictionWorkerPool("PaginatedMarkDownReporter-depiction",
+                    this.depictionThreadCount);
+        }
+        this.entryWriter = new OrderedEntryWriter<>("PaginatedMarkDownReporter-writer", this.depictionWorkerPool,
+                this.getPendingEntriesCapacity(), this.depictionTimeoutMillis,
+                aReportDataObject -> PaginatedMarkDownReporter.renderDepiction(aReportDataObject, tmpDepictionFormat,
+                        tmpMaximumDepictionWidth, tmpImageFileNames),
+                (aReportDataObject, aDepiction) -> this.writeEntry(aReportDataObject, aDepiction,
+                        tmpDepictionFormat));
+    }
+
+    /**
+     * Queues the entry of the given ReportDataObject to be written to the current detail page (starting a new one if
+     * it is full) and its depiction to the images directory; the depiction is rendered off the calling thread. The
+     * ReportDataObject is not kept in memory after its entry has been written.
+     *
+     * @throws NullPointerException if the given ReportDataObject instance is null; if the report has not been
+     *                              initialized
+     * @throws UncheckedIOException if writing a previously appended entry failed
+     */
+    @Override
+    public void appendReport(ReportDataObject aReportDataObject) throws NullPointerException, UncheckedIOException {
+        Objects.requireNonNull(aReportDataObject, "The given ReportDataObject instance (aReportDataObject) is null.");
+        OrderedEntryWriter<RenderedDepiction> tmpEntryWriter = this.entryWriter;
+        Objects.requireNonNull(tmpEntryWriter, "The report has not been initialized.");
+        tmpEntryWriter.append(aReportDataObject);
+    }
+
+    /**
+     * Waits for all appended entries to be written and finalizes the report by closing the last detail page and
+     * writing the index page. If the report has not been initialized, a report without entries is created.
+     *
+     * @throws IOException if an IOException occurs writing the report files; if writing an entry failed
+     */
+    @Override
+    public synchronized void report() throws IOException {
+        this.finishReport(false);
+    }
+
+    /**
+     * Finalizes the report like {@link #report()}, noting on the index page that the processing ended with a fatal
+     * exception; all entries appended until then are part of the report. If writing an entry failed, the entries
+     * written until then are part of the report.
+     *
+     * @throws IOException if an IOException occurs writing the report files
+     */
+    @Override
+    public synchronized void reportAfterFatalException() throws IOException {
+        this.finishReport(true);
+    }
+
+    /**
+     * Discards the current report by discarding the entries waiting to be written, closing the current detail page
+     * and deleting the directory of the report, resets the error counts and clears the depiction cache.
+     */
+    @Override
+    public synchronized void clear() {
+        if (this.entryWriter != null) {
+            this.entryWriter.discard();
+            this.entryWriter = null;
+        }
+        if (this.pageWriter != null) {
+            try {
+                this.pageWriter.close();
+            } catch (IOException anIOException) {
+                // the file is deleted anyway
+            }
+            this.pageWriter = null;
+        }
+        if (this.currentReportDirectoryPath != null) {
+            try (Stream<Path> tmpPaths = Files.walk(this.currentReportDirectoryPath)) {
+                // deleting the contained files before their directories
+                for (Path tmpPath : tmpPaths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.deleteIfExists(tmpPath);
+                }
+            } catch (IOException anIOException) {
+                PaginatedMarkDownReporter.LOGGER.log(Level.WARNING, anIOException.toString(), anIOException);
+            }
+            this.currentReportDirectoryPath = null;
+        }
+        this.errorCounts.clear();
+        this.imageFileNames.clear();
+        this.errorCount = 0;
+        this.pageCount = 0;
+        this.pageEntryCount = 0;
+        this.isErrorMessageImageWritten = false;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public properties" defaultstate="collapsed">
+    /**
+     * Returns the path of the directory the report directories are created in.
+     *
+     * @return Path instance
+     */
+    public Path getReportDirectoryPath() {
+        return this.reportDirectoryPath;
+    }
+
+    /**
+     * Returns the number of entries per detail page.
+     *
+     * @return integer value
+     */
+    public synchronized int getEntriesPerPage() {
+        return this.entriesPerPage;
+    }
+
+    /**
+     * Sets the number of entries per detail page; applies to the reports initialized afterwards. Defaults to {@link
+     * #DEFAULT_ENTRIES_PER_PAGE}.
+     *
+     * @param anEntriesPerPage number of entries per detail page
+     * @throws IllegalArgumentException if the given number is less than one
+     */
+    public synchronized void setEntriesPerPage(int anEntriesPerPage) throws IllegalArgumentException {
+        if (anEntriesPerPage < 1) {
+            throw new IllegalArgumentException("The given number of entries per page (anEntriesPerPage) needs to be" +
+                    " at least one.");
+        }
+        this.entriesPerPage = anEntriesPerPage;
+    }
+
+    /**
+     * Returns the image format of the depictions of the report.
+     *
+     * @return DepictionFormats constant
+     */
+    public synchronized DepictionFormats getDepictionFormat() {
+        return this.depictionFormat;
+    }
+
+    /**
+     * Returns the maximum width of the depictions of the report in pixels.
+     *
+     * @return integer value
+     */
+    public synchronized int getMaximumDepictionWidth() {
+        return this.maximumDepictionWidth;
+    }
+
+    /**
+     * Sets the image format and maximum width of the depictions of the report (see {@link
+     * ReportDepictionUtils#getDepictionSize(int, int)}); defaults to PNG depictions with a maximum width of {@link
+     * ReportDepictionUtils#DEFAULT_MAXIMUM_DEPICTION_WIDTH} pixels. The settings apply to the reports initialized
+     * afterwards.
+     *
+     * @param aDepictionFormat       image format of the depictions
+     * @param aMaximumDepictionWidth maximum width of the depictions in pixels
+     * @throws NullPointerException if the given format is null
+     * @throws IllegalArgumentException if the given maximum width is less than one
+     */
+    public synchronized void setDepictionSettings(DepictionFormats aDepictionFormat, int aMaximumDepictionWidth)
+            throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(aDepictionFormat, "The given depiction format (aDepictionFormat) is null.");
+        if (aMaximumDepictionWidth < 1) {
+            throw new IllegalArgumentException("The maximum depiction width (aMaximumDepictionWidth) needs to be at" +
+                    " least one.");
+        }
+        this.depictionFormat = aDepictionFormat;
+        this.maximumDepictionWidth = aMaximumDepictionWidth;
+    }
+
+    /**
+     * Returns the path of the directory of the last created report or null, if no report has been created yet; the
+     * index page of the report is named {@value #INDEX_FILE_NAME}.
+     *
+     * @return Path instance or null
+     */
+    public synchronized Path getLastReportDirectoryPath() {
+        return this.lastReportDirectoryPath;
+    }
+
+    /**
+     * Returns the number of entries written to the current report so far; appended entries still waiting to be
+     * written are not counted yet.
+     *
+     * @return long value
+     */
+    public long getErrorCount() {
+        return this.errorCount;
+    }
+
+    /**
+     * Returns the number of detail pages of the current report holding the entries written so far.
+     *
+     * @return integer value
+     */
+    public int getPageCount() {
+        return this.pageCount;
+    }
+
+    /**
+     * Returns the number of worker threads rendering the depictions of the reports.
+     *
+     * @return integer value
+     */
+    public synchronized int getDepictionThreadCount() {
+        return this.depictionThreadCount;
+    }
+
+    /**
+     * Sets the number of worker threads rendering the depictions of the reports; defaults to the number of available
+     * processors. The number applies to the reports initialized afterwards.
+     *
+     * @param aDepictionThreadCount number of worker threads
+     * @throws IllegalArgumentException if the given value is less than one
+     */
+    public synchronized void setDepictionThreadCount(int aDepictionThreadCount) throws IllegalArgumentException {
+        if (aDepictionThreadCount < 1) {
+            throw new IllegalArgumentException("The depiction thread count (aDepictionThreadCount) needs to be at"
+                    + " least one.");
+        }
+        this.depictionThreadCount = aDepictionThreadCount;
+    }
+
+    /**
+     * Returns the timeout in milliseconds of the waiting for a single depiction.
+     *
+     * @return long value
+     */
+    public synchronized long getDepictionTimeoutMillis() {
+        return this.depictionTimeoutMillis;
+    }
+
+    /**
+     * Sets the timeout in milliseconds of the waiting for a single depiction, counted from the moment its entry is due
+     * to be written; entries whose depiction exceeds it are written with the error message image. Defaults to {@link
+     * MarkDownReporter#DEFAULT_DEPICTION_TIMEOUT_MILLIS}. The timeout applies to the reports initialized afterwards.
+     * <br>
+     * <b>Note:</b> As with the {@link MarkDownReporter}, the timeout only bounds the waiting, not the rendering; the
+     * worker of a timed out rendering is replaced by an additional thread until the rendering finished.
+     *
+     * @param aDepictionTimeoutMillis timeout in milliseconds
+     * @throws IllegalArgumentException if the given value is less than one
+     */
+    public synchronized void setDepictionTimeoutMillis(long aDepictionTimeoutMillis)
+            throws IllegalArgumentException {
+        if (aDepictionTimeoutMillis < 1) {
+            throw new IllegalArgumentException("The depiction timeout (aDepictionTimeoutMillis) needs to be at"
+                    + " least one millisecond.");
+        }
+        this.depictionTimeoutMillis = aDepictionTimeoutMillis;
+    }
+
+    /**
+     * Returns the maximum number of appended entries waiting for their depiction to be rendered and to be written in
+     * the reports initialized afterwards; one window of {@link MarkDownReporter#DEPICTION_WINDOW_SIZE_FACTOR} entries
+     * per depiction worker thread.
+     *
+     * @return integer value
+     */
+    public synchronized int getPendingEntriesCapacity() {
+        return this.depictionThreadCount * MarkDownReporter.DEPICTION_WINDOW_SIZE_FACTOR;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private methods" defaultstate="collapsed">
+    /**
+     * Opens the detail page of the given number and writes its header with the navigation links.
+     *
+     * @param aPageNumber number of the page
+     * @throws IOException if an IOException occurs creating or writing to the page file
+     */
+    private void openPage(int aPageNumber) throws IOException {
+        this.pageWriter = Files.newBufferedWriter(this.currentReportDirectoryPath.resolve(
+                PaginatedMarkDownReporter.getPageFileName(aPageNumber)), StandardCharsets.UTF_8);
+        this.pageCount = aPageNumber;
+        this.pageEntryCount = 0;
+        this.pageWriter.append("# ").append(PaginatedMarkDownReporter.REPORT_STRING_LITERALS.getString("HEADER"))
+                .append(" - Page ").append(String.valueOf(aPageNumber)).append("\n\n");
+        this.pageWriter.append("[Index](").append(PaginatedMarkDownReporter.INDEX_FILE_NAME).append(")");
+        if (aPageNumber > 1) {
+            this.pageWriter.append(" | [Previous page](").append(PaginatedMarkDownReporter.getPageFileName(
+                    aPageNumber - 1)).append(")");
+        }
+        this.pageWriter.append("\n\n");
+    }
+
+    /**
+     * Writes the entry of the given ReportDataObject with the given depiction to the current detail page (starting a
+     * new one if it is full) and counts the reported issue once the entry has been written; called by the writer
+     * thread of the entry writer.
+     *
+     * @param aReportDataObject the reported data to write the entry of
+     * @param aDepiction        the rendered depiction or null, if the structure is not available or could not be
+     *                          depicted
+     * @param aDepictionFormat  image format of the depiction
+     * @throws IOException if the entry could not be written
+     */
+    private void writeEntry(ReportDataObject aReportDataObject, RenderedDepiction aDepiction,
+                            DepictionFormats aDepictionFormat) throws IOException {
+        if (this.pageEntryCount == this.entriesPerPageOfReport) {
+            this.pageWriter.append("[Next page](").append(PaginatedMarkDownReporter.getPageFileName(
+                    this.pageCount + 1)).append(")\n");
+            this.pageWriter.close();
+            this.openPage(this.pageCount + 1);
+        }
+        String tmpImageFileName = aDepiction == null ? null : this.getImageFileName(aDepiction, aDepictionFormat);
+        MarkDownReporter.appendEntryFields(this.pageWriter, aReportDataObject);
+        if (tmpImageFileName != null) {
+            this.pageWriter.append(" * **Molecule Depiction:**\n");
+            this.pageWriter.append("![Molecule Depiction](").append(PaginatedMarkDownReporter.IMAGES_DIRECTORY_NAME)
+                    .append("/").append(tmpImageFileName).append(")\n");
+        } else {
+            this.pageWriter.append("* ![Error Message](").append(PaginatedMarkDownReporter.IMAGES_DIRECTORY_NAME)
+                    .append("/").append(this.getErrorMessageImageFileName()).append(")\n");
+        }
+        this.pageWriter.append("\n\n");
+        this.pageEntryCount++;
+        this.errorCount++;
+        long[] tmpCountAndFirstPage = this.errorCounts.computeIfAbsent(
+                String.valueOf(aReportDataObject.getProcessingStepIdentifier()),
+                aKey -> new EnumMap<>(ErrorCodes.class)
+        ).computeIfAbsent(aReportDataObject.getErrorCode(), aKey -> new long[]{0L, this.pageCount});
+        tmpCountAndFirstPage[0]++;
+    }
+
+    /**
+     * Returns the name of the image file of the given depiction in the images directory of the current report; the
+     * file is written if no file of a structure with the same canonical SMILES string has been written before. Returns
+     * null if the image file could not be written or the depiction holds no image data although no such file exists.
+     *
+     * @param aDepiction       the rendered depiction
+     * @param aDepictionFormat image format of the depiction
+     * @return name of the image file or null
+     */
+    private String getImageFileName(RenderedDepiction aDepiction, DepictionFormats aDepictionFormat) {
+        if (aDepiction.key != null) {
+            String tmpFileName = this.imageFileNames.get(aDepiction.key);
+            if (tmpFileName != null) {
+                return tmpFileName;
+            }
+        }
+        if (aDepiction.imageData == null) {
+            return null;
+        }
+        // named after the running number of the entry it is written for
+        String tmpFileName = "entry_" + (this.errorCount + 1) + this.getImageFileExtension(aDepictionFormat);
+        Path tmpImagePath = this.currentReportDirectoryPath.resolve(PaginatedMarkDownReporter.IMAGES_DIRECTORY_NAME)
+                .resolve(tmpFileName);
+        try {
+            Files.write(tmpImagePath, aDepiction.imageData);
+        } catch (IOException anIOException) {
+            PaginatedMarkDownReporter.LOGGER.log(Level.WARNING, anIOException.toString(), anIOException);
+            try {
+                Files.deleteIfExists(tmpImagePath);
+            } catch (IOException anotherIOException) {
+                // the incomplete image file is not referenced
+            }
+            return null;
+        }
+        if (aDepiction.key != null
+                && this.imageFileNames.size() < PaginatedMarkDownReporter.MAXIMUM_SHARED_IMAGE_FILES_COUNT) {
+            this.imageFileNames.put(aDepiction.key, tmpFileName);
+        }
+        return tmpFileName;
+    }
+
+    /**
+     * Returns the name of the error message image file of the current report, writing the file on the first call.
+     *
+     * @return name of the image file
+     * @throws IOException if an IOException occurs writing the image file
+     */
+    private String getErrorMessageImageFileName() throws IOException {
+        String tmpFileName = PaginatedMarkDownReporter.ERROR_MESSAGE_IMAGE_NAME
+                + this.getImageFileExtension(DepictionFormats.PNG);
+        if (!this.isErrorMessageImageWritten) {
+            Files.write(this.currentReportDirectoryPath.resolve(PaginatedMarkDownReporter.IMAGES_DIRECTORY_NAME)
+                    .resolve(tmpFileName), Base64.getDecoder().decode(ReportDepictionUtils.getErrorMessageImage()));
+            this.isErrorMessageImageWritten = true;
+        }
+        return tmpFileName;
+    }
+
+    /**
+     * Closes the last detail page, writes the index page and clears the reporter afterwards, keeping the report
+     * files.
+     *
+     * @param anEndedWithFatalException whether the reported processing ended with a fatal exception
+     * @throws IOException if an IOException occurs writing the report files
+     */
+    private void finishReport(boolean anEndedWithFatalException) throws IOException {
+        if (this.entryWriter == null) {
+            this.initializeNewReport();
+        }
+        try {
+            this.entryWriter.finish();
+            IOException tmpFailure = this.entryWriter.getFailureAsIOException();
+            this.entryWriter = null;
+            if (tmpFailure != null) {
+                if (!anEndedWithFatalException) {
+                    throw tmpFailure;
+                }
+                PaginatedMarkDownReporter.LOGGER.log(Level.WARNING, "Entries of the report could not be written: "
+                        + tmpFailure, tmpFailure);
+            }
+            this.pageWriter.close();
+            this.pageWriter = null;
+            try (Writer tmpWriter = Files.newBufferedWriter(this.currentReportDirectoryPath.resolve(
+                    PaginatedMarkDownReporter.INDEX_FILE_NAME), StandardCharsets.UTF_8)) {
+                this.writeIndex(tmpWriter, anEndedWithFatalException);
+            }
+            this.lastReportDirectoryPath = this.currentReportDirectoryPath;
+            // the finished report is not deleted on clearing
+            this.currentReportDirectoryPath = null;
+        } finally {
+            this.clear();
+        }
+    }
+
+    /**
+     * Writes the index page with the header, the numbers of reported issues per processing step identifier, error
+     * code and combination of both and the list of detail pages to the given writer.
+     *
+     * @param aWriter                   the writer to write to
+     * @param anEndedWithFatalException whether the reported processing ended with a fatal exception
+     * @throws IOException if an IOException occurs writing to the writer
+     */
+    private void writeIndex(Writer aWriter, boolean anEndedWithFatalException) throws IOException {
+        ResourceBundle tmpLiterals = PaginatedMarkDownReporter.REPORT_STRING_LITERALS;
+        aWriter.append("# ").append(tmpLiterals.getString("HEADER")).append("\n");
+        aWriter.append(tmpLiterals.getString("TIMESTAMPOFREPORTGENERATION"))
+                .append(MarkDownReporter.getCurrentTimeStamp()).append("\n\n");
+        if (anEndedWithFatalException) {
+            aWriter.append("**").append(tmpLiterals.getString("FATALEXCEPTION")).append("**\n\n");
+        }
+        aWriter.append(tmpLiterals.getString("NUMBEROFERRORS")).append(String.valueOf(this.errorCount))
+                .append("\n\n");
+        if (!this.errorCounts.isEmpty()) {
+            Map<ErrorCodes, Long> tmpCountsPerErrorCode = new EnumMap<>(ErrorCodes.class);
+            aWriter.append("| Processing Step ID | Count |\n");
+            aWriter.append("| --- | --- |\n");
+            for (Map.Entry<String, Map<ErrorCodes, long[]>> tmpStepEntry : this.errorCounts.entrySet()) {
+                long tmpStepCount = 0;
+                for (Map.Entry<ErrorCodes, long[]> tmpCodeEntry : tmpStepEntry.getValue().entrySet()) {
+                    tmpStepCount += tmpCodeEntry.getValue()[0];
+                    tmpCountsPerErrorCode.merge(tmpCodeEntry.getKey(), tmpCodeEntry.getValue()[0], Long::sum);
+                }
+                aWriter.append("| ").append(tmpStepEntry.getKey()).append(" | ")
+                        .append(String.valueOf(tmpStepCount)).append(" |\n");
+            }
+            aWriter.append("\n| Error Code | Count |\n");
+            aWriter.append("| --- | --- |\n");
+            for (Map.Entry<ErrorCodes, Long> tmpCodeEntry : tmpCountsPerErrorCode.entrySet()) {
+                aWriter.append("| ").append(String.valueOf(tmpCodeEntry.getKey())).append(" | ")
+                        .append(String.valueOf(tmpCodeEntry.getValue())).append(" |\n");
+            }
+            aWriter.append("\n").append(tmpLiterals.getString("SUMMARY")).append("\n\n");
+            aWriter.append("| Processing Step ID | Error Code | Count | First Entry |\n");
+            aWriter.append("| --- | --- | --- | --- |\n");
+            for (Map.Entry<String, Map<ErrorCodes, long[]>> tmpStepEntry : this.errorCounts.entrySet()) {
+                for (Map.Entry<ErrorCodes, long[]> tmpCodeEntry : tmpStepEntry.getValue().entrySet()) {
+                    int tmpFirstPage = (int) tmpCodeEntry.getValue()[1];
+                    aWriter.append("| ").append(tmpStepEntry.getKey()).append(" | ")
+                            .append(String.valueOf(tmpCodeEntry.getKey())).append(" | ")
+                            .append(String.valueOf(tmpCodeEntry.getValue()[0])).append(" | [Page ")
+                            .append(String.valueOf(tmpFirstPage)).append("](")
+                            .append(PaginatedMarkDownReporter.getPageFileName(tmpFirstPage)).append(") |\n");
+                }
+            }
+            aWriter.append("\n");
+        }
+        aWriter.append("## ").append(tmpLiterals.getString("DETAILSINAPPENDORDER")).append("\n\n");
+        aWriter.append("| Page | Entries |\n");
+        aWriter.append("| --- | --- |\n");
+        for (int i = 1; i <= this.pageCount; i++) {
+            long tmpFirstEntry = (long) (i - 1) * this.entriesPerPageOfReport + 1;
+            long tmpLastEntry = Math.min((long) i * this.entriesPerPageOfReport, this.errorCount);
+            aWriter.append("| [Page ").append(String.valueOf(i)).append("](")
+                    .append(PaginatedMarkDownReporter.getPageFileName(i)).append(") | ");
+            if (tmpFirstEntry <= tmpLastEntry) {
+                aWriter.append(String.valueOf(tmpFirstEntry)).append(" - ").append(String.valueOf(tmpLastEntry));
+            } else {
+                aWriter.append("-");
+            }
+            aWriter.append(" |\n");
+        }
+    }
+
+    /**
+     * Returns the file extension of the image files of the given format.
+     *
+     * @param aDepictionFormat the image format
+     * @return file extension including the leading dot
+     */
+    private String getImageFileExtension(DepictionFormats aDepictionFormat) {
+        return aDepictionFormat == DepictionFormats.SVG ? ".svg" : ".png";
+    }
+
+    /**
+     * Returns the file name of the detail page of the given number.
+     *
+     * @param aPageNumber number of the page
+     * @return file name
+     */
+    private static String getPageFileName(int aPageNumber) {
+        return "page_" + aPageNumber + ".md";
+    }
+
+    /**
+     * Renders the depiction of the structure of the given ReportDataObject as image data; if an image file of a
+     * structure with the same canonical SMILES string has already been written, no image data is rendered. Returns
+     * null if the structure is not available or could not be depicted. Called by the depiction worker threads.
+     *
+     * @param aReportDataObject      the reported data to depict the structure of
+     * @param aDepictionFormat       image format of the depiction
+     * @param aMaximumDepictionWidth maximum width of the depiction in pixels
+     * @param anImageFileNames       names of the image files written so far with the canonical SMILES strings of the
+     *                               depicted structures as keys
+     * @return RenderedDepiction instance or null
+     */
+    private static RenderedDepiction renderDepiction(ReportDataObject aReportDataObject,
+                                                     DepictionFormats aDepictionFormat, int aMaximumDepictionWidth,
+                                                     Map<String, String> anImageFileNames) {
+        try {
+            IAtomContainer tmpAtomContainer = MarkDownReporter.getAtomContainerToDepict(aReportDataObject);
+            if (tmpAtomContainer == null) {
+                return null;
+            }
+            String tmpKey = DepictionCache.getKey(tmpAtomContainer);
+            if (tmpKey != null && anImageFileNames.containsKey(tmpKey)) {
+                return new RenderedDepiction(tmpKey, null);
+            }
+            ByteArrayOutputStream tmpOutputStream = new ByteArrayOutputStream();
+            ReportDepictionUtils.writeDepiction(tmpAtomContainer, aDepictionFormat, aMaximumDepictionWidth,
+                    tmpOutputStream);
+            return new RenderedDepiction(tmpKey, tmpOutputStream.toByteArray());
+        } catch (Exception anException) {
+            PaginatedMarkDownReporter.LOGGER.log(Level.WARNING, anException.toString(), anException);
+            return null;
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="RenderedDepiction" defaultstate="collapsed">
+    /**
+     * Depiction of a reported structure together with the canonical SMILES string of the structure, which identifies
+     * the entries sharing the image file of the depiction.
+     */
+    private static final class RenderedDepiction {
+
+        /**
+         * Canonical SMILES string of the depicted structure; null if it could not be generated.
+         */
+        private final String key;
+
+        /**
+         * Image data of the depiction; null if the image file of the structure had already been written when the
+         * depiction was rendered.
+         */
+        private final byte[] imageData;
+
+        /**
+         * Constructor.
+         *
+         * @param aKey        canonical SMILES string of the depicted structure or null
+         * @param anImageData image data of the depiction or null
+         */
+        private RenderedDepiction(String aKey, byte[] anImageData) {
+            this.key = aKey;
+            this.imageData = anImageData;
+        }
+
+    }
+    //</editor-fold>
+
+}
@@ -27,7 +27,10 @@ package de.unijena.cheminf.curation.reporter;
 
 import de.unijena.cheminf.curation.enums.ErrorCodes;
 import de.unijena.cheminf.curation.processingSteps.IProcessingStep;
+import org.openscience.cdk.exception.CDKException;
 import org.openscience.cdk.interfaces.IAtomContainer;
+import org.openscience.cdk.smiles.SmiFlavor;
+import org.openscience.cdk.smiles.SmilesGenerator;
 
 import java.util.Objects;
 
@@ -51,6 +54,14 @@ public class ReportDataObject {
     };
     //</editor-fold>
 
+    //<editor-fold desc="private static final class constants" defaultstate="collapsed">
+    /**
+     * SMILES generator creating the SMILES strings of snapshots; reused per thread.
+     */
+    private static final ThreadLocal<SmilesGenerator> SMILES_GENERATOR = ThreadLocal.withInitial(
+            () -> new SmilesGenerator(SmiFlavor.Absolute));
+    //</editor-fold>
+
     //<editor-fold desc="private variables" defaultstate="collapsed">
     /**
      * Atom container of the structure the report refers to.
@@ -72,6 +83,21 @@ public class ReportDataObject {
      * processing step has no ID (as it might be the case if it is not part of a pipeline).
      */
     private String processingStepIdentifier = null;
+
+    /**
+     * Whether the report data object is a snapshot not holding the atom container (see {@link #toSnapshot(boolean)}).
+     */
+    private boolean isSnapshot = false;
+
+    /**
+     * Absolute SMILES string of the structure captured by a snapshot, or null.
+     */
+    private String smiles = null;
+
+    /**
+     * Indices of the atoms the reported issue refers to, or null.
+     */
+    private int[] affectedAtomIndices = null;
     //</editor-fold>
 
     //<editor-fold desc="private final variables" defaultstate="collapsed">
@@ -317,13 +343,86 @@ public class ReportDataObject {
         this.identifier = anIdentifier;
     }
     //</editor-fold>
+
+    //<editor-fold desc="ReportDataObject(ReportDataObject, boolean)" defaultstate="collapsed">
+    /**
+     * Private constructor; initializes the report data object as snapshot of the given report data object (see {@link
+     * #toSnapshot(boolean)}).
+     *
+     * @param aReportDataObject the report data object to take a snapshot of
+     * @param aCapturingSmiles  whether to capture the SMILES string of the structure
+     */
+    private ReportDataObject(ReportDataObject aReportDataObject, boolean aCapturingSmiles) {
+        this.errorCode = aReportDataObject.errorCode;
+        this.classOfProcessingStep = aReportDataObject.classOfProcessingStep;
+        this.processingStepIdentifier = aReportDataObject.processingStepIdentifier;
+        this.identifier = aReportDataObject.identifier;
+        this.externalIdentifier = aReportDataObject.externalIdentifier;
+        this.affectedAtomIndices = aReportDataObject.getAffectedAtomIndices();
+        this.smiles = aCapturingSmiles ? aReportDataObject.getSmiles() : null;
+        this.isSnapshot = true;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="ReportDataObject(ErrorCodes, Class, String, String, String, String, int[])" defaultstate="collapsed">
+    /**
+     * Package-private constructor; initializes the report data object as snapshot holding the given data, e.g. to
+     * restore a snapshot that has been written to a file. The given data is not validated.
+     *
+     * @param anErrorCode               error code of the reported problem
+     * @param aClassOfProcessingStep    runtime class of the processing step the problem occurred in
+     * @param aProcessingStepIdentifier identifier of the processing step (may be null)
+     * @param anIdentifier              identifier string of the structure (may be null)
+     * @param anExternalIdentifier      external identifier string of the structure (may be null)
+     * @param aSmiles                   absolute SMILES string of the structure (may be null)
+     * @param anAffectedAtomIndices     indices of the affected atoms (may be null)
+     */
+    ReportDataObject(
+            ErrorCodes anErrorCode,
+            Class<? extends IProcessingStep> aClassOfProcessingStep,
+            String aProcessingStepIdentifier,
+            String anIdentifier,
+            String anExternalIdentifier,
+            String aSmiles,
+            int[] anAffectedAtomIndices
+    ) {
+        this.errorCode = anErrorCode;
+        this.classOfProcessingStep = aClassOfProcessingStep;
+        this.processingStepIdentifier = aProcessingStepIdentifier;
+        this.identifier = anIdentifier;
+        this.externalIdentifier = anExternalIdentifier;
+        this.smiles = aSmiles;
+        this.affectedAtomIndices = anAffectedAtomIndices;
+        this.isSnapshot = true;
+    }
+    //</editor-fold>
+    //</editor-fold>
+
+    //<editor-fold desc="public methods" defaultstate="collapsed">
+    /**
+     * Returns a compact snapshot of the report data object that does not hold the atom container but only the
+     * identifiers, the error code, the indices of the affected atoms and optionally the absolute SMILES string of the
+     * structure, captured at the time of the call. Reporters keeping the reported data in memory may store snapshots
+     * instead of the original report data objects, so that the reported structures may be garbage collected before
+     * the report is generated. A snapshot of a snapshot is the snapshot itself, if it holds the requested data.
+     *
+     * @param aCapturingSmiles whether to capture the SMILES string of the structure
+     * @return snapshot report data object
+     */
+    public ReportDataObject toSnapshot(boolean aCapturingSmiles) {
+        if (this.isSnapshot && (this.smiles != null || !aCapturingSmiles)) {
+            return this;
+        }
+        return new ReportDataObject(this, aCapturingSmiles);
+    }
     //</editor-fold>
 
     //<editor-fold desc="public properties" defaultstate="collapsed">
     /**
-     * Returns the atom container of the structure the report refers to.
+     * Returns the atom container of the structure the report refers to; snapshots do not hold the atom container and
+     * return null.
      *
-     * @return atom container
+     * @return atom container or null
      */
     public IAtomContainer getAtomContainer() {
         return this.atomContainer;
@@ -374,6 +473,54 @@ public class ReportDataObject {
     public ErrorCodes getErrorCode() {
         return this.errorCode;
     }
+
+    /**
+     * Returns whether the report data object is a snapshot not holding the atom container (see {@link
+     * #toSnapshot(boolean)}).
+     *
+     * @return boolean value
+     */
+    public boolean isSnapshot() {
+        return this.isSnapshot;
+    }
+
+    /**
+     * Returns the absolute SMILES string of the structure the report refers to; snapshots return the captured SMILES
+     * string. Null is returned if there is no atom container, no SMILES string has been captured or it could not be
+     * generated.
+     *
+     * @return SMILES string or null
+     */
+    public String getSmiles() {
+        if (this.isSnapshot || this.atomContainer == null) {
+            return this.smiles;
+        }
+        try {
+            return ReportDataObject.SMILES_GENERATOR.get().create(this.atomContainer);
+        } catch (CDKException | RuntimeException anException) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the indices of the atoms the reported issue refers to as set via {@link #setAffectedAtomIndices(int[])};
+     * snapshots return the indices captured. If no indices have been set, null is returned.
+     *
+     * @return copy of the array of atom indices or null
+     */
+    public int[] getAffectedAtomIndices() {
+        return this.affectedAtomIndices == null ? null : this.affectedAtomIndices.clone();
+    }
+
+    /**
+     * Sets the indices of the atoms the reported issue refers to, e.g. to be listed in the report. The given array is
+     * copied.
+     *
+     * @param anAffectedAtomIndices array of atom indices or null to unset them
+     */
+    public void setAffectedAtomIndices(int[] anAffectedAtomIndices) {
+        this.affectedAtomIndices = anAffectedAtomIndices == null ? null : anAffectedAtomIndices.clone();
+    }
     //</editor-fold>
 
 }
@@ -25,6 +25,8 @@
 
 package de.unijena.cheminf.curation.reporter;
 
+import de.unijena.cheminf.curation.enums.DepictionFormats;
+import org.openscience.cdk.depict.Depiction;
 import org.openscience.cdk.depict.DepictionGenerator;
 import org.openscience.cdk.exception.CDKException;
 import org.openscience.cdk.interfaces.IAtomContainer;
@@ -34,7 +36,11 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Objects;
 
 /**
  * Utility class to create a depiction of the molecules that caused an error in the pipeline as a base64 string
@@ -45,6 +51,52 @@ import java.util.Base64;
  */
 public class ReportDepictionUtils {
 
+    /**
+     * Default value of the maximum width of depictions in pixels.
+     */
+    public static final int DEFAULT_MAXIMUM_DEPICTION_WIDTH = 1000;
+
+    /**
+     * Width in pixels per atom of the depicted molecule, as long as the maximum width is not reached.
+     */
+    public static final int WIDTH_PER_ATOM = 50;
+
+    /**
+     * Height in pixels per atom of the depicted molecule, as long as the maximum width is not reached.
+     */
+    public static final int HEIGHT_PER_ATOM = 30;
+
+    /**
+     * Depiction generator with the settings shared by all depictions, reused per thread; the generator is immutable,
+     * the size is set via {@link DepictionGenerator#withSize(double, double)} on a copy of it.
+     */
+    private static final ThreadLocal<DepictionGenerator> DEPICTION_GENERATOR = ThreadLocal.withInitial(
+            () -> new DepictionGenerator().withAtomColors().withFillToFit());
+
+    /**
+     * Size in bytes up to which the buffer of the output stream the PNG images are encoded to is kept for reuse by the
+     * thread; the buffer only grows, so a single large image would otherwise hold its memory for the lifetime of the
+     * thread.
+     */
+    private static final int MAXIMUM_REUSED_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Output stream the PNG images are encoded to, reused per thread as long as it did not grow beyond {@link
+     * #MAXIMUM_REUSED_BUFFER_SIZE} bytes.
+     */
+    private static final ThreadLocal<ByteArrayOutputStream> OUTPUT_STREAM = ThreadLocal.withInitial(
+            ByteArrayOutputStream::new);
+
+    /**
+     * Holder of the error message image, which is created once on first use.
+     */
+    private static final class ErrorMessageImageHolder {
+        /**
+         * Base64 string of the error message image.
+         */
+        private static final String ERROR_MESSAGE_IMAGE_BASE64 = ReportDepictionUtils.createErrorMessageImage();
+    }
+
     /**
      * Creates a base64 String from a depiction of the molecule in the AtomContainer.
      *
@@ -53,25 +105,101 @@ public class ReportDepictionUtils {
      * @throws IOException If an error occurs while creating the depiction as base64 String
      */
     public static String getDepictionAsString(IAtomContainer anAtomContainer) throws IOException, CDKException {
-            int tmpNumAtoms = anAtomContainer.getAtomCount();
-            int tmpWidth = tmpNumAtoms * 50;
-            int tmpHeight = tmpNumAtoms * 30;
-            DepictionGenerator tmpDepictionGenerator = new DepictionGenerator().withAtomColors().withSize(tmpWidth, tmpHeight)
-                    .withFillToFit();
-            BufferedImage tmpImage = tmpDepictionGenerator.depict(anAtomContainer).toImg();
-            ByteArrayOutputStream tmpOutputStream = new ByteArrayOutputStream();
-            ImageIO.write(tmpImage, "png", tmpOutputStream);
-            byte[] tmpImageBytesArray = tmpOutputStream.toByteArray();
-            String tmpBase64ImageString = Base64.getEncoder().encodeToString(tmpImageBytesArray);
-            return tmpBase64ImageString;
+        return ReportDepictionUtils.getDepictionAsString(anAtomContainer, DepictionFormats.PNG,
+                ReportDepictionUtils.DEFAULT_MAXIMUM_DEPICTION_WIDTH);
+    }
+
+    /**
+     * Creates a base64 String from a depiction of the molecule in the AtomContainer in the given format. The size of
+     * the depiction grows with the atom count of the molecule ({@link #WIDTH_PER_ATOM} x {@link #HEIGHT_PER_ATOM}
+     * pixels per atom) until the given maximum width is reached; larger molecules are scaled down to fit, preserving
+     * the aspect ratio. SVG depictions are not rasterized and thereby considerably cheaper to create than PNG ones.
+     *
+     * @param anAtomContainer from ReportDataObject to depict for the report
+     * @param aFormat image format of the depiction
+     * @param aMaximumWidth maximum width of the depiction in pixels
+     * @return base64String of the depicted AtomContainer
+     * @throws NullPointerException if the given format is null
+     * @throws IllegalArgumentException if the given maximum width is less than one
+     * @throws IOException If an error occurs while creating the depiction as base64 String
+     */
+    public static String getDepictionAsString(IAtomContainer anAtomContainer, DepictionFormats aFormat,
+                                              int aMaximumWidth)
+            throws NullPointerException, IllegalArgumentException, IOException, CDKException {
+        Objects.requireNonNull(aFormat, "aFormat (instance of DepictionFormats) is null.");
+        Depiction tmpDepiction = ReportDepictionUtils.createDepiction(anAtomContainer, aMaximumWidth);
+        if (aFormat == DepictionFormats.SVG) {
+            return Base64.getEncoder().encodeToString(tmpDepiction.toSvgStr(Depiction.UNITS_PX)
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        return ReportDepictionUtils.convertImageToBase64(tmpDepiction.toImg());
+    }
+
+    /**
+     * Writes a depiction of the molecule in the AtomContainer in the given format to the given output stream, e.g.
+     * to store it as an image file of its own instead of embedding it as base64 string; the depiction is sized like
+     * by {@link #getDepictionAsString(IAtomContainer, DepictionFormats, int)}.
+     *
+     * @param anAtomContainer from ReportDataObject to depict for the report
+     * @param aFormat image format of the depiction
+     * @param aMaximumWidth maximum width of the depiction in pixels
+     * @param anOutputStream the stream to write the image data to
+     * @throws NullPointerException if the given format or output stream is null
+     * @throws IllegalArgumentException if the given maximum width is less than one
+     * @throws IOException If an error occurs while writing the depiction to the stream
+     */
+    public static void writeDepiction(IAtomContainer anAtomContainer, DepictionFormats aFormat, int aMaximumWidth,
+                                      OutputStream anOutputStream)
+            throws NullPointerException, IllegalArgumentException, IOException, CDKException {
+        Objects.requireNonNull(aFormat, "aFormat (instance of DepictionFormats) is null.");
+        Objects.requireNonNull(anOutputStream, "anOutputStream (instance of OutputStream) is null.");
+        Depiction tmpDepiction = ReportDepictionUtils.createDepiction(anAtomContainer, aMaximumWidth);
+        if (aFormat == DepictionFormats.SVG) {
+            anOutputStream.write(tmpDepiction.toSvgStr(Depiction.UNITS_PX).getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        ImageIO.write(tmpDepiction.toImg(), "png", anOutputStream);
+    }
+
+    /**
+     * Returns the width and height in pixels of the depiction of a molecule with the given atom count, capped at the
+     * given maximum width with the aspect ratio being preserved; the size is at least one pixel in each dimension.
+     *
+     * @param anAtomCount atom count of the molecule to depict
+     * @param aMaximumWidth maximum width of the depiction in pixels
+     * @return integer array of width and height
+     * @throws IllegalArgumentException if the given maximum width is less than one
+     */
+    public static int[] getDepictionSize(int anAtomCount, int aMaximumWidth) throws IllegalArgumentException {
+        if (aMaximumWidth < 1) {
+            throw new IllegalArgumentException("aMaximumWidth needs to be at least one.");
+        }
+        // long arithmetic prevents overflows for very large molecules
+        long tmpWidth = Math.max(1L, (long) anAtomCount * ReportDepictionUtils.WIDTH_PER_ATOM);
+        long tmpHeight = Math.max(1L, (long) anAtomCount * ReportDepictionUtils.HEIGHT_PER_ATOM);
+        if (tmpWidth > aMaximumWidth) {
+            tmpHeight = Math.max(1L, tmpHeight * aMaximumWidth / tmpWidth);
+            tmpWidth = aMaximumWidth;
+        }
+        return new int[]{(int) tmpWidth, (int) tmpHeight};
     }
 
     /**
      * Method to create an error message as image in case the given molecule could not be depicted
-     * to display where molecule would be displayed
+     * to display where molecule would be displayed; the image is created once and reused afterwards.
      * @return Error message as String.
      */
     public static String getErrorMessageImage() throws IOException {
+        return ErrorMessageImageHolder.ERROR_MESSAGE_IMAGE_BASE64;
+    }
+
+    /**
+     * Draws the error message image and encodes it as base64 string.
+     *
+     * @return Error message as String.
+     * @throws UncheckedIOException if the image could not be encoded
+     */
+    private static String createErrorMessageImage() throws UncheckedIOException {
         int width = 200;
         int height = 100;
         BufferedImage errorMessageImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
@@ -79,15 +207,47 @@ public class ReportDepictionUtils {
         g2d.setColor(Color.BLACK);
         g2d.drawString("Molecule could not be depicted", 10, 40);
         g2d.dispose();
-        String errorMessageBase64 = convertImageToBase64(errorMessageImage);
-        return errorMessageBase64;
-    }
-    private static String convertImageToBase64(BufferedImage image) throws IOException {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        ImageIO.write(image, "png", outputStream);
-        byte[] imageBytes = outputStream.toByteArray();
-        return Base64.getEncoder().encodeToString(imageBytes);
+        try {
+            return ReportDepictionUtils.convertImageToBase64(errorMessageImage);
+        } catch (IOException anIOException) {
+            throw new UncheckedIOException(anIOException);
+        }
     }
-}
 
+    /**
+     * Depicts the molecule in the AtomContainer with the size returned by {@link #getDepictionSize(int, int)}.
+     *
+     * @param anAtomContainer the molecule to depict
+     * @param aMaximumWidth maximum width of the depiction in pixels
+     * @return Depiction instance
+     * @throws IllegalArgumentException if the given maximum width is less than one
+     * @throws CDKException if the molecule could not be depicted
+     */
+    private static Depiction createDepiction(IAtomContainer anAtomContainer, int aMaximumWidth)
+            throws IllegalArgumentException, CDKException {
+        int[] tmpSize = ReportDepictionUtils.getDepictionSize(anAtomContainer.getAtomCount(), aMaximumWidth);
+        return ReportDepictionUtils.DEPICTION_GENERATOR.get().withSize(tmpSize[0], tmpSize[1])
+                .depict(anAtomContainer);
+    }
 
+    /**
+     * Encodes the given image as PNG and returns it as base64 string. The output stream of the thread is dropped
+     * afterwards if its buffer grew beyond {@link #MAXIMUM_REUSED_BUFFER_SIZE} bytes.
+     *
+     * @param anImage the image to encode
+     * @return base64 string of the PNG image
+     * @throws IOException if an error occurs while encoding the image
+     */
+    private static String convertImageToBase64(BufferedImage anImage) throws IOException {
+        ByteArrayOutputStream tmpOutputStream = ReportDepictionUtils.OUTPUT_STREAM.get();
+        tmpOutputStream.reset();
+        try {
+            ImageIO.write(anImage, "png", tmpOutputStream);
+            return Base64.getEncoder().encodeToString(tmpOutputStream.toByteArray());
+        } finally {
+            if (tmpOutputStream.size() > ReportDepictionUtils.MAXIMUM_REUSED_BUFFER_SIZE) {
+                ReportDepictionUtils.OUTPUT_STREAM.remove();
+            }
+        }
+    }
+}
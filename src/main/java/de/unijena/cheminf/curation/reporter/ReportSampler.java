@@ -0,0 +1,221 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ReportSamplingModes;
+import de.unijena.cheminf.curation.enums.ReportSnapshotModes;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+/**
+ * Draws the samples of the reported issues of one report according to a {@link ReportSamplingPolicy}; only the
+ * sampled ReportDataObjects are kept, the others are only counted.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+class ReportSampler {
+
+    //<editor-fold desc="Group" defaultstate="collapsed">
+    /**
+     * Sampling group; holds the number of reported issues and the sampled ReportDataObjects.
+     */
+    static class Group {
+        /**
+         * Number of reported issues of the group.
+         */
+        private long count = 0;
+
+        /**
+         * Sampled ReportDataObjects of the group.
+         */
+        private final List<ReportDataObject> sample = new ArrayList<>();
+
+        /**
+         * Returns the number of reported issues of the group.
+         *
+         * @return long value
+         */
+        long getCount() {
+            return this.count;
+        }
+
+        /**
+         * Returns the number of sampled ReportDataObjects of the group.
+         *
+         * @return integer value
+         */
+        int getSampleSize() {
+            return this.sample.size();
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * The policy defining the samples.
+     */
+    private final ReportSamplingPolicy policy;
+
+    /**
+     * Sampling groups per processing step identifier (or the empty string, if the policy is not stratified by step)
+     * and error code.
+     */
+    private final Map<String, Map<ErrorCodes, Group>> groups;
+    //</editor-fold>
+
+    //<editor-fold desc="private variables" defaultstate="collapsed">
+    /**
+     * Random number generator used for reservoir sampling.
+     */
+    private SplittableRandom random;
+
+    /**
+     * Total number of reported issues.
+     */
+    private long totalCount;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; copies the given policy, so that later changes of it do not affect the sampler.
+     *
+     * @param aPolicy the policy defining the samples
+     */
+    ReportSampler(ReportSamplingPolicy aPolicy) {
+        this.policy = new ReportSamplingPolicy(aPolicy);
+        this.groups = new TreeMap<>();
+        this.clear();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="package-private methods" defaultstate="collapsed">
+    /**
+     * Counts the given ReportDataObject and keeps it in the form defined by the given snapshot mode, if it is part of
+     * the sample of its group.
+     *
+     * @param aReportDataObject the ReportDataObject to offer
+     * @param aSnapshotMode     form in which the sampled ReportDataObjects are kept
+     */
+    void offer(ReportDataObject aReportDataObject, ReportSnapshotModes aSnapshotMode) {
+        this.totalCount++;
+        String tmpStepKey = this.policy.isStratifiedByStep()
+                ? String.valueOf(aReportDataObject.getProcessingStepIdentifier()) : "";
+        Group tmpGroup = this.groups.computeIfAbsent(tmpStepKey, aKey -> new EnumMap<>(ErrorCodes.class))
+                .computeIfAbsent(aReportDataObject.getErrorCode(), aKey -> new Group());
+        tmpGroup.count++;
+        ReportSamplingModes tmpMode = this.policy.getSamplingMode();
+        if (tmpMode == ReportSamplingModes.ALL) {
+            tmpGroup.sample.add(aSnapshotMode.apply(aReportDataObject));
+            return;
+        }
+        int tmpSampleSize = this.policy.getSampleSize(tmpStepKey, aReportDataObject.getErrorCode());
+        if (tmpGroup.sample.size() < tmpSampleSize) {
+            tmpGroup.sample.add(aSnapshotMode.apply(aReportDataObject));
+        } else if (tmpMode == ReportSamplingModes.RESERVOIR && tmpSampleSize > 0) {
+            // the n-th issue replaces a random sample element with probability sampleSize / n
+            long tmpIndex = this.random.nextLong(tmpGroup.count);
+            if (tmpIndex < tmpSampleSize) {
+                tmpGroup.sample.set((int) tmpIndex, aSnapshotMode.apply(aReportDataObject));
+            }
+        }
+    }
+
+    /**
+     * Returns the sampled ReportDataObjects of all groups.
+     *
+     * @return list of ReportDataObjects
+     */
+    List<ReportDataObject> getSampledReportDataObjects() {
+        List<ReportDataObject> tmpSampledReportDataObjects = new ArrayList<>();
+        for (Map<ErrorCodes, Group> tmpGroupsOfStep : this.groups.values()) {
+            for (Group tmpGroup : tmpGroupsOfStep.values()) {
+                tmpSampledReportDataObjects.addAll(tmpGroup.sample);
+            }
+        }
+        return tmpSampledReportDataObjects;
+    }
+
+    /**
+     * Returns the sampling groups per processing step identifier (or the empty string, if the policy is not
+     * stratified by step) and error code.
+     *
+     * @return map of the sampling groups
+     */
+    Map<String, Map<ErrorCodes, Group>> getGroups() {
+        return this.groups;
+    }
+
+    /**
+     * Returns the total number of reported issues.
+     *
+     * @return long value
+     */
+    long getTotalCount() {
+        return this.totalCount;
+    }
+
+    /**
+     * Returns whether issues have been omitted from the samples.
+     *
+     * @return boolean value
+     */
+    boolean hasOmittedIssues() {
+        for (Map<ErrorCodes, Group> tmpGroupsOfStep : this.groups.values()) {
+            for (Group tmpGroup : tmpGroupsOfStep.values()) {
+                if (tmpGroup.count > tmpGroup.sample.size()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the policy defining the samples; the sampler's own copy, which must not be changed.
+     *
+     * @return ReportSamplingPolicy instance
+     */
+    ReportSamplingPolicy getPolicy() {
+        return this.policy;
+    }
+
+    /**
+     * Discards all samples and counts and resets the random number generator.
+     */
+    void clear() {
+        this.groups.clear();
+        this.totalCount = 0;
+        this.random = new SplittableRandom(this.policy.getSeed());
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,263 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ReportSamplingModes;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Policy defining which of the reported issues are rendered in detail (with depiction) in a report; the other issues
+ * are only counted, which cuts the cost of reports with many issues of the same kind. The reported issues are grouped
+ * by their error code and, if the policy is stratified by step, additionally by their processing step identifier; of
+ * each group, a sample of the configured size (that may be set per error code and per processing step) is drawn
+ * according to the {@link ReportSamplingModes sampling mode}.
+ * <br>
+ * A reporter copies the policy when it is set, so changing the policy afterwards does not affect the reporter.
+ * Sampling is supported by the {@link MarkDownReporter} only; the {@link StreamingMarkDownReporter} and the {@link
+ * PaginatedMarkDownReporter} write each entry as soon as it has been appended and thereby cannot hold back a sample
+ * that may still change (see {@link ReportSamplingModes#RESERVOIR}); they render all entries and bound their memory
+ * usage instead.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see MarkDownReporter#setSamplingPolicy(ReportSamplingPolicy)
+ */
+public class ReportSamplingPolicy {
+
+    //<editor-fold desc="public static final constants" defaultstate="collapsed">
+    /**
+     * Default seed of the random number generator used for reservoir sampling.
+     */
+    public static final long DEFAULT_SEED = 42L;
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * Mode defining how the samples are drawn.
+     */
+    private final ReportSamplingModes samplingMode;
+
+    /**
+     * Sample size of the groups of error codes without specific sample size.
+     */
+    private final int defaultSampleSize;
+
+    /**
+     * Whether the reported issues are grouped by processing step identifier in addition to the error code.
+     */
+    private final boolean isStratifiedByStep;
+
+    /**
+     * Specific sample sizes per error code.
+     */
+    private final Map<ErrorCodes, Integer> sampleSizesPerErrorCode;
+
+    /**
+     * Specific sample sizes per processing step identifier.
+     */
+    private final Map<String, Integer> sampleSizesPerStep;
+    //</editor-fold>
+
+    //<editor-fold desc="private variables" defaultstate="collapsed">
+    /**
+     * Seed of the random number generator used for reservoir sampling.
+     */
+    private long seed = ReportSamplingPolicy.DEFAULT_SEED;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor.
+     *
+     * @param aSamplingMode        mode defining how the samples are drawn
+     * @param aDefaultSampleSize   sample size of each group (ignored with {@link ReportSamplingModes#ALL}); zero
+     *                             means that the issues are only counted
+     * @param anIsStratifiedByStep whether the reported issues are grouped by processing step identifier in addition
+     *                             to the error code
+     * @throws NullPointerException     if the given sampling mode is null
+     * @throws IllegalArgumentException if the given sample size is negative
+     */
+    public ReportSamplingPolicy(ReportSamplingModes aSamplingMode, int aDefaultSampleSize,
+                                boolean anIsStratifiedByStep) throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(aSamplingMode, "The given sampling mode (aSamplingMode) is null.");
+        if (aDefaultSampleSize < 0) {
+            throw new IllegalArgumentException("The given sample size (aDefaultSampleSize) is negative.");
+        }
+        this.samplingMode = aSamplingMode;
+        this.defaultSampleSize = aDefaultSampleSize;
+        this.isStratifiedByStep = anIsStratifiedByStep;
+        this.sampleSizesPerErrorCode = new EnumMap<>(ErrorCodes.class);
+        this.sampleSizesPerStep = new HashMap<>();
+    }
+
+    /**
+     * Copy constructor; the copy is independent of the given policy.
+     *
+     * @param aPolicy the policy to copy
+     * @throws NullPointerException if the given policy is null
+     */
+    public ReportSamplingPolicy(ReportSamplingPolicy aPolicy) throws NullPointerException {
+        Objects.requireNonNull(aPolicy, "The given policy (aPolicy) is null.");
+        this.samplingMode = aPolicy.samplingMode;
+        this.defaultSampleSize = aPolicy.defaultSampleSize;
+        this.isStratifiedByStep = aPolicy.isStratifiedByStep;
+        this.sampleSizesPerErrorCode = new EnumMap<>(aPolicy.sampleSizesPerErrorCode);
+        this.sampleSizesPerStep = new HashMap<>(aPolicy.sampleSizesPerStep);
+        this.seed = aPolicy.seed;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public properties" defaultstate="collapsed">
+    /**
+     * Returns the mode defining how the samples are drawn.
+     *
+     * @return ReportSamplingModes constant
+     */
+    public ReportSamplingModes getSamplingMode() {
+        return this.samplingMode;
+    }
+
+    /**
+     * Returns the sample size of the groups of error codes without specific sample size.
+     *
+     * @return integer value
+     */
+    public int getDefaultSampleSize() {
+        return this.defaultSampleSize;
+    }
+
+    /**
+     * Returns whether the reported issues are grouped by processing step identifier in addition to the error code.
+     *
+     * @return boolean value
+     */
+    public boolean isStratifiedByStep() {
+        return this.isStratifiedByStep;
+    }
+
+    /**
+     * Returns the sample size of the groups of the given error code.
+     *
+     * @param anErrorCode the error code
+     * @return integer value
+     */
+    public int getSampleSize(ErrorCodes anErrorCode) {
+        return this.sampleSizesPerErrorCode.getOrDefault(anErrorCode, this.defaultSampleSize);
+    }
+
+    /**
+     * Returns the sample size of the group of the given processing step identifier and error code; if specific sample
+     * sizes are set for both the error code and the processing step, the smaller one applies. The sample size of the
+     * processing step is only taken into account if the policy is stratified by step.
+     *
+     * @param aProcessingStepIdentifier the processing step identifier
+     * @param anErrorCode               the error code
+     * @return integer value
+     */
+    public int getSampleSize(String aProcessingStepIdentifier, ErrorCodes anErrorCode) {
+        Integer tmpSampleSizeOfStep = this.isStratifiedByStep ? this.sampleSizesPerStep.get(aProcessingStepIdentifier)
+                : null;
+        Integer tmpSampleSizeOfErrorCode = this.sampleSizesPerErrorCode.get(anErrorCode);
+        if (tmpSampleSizeOfStep == null) {
+            return tmpSampleSizeOfErrorCode == null ? this.defaultSampleSize : tmpSampleSizeOfErrorCode;
+        }
+        return tmpSampleSizeOfErrorCode == null ? tmpSampleSizeOfStep
+                : Math.min(tmpSampleSizeOfStep, tmpSampleSizeOfErrorCode);
+    }
+
+    /**
+     * Returns the specific sample size of the groups of the given processing step identifier or null, if none is set.
+     *
+     * @param aProcessingStepIdentifier the processing step identifier
+     * @return Integer instance or null
+     */
+    public Integer getSampleSizeOfStep(String aProcessingStepIdentifier) {
+        return this.sampleSizesPerStep.get(aProcessingStepIdentifier);
+    }
+
+    /**
+     * Sets a specific sample size for the groups of the given processing step identifier, e.g. to render fewer
+     * examples of a step reporting many issues; applies to each error code of the step. Only taken into account if
+     * the policy is stratified by step, since the groups do not distinguish the processing steps otherwise.
+     *
+     * @param aProcessingStepIdentifier the processing step identifier
+     * @param aSampleSize               sample size of the groups of the processing step
+     * @throws NullPointerException     if the given processing step identifier is null
+     * @throws IllegalArgumentException if the given sample size is negative
+     */
+    public void setSampleSizeOfStep(String aProcessingStepIdentifier, int aSampleSize) throws NullPointerException,
+            IllegalArgumentException {
+        Objects.requireNonNull(aProcessingStepIdentifier, "The given processing step identifier" +
+                " (aProcessingStepIdentifier) is null.");
+        if (aSampleSize < 0) {
+            throw new IllegalArgumentException("The given sample size (aSampleSize) is negative.");
+        }
+        this.sampleSizesPerStep.put(aProcessingStepIdentifier, aSampleSize);
+    }
+
+    /**
+     * Sets a specific sample size for the groups of the given error code, e.g. to render more examples of rare
+     * issues than of frequent ones.
+     *
+     * @param anErrorCode the error code
+     * @param aSampleSize sample size of the groups of the error code
+     * @throws NullPointerException     if the given error code is null
+     * @throws IllegalArgumentException if the given sample size is negative
+     */
+    public void setSampleSize(ErrorCodes anErrorCode, int aSampleSize) throws NullPointerException,
+            IllegalArgumentException {
+        Objects.requireNonNull(anErrorCode, "The given error code (anErrorCode) is null.");
+        if (aSampleSize < 0) {
+            throw new IllegalArgumentException("The given sample size (aSampleSize) is negative.");
+        }
+        this.sampleSizesPerErrorCode.put(anErrorCode, aSampleSize);
+    }
+
+    /**
+     * Returns the seed of the random number generator used for reservoir sampling.
+     *
+     * @return long value
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Sets the seed of the random number generator used for reservoir sampling; a sequentially appended sequence of
+     * issues is always sampled the same way. Defaults to {@link #DEFAULT_SEED}.
+     *
+     * @param aSeed the seed
+     */
+    public void setSeed(long aSeed) {
+        this.seed = aSeed;
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,377 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+/**
+ * Reporter that only aggregates statistics of the reported issues instead of keeping the reported data. Per
+ * processing step identifier, the number of reported issues is counted per error code in an array of primitive
+ * counters indexed by the ordinal of the error codes; additionally, a bounded reservoir sample of the MolIDs of the
+ * reported structures is kept per processing step identifier and error code. Thereby, the memory needed by the
+ * reporter scales with the number of processing steps and error codes instead of the number of reported issues.
+ * <br>
+ * The {@link #report()} method writes a markdown file listing the counts and example MolIDs per processing step
+ * identifier and error code to the report directory. The reservoir sampling is seeded, so that a sequentially
+ * processed data set always yields the same examples. All methods are synchronized.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see IReporter
+ */
+public class StatisticsReporter implements IReporter {
+
+    //<editor-fold desc="public static final class constants" defaultstate="collapsed">
+    /**
+     * Default value of the maximum number of example MolIDs kept per processing step identifier and error code.
+     */
+    public static final int DEFAULT_SAMPLE_SIZE = 5;
+
+    /**
+     * Prefix of the names of the report files.
+     */
+    public static final String REPORT_FILE_NAME_PREFIX = "Statistics_Report_";
+    //</editor-fold>
+
+    //<editor-fold desc="private static final class constants" defaultstate="collapsed">
+    /**
+     * Resource bundle of the string literals of the report.
+     */
+    private static final ResourceBundle REPORT_STRING_LITERALS = ResourceBundle.getBundle("ReportStringLiterals",
+            Locale.getDefault());
+
+    /**
+     * Number of error codes; length of the counter arrays.
+     */
+    private static final int ERROR_CODES_COUNT = ErrorCodes.values().length;
+
+    /**
+     * Seed of the random number generator used for the reservoir sampling.
+     */
+    private static final long SAMPLING_SEED = 42L;
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * Path of the directory the report files are created in.
+     */
+    private final Path reportDirectoryPath;
+
+    /**
+     * Maximum number of example MolIDs kept per processing step identifier and error code.
+     */
+    private final int sampleSize;
+
+    /**
+     * Counters of the reported issues per processing step identifier, indexed by the ordinal of the error codes.
+     */
+    private final Map<String, long[]> counters;
+
+    /**
+     * Reservoir samples of the MolIDs per processing step identifier, indexed by the ordinal of the error codes;
+     * the arrays of the error codes not reported yet are null.
+     */
+    private final Map<String, String[][]> samples;
+
+    /**
+     * Counters of the sampling candidates per processing step identifier, indexed by the ordinal of the error codes;
+     * in contrast to {@link #counters}, issues without MolID and external identifier are not counted, as they cannot
+     * be sampled.
+     */
+    private final Map<String, long[]> sampleCandidateCounters;
+    //</editor-fold>
+
+    //<editor-fold desc="private variables" defaultstate="collapsed">
+    /**
+     * Random number generator used for the reservoir sampling.
+     */
+    private SplittableRandom random;
+
+    /**
+     * Total number of reported issues of the current report.
+     */
+    private long totalCount;
+
+    /**
+     * Path of the last created report file; null if no report has been created yet.
+     */
+    private Path lastReportFilePath;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; sets the directory the report files are created in and the maximum number of example MolIDs kept
+     * per processing step identifier and error code.
+     *
+     * @param aReportDirectoryPathString path string of the directory the report files are created in
+     * @param aSampleSize                maximum number of example MolIDs per processing step and error code; may be
+     *                                   zero
+     * @throws NullPointerException if the given path string is null
+     * @throws IllegalArgumentException if the given path string does not denote an existing directory; if the given
+     *                                  sample size is negative
+     */
+    public StatisticsReporter(String aReportDirectoryPathString, int aSampleSize) throws NullPointerException,
+            IllegalArgumentException {
+        Objects.requireNonNull(aReportDirectoryPathString, "The given directory path string" +
+                " (aReportDirectoryPathString) is null.");
+        Path tmpDirectoryPath = Paths.get(aReportDirectoryPathString);
+        if (aReportDirectoryPathString.isBlank() || !Files.isDirectory(tmpDirectoryPath)) {
+            throw new IllegalArgumentException("The given path string (aReportDirectoryPathString) does not denote" +
+                    " an existing directory.");
+        }
+        if (aSampleSize < 0) {
+            throw new IllegalArgumentException("The sample size (aSampleSize) must not be negative.");
+        }
+        this.reportDirectoryPath = tmpDirectoryPath;
+        this.sampleSize = aSampleSize;
+        this.counters = new TreeMap<>();
+        this.samples = new TreeMap<>();
+        this.sampleCandidateCounters = new TreeMap<>();
+        this.random = new SplittableRandom(StatisticsReporter.SAMPLING_SEED);
+    }
+
+    /**
+     * Constructor; sets the directory the report files are created in and keeps up to {@link #DEFAULT_SAMPLE_SIZE}
+     * example MolIDs per processing step identifier and error code.
+     *
+     * @param aReportDirectoryPathString path string of the directory the report files are created in
+     * @throws NullPointerException if the given path string is null
+     * @throws IllegalArgumentException if the given path string does not denote an existing directory
+     */
+    public StatisticsReporter(String aReportDirectoryPathString) throws NullPointerException,
+            IllegalArgumentException {
+        this(aReportDirectoryPathString, StatisticsReporter.DEFAULT_SAMPLE_SIZE);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public methods" defaultstate="collapsed">
+    /**
+     * Clears the statistics of a former report; an explicit initialization is not necessary.
+     */
+    @Override
+    public synchronized void initializeNewReport() {
+        this.clear();
+    }
+
+    /**
+     * Increases the counter of the processing step identifier and error code of the given ReportDataObject and
+     * possibly adds its MolID (or external identifier, if no MolID is given) to the respective sample. The
+     * ReportDataObject itself is not kept.
+     *
+     * @throws NullPointerException if the given ReportDataObject instance is null
+     */
+    @Override
+    public synchronized void appendReport(ReportDataObject aReportDataObject) throws NullPointerException {
+        Objects.requireNonNull(aReportDataObject, "The given ReportDataObject instance (aReportDataObject) is null.");
+        String tmpStepIdentifier = String.valueOf(aReportDataObject.getProcessingStepIdentifier());
+        int tmpOrdinal = aReportDataObject.getErrorCode().ordinal();
+        long[] tmpCounters = this.counters.computeIfAbsent(tmpStepIdentifier,
+                aKey -> new long[StatisticsReporter.ERROR_CODES_COUNT]);
+        tmpCounters[tmpOrdinal]++;
+        this.totalCount++;
+        //
+        if (this.sampleSize == 0) {
+            return;
+        }
+        String tmpMolID = aReportDataObject.getIdentifier() != null ? aReportDataObject.getIdentifier()
+                : aReportDataObject.getExternalIdentifier();
+        if (tmpMolID == null) {
+            return;
+        }
+        String[][] tmpStepSamples = this.samples.computeIfAbsent(tmpStepIdentifier,
+                aKey -> new String[StatisticsReporter.ERROR_CODES_COUNT][]);
+        if (tmpStepSamples[tmpOrdinal] == null) {
+            tmpStepSamples[tmpOrdinal] = new String[this.sampleSize];
+        }
+        long tmpCount = ++this.sampleCandidateCounters.computeIfAbsent(tmpStepIdentifier,
+                aKey -> new long[StatisticsReporter.ERROR_CODES_COUNT])[tmpOrdinal];
+        // reservoir sampling (algorithm R) over the issues with identifier; the count includes the current issue
+        if (tmpCount <= this.sampleSize) {
+            tmpStepSamples[tmpOrdinal][(int) tmpCount - 1] = tmpMolID;
+        } else {
+            long tmpIndex = this.random.nextLong(tmpCount);
+            if (tmpIndex < this.sampleSize) {
+                tmpStepSamples[tmpOrdinal][(int) tmpIndex] = tmpMolID;
+            }
+        }
+    }
+
+    /**
+     * Writes the statistics to a markdown file in the report directory and clears them afterwards.
+     *
+     * @throws IOException if an IOException occurs writing the report file
+     */
+    @Override
+    public synchronized void report() throws IOException {
+        this.writeReport(false);
+    }
+
+    /**
+     * Writes the statistics gathered until the fatal exception occurred to a markdown file in the report directory,
+     * noting that the report is incomplete, and clears them afterwards.
+     *
+     * @throws IOException if an IOException occurs writing the report file
+     */
+    @Override
+    public synchronized void reportAfterFatalException() throws IOException {
+        this.writeReport(true);
+    }
+
+    /**
+     * Clears the counters and samples and resets the random number generator of the reservoir sampling.
+     */
+    @Override
+    public synchronized void clear() {
+        this.counters.clear();
+        this.samples.clear();
+        this.sampleCandidateCounters.clear();
+        this.totalCount = 0;
+        this.random = new SplittableRandom(StatisticsReporter.SAMPLING_SEED);
+    }
+
+    /**
+     * Returns the number of issues reported with the given processing step identifier and error code.
+     *
+     * @param aProcessingStepIdentifier identifier of the processing step
+     * @param anErrorCode               error code of the issues
+     * @return long value
+     * @throws NullPointerException if the given error code is null
+     */
+    public synchronized long getCount(String aProcessingStepIdentifier, ErrorCodes anErrorCode)
+            throws NullPointerException {
+        Objects.requireNonNull(anErrorCode, "The given error code (anErrorCode) is null.");
+        long[] tmpCounters = this.counters.get(String.valueOf(aProcessingStepIdentifier));
+        return tmpCounters == null ? 0 : tmpCounters[anErrorCode.ordinal()];
+    }
+
+    /**
+     * Returns the example MolIDs of the issues reported with the given processing step identifier and error code.
+     *
+     * @param aProcessingStepIdentifier identifier of the processing step
+     * @param anErrorCode               error code of the issues
+     * @return array of up to sample size MolIDs; empty if there are none
+     * @throws NullPointerException if the given error code is null
+     */
+    public synchronized String[] getSampleMolIDs(String aProcessingStepIdentifier, ErrorCodes anErrorCode)
+            throws NullPointerException {
+        Objects.requireNonNull(anErrorCode, "The given error code (anErrorCode) is null.");
+        String[][] tmpStepSamples = this.samples.get(String.valueOf(aProcessingStepIdentifier));
+        if (tmpStepSamples == null || tmpStepSamples[anErrorCode.ordinal()] == null) {
+            return new String[0];
+        }
+        return Arrays.stream(tmpStepSamples[anErrorCode.ordinal()]).filter(Objects::nonNull).toArray(String[]::new);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public properties" defaultstate="collapsed">
+    /**
+     * Returns the total number of issues reported to the current report.
+     *
+     * @return long value
+     */
+    public synchronized long getTotalCount() {
+        return this.totalCount;
+    }
+
+    /**
+     * Returns the maximum number of example MolIDs kept per processing step identifier and error code.
+     *
+     * @return integer value
+     */
+    public int getSampleSize() {
+        return this.sampleSize;
+    }
+
+    /**
+     * Returns the path of the last created report file or null, if no report has been created yet.
+     *
+     * @return Path instance or null
+     */
+    public synchronized Path getLastReportFilePath() {
+        return this.lastReportFilePath;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private methods" defaultstate="collapsed">
+    /**
+     * Writes the report file and clears the statistics.
+     *
+     * @param anEndedWithFatalException whether the reported processing ended with a fatal exception
+     * @throws IOException if an IOException occurs writing the report file
+     */
+    private void writeReport(boolean anEndedWithFatalException) throws IOException {
+        ResourceBundle tmpLiterals = StatisticsReporter.REPORT_STRING_LITERALS;
+        String tmpTimeStamp = MarkDownReporter.getCurrentTimeStamp();
+        Path tmpReportFilePath = this.reportDirectoryPath.resolve(StatisticsReporter.REPORT_FILE_NAME_PREFIX
+                + tmpTimeStamp + ".md");
+        try (BufferedWriter tmpWriter = Files.newBufferedWriter(tmpReportFilePath, StandardCharsets.UTF_8)) {
+            tmpWriter.append("# ").append(tmpLiterals.getString("HEADER")).append("\n");
+            tmpWriter.append(tmpLiterals.getString("TIMESTAMPOFREPORTGENERATION")).append(tmpTimeStamp)
+                    .append("\n\n");
+            if (anEndedWithFatalException) {
+                tmpWriter.append("**").append(tmpLiterals.getString("FATALEXCEPTION")).append("**\n\n");
+            }
+            tmpWriter.append(tmpLiterals.getString("NUMBEROFERRORS")).append(String.valueOf(this.totalCount))
+                    .append("\n\n");
+            if (this.totalCount > 0) {
+                tmpWriter.append(tmpLiterals.getString("SUMMARY")).append("\n\n");
+                tmpWriter.append("| Processing Step ID | Error Code | Count | Example MolIDs |\n");
+                tmpWriter.append("| --- | --- | --- | --- |\n");
+                ErrorCodes[] tmpErrorCodes = ErrorCodes.values();
+                for (Map.Entry<String, long[]> tmpEntry : this.counters.entrySet()) {
+                    for (int i = 0; i < tmpErrorCodes.length; i++) {
+                        if (tmpEntry.getValue()[i] == 0) {
+                            continue;
+                        }
+                        tmpWriter.append("| ").append(tmpEntry.getKey()).append(" | ")
+                                .append(tmpErrorCodes[i].name()).append(" | ")
+                                .append(String.valueOf(tmpEntry.getValue()[i])).append(" | ")
+                                .append(String.join(", ", this.getSampleMolIDs(tmpEntry.getKey(), tmpErrorCodes[i])))
+                                .append(" |\n");
+                    }
+                }
+            }
+        } finally {
+            this.clear();
+        }
+        this.lastReportFilePath = tmpReportFilePath;
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,518 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.LineReportFormats;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Reporter writing the reported data in a machine-readable, line-based format (CSV or JSON Lines, see {@link
+ * LineReportFormats}) meant as input for downstream tools. Each appended ReportDataObject is written as one line as
+ * soon as it is appended, containing the processing step identifier, the class of the processing step, the error
+ * code, the MolID, the external identifier and optionally the SMILES string of the reported structure (see {@link
+ * ReportDataObject#getSmiles()}); the ReportDataObjects are not kept in memory.
+ * <br>
+ * Optionally, a summary file is written on finishing the report, listing per processing step identifier and error
+ * code (sorted by these) the number of reported issues and the line number of the first of them in the report file
+ * (with the first data line being line one), so that the issues of interest can be located without reading the whole
+ * report. The report file is named {@code Report_<timestamp><extension>}, the summary file {@code
+ * Report_<timestamp>_summary<extension>}; if the processing ended with a fatal exception, {@code _incomplete} is
+ * appended to the base name of both files.
+ * <br>
+ * The report needs to be initialized via {@link #initializeNewReport()} before data may be appended. All methods are
+ * synchronized.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see LineReportFormats
+ */
+public class StreamingLineReporter implements IReporter {
+
+    //<editor-fold desc="private static final class constants" defaultstate="collapsed">
+    /**
+     * Names of the fields of a report line.
+     */
+    private static final String[] FIELD_NAMES = {"processing_step_id", "processing_step_class", "error_code",
+            "mol_id", "external_id", "smiles"};
+
+    /**
+     * Whether the fields of a report line are numeric; all of them are strings.
+     */
+    private static final boolean[] FIELDS_ARE_NUMERIC = new boolean[StreamingLineReporter.FIELD_NAMES.length];
+
+    /**
+     * Names of the fields of a summary line.
+     */
+    private static final String[] SUMMARY_FIELD_NAMES = {"processing_step_id", "error_code", "count", "first_line"};
+
+    /**
+     * Whether the fields of a summary line are numeric and thereby written as JSON numbers instead of strings.
+     */
+    private static final boolean[] SUMMARY_FIELDS_ARE_NUMERIC = {false, false, true, true};
+
+    /**
+     * Suffix appended to the base name of the summary file.
+     */
+    private static final String SUMMARY_FILE_NAME_SUFFIX = "_summary";
+
+    /**
+     * Suffix appended to the base names of the files of reports finished after a fatal exception.
+     */
+    private static final String INCOMPLETE_FILE_NAME_SUFFIX = "_incomplete";
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * Path of the directory the report files are created in.
+     */
+    private final Path reportDirectoryPath;
+
+    /**
+     * Format of the report and summary files.
+     */
+    private final LineReportFormats format;
+
+    /**
+     * Whether the SMILES strings of the reported structures are written.
+     */
+    private final boolean includingSmiles;
+
+    /**
+     * Whether a summary file is written on finishing the report.
+     */
+    private final boolean writingSummary;
+
+    /**
+     * Number of reported issues and line number of the first of them per processing step identifier and error code.
+     */
+    private final Map<String, Map<ErrorCodes, long[]>> summary;
+
+    //</editor-fold>
+
+    //<editor-fold desc="private variables" defaultstate="collapsed">
+    /**
+     * Base name of the files of the current report; null if no report is initialized.
+     */
+    private String reportFileBaseName;
+
+    /**
+     * Writer of the report file; null if no report is initialized.
+     */
+    private BufferedWriter reportWriter;
+
+    /**
+     * Number of data lines written to the current report.
+     */
+    private long lineCount;
+
+    /**
+     * Path of the last created report file; null if no report has been created yet.
+     */
+    private Path lastReportFilePath;
+
+    /**
+     * Path of the last created summary file; null if no summary has been created yet.
+     */
+    private Path lastSummaryFilePath;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor.
+     *
+     * @param aReportDirectoryPathString path string of the directory the report files are created in
+     * @param aFormat                    format of the report and summary files
+     * @param anIncludingSmiles          whether to write the SMILES strings of the reported structures; note that a
+     *                                   SMILES string is generated per appended ReportDataObject
+     * @param aWritingSummary            whether to write a summary file on finishing the report
+     * @throws NullPointerException if the given path string or format is null
+     * @throws IllegalArgumentException if the given path string does not denote an existing directory
+     */
+    public StreamingLineReporter(String aReportDirectoryPathString, LineReportFormats aFormat,
+                                 boolean anIncludingSmiles, boolean aWritingSummary)
+            throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(aReportDirectoryPathString, "The given directory path string" +
+                " (aReportDirectoryPathString) is null.");
+        Objects.requireNonNull(aFormat, "The given format (aFormat) is null.");
+        Path tmpDirectoryPath = Paths.get(aReportDirectoryPathString);
+        if (aReportDirectoryPathString.isBlank() || !Files.isDirectory(tmpDirectoryPath)) {
+            throw new IllegalArgumentException("The given path string (aReportDirectoryPathString) does not denote" +
+                    " an existing directory.");
+        }
+        this.reportDirectoryPath = tmpDirectoryPath;
+        this.format = aFormat;
+        this.includingSmiles = anIncludingSmiles;
+        this.writingSummary = aWritingSummary;
+        this.summary = new TreeMap<>();
+    }
+
+    /**
+     * Constructor; a summary file is written but the SMILES strings of the reported structures are not, since
+     * generating them is costly for reports with many entries (see {@link #StreamingLineReporter(String,
+     * LineReportFormats, boolean, boolean)}).
+     *
+     * @param aReportDirectoryPathString path string of the directory the report files are created in
+     * @param aFormat                    format of the report and summary files
+     * @throws NullPointerException if the given path string or format is null
+     * @throws IllegalArgumentException if the given path string does not denote an existing directory
+     */
+    public StreamingLineReporter(String aReportDirectoryPathString, LineReportFormats aFormat)
+            throws NullPointerException, IllegalArgumentException {
+        this(aReportDirectoryPathString, aFormat, false, true);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public methods" defaultstate="collapsed">
+    /**
+     * Initializes a new report by creating the report file (and writing the header line, if the format has one); a
+     * report that has been initialized but not finished yet is discarded.
+     *
+     * @throws IOException if the report file could not be created
+     */
+    @Override
+    public synchronized void initializeNewReport() throws IOException {
+        this.clear();
+        this.reportFileBaseName = MarkDownReporter.getFileName().replace(".md", "");
+        this.reportWriter = Files.newBufferedWriter(this.getReportFilePath(false), StandardCharsets.UTF_8);
+        if (this.format == LineReportFormats.CSV) {
+            StreamingLineReporter.writeCsvLine(this.reportWriter, this.includingSmiles
+                    ? StreamingLineReporter.FIELD_NAMES
+                    : Arrays.copyOf(StreamingLineReporter.FIELD_NAMES, 5));
+        }
+    }
+
+    /**
+     * Writes the given ReportDataObject as one line to the report file.
+     *
+     * @throws NullPointerException if the given ReportDataObject instance is null; if the report has not been
+     *                              initialized
+     * @throws UncheckedIOException if the line could not be written
+     */
+    @Override
+    public synchronized void appendReport(ReportDataObject aReportDataObject) throws NullPointerException,
+            UncheckedIOException {
+        Objects.requireNonNull(aReportDataObject, "The given ReportDataObject instance (aReportDataObject) is null.");
+        Objects.requireNonNull(this.reportWriter, "The report has not been initialized.");
+        String[] tmpValues = new String[this.includingSmiles ? 6 : 5];
+        tmpValues[0] = aReportDataObject.getProcessingStepIdentifier();
+        tmpValues[1] = aReportDataObject.getClassOfProcessingStep() == null ? null
+                : aReportDataObject.getClassOfProcessingStep().getName();
+        tmpValues[2] = aReportDataObject.getErrorCode().name();
+        tmpValues[3] = aReportDataObject.getIdentifier();
+        tmpValues[4] = aReportDataObject.getExternalIdentifier();
+        if (this.includingSmiles) {
+            tmpValues[5] = aReportDataObject.getSmiles();
+        }
+        try {
+            if (this.format == LineReportFormats.CSV) {
+                StreamingLineReporter.writeCsvLine(this.reportWriter, tmpValues);
+            } else {
+                StreamingLineReporter.writeJsonLine(this.reportWriter, StreamingLineReporter.FIELD_NAMES,
+                        StreamingLineReporter.FIELDS_ARE_NUMERIC, tmpValues);
+            }
+        } catch (IOException anIOException) {
+            throw new UncheckedIOException(anIOException);
+        }
+        this.lineCount++;
+        long[] tmpCountAndFirstLine = this.summary.computeIfAbsent(String.valueOf(tmpValues[0]),
+                aKey -> new EnumMap<>(ErrorCodes.class)).computeIfAbsent(aReportDataObject.getErrorCode(),
+                aKey -> new long[]{0, this.lineCount});
+        tmpCountAndFirstLine[0]++;
+    }
+
+    /**
+     * Closes the report file and writes the summary file, if requested.
+     *
+     * @throws IOException if an IOException occurs writing the files
+     */
+    @Override
+    public synchronized void report() throws IOException {
+        this.finishReport(false);
+    }
+
+    /**
+     * Closes the report file containing all lines written until then and writes the summary file, if requested; the
+     * names of the files are marked as incomplete.
+     *
+     * @throws IOException if an IOException occurs writing the files
+     */
+    @Override
+    public synchronized void reportAfterFatalException() throws IOException {
+        this.finishReport(true);
+    }
+
+    /**
+     * Discards the current report by closing and deleting the report file and clears the summary.
+     */
+    @Override
+    public synchronized void clear() {
+        if (this.reportWriter != null) {
+            try {
+                this.reportWriter.close();
+                Files.deleteIfExists(this.getReportFilePath(false));
+            } catch (IOException anIOException) {
+                // the report is discarded anyway
+            }
+        }
+        this.resetState();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public properties" defaultstate="collapsed">
+    /**
+     * Returns the format of the report and summary files.
+     *
+     * @return LineReportFormats constant
+     */
+    public LineReportFormats getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Returns whether the SMILES strings of the reported structures are written.
+     *
+     * @return boolean value
+     */
+    public boolean isIncludingSmiles() {
+        return this.includingSmiles;
+    }
+
+    /**
+     * Returns whether a summary file is written on finishing the report.
+     *
+     * @return boolean value
+     */
+    public boolean isWritingSummary() {
+        return this.writingSummary;
+    }
+
+    /**
+     * Returns the path of the last created report file or null, if no report has been created yet.
+     *
+     * @return Path instance or null
+     */
+    public synchronized Path getLastReportFilePath() {
+        return this.lastReportFilePath;
+    }
+
+    /**
+     * Returns the path of the last created summary file or null, if no summary has been created yet.
+     *
+     * @return Path instance or null
+     */
+    public synchronized Path getLastSummaryFilePath() {
+        return this.lastSummaryFilePath;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private methods" defaultstate="collapsed">
+    /**
+     * Closes the report file, renames it if the processing ended with a fatal exception and writes the summary file,
+     * if requested. If the report has not been initialized, a report without entries is created.
+     *
+     * @param anEndedWithFatalException whether the reported processing ended with a fatal exception
+     * @throws IOException if an IOException occurs writing the files
+     */
+    private void finishReport(boolean anEndedWithFatalException) throws IOException {
+        if (this.reportWriter == null) {
+            this.initializeNewReport();
+        }
+        try {
+            this.reportWriter.close();
+            this.reportWriter = null;
+            Path tmpReportFilePath = this.getReportFilePath(false);
+            if (anEndedWithFatalException) {
+                tmpReportFilePath = Files.move(tmpReportFilePath, this.getReportFilePath(true));
+            }
+            this.lastReportFilePath = tmpReportFilePath;
+            this.lastSummaryFilePath = null;
+            if (this.writingSummary) {
+                this.lastSummaryFilePath = this.writeSummary(anEndedWithFatalException);
+            }
+        } finally {
+            this.resetState();
+        }
+    }
+
+    /**
+     * Writes the summary file sorted by processing step identifier and error code.
+     *
+     * @param anEndedWithFatalException whether the reported processing ended with a fatal exception
+     * @return path of the summary file
+     * @throws IOException if an IOException occurs writing the file
+     */
+    private Path writeSummary(boolean anEndedWithFatalException) throws IOException {
+        String tmpFileName = this.reportFileBaseName + StreamingLineReporter.SUMMARY_FILE_NAME_SUFFIX
+                + (anEndedWithFatalException ? StreamingLineReporter.INCOMPLETE_FILE_NAME_SUFFIX : "")
+                + this.format.getFileExtension();
+        Path tmpSummaryFilePath = this.reportDirectoryPath.resolve(tmpFileName);
+        try (BufferedWriter tmpWriter = Files.newBufferedWriter(tmpSummaryFilePath, StandardCharsets.UTF_8)) {
+            if (this.format == LineReportFormats.CSV) {
+                StreamingLineReporter.writeCsvLine(tmpWriter, StreamingLineReporter.SUMMARY_FIELD_NAMES);
+            }
+            for (Map.Entry<String, Map<ErrorCodes, long[]>> tmpStepEntry : this.summary.entrySet()) {
+                for (Map.Entry<ErrorCodes, long[]> tmpCodeEntry : tmpStepEntry.getValue().entrySet()) {
+                    String[] tmpValues = {tmpStepEntry.getKey(), tmpCodeEntry.getKey().name(),
+                            String.valueOf(tmpCodeEntry.getValue()[0]), String.valueOf(tmpCodeEntry.getValue()[1])};
+                    if (this.format == LineReportFormats.CSV) {
+                        StreamingLineReporter.writeCsvLine(tmpWriter, tmpValues);
+                    } else {
+                        StreamingLineReporter.writeJsonLine(tmpWriter, StreamingLineReporter.SUMMARY_FIELD_NAMES,
+                                StreamingLineReporter.SUMMARY_FIELDS_ARE_NUMERIC, tmpValues);
+                    }
+                }
+            }
+        }
+        return tmpSummaryFilePath;
+    }
+
+    /**
+     * Returns the path of the report file of the current report.
+     *
+     * @param anIsIncomplete whether to return the path of the file marked as incomplete
+     * @return Path instance
+     */
+    private Path getReportFilePath(boolean anIsIncomplete) {
+        return this.reportDirectoryPath.resolve(this.reportFileBaseName
+                + (anIsIncomplete ? StreamingLineReporter.INCOMPLETE_FILE_NAME_SUFFIX : "")
+                + this.format.getFileExtension());
+    }
+
+    /**
+     * Resets the state of the current report without touching the report file.
+     */
+    private void resetState() {
+        this.reportWriter = null;
+        this.reportFileBaseName = null;
+        this.lineCount = 0;
+        this.summary.clear();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private static methods" defaultstate="collapsed">
+    /**
+     * Writes the given values as one CSV line; values containing commas, quotes or line breaks are quoted, null values
+     * are written as empty fields.
+     *
+     * @param aWriter the writer to write to
+     * @param aValues the values of the line
+     * @throws IOException if an IOException occurs writing to the writer
+     */
+    private static void writeCsvLine(Writer aWriter, String[] aValues) throws IOException {
+        for (int i = 0; i < aValues.length; i++) {
+            if (i > 0) {
+                aWriter.write(',');
+            }
+            String tmpValue = aValues[i];
+            if (tmpValue == null) {
+                continue;
+            }
+            if (tmpValue.indexOf(',') >= 0 || tmpValue.indexOf('"') >= 0 || tmpValue.indexOf('\n') >= 0
+                    || tmpValue.indexOf('\r') >= 0) {
+                aWriter.write('"');
+                aWriter.write(tmpValue.replace("\"", "\"\""));
+                aWriter.write('"');
+            } else {
+                aWriter.write(tmpValue);
+            }
+        }
+        aWriter.write('\n');
+    }
+
+    /**
+     * Writes the given values as one JSON object in a single line with the given field names; values of numeric
+     * fields are written unquoted as JSON numbers, the others as JSON strings, and null values as JSON null.
+     *
+     * @param aWriter           the writer to write to
+     * @param aFieldNames       the names of the fields
+     * @param aFieldsAreNumeric whether the fields are numeric; numeric values need to be valid JSON numbers
+     * @param aValues           the values of the fields
+     * @throws IOException if an IOException occurs writing to the writer
+     */
+    private static void writeJsonLine(Writer aWriter, String[] aFieldNames, boolean[] aFieldsAreNumeric,
+            String[] aValues) throws IOException {
+        aWriter.write('{');
+        for (int i = 0; i < aValues.length; i++) {
+            if (i > 0) {
+                aWriter.write(',');
+            }
+            StreamingLineReporter.writeJsonString(aWriter, aFieldNames[i]);
+            aWriter.write(':');
+            if (aValues[i] == null) {
+                aWriter.write("null");
+            } else if (aFieldsAreNumeric[i]) {
+                aWriter.write(aValues[i]);
+            } else {
+                StreamingLineReporter.writeJsonString(aWriter, aValues[i]);
+            }
+        }
+        aWriter.write("}\n");
+    }
+
+    /**
+     * Writes the given string as quoted and escaped JSON string.
+     *
+     * @param aWriter the writer to write to
+     * @param aString the string to write
+     * @throws IOException if an IOException occurs writing to the writer
+     */
+    private static void writeJsonString(Writer aWriter, String aString) throws IOException {
+        aWriter.write('"');
+        for (int i = 0; i < aString.length(); i++) {
+            char tmpChar = aString.charAt(i);
+            switch (tmpChar) {
+                case '"' -> aWriter.write("\\\"");
+                case '\\' -> aWriter.write("\\\\");
+                case '\n' -> aWriter.write("\\n");
+                case '\r' -> aWriter.write("\\r");
+                case '\t' -> aWriter.write("\\t");
+                default -> {
+                    if (tmpChar < 0x20) {
+                        aWriter.write(String.format("\\u%04x", (int) tmpChar));
+                    } else {
+                        aWriter.write(tmpChar);
+                    }
+                }
+            }
+        }
+        aWriter.write('"');
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,509 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.enums.DepictionFormats;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reporter creating a markdown report like the {@link MarkDownReporter} with bounded memory usage. Instead of keeping
+ * the appended ReportDataObjects (and the atom containers referenced by them) in memory until the report is created,
+ * the entry of each ReportDataObject is written to a temporary file in the report directory as soon as it is appended.
+ * Only the numbers of reported issues per processing step identifier and error code are kept in memory. The {@link
+ * #report()} method writes the header and the summary of the report file and appends the content of the temporary
+ * file to it; the {@link #reportAfterFatalException()} method does the same and additionally notes that the report is
+ * incomplete, so that a valid partial report is created for processing processes that ended with a fatal exception.
+ * <br>
+ * The depictions are rendered off the appending threads on a pool of {@link #getDepictionThreadCount()} worker threads
+ * held by the reporter, using a {@link DepictionCache} per report; a dedicated writer thread writes the entries with
+ * their depictions in the order they have been appended; depictions not rendered within {@link
+ * #getDepictionTimeoutMillis()} milliseconds are replaced by the error message image. Appending thereby only queues
+ * the entry; at most {@link #getPendingEntriesCapacity()} entries wait to be written, appending threads wait for free
+ * space if this number is reached. If writing an entry fails, further appends throw an UncheckedIOException and
+ * {@link #report()} throws the failure.
+ * <br>
+ * In contrast to the MarkDownReporter, the entries are listed in the order they have been appended, and all of them
+ * are rendered; a {@link ReportSamplingPolicy} is not supported, since an entry is written before it is known whether
+ * it would remain part of the sample. The report needs
+ * to be initialized via {@link #initializeNewReport()} before data may be appended; all appends are expected to have
+ * been finished when the report is generated or cleared.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see MarkDownReporter
+ */
+public class StreamingMarkDownReporter implements IReporter {
+
+    //<editor-fold desc="private static final class constants" defaultstate="collapsed">
+    /**
+     * Resource bundle of the string literals of the report.
+     */
+    private static final ResourceBundle REPORT_STRING_LITERALS = ResourceBundle.getBundle("ReportStringLiterals",
+            Locale.getDefault());
+
+    /**
+     * Suffix of the name of the temporary file the entries of the report are written to.
+     */
+    private static final String ENTRIES_FILE_SUFFIX = ".md.part";
+
+    /**
+     * Logger of this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(StreamingMarkDownReporter.class.getName());
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * Path of the directory the report files are created in.
+     */
+    private final Path reportDirectoryPath;
+
+    /**
+     * Numbers of reported issues per processing step identifier and error code.
+     */
+    private final Map<String, Map<ErrorCodes, Long>> errorCounts;
+
+    /**
+     * Total number of issues written to the current report; updated together with the numbers per processing step
+     * identifier and error code.
+     */
+    private final LongAdder errorCount;
+    //</editor-fold>
+
+    //<editor-fold desc="private variables" defaultstate="collapsed">
+    /**
+     * Pool of the worker threads rendering the depictions; shared by all reports of the reporter as long as the number
+     * of worker threads is not changed.
+     */
+    private DepictionWorkerPool depictionWorkerPool;
+
+    /**
+     * Number of worker threads rendering the depictions of the reports initialized afterwards.
+     */
+    private int depictionThreadCount = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Timeout in milliseconds of the waiting for a single depiction in the reports initialized afterwards.
+     */
+    private long depictionTimeoutMillis = MarkDownReporter.DEFAULT_DEPICTION_TIMEOUT_MILLIS;
+
+    /**
+     * Cache of the depictions of the current report, so that structures reported multiple times are depicted once;
+     * it also determines the format and maximum width of the depictions.
+     */
+    private DepictionCache depictionCache;
+
+    /**
+     * Writer of the entries of the current report; null if no report is initialized.
+     */
+    private volatile OrderedEntryWriter<String> entryWriter;
+
+    /**
+     * Path of the temporary file the entries of the current report are written to; null if no report is initialized.
+     */
+    private Path entriesFilePath;
+
+    /**
+     * Buffered writer of the temporary entries file; null if no report is initialized. Only accessed by the writer
+     * thread of the entry writer while a report is initialized.
+     */
+    private BufferedWriter entriesWriter;
+
+    /**
+     * Path of the last created report file; null if no report has been created yet.
+     */
+    private Path lastReportFilePath;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; sets the directory the report files are created in.
+     *
+     * @param aReportDirectoryPathString path string of the directory the report files are created in
+     * @throws NullPointerException if the given path string is null
+     * @throws IllegalArgumentException if the given path string is blank or does not denote an existing directory
+     */
+    public StreamingMarkDownReporter(String aReportDirectoryPathString) throws NullPointerException,
+            IllegalArgumentException {
+        Objects.requireNonNull(aReportDirectoryPathString, "The given directory path string" +
+                " (aReportDirectoryPathString) is null.");
+        if (aReportDirectoryPathString.isBlank()) {
+            throw new IllegalArgumentException("The given directory path string (aReportDirectoryPathString) is" +
+                    " blank.");
+        }
+        Path tmpDirectoryPath = Paths.get(aReportDirectoryPathString);
+        if (!Files.isDirectory(tmpDirectoryPath)) {
+            throw new IllegalArgumentException("The given path string (aReportDirectoryPathString) does not denote" +
+                    " an existing directory.");
+        }
+        this.reportDirectoryPath = tmpDirectoryPath;
+        this.errorCounts = new TreeMap<>();
+        this.depictionWorkerPool = new DepictionWorkerPool("StreamingMarkDownReporter-depiction",
+                this.depictionThreadCount);
+        this.errorCount = new LongAdder();
+        this.depictionCache = new DepictionCache();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public methods" defaultstate="collapsed">
+    /**
+     * Initializes a new report by creating the temporary file the entries are written to; a report that has been
+     * initialized but not finished yet is discarded.
+     *
+     * @throws IOException if the temporary file could not be created
+     */
+    @Override
+    public synchronized void initializeNewReport() throws IOException {
+        this.clear();
+        this.entriesFilePath = Files.createTempFile(this.reportDirectoryPath, "Report_",
+                StreamingMarkDownReporter.ENTRIES_FILE_SUFFIX);
+        this.entriesWriter = Files.newBufferedWriter(this.entriesFilePath, StandardCharsets.UTF_8);
+        final DepictionCache tmpDepictionCache = this.depictionCache;
+        if (this.depictionWorkerPool.getThreadCount() != this.depictionThreadCount) {
+            this.depictionWorkerPool = new DepictionWorkerPool("StreamingMarkDownReporter-depiction",
+                    this.depictionThreadCount);
+        }
+        this.entryWriter = new OrderedEntryWriter<>("StreamingMarkDownReporter-writer", this.depictionWorkerPool,
+                this.getPendingEntriesCapacity(), this.depictionTimeoutMillis,
+                aReportDataObject -> MarkDownReporter.createDepiction(aReportDataObject, tmpDepictionCache),
+                (aReportDataObject, aDepiction) -> this.writeEntry(aReportDataObject, aDepiction,
+                        tmpDepictionCache.getDepictionFormat()));
+    }
+
+    /**
+     * Queues the entry of the given ReportDataObject to be written to the temporary entries file; its depiction is
+     * rendered off the calling thread. The ReportDataObject is not kept in memory after its entry has been written.
+     *
+     * @throws NullPointerException if the given ReportDataObject instance is null; if the report has not been
+     *                              initialized
+     * @throws UncheckedIOException if writing a previously appended entry to the temporary file failed
+     */
+    @Override
+    public void appendReport(ReportDataObject aReportDataObject) throws NullPointerException, UncheckedIOException {
+        Objects.requireNonNull(aReportDataObject, "The given ReportDataObject instance (aReportDataObject) is null.");
+        OrderedEntryWriter<String> tmpEntryWriter = this.entryWriter;
+        Objects.requireNonNull(tmpEntryWriter, "The report has not been initialized.");
+        tmpEntryWriter.append(aReportDataObject);
+    }
+
+    /**
+     * Waits for all appended entries to be written and finalizes the report by writing the header and the summary of
+     * the report file followed by the entries written to the temporary file, which is deleted afterwards. If the
+     * report has not been initialized, a report without entries is created.
+     *
+     * @throws IOException if an IOException occurs writing the report file; if writing an entry to the temporary file
+     *                     failed
+     */
+    @Override
+    public synchronized void report() throws IOException {
+        this.finishReport(false);
+    }
+
+    /**
+     * Finalizes the report like {@link #report()}, noting that the processing ended with a fatal exception; all
+     * entries appended until then are part of the report. If writing an entry to the temporary file failed, the
+     * entries written until then are part of the report.
+     *
+     * @throws IOException if an IOException occurs writing the report file
+     */
+    @Override
+    public synchronized void reportAfterFatalException() throws IOException {
+        this.finishReport(true);
+    }
+
+    /**
+     * Discards the current report by discarding the entries waiting to be written, closing and deleting the temporary
+     * entries file, resets the error counts and clears the depiction cache.
+     */
+    @Override
+    public synchronized void clear() {
+        if (this.entryWriter != null) {
+            this.entryWriter.discard();
+            this.entryWriter = null;
+        }
+        if (this.entriesWriter != null) {
+            try {
+                this.entriesWriter.close();
+            } catch (IOException anIOException) {
+                // the file is deleted anyway
+            }
+            this.entriesWriter = null;
+        }
+        if (this.entriesFilePath != null) {
+            try {
+                Files.deleteIfExists(this.entriesFilePath);
+            } catch (IOException anIOException) {
+                this.entriesFilePath.toFile().deleteOnExit();
+            }
+            this.entriesFilePath = null;
+        }
+        this.errorCounts.clear();
+        this.depictionCache.clear();
+        this.errorCount.reset();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public properties" defaultstate="collapsed">
+    /**
+     * Returns the path of the directory the report files are created in.
+     *
+     * @return Path instance
+     */
+    public Path getReportDirectoryPath() {
+        return this.reportDirectoryPath;
+    }
+
+    /**
+     * Returns the image format of the depictions of the report.
+     *
+     * @return DepictionFormats constant
+     */
+    public synchronized DepictionFormats getDepictionFormat() {
+        return this.depictionCache.getDepictionFormat();
+    }
+
+    /**
+     * Returns the maximum width of the depictions of the report in pixels.
+     *
+     * @return integer value
+     */
+    public synchronized int getMaximumDepictionWidth() {
+        return this.depictionCache.getMaximumDepictionWidth();
+    }
+
+    /**
+     * Sets the image format and maximum width of the depictions of the report (see {@link
+     * ReportDepictionUtils#getDepictionSize(int, int)}); defaults to PNG depictions with a maximum width of {@link
+     * ReportDepictionUtils#DEFAULT_MAXIMUM_DEPICTION_WIDTH} pixels. The settings apply to the reports initialized
+     * afterwards.
+     *
+     * @param aDepictionFormat       image format of the depictions
+     * @param aMaximumDepictionWidth maximum width of the depictions in pixels
+     * @throws NullPointerException if the given format is null
+     * @throws IllegalArgumentException if the given maximum width is less than one
+     */
+    public synchronized void setDepictionSettings(DepictionFormats aDepictionFormat, int aMaximumDepictionWidth)
+            throws NullPointerException, IllegalArgumentException {
+        this.depictionCache = new DepictionCache(DepictionCache.DEFAULT_MAXIMUM_CACHE_SIZE, aDepictionFormat,
+                aMaximumDepictionWidth);
+    }
+
+    /**
+     * Returns the path of the last created report file or null, if no report has been created yet.
+     *
+     * @return Path instance or null
+     */
+    public synchronized Path getLastReportFilePath() {
+        return this.lastReportFilePath;
+    }
+
+    /**
+     * Returns the number of entries written to the current report so far; appended entries still waiting to be
+     * written are not counted yet.
+     *
+     * @return long value
+     */
+    public long getErrorCount() {
+        return this.errorCount.sum();
+    }
+
+    /**
+     * Returns the number of worker threads rendering the depictions of the reports.
+     *
+     * @return integer value
+     */
+    public synchronized int getDepictionThreadCount() {
+        return this.depictionThreadCount;
+    }
+
+    /**
+     * Sets the number of worker threads rendering the depictions of the reports; defaults to the number of available
+     * processors. The number applies to the reports initialized afterwards.
+     *
+     * @param aDepictionThreadCount number of worker threads
+     * @throws IllegalArgumentException if the given value is less than one
+     */
+    public synchronized void setDepictionThreadCount(int aDepictionThreadCount) throws IllegalArgumentException {
+        if (aDepictionThreadCount < 1) {
+            throw new IllegalArgumentException("The depiction thread count (aDepictionThreadCount) needs to be at"
+                    + " least one.");
+        }
+        this.depictionThreadCount = aDepictionThreadCount;
+    }
+
+    /**
+     * Returns the timeout in milliseconds of the waiting for a single depiction.
+     *
+     * @return long value
+     */
+    public synchronized long getDepictionTimeoutMillis() {
+        return this.depictionTimeoutMillis;
+    }
+
+    /**
+     * Sets the timeout in milliseconds of the waiting for a single depiction, counted from the moment its entry is due
+     * to be written; entries whose depiction exceeds it are written with the error message image. Defaults to {@link
+     * MarkDownReporter#DEFAULT_DEPICTION_TIMEOUT_MILLIS}. The timeout applies to the reports initialized afterwards.
+     * <br>
+     * <b>Note:</b> As with the {@link MarkDownReporter}, the timeout only bounds the waiting, not the rendering; the
+     * worker of a timed out rendering is replaced by an additional thread until the rendering finished.
+     *
+     * @param aDepictionTimeoutMillis timeout in milliseconds
+     * @throws IllegalArgumentException if the given value is less than one
+     */
+    public synchronized void setDepictionTimeoutMillis(long aDepictionTimeoutMillis)
+            throws IllegalArgumentException {
+        if (aDepictionTimeoutMillis < 1) {
+            throw new IllegalArgumentException("The depiction timeout (aDepictionTimeoutMillis) needs to be at"
+                    + " least one millisecond.");
+        }
+        this.depictionTimeoutMillis = aDepictionTimeoutMillis;
+    }
+
+    /**
+     * Returns the maximum number of appended entries waiting for their depiction to be rendered and to be written in
+     * the reports initialized afterwards; one window of {@link MarkDownReporter#DEPICTION_WINDOW_SIZE_FACTOR} entries
+     * per depiction worker thread.
+     *
+     * @return integer value
+     */
+    public synchronized int getPendingEntriesCapacity() {
+        return this.depictionThreadCount * MarkDownReporter.DEPICTION_WINDOW_SIZE_FACTOR;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private methods" defaultstate="collapsed">
+    /**
+     * Writes the report file out of the header, the summary and the content of the temporary entries file and clears
+     * the reporter afterwards.
+     *
+     * @param anEndedWithFatalException whether the reported processing ended with a fatal exception
+     * @throws IOException if an IOException occurs writing the report file
+     */
+    private void finishReport(boolean anEndedWithFatalException) throws IOException {
+        if (this.entryWriter == null) {
+            this.initializeNewReport();
+        }
+        try {
+            this.entryWriter.finish();
+            IOException tmpFailure = this.entryWriter.getFailureAsIOException();
+            this.entryWriter = null;
+            if (tmpFailure != null) {
+                if (!anEndedWithFatalException) {
+                    throw tmpFailure;
+                }
+                StreamingMarkDownReporter.LOGGER.log(Level.WARNING, "Entries of the report could not be written: "
+                        + tmpFailure, tmpFailure);
+            }
+            this.entriesWriter.close();
+            this.entriesWriter = null;
+            Path tmpReportFilePath = this.reportDirectoryPath.resolve(MarkDownReporter.getFileName());
+            try (OutputStream tmpOutputStream = Files.newOutputStream(tmpReportFilePath)) {
+                Writer tmpWriter = new BufferedWriter(new OutputStreamWriter(tmpOutputStream,
+                        StandardCharsets.UTF_8));
+                this.writeHeaderAndSummary(tmpWriter, anEndedWithFatalException);
+                tmpWriter.flush();
+                Files.copy(this.entriesFilePath, tmpOutputStream);
+            }
+            this.lastReportFilePath = tmpReportFilePath;
+        } finally {
+            this.clear();
+        }
+    }
+
+    /**
+     * Writes the header of the report and the table of the numbers of reported issues per processing step identifier
+     * and error code to the given writer.
+     *
+     * @param aWriter                   the writer to write to
+     * @param anEndedWithFatalException whether the reported processing ended with a fatal exception
+     * @throws IOException if an IOException occurs writing to the writer
+     */
+    private void writeHeaderAndSummary(Writer aWriter, boolean anEndedWithFatalException) throws IOException {
+        ResourceBundle tmpLiterals = StreamingMarkDownReporter.REPORT_STRING_LITERALS;
+        aWriter.append("# ").append(tmpLiterals.getString("HEADER")).append("\n");
+        aWriter.append(tmpLiterals.getString("TIMESTAMPOFREPORTGENERATION"))
+                .append(MarkDownReporter.getCurrentTimeStamp()).append("\n\n");
+        if (anEndedWithFatalException) {
+            aWriter.append("**").append(tmpLiterals.getString("FATALEXCEPTION")).append("**\n\n");
+        }
+        aWriter.append(tmpLiterals.getString("NUMBEROFERRORS")).append(String.valueOf(this.errorCount.sum()))
+                .append("\n\n");
+        if (!this.errorCounts.isEmpty()) {
+            aWriter.append(tmpLiterals.getString("SUMMARY")).append("\n\n");
+            aWriter.append("| Processing Step ID | Error Code | Count |\n");
+            aWriter.append("| --- | --- | --- |\n");
+            for (Map.Entry<String, Map<ErrorCodes, Long>> tmpStepEntry : this.errorCounts.entrySet()) {
+                for (Map.Entry<ErrorCodes, Long> tmpCodeEntry : tmpStepEntry.getValue().entrySet()) {
+                    aWriter.append("| ").append(tmpStepEntry.getKey()).append(" | ")
+                            .append(String.valueOf(tmpCodeEntry.getKey())).append(" | ")
+                            .append(String.valueOf(tmpCodeEntry.getValue())).append(" |\n");
+                }
+            }
+            aWriter.append("\n");
+        }
+        aWriter.append("## ").append(tmpLiterals.getString("DETAILSINAPPENDORDER")).append("\n\n");
+    }
+
+    /**
+     * Writes the entry of the given ReportDataObject with the given depiction to the temporary entries file and counts
+     * the reported issue; called by the writer thread of the entry writer.
+     *
+     * @param aReportDataObject the reported data to write the entry of
+     * @param aDepictionBase64  base64 string of the depiction or null
+     * @param aDepictionFormat  image format of the depiction
+     * @throws IOException if the entry could not be written to the temporary file
+     */
+    private void writeEntry(ReportDataObject aReportDataObject, String aDepictionBase64,
+                            DepictionFormats aDepictionFormat) throws IOException {
+        MarkDownReporter.appendEntry(this.entriesWriter, aReportDataObject, aDepictionBase64, aDepictionFormat);
+        this.errorCounts.computeIfAbsent(String.valueOf(aReportDataObject.getProcessingStepIdentifier()),
+                        aKey -> new EnumMap<>(ErrorCodes.class))
+                .merge(aReportDataObject.getErrorCode(), 1L, Long::sum);
+        this.errorCount.increment();
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.utils;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import org.openscience.cdk.config.Elements;
+import org.openscience.cdk.interfaces.IElement;
+
+import java.util.Objects;
+
+/**
+ * Immutable, precompiled set of atomic numbers in the range of zero (wildcard) to 118 that is stored as a 128 bit mask
+ * split into two long values. Once created, checking whether an atomic number is part of the set is a constant time
+ * bit operation; the mask is therefore meant to be created once (e.g. at the initialization of a filter) and reused
+ * for every atom of every processed structure.
+ * <br>
+ * <b>Example Usage</b>
+ * <pre>{@code
+ * AtomicNumbersMask tmpMask = new AtomicNumbersMask(IElement.C, IElement.N, IElement.O);
+ * // or
+ * AtomicNumbersMask tmpMask = AtomicNumbersMask.ofElementSymbols("C", "N", "O");
+ * //
+ * boolean tmpIsContained = tmpMask.contains(anAtom.getAtomicNumber());
+ * }</pre>
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public final class AtomicNumbersMask {
+
+    //<editor-fold desc="public static final class constants" defaultstate="collapsed">
+    /**
+     * Integer value of the highest atomic number that may be part of the mask (118).
+     */
+    public static final int HIGHEST_ATOMIC_NUMBER = IElement.Og;   // 118
+
+    /**
+     * Mask of the elements of the organic subset of the SMILES notation (B, C, N, O, P, S, F, Cl, Br and I) extended by
+     * hydrogen.
+     */
+    public static final AtomicNumbersMask ORGANIC_SUBSET = new AtomicNumbersMask(IElement.H, IElement.B, IElement.C,
+            IElement.N, IElement.O, IElement.P, IElement.S, IElement.F, IElement.Cl, IElement.Br, IElement.I);
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * Bits of the atomic numbers zero to 63; bit i is set if the atomic number i is part of the mask.
+     */
+    private final long lowerBits;
+
+    /**
+     * Bits of the atomic numbers 64 to 127; bit i is set if the atomic number i + 64 is part of the mask.
+     */
+    private final long upperBits;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; creates a mask containing the given atomic numbers. Duplicates are allowed and ignored; if no atomic
+     * number is given, the mask is empty.
+     *
+     * @param anAtomicNumbers integer values of the atomic numbers to be part of the mask; use the {@link IElement} enum
+     *                        of element symbols to receive the atomic numbers of specific elements
+     * @throws NullPointerException if the given array is null
+     * @throws IllegalArgumentException if one of the given integer values is no valid atomic number (below zero or
+     *                                  above 118)
+     */
+    public AtomicNumbersMask(int... anAtomicNumbers) throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(anAtomicNumbers, "anAtomicNumbers (int[]) is null.");
+        long tmpLowerBits = 0L;
+        long tmpUpperBits = 0L;
+        for (int tmpAtomicNumber : anAtomicNumbers) {
+            if (tmpAtomicNumber < 0 || tmpAtomicNumber > AtomicNumbersMask.HIGHEST_ATOMIC_NUMBER) {
+                throw new IllegalArgumentException(ErrorCodes.INVALID_ATOMIC_NUMBER_ERROR.name());
+            }
+            if (tmpAtomicNumber < Long.SIZE) {
+                tmpLowerBits |= 1L << tmpAtomicNumber;
+            } else {
+                tmpUpperBits |= 1L << (tmpAtomicNumber - Long.SIZE);
+            }
+        }
+        this.lowerBits = tmpLowerBits;
+        this.upperBits = tmpUpperBits;
+    }
+
+    /**
+     * Private constructor; directly sets the two bit fields.
+     *
+     * @param aLowerBits bits of the atomic numbers zero to 63
+     * @param anUpperBits bits of the atomic numbers 64 to 127
+     */
+    private AtomicNumbersMask(long aLowerBits, long anUpperBits) {
+        this.lowerBits = aLowerBits;
+        this.upperBits = anUpperBits;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public static methods" defaultstate="collapsed">
+    /**
+     * Creates a mask containing the atomic numbers of the elements with the given symbols. The symbols are parsed case
+     * sensitive (e.g. "Cl" for chlorine); the symbol "*" as well as "R" are parsed to the wildcard atomic number zero.
+     *
+     * @param anElementSymbols element symbol strings
+     * @return a new mask
+     * @throws NullPointerException if the given array or one of the symbols is null
+     * @throws IllegalArgumentException if one of the given strings is no known element symbol
+     */
+    public static AtomicNumbersMask ofElementSymbols(String... anElementSymbols) throws NullPointerException,
+            IllegalArgumentException {
+        Objects.requireNonNull(anElementSymbols, "anElementSymbols (String[]) is null.");
+        int[] tmpAtomicNumbers = new int[anElementSymbols.length];
+        for (int i = 0; i < anElementSymbols.length; i++) {
+            Objects.requireNonNull(anElementSymbols[i], "An element of anElementSymbols (instance of String) is null.");
+            Elements tmpElement = Elements.ofString(anElementSymbols[i]);
+            if (tmpElement == Elements.Unknown && !anElementSymbols[i].equals("*")
+                    && !anElementSymbols[i].equals("R")) {
+                throw new IllegalArgumentException("\"" + anElementSymbols[i] + "\" is no known element symbol.");
+            }
+            tmpAtomicNumbers[i] = tmpElement.number();
+        }
+        return new AtomicNumbersMask(tmpAtomicNumbers);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public methods" defaultstate="collapsed">
+    /**
+     * Returns whether the given atomic number is part of the mask. Integer values outside the range of zero to 118 are
+     * never part of the mask; no exception is thrown for them.
+     *
+     * @param anAtomicNumber the atomic number to check
+     * @return true, if the given atomic number is part of the mask
+     */
+    public boolean contains(int anAtomicNumber) {
+        if (anAtomicNumber < 0) {
+            return false;
+        }
+        if (anAtomicNumber < Long.SIZE) {
+            return (this.lowerBits & (1L << anAtomicNumber)) != 0L;
+        }
+        if (anAtomicNumber > AtomicNumbersMask.HIGHEST_ATOMIC_NUMBER) {
+            return false;
+        }
+        return (this.upperBits & (1L << (anAtomicNumber - Long.SIZE))) != 0L;
+    }
+
+    /**
+     * Returns a new mask containing all atomic numbers of this and the given mask.
+     *
+     * @param aMask the mask to unite this mask with
+     * @return a new mask
+     * @throws NullPointerException if the given mask is null
+     */
+    public AtomicNumbersMask union(AtomicNumbersMask aMask) throws NullPointerException {
+        Objects.requireNonNull(aMask, "aMask (instance of AtomicNumbersMask) is null.");
+        return new AtomicNumbersMask(this.lowerBits | aMask.lowerBits, this.upperBits | aMask.upperBits);
+    }
+
+    /**
+     * Returns the number of atomic numbers that are part of the mask.
+     *
+     * @return integer value
+     */
+    public int getCount() {
+        return Long.bitCount(this.lowerBits) + Long.bitCount(this.upperBits);
+    }
+
+    /**
+     * Returns whether the mask contains no atomic number.
+     *
+     * @return boolean value
+     */
+    public boolean isEmpty() {
+        return this.lowerBits == 0L && this.upperBits == 0L;
+    }
+
+    /**
+     * Returns the atomic numbers that are part of the mask as array sorted in ascending order.
+     *
+     * @return integer array
+     */
+    public int[] toArray() {
+        int[] tmpAtomicNumbers = new int[this.getCount()];
+        int tmpIndex = 0;
+        for (int tmpAtomicNumber = 0; tmpAtomicNumber <= AtomicNumbersMask.HIGHEST_ATOMIC_NUMBER; tmpAtomicNumber++) {
+            if (this.contains(tmpAtomicNumber)) {
+                tmpAtomicNumbers[tmpIndex++] = tmpAtomicNumber;
+            }
+        }
+        return tmpAtomicNumbers;
+    }
+
+    @Override
+    public boolean equals(Object anObject) {
+        if (this == anObject) {
+            return true;
+        }
+        if (!(anObject instanceof AtomicNumbersMask tmpMask)) {
+            return false;
+        }
+        return this.lowerBits == tmpMask.lowerBits && this.upperBits == tmpMask.upperBits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.lowerBits, this.upperBits);
+    }
+    //</editor-fold>
+
+}
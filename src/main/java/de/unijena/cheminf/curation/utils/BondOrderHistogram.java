@@ -0,0 +1,215 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.utils;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import org.openscience.cdk.interfaces.IAtom;
+import org.openscience.cdk.interfaces.IAtomContainer;
+import org.openscience.cdk.interfaces.IBond;
+import org.openscience.cdk.interfaces.IPseudoAtom;
+
+import java.util.Objects;
+
+/**
+ * Histogram of the bond orders of the bonds of an atom container. The histogram is determined in a single traversal of
+ * the bonds and holds the counts of all bond orders (including {@code IBond.Order.UNSET} and bond orders being null),
+ * split into bonds to pseudo-atoms and bonds between real atoms. Optionally, the implicit hydrogen atoms of real atoms
+ * and of pseudo-atoms are counted in the same manner, so that the count of bonds of any bond order may be queried in
+ * constant time afterwards. Atoms are considered as pseudo-atoms if they are instances of {@link IPseudoAtom}.
+ * <br>
+ * The histogram is a snapshot; changes to the atom container after its creation are not reflected.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public class BondOrderHistogram {
+
+    /**
+     * Array of all constants of the IBond.Order enum.
+     */
+    private static final IBond.Order[] BOND_ORDERS = IBond.Order.values();
+
+    /**
+     * Index of the count of bonds with bond order null; the counts of all other bond orders are indexed by the ordinal
+     * of the respective IBond.Order constant.
+     */
+    private static final int NULL_BOND_ORDER_INDEX = BondOrderHistogram.BOND_ORDERS.length;
+
+    /**
+     * Counts of bonds between real atoms indexed by bond order (see {@link #NULL_BOND_ORDER_INDEX}).
+     */
+    private final int[] bondsBetweenRealAtomsCounts;
+
+    /**
+     * Counts of bonds with at least one participating pseudo-atom indexed by bond order (see {@link
+     * #NULL_BOND_ORDER_INDEX}).
+     */
+    private final int[] bondsToPseudoAtomsCounts;
+
+    /**
+     * Boolean value whether the implicit hydrogen atoms have been counted.
+     */
+    private final boolean implicitHydrogensCounted;
+
+    /**
+     * Total count of implicit hydrogen atoms of real atoms.
+     */
+    private int implicitHydrogensOfRealAtomsCount = 0;
+
+    /**
+     * Total count of implicit hydrogen atoms of pseudo-atoms.
+     */
+    private int implicitHydrogensOfPseudoAtomsCount = 0;
+
+    /**
+     * Boolean value whether the implicit hydrogen count of a real atom is null.
+     */
+    private boolean implicitHydrogenCountOfRealAtomMissing = false;
+
+    /**
+     * Boolean value whether the implicit hydrogen count of a pseudo-atom is null.
+     */
+    private boolean implicitHydrogenCountOfPseudoAtomMissing = false;
+
+    /**
+     * Constructor; determines the histogram of the bond orders of the given atom container in a single traversal of its
+     * bonds and - if so desired - counts the implicit hydrogen atoms in a single traversal of its atoms. Implicit
+     * hydrogen counts being null do not cause an exception on construction but when querying a count including bonds
+     * to implicit hydrogen atoms (see {@link #isImplicitHydrogenCountMissing(boolean)}).
+     *
+     * @param anAtomContainer IAtomContainer instance to determine the histogram of
+     * @param aCountImplicitHydrogens boolean value whether to count the implicit hydrogen atoms
+     * @throws NullPointerException if the given instance of IAtomContainer is null
+     */
+    public BondOrderHistogram(IAtomContainer anAtomContainer, boolean aCountImplicitHydrogens)
+            throws NullPointerException {
+        Objects.requireNonNull(anAtomContainer, ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name());
+        this.bondsBetweenRealAtomsCounts = new int[BondOrderHistogram.NULL_BOND_ORDER_INDEX + 1];
+        this.bondsToPseudoAtomsCounts = new int[BondOrderHistogram.NULL_BOND_ORDER_INDEX + 1];
+        this.implicitHydrogensCounted = aCountImplicitHydrogens;
+        //
+        IBond.Order tmpBondOrder;
+        int tmpIndex;
+        boolean tmpIsBondToPseudoAtom;
+        for (IBond tmpBond : anAtomContainer.bonds()) {
+            tmpBondOrder = tmpBond.getOrder();
+            tmpIndex = (tmpBondOrder == null) ? BondOrderHistogram.NULL_BOND_ORDER_INDEX : tmpBondOrder.ordinal();
+            tmpIsBondToPseudoAtom = false;
+            for (IAtom tmpAtom : tmpBond.atoms()) {
+                if (tmpAtom instanceof IPseudoAtom) {
+                    tmpIsBondToPseudoAtom = true;
+                    break;
+                }
+            }
+            if (tmpIsBondToPseudoAtom) {
+                this.bondsToPseudoAtomsCounts[tmpIndex]++;
+            } else {
+                this.bondsBetweenRealAtomsCounts[tmpIndex]++;
+            }
+        }
+        //
+        if (aCountImplicitHydrogens) {
+            Integer tmpImplicitHydrogenCount;
+            for (IAtom tmpAtom : anAtomContainer.atoms()) {
+                tmpImplicitHydrogenCount = tmpAtom.getImplicitHydrogenCount();
+                if (tmpAtom instanceof IPseudoAtom) {
+                    if (tmpImplicitHydrogenCount == null) {
+                        this.implicitHydrogenCountOfPseudoAtomMissing = true;
+                    } else {
+                        this.implicitHydrogensOfPseudoAtomsCount += tmpImplicitHydrogenCount;
+                    }
+                } else {
+                    if (tmpImplicitHydrogenCount == null) {
+                        this.implicitHydrogenCountOfRealAtomMissing = true;
+                    } else {
+                        this.implicitHydrogensOfRealAtomsCount += tmpImplicitHydrogenCount;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the count of bonds of the given bond order. Bonds to implicit hydrogen atoms and bonds to pseudo-atoms
+     * may or may not be taken into account; if either of the two boolean parameters is false, bonds to implicit
+     * hydrogen atoms of pseudo-atoms are not taken into account. Bonds to implicit hydrogen atoms are only relevant
+     * when querying the count of bonds of bond order single. The given bond order may also be {@code
+     * IBond.Order.UNSET} or {@code null}.
+     *
+     * @param aBondOrder IBond.Order constant of the bonds to count; null is allowed
+     * @param aConsiderImplicitHydrogens boolean value whether to consider bonds to implicit hydrogen atoms
+     * @param aConsiderPseudoAtoms boolean value whether to consider bonds to pseudo-atoms
+     * @return integer value of the count of bonds of the given bond order
+     * @throws NullPointerException if bonds to implicit hydrogen atoms are relevant but the implicit hydrogen count of
+     *                              a relevant atom is null
+     * @throws IllegalStateException if bonds to implicit hydrogen atoms are relevant but the implicit hydrogen atoms
+     *                               have not been counted on construction
+     */
+    public int getCount(IBond.Order aBondOrder, boolean aConsiderImplicitHydrogens, boolean aConsiderPseudoAtoms)
+            throws NullPointerException, IllegalStateException {
+        final int tmpIndex = (aBondOrder == null) ? BondOrderHistogram.NULL_BOND_ORDER_INDEX : aBondOrder.ordinal();
+        int tmpCount = this.bondsBetweenRealAtomsCounts[tmpIndex];
+        if (aConsiderPseudoAtoms) {
+            tmpCount += this.bondsToPseudoAtomsCounts[tmpIndex];
+        }
+        if (aBondOrder == IBond.Order.SINGLE && aConsiderImplicitHydrogens) {
+            if (!this.implicitHydrogensCounted) {
+                throw new IllegalStateException("The implicit hydrogen atoms have not been counted.");
+            }
+            if (this.isImplicitHydrogenCountMissing(aConsiderPseudoAtoms)) {
+                throw new NullPointerException(ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR.name());
+            }
+            tmpCount += this.implicitHydrogensOfRealAtomsCount;
+            if (aConsiderPseudoAtoms) {
+                tmpCount += this.implicitHydrogensOfPseudoAtomsCount;
+            }
+        }
+        return tmpCount;
+    }
+
+    /**
+     * Returns whether the implicit hydrogen count of an atom of the atom container is null; the implicit hydrogen
+     * counts of pseudo-atoms may or may not be taken into account. Always returns false if the implicit hydrogen atoms
+     * have not been counted on construction.
+     *
+     * @param aConsiderPseudoAtoms boolean value whether to take the implicit hydrogen counts of pseudo-atoms into
+     *                             account
+     * @return true, if an implicit hydrogen count is null
+     */
+    public boolean isImplicitHydrogenCountMissing(boolean aConsiderPseudoAtoms) {
+        return this.implicitHydrogenCountOfRealAtomMissing
+                || (aConsiderPseudoAtoms && this.implicitHydrogenCountOfPseudoAtomMissing);
+    }
+
+    /**
+     * Returns whether the implicit hydrogen atoms have been counted on construction.
+     *
+     * @return boolean value
+     */
+    public boolean isImplicitHydrogensCounted() {
+        return this.implicitHydrogensCounted;
+    }
+
+}
@@ -34,9 +34,8 @@ import org.openscience.cdk.interfaces.IElement;
 import org.openscience.cdk.interfaces.IPseudoAtom;
 import org.openscience.cdk.tools.manipulator.AtomContainerManipulator;
 
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.TreeSet;
 
 /**
  * Class with chemistry utilities; mainly contains methods for determining and calculating values of molecular
@@ -160,7 +159,8 @@ public class ChemUtils {
      * boolean parameters, bonds to implicit hydrogen atoms and bonds to pseudo-atoms are taken into account or not. If
      * either of the two boolean parameters is false, bonds to implicit hydrogen atoms of pseudo-atoms are not taken
      * into account. Atoms are considered as pseudo-atoms if they are instances of {@link IPseudoAtom}.
-     * The given bond order may also be {@code IBond.Order.UNSET} or {@code null}.
+     * The given bond order may also be {@code IBond.Order.UNSET} or {@code null}. To query the counts of multiple bond
+     * orders of the same atom container, use a {@link BondOrderHistogram}.
      * TODO: adjust tests; adjust FilterUtils method; adjust filter
      *
      * @param anAtomContainer IAtomContainer instance to check
@@ -180,31 +180,26 @@ public class ChemUtils {
             throws NullPointerException {
         Objects.requireNonNull(anAtomContainer, ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name());
         int tmpBondTypeCount = 0;
-        if (!aConsiderPseudoAtoms && ChemUtils.containsPseudoAtoms(anAtomContainer)) {
-            boolean tmpIsBondToPseudoAtom;
-            for (IBond tmpBond : anAtomContainer.bonds()) {
-                // check the bond order
-                if (tmpBond.getOrder() == aBondOrder) {
-                    // check whether a pseudo-atom participates
-                    tmpIsBondToPseudoAtom = false;
-                    for (IAtom tmpAtom : tmpBond.atoms()) {
-                        if (tmpAtom instanceof IPseudoAtom) {
-                            tmpIsBondToPseudoAtom = true;
-                            break;
-                        }
-                    }
-                    if (tmpIsBondToPseudoAtom) {
-                        continue;
+        boolean tmpIsBondToPseudoAtom;
+        for (IBond tmpBond : anAtomContainer.bonds()) {
+            // check the bond order
+            if (tmpBond.getOrder() != aBondOrder) {
+                continue;
+            }
+            // check whether a pseudo-atom participates; only done for bonds of the specific bond order
+            if (!aConsiderPseudoAtoms) {
+                tmpIsBondToPseudoAtom = false;
+                for (IAtom tmpAtom : tmpBond.atoms()) {
+                    if (tmpAtom instanceof IPseudoAtom) {
+                        tmpIsBondToPseudoAtom = true;
+                        break;
                     }
-                    tmpBondTypeCount++;
                 }
-            }
-        } else {
-            for (IBond tmpBond : anAtomContainer.bonds()) {
-                if (tmpBond.getOrder() == aBondOrder) {
-                    tmpBondTypeCount++;
+                if (tmpIsBondToPseudoAtom) {
+                    continue;
                 }
             }
+            tmpBondTypeCount++;
         }
         if (aBondOrder == IBond.Order.SINGLE && aConsiderImplicitHydrogens) {
             tmpBondTypeCount += ChemUtils.getImplicitHydrogenCount(anAtomContainer, aConsiderPseudoAtoms);
@@ -239,8 +234,6 @@ public class ChemUtils {
     /**
      * Counts the number of atoms in the given IAtomContainer instance with one of the given atomic numbers. When
      * counting atoms of the atomic number one, implicit hydrogen atoms may or may not be considered.
-     * TODO: implement filter
-     * TODO: convenience method/filter that parses element symbols to atomic numbers (see parseAtomSymbol() method of class Atom)
      * TODO: what about pseudo-atoms?
      *
      * @param anAtomContainer IAtomContainer instance to count the atoms of
@@ -263,39 +256,50 @@ public class ChemUtils {
         if (anAtomicNumbers.length == 0) {
             return 0;
         }
+        // checks whether the atomic numbers fall within the spectrum of: 0 <= tmpAtomicNumber <= 118
+        return ChemUtils.getAtomsOfAtomicNumbersCount(anAtomContainer, aConsiderImplicitHydrogens,
+                new AtomicNumbersMask(anAtomicNumbers));
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="getAtomsOfAtomicNumbersCount(IAtomContainer, boolean, AtomicNumbersMask)" defaultstate="collapsed">
+    /**
+     * Counts the number of atoms in the given IAtomContainer instance with one of the atomic numbers contained by the
+     * given mask. When counting atoms of the atomic number one, implicit hydrogen atoms may or may not be considered.
+     * Since the lookup of the atomic numbers in the mask is a constant time operation, this method should be preferred
+     * over {@link #getAtomsOfAtomicNumbersCount(IAtomContainer, boolean, int...)} when counting the atoms of the same
+     * set of elements in multiple atom containers.
+     *
+     * @param anAtomContainer IAtomContainer instance to count the atoms of
+     * @param aConsiderImplicitHydrogens boolean value whether to consider implicit hydrogen atoms when counting
+     *                                   atoms of the atomic number one ({@link IElement#H})
+     * @param anAtomicNumbersMask mask of the atomic numbers to count the atoms of
+     * @return integer value of the count of atoms in the given atom container with one of the atomic numbers of the
+     *         given mask
+     * @throws NullPointerException if the given atom container or mask is null; if the atomic number of an atom is
+     *                              unset (null); if the implicit hydrogen count of an atom is unset (only relevant
+     *                              when counting atoms of atomic number one and considering implicit hydrogen atoms)
+     * @see AtomicNumbersMask
+     */
+    public static int getAtomsOfAtomicNumbersCount(IAtomContainer anAtomContainer, boolean aConsiderImplicitHydrogens,
+                                                   AtomicNumbersMask anAtomicNumbersMask)
+            throws NullPointerException {
+        Objects.requireNonNull(anAtomContainer, ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name());
+        Objects.requireNonNull(anAtomicNumbersMask, "anAtomicNumbersMask (instance of AtomicNumbersMask) is null.");
         //
-        // sort the atomic numbers and remove duplicates
-        // check whether they fall within the spectrum of: 0 <= tmpAtomicNumber <= 118
-        TreeSet<Integer> tmpTreeSet = new TreeSet<>();
-        for (int tmpAtomicNumber : anAtomicNumbers) {
-            if (tmpAtomicNumber < 0 || tmpAtomicNumber > 118) {
-                throw new IllegalArgumentException(ErrorCodes.INVALID_ATOMIC_NUMBER_ERROR.name());
-            }
-            tmpTreeSet.add(tmpAtomicNumber);
-        }
-        Iterator<Integer> tmpIterator = tmpTreeSet.iterator();
-        int[] tmpAtomicNumbersSorted = new int[tmpTreeSet.size()];
-        for (int i = 0; i < tmpAtomicNumbersSorted.length; i++) {
-            tmpAtomicNumbersSorted[i] = tmpIterator.next();
+        if (anAtomicNumbersMask.isEmpty()) {
+            return 0;
         }
-        //
         int tmpSpecificAtomsCount = 0;
         Integer tmpAtomicNumberOfAtom;
         for (IAtom tmpAtom : anAtomContainer.atoms()) {
             tmpAtomicNumberOfAtom = tmpAtom.getAtomicNumber();
             Objects.requireNonNull(tmpAtomicNumberOfAtom, ErrorCodes.ATOMIC_NUMBER_NULL_ERROR.name());
-            for (int tmpAtomicNumber : tmpAtomicNumbersSorted) {
-                if (tmpAtomicNumberOfAtom < tmpAtomicNumber) {
-                    break;
-                }
-                if (tmpAtomicNumberOfAtom == tmpAtomicNumber) {
-                    tmpSpecificAtomsCount++;
-                    break;
-                }
-                // else: continue
+            if (anAtomicNumbersMask.contains(tmpAtomicNumberOfAtom)) {
+                tmpSpecificAtomsCount++;
             }
         }
-        if (aConsiderImplicitHydrogens && tmpAtomicNumbersSorted[0] == IElement.H) {
+        if (aConsiderImplicitHydrogens && anAtomicNumbersMask.contains(IElement.H)) {
             //TODO: consider implicit Hs of pseudo atoms?
             tmpSpecificAtomsCount += ChemUtils.getImplicitHydrogenCount(anAtomContainer, false);
         }
@@ -561,4 +565,108 @@ public class ChemUtils {
     }
     //</editor-fold>
 
+    //<editor-fold desc="fillSigmaAndPiBondCounts()" defaultstate="collapsed">
+    /**
+     * Counts the sigma and pi bonds of all atoms of the given atom container in a single pass over its bonds and writes
+     * them into the given arrays at the indices of the atoms in the atom container. The bonds to implicit hydrogen
+     * atoms are not considered. The arrays may be reused for multiple atom containers; the first {@link
+     * IAtomContainer#getAtomCount()} values of both arrays are overwritten, further values remain untouched.
+     * <br>
+     * Atoms of a bond that are null or not part of the given atom container are skipped.
+     *
+     * @param anAtomContainer  the atom container to count the sigma and pi bonds of the atoms of
+     * @param aSigmaBondCounts array to write the sigma bond counts of the atoms to
+     * @param aPiBondCounts    array to write the pi bond counts of the atoms to
+     * @throws NullPointerException if the given atom container or one of the given arrays is null; if a bond of the
+     *                              atom container or its bond order is null
+     * @throws IllegalArgumentException if one of the given arrays is shorter than the atom count of the atom container;
+     *                                  if the bond order of a bond is UNSET
+     * @see #tryFillSigmaAndPiBondCounts(IAtomContainer, int[], int[])
+     */
+    public static void fillSigmaAndPiBondCounts(IAtomContainer anAtomContainer, int[] aSigmaBondCounts,
+                                                int[] aPiBondCounts) throws NullPointerException,
+            IllegalArgumentException {
+        final ErrorCodes tmpIssue = ChemUtils.tryFillSigmaAndPiBondCounts(anAtomContainer, aSigmaBondCounts,
+                aPiBondCounts);
+        if (tmpIssue == null) {
+            return;
+        }
+        switch (tmpIssue) {
+            case BOND_ORDER_UNSET_ERROR, BOND_ORDER_UNKNOWN_ERROR ->
+                    throw new IllegalArgumentException(tmpIssue.name());
+            default -> throw new NullPointerException(tmpIssue.name());
+        }
+    }
+
+    /**
+     * Counts the sigma and pi bonds of all atoms of the given atom container like {@link
+     * #fillSigmaAndPiBondCounts(IAtomContainer, int[], int[])}, but without signalling issues with the bonds via
+     * exceptions. A bond or bond order being null or the bond order being UNSET is detected during the pass over the
+     * bonds and stops it; the counts written to the arrays up to that point are incomplete.
+     *
+     * @param anAtomContainer  the atom container to count the sigma and pi bonds of the atoms of
+     * @param aSigmaBondCounts array to write the sigma bond counts of the atoms to
+     * @param aPiBondCounts    array to write the pi bond counts of the atoms to
+     * @return error code of the issue encountered with a bond or null, if the counts were determined completely
+     * @throws NullPointerException if the given atom container or one of the given arrays is null
+     * @throws IllegalArgumentException if one of the given arrays is shorter than the atom count of the atom container
+     */
+    public static ErrorCodes tryFillSigmaAndPiBondCounts(IAtomContainer anAtomContainer, int[] aSigmaBondCounts,
+                                                         int[] aPiBondCounts) throws NullPointerException,
+            IllegalArgumentException {
+        Objects.requireNonNull(anAtomContainer, ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name());
+        Objects.requireNonNull(aSigmaBondCounts, "aSigmaBondCounts (instance of int[]) is null.");
+        Objects.requireNonNull(aPiBondCounts, "aPiBondCounts (instance of int[]) is null.");
+        final int tmpAtomCount = anAtomContainer.getAtomCount();
+        if (aSigmaBondCounts.length < tmpAtomCount || aPiBondCounts.length < tmpAtomCount) {
+            throw new IllegalArgumentException("The given arrays need to have at least the length of the atom count" +
+                    " of the atom container.");
+        }
+        Arrays.fill(aSigmaBondCounts, 0, tmpAtomCount, 0);
+        Arrays.fill(aPiBondCounts, 0, tmpAtomCount, 0);
+        IBond tmpBond;
+        IAtom tmpAtom;
+        int tmpPiBondsOfBond;
+        int tmpAtomIndex;
+        for (int i = 0; i < anAtomContainer.getBondCount(); i++) {
+            if ((tmpBond = anAtomContainer.getBond(i)) == null) {
+                return ErrorCodes.BOND_NULL_ERROR;
+            }
+            if (tmpBond.getOrder() == null) {
+                return ErrorCodes.BOND_ORDER_NULL_ERROR;
+            }
+            switch (tmpBond.getOrder()) {
+                case SINGLE -> tmpPiBondsOfBond = 0;
+                case DOUBLE -> tmpPiBondsOfBond = 1;
+                case TRIPLE -> tmpPiBondsOfBond = 2;
+                case QUADRUPLE -> tmpPiBondsOfBond = 3;
+                case QUINTUPLE -> tmpPiBondsOfBond = 4;
+                case SEXTUPLE -> tmpPiBondsOfBond = 5;
+                case UNSET -> {
+                    return ErrorCodes.BOND_ORDER_UNSET_ERROR;
+                }
+                default -> {
+                    // should not happen; the IBond.Order enum needed to be modified for this
+                    return ErrorCodes.BOND_ORDER_UNKNOWN_ERROR;
+                }
+            }
+            for (int j = 0; j < tmpBond.getAtomCount(); j++) {
+                if ((tmpAtom = tmpBond.getAtom(j)) == null) {
+                    continue;
+                }
+                // the index is known to atoms referenced via the atom container; falls back to a search otherwise
+                if ((tmpAtomIndex = tmpAtom.getIndex()) < 0 || tmpAtomIndex >= tmpAtomCount
+                        || anAtomContainer.getAtom(tmpAtomIndex) != tmpAtom) {
+                    if ((tmpAtomIndex = anAtomContainer.indexOf(tmpAtom)) < 0) {
+                        continue;
+                    }
+                }
+                aSigmaBondCounts[tmpAtomIndex]++;
+                aPiBondCounts[tmpAtomIndex] += tmpPiBondsOfBond;
+            }
+        }
+        return null;
+    }
+    //</editor-fold>
+
 }
@@ -26,14 +26,17 @@
 package de.unijena.cheminf.curation.utils;
 
 import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ThresholdCheckResults;
 import de.unijena.cheminf.curation.valenceHandling.valenceModels.IValenceModel;
 import de.unijena.cheminf.curation.valenceHandling.valenceModels.PubChemValenceModel;
 import de.unijena.cheminf.curation.valenceHandling.valenceModels.ValenceListBasedValenceModel;
 import org.openscience.cdk.interfaces.IAtom;
 import org.openscience.cdk.interfaces.IAtomContainer;
 import org.openscience.cdk.interfaces.IBond;
+import org.openscience.cdk.interfaces.IElement;
 import org.openscience.cdk.interfaces.IPseudoAtom;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -54,51 +57,170 @@ public class FilterUtils {
      * implicit hydrogen atoms or lowered by the number of pseudo-atoms. Use the {@link #exceedsOrEqualsHeavyAtomCount}
      * method to only count heavy atoms (excluding all hydrogen atoms). Atoms are considered as pseudo-atoms if they are
      * instances of {@link IPseudoAtom}.
+     * <br>
+     * The outcome is decided on the explicit atom count ({@link IAtomContainer#getAtomCount()}) whenever possible;
+     * otherwise, the atoms are counted until the threshold is reached or can no longer be reached. If implicit hydrogen
+     * atoms are considered, the threshold is only reported as reached once all implicit hydrogen counts have been
+     * checked for being null.
      *
      * @param anAtomContainer IAtomContainer instance to check
      * @param aThresholdValue Integer value of the atom count threshold
      * @param aConsiderImplicitHydrogens Boolean value whether to consider implicit hydrogen atoms
      * @param aConsiderPseudoAtoms boolean value whether to consider pseudo-atoms
      * @return true, if the atom count of the given atom container exceeds or equals the given threshold
-     * @throws NullPointerException if the given instance of IAtomContainer is null; if the implicit hydrogen count of
-     *                              an atom is null
+     * @throws NullPointerException if the given instance of IAtomContainer is null; if implicit hydrogen atoms are to
+     *                              be considered but the implicit hydrogen count of an atom is null
      * @throws IllegalArgumentException if the given threshold value is below zero
      * @see #exceedsOrEqualsHeavyAtomCount(IAtomContainer, int, boolean)
+     * @see #checkAtomCount(IAtomContainer, int, boolean, boolean)
      */
     public static boolean exceedsOrEqualsAtomCount(IAtomContainer anAtomContainer,
                                                    int aThresholdValue,
                                                    boolean aConsiderImplicitHydrogens,
                                                    boolean aConsiderPseudoAtoms)
             throws NullPointerException, IllegalArgumentException {
+        return FilterUtils.isThresholdReached(FilterUtils.checkAtomCount(anAtomContainer, aThresholdValue,
+                aConsiderImplicitHydrogens, aConsiderPseudoAtoms));
+    }
+
+    /**
+     * Checks the atom count of a given atom container against the given threshold like {@link
+     * #exceedsOrEqualsAtomCount(IAtomContainer, int, boolean, boolean)}, but without signalling issues with the
+     * structure via exceptions. If implicit hydrogen atoms are considered, an implicit hydrogen count being null
+     * results in {@link ThresholdCheckResults#IMPLICIT_HYDROGEN_COUNT_NULL}, even if the threshold is reached before
+     * the respective atom is visited.
+     *
+     * @param anAtomContainer IAtomContainer instance to check
+     * @param aThresholdValue Integer value of the atom count threshold
+     * @param aConsiderImplicitHydrogens Boolean value whether to consider implicit hydrogen atoms
+     * @param aConsiderPseudoAtoms boolean value whether to consider pseudo-atoms
+     * @return ThresholdCheckResults constant
+     * @throws NullPointerException if the given instance of IAtomContainer is null
+     * @throws IllegalArgumentException if the given threshold value is below zero
+     */
+    public static ThresholdCheckResults checkAtomCount(IAtomContainer anAtomContainer,
+                                                       int aThresholdValue,
+                                                       boolean aConsiderImplicitHydrogens,
+                                                       boolean aConsiderPseudoAtoms)
+            throws NullPointerException, IllegalArgumentException {
         Objects.requireNonNull(anAtomContainer, ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name());
         if (aThresholdValue < 0) {
             throw new IllegalArgumentException(ErrorCodes.ILLEGAL_THRESHOLD_VALUE_ERROR.name());
         }
-        final int tmpAtomCount = ChemUtils.getAtomCount(anAtomContainer, aConsiderImplicitHydrogens, aConsiderPseudoAtoms);
-        return tmpAtomCount >= aThresholdValue;
+        // pre-checks based on the count of explicit atoms
+        final int tmpExplicitAtomCount = anAtomContainer.getAtomCount();
+        if (aThresholdValue == 0 || (aConsiderPseudoAtoms && tmpExplicitAtomCount >= aThresholdValue)) {
+            return FilterUtils.getThresholdReachedResult(anAtomContainer, aConsiderImplicitHydrogens,
+                    aConsiderPseudoAtoms);
+        }
+        if (!aConsiderImplicitHydrogens && tmpExplicitAtomCount < aThresholdValue) {
+            return ThresholdCheckResults.THRESHOLD_NOT_REACHED;
+        }
+        // count the atoms until the outcome is decided
+        int tmpAtomCount = 0;
+        int tmpRemainingAtomsCount = tmpExplicitAtomCount;
+        Integer tmpImplicitHydrogenCount;
+        for (IAtom tmpAtom : anAtomContainer.atoms()) {
+            tmpRemainingAtomsCount--;
+            if (!aConsiderPseudoAtoms && tmpAtom instanceof IPseudoAtom) {
+                // without implicit hydrogen atoms, the count is bound by the number of atoms not yet visited
+                if (!aConsiderImplicitHydrogens && tmpAtomCount + tmpRemainingAtomsCount < aThresholdValue) {
+                    return ThresholdCheckResults.THRESHOLD_NOT_REACHED;
+                }
+                continue;
+            }
+            tmpAtomCount++;
+            if (aConsiderImplicitHydrogens) {
+                if ((tmpImplicitHydrogenCount = tmpAtom.getImplicitHydrogenCount()) == null) {
+                    return ThresholdCheckResults.IMPLICIT_HYDROGEN_COUNT_NULL;
+                }
+                tmpAtomCount += tmpImplicitHydrogenCount;
+            }
+            if (tmpAtomCount >= aThresholdValue) {
+                return FilterUtils.getThresholdReachedResult(anAtomContainer, aConsiderImplicitHydrogens,
+                        aConsiderPseudoAtoms);
+            }
+        }
+        return ThresholdCheckResults.THRESHOLD_NOT_REACHED;
     }
 
     /**
      * Checks whether the heavy atom count, the number of non-hydrogen atoms, of the given atom container equals or
-     * exceeds the given threshold value. Instances of {@link IPseudoAtom} may or may not be taken into account.
+     * exceeds the given threshold value. Instances of {@link IPseudoAtom} may or may not be taken into account. Atom
+     * containers with fewer explicit atoms than the threshold are rejected without iterating their atoms; otherwise,
+     * the counting stops as soon as the outcome is decided.
      *
      * @param anAtomContainer IAtomContainer instance to check
      * @param aThresholdValue Integer value of the heavy atom count threshold
      * @param aConsiderPseudoAtoms boolean value whether to consider pseudo-atoms
      * @return true, if the heavy atom count of the given atom container exceeds or equals the given threshold
-     * @throws NullPointerException if the given instance of IAtomContainer is null
+     * @throws NullPointerException if the given instance of IAtomContainer is null; if the atomic number of an atom
+     *                              visited before the outcome was decided is null
      * @throws IllegalArgumentException if the given threshold value is below zero
+     * @see #checkHeavyAtomCount(IAtomContainer, int, boolean)
      */
     public static boolean exceedsOrEqualsHeavyAtomCount(IAtomContainer anAtomContainer,
                                                         int aThresholdValue,
                                                         boolean aConsiderPseudoAtoms)
             throws NullPointerException, IllegalArgumentException {
+        return FilterUtils.isThresholdReached(FilterUtils.checkHeavyAtomCount(anAtomContainer, aThresholdValue,
+                aConsiderPseudoAtoms));
+    }
+
+    /**
+     * Checks the heavy atom count of a given atom container against the given threshold like {@link
+     * #exceedsOrEqualsHeavyAtomCount(IAtomContainer, int, boolean)}, but without signalling issues with the structure
+     * via exceptions. An atomic number being null is detected while counting and results in {@link
+     * ThresholdCheckResults#ATOMIC_NUMBER_NULL}.
+     *
+     * @param anAtomContainer IAtomContainer instance to check
+     * @param aThresholdValue Integer value of the heavy atom count threshold
+     * @param aConsiderPseudoAtoms boolean value whether to consider pseudo-atoms
+     * @return ThresholdCheckResults constant
+     * @throws NullPointerException if the given instance of IAtomContainer is null
+     * @throws IllegalArgumentException if the given threshold value is below zero
+     */
+    public static ThresholdCheckResults checkHeavyAtomCount(IAtomContainer anAtomContainer,
+                                                            int aThresholdValue,
+                                                            boolean aConsiderPseudoAtoms)
+            throws NullPointerException, IllegalArgumentException {
         Objects.requireNonNull(anAtomContainer, ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name());
         if (aThresholdValue < 0) {
             throw new IllegalArgumentException(ErrorCodes.ILLEGAL_THRESHOLD_VALUE_ERROR.name());
         }
-        final int tmpHeavyAtomCount = ChemUtils.getHeavyAtomCount(anAtomContainer, aConsiderPseudoAtoms);
-        return tmpHeavyAtomCount >= aThresholdValue;
+        // pre-checks based on the count of explicit atoms
+        if (aThresholdValue == 0) {
+            return ThresholdCheckResults.THRESHOLD_REACHED;
+        }
+        if (anAtomContainer.getAtomCount() < aThresholdValue) {
+            return ThresholdCheckResults.THRESHOLD_NOT_REACHED;
+        }
+        // count the heavy atoms until the outcome is decided
+        int tmpHeavyAtomCount = 0;
+        int tmpRemainingAtomsCount = anAtomContainer.getAtomCount();
+        Integer tmpAtomicNumber;
+        for (IAtom tmpAtom : anAtomContainer.atoms()) {
+            tmpRemainingAtomsCount--;
+            if (!aConsiderPseudoAtoms && tmpAtom instanceof IPseudoAtom) {
+                if (tmpHeavyAtomCount + tmpRemainingAtomsCount < aThresholdValue) {
+                    return ThresholdCheckResults.THRESHOLD_NOT_REACHED;
+                }
+                continue;
+            }
+            if ((tmpAtomicNumber = tmpAtom.getAtomicNumber()) == null) {
+                return ThresholdCheckResults.ATOMIC_NUMBER_NULL;
+            }
+            if (tmpAtomicNumber == IElement.H) {
+                if (tmpHeavyAtomCount + tmpRemainingAtomsCount < aThresholdValue) {
+                    return ThresholdCheckResults.THRESHOLD_NOT_REACHED;
+                }
+                continue;
+            }
+            if (++tmpHeavyAtomCount >= aThresholdValue) {
+                return ThresholdCheckResults.THRESHOLD_REACHED;
+            }
+        }
+        return ThresholdCheckResults.THRESHOLD_NOT_REACHED;
     }
 
     /**
@@ -106,6 +228,11 @@ public class FilterUtils {
      * boolean parameters, bonds to implicit hydrogen atoms and bonds to pseudo-atoms are taken into account or not. If
      * either of the two boolean parameters is false, bonds to implicit hydrogen atoms of pseudo-atoms are not taken
      * into account. Pseudo-atoms are expected to be instances of {@link IPseudoAtom}.
+     * <br>
+     * The explicit bond count ({@link IAtomContainer#getBondCount()}) is used as a pre-check; the bonds are only
+     * counted if it does not decide the outcome, and only until it is decided. If implicit hydrogen atoms are
+     * considered, the threshold is only reported as reached once all implicit hydrogen counts have been checked for
+     * being null.
      *
      * @param anAtomContainer IAtomContainer instance to check
      * @param aThresholdValue Integer value of the bond count threshold
@@ -115,16 +242,78 @@ public class FilterUtils {
      * @throws NullPointerException if the given instance of IAtomContainer is null; if implicit hydrogen atoms are to
      *                              be considered but the implicit hydrogen count of an atom is null
      * @throws IllegalArgumentException if the given threshold value is below zero
+     * @see #checkBondCount(IAtomContainer, int, boolean, boolean)
      */
     public static boolean exceedsOrEqualsBondCount(IAtomContainer anAtomContainer, int aThresholdValue,
                                                   boolean aConsiderImplicitHydrogens, boolean aConsiderPseudoAtoms)
             throws NullPointerException, IllegalArgumentException {
+        return FilterUtils.isThresholdReached(FilterUtils.checkBondCount(anAtomContainer, aThresholdValue,
+                aConsiderImplicitHydrogens, aConsiderPseudoAtoms));
+    }
+
+    /**
+     * Checks the bond count of a given atom container against the given threshold like {@link
+     * #exceedsOrEqualsBondCount(IAtomContainer, int, boolean, boolean)}, but without signalling issues with the
+     * structure via exceptions. If implicit hydrogen atoms are considered, an implicit hydrogen count being null
+     * results in {@link ThresholdCheckResults#IMPLICIT_HYDROGEN_COUNT_NULL}, even if the explicit bonds already reach
+     * the threshold.
+     *
+     * @param anAtomContainer IAtomContainer instance to check
+     * @param aThresholdValue Integer value of the bond count threshold
+     * @param aConsiderImplicitHydrogens Boolean value whether to consider implicit hydrogen atoms
+     * @param aConsiderPseudoAtoms boolean value whether to consider pseudo-atoms
+     * @return ThresholdCheckResults constant
+     * @throws NullPointerException if the given instance of IAtomContainer is null
+     * @throws IllegalArgumentException if the given threshold value is below zero
+     */
+    public static ThresholdCheckResults checkBondCount(IAtomContainer anAtomContainer, int aThresholdValue,
+                                                       boolean aConsiderImplicitHydrogens,
+                                                       boolean aConsiderPseudoAtoms)
+            throws NullPointerException, IllegalArgumentException {
         Objects.requireNonNull(anAtomContainer, ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name());
         if (aThresholdValue < 0) {
             throw new IllegalArgumentException(ErrorCodes.ILLEGAL_THRESHOLD_VALUE_ERROR.name());
         }
-        final int tmpBondCount = ChemUtils.getBondCount(anAtomContainer, aConsiderImplicitHydrogens, aConsiderPseudoAtoms);
-        return tmpBondCount >= aThresholdValue;
+        // pre-checks based on the count of explicit bonds
+        final int tmpExplicitBondCount = anAtomContainer.getBondCount();
+        if (aThresholdValue == 0 || (aConsiderPseudoAtoms && tmpExplicitBondCount >= aThresholdValue)) {
+            return FilterUtils.getThresholdReachedResult(anAtomContainer, aConsiderImplicitHydrogens,
+                    aConsiderPseudoAtoms);
+        }
+        if (!aConsiderImplicitHydrogens && tmpExplicitBondCount < aThresholdValue) {
+            return ThresholdCheckResults.THRESHOLD_NOT_REACHED;
+        }
+        // the atoms are only scanned for pseudo-atoms if the explicit bond count did not decide the outcome
+        final boolean tmpExcludeBondsToPseudoAtoms = !aConsiderPseudoAtoms
+                && ChemUtils.containsPseudoAtoms(anAtomContainer);
+        if (!tmpExcludeBondsToPseudoAtoms && tmpExplicitBondCount >= aThresholdValue) {
+            return FilterUtils.getThresholdReachedResult(anAtomContainer, aConsiderImplicitHydrogens,
+                    aConsiderPseudoAtoms);
+        }
+        // count the bonds until the outcome is decided
+        int tmpBondCount = tmpExplicitBondCount;
+        if (tmpExcludeBondsToPseudoAtoms) {
+            tmpBondCount = 0;
+            int tmpRemainingBondsCount = tmpExplicitBondCount;
+            for (IBond tmpBond : anAtomContainer.bonds()) {
+                tmpRemainingBondsCount--;
+                if (FilterUtils.isBondToPseudoAtom(tmpBond)) {
+                    if (!aConsiderImplicitHydrogens && tmpBondCount + tmpRemainingBondsCount < aThresholdValue) {
+                        return ThresholdCheckResults.THRESHOLD_NOT_REACHED;
+                    }
+                    continue;
+                }
+                if (++tmpBondCount >= aThresholdValue) {
+                    return FilterUtils.getThresholdReachedResult(anAtomContainer, aConsiderImplicitHydrogens,
+                            aConsiderPseudoAtoms);
+                }
+            }
+        }
+        if (!aConsiderImplicitHydrogens) {
+            return ThresholdCheckResults.THRESHOLD_NOT_REACHED;
+        }
+        return FilterUtils.checkImplicitHydrogenCount(anAtomContainer, aThresholdValue - tmpBondCount,
+                aConsiderPseudoAtoms);
     }
 
     /**
@@ -133,6 +322,11 @@ public class FilterUtils {
      * taken into account or not. If either of the two boolean parameters is false, bonds to implicit hydrogen atoms of
      * pseudo-atoms are not taken into account. Atoms are considered as pseudo-atoms if they are instances of {@link
      * IPseudoAtom}. The given bond order may be IBond.Order.UNSET or null.
+     * <br>
+     * If bonds to implicit hydrogen atoms are not relevant, atom containers with fewer explicit bonds than the
+     * threshold are rejected right away. The counting stops as soon as the outcome is decided; if bonds to implicit
+     * hydrogen atoms are relevant, the threshold is only reported as reached once all implicit hydrogen counts have
+     * been checked for being null.
      *
      * @param anAtomContainer IAtomContainer instance to check
      * @param aBondOrder Constant of IBond.Order to specify the bond order of the bonds to be counted; null or
@@ -145,6 +339,7 @@ public class FilterUtils {
      * @throws NullPointerException if the given instance of IAtomContainer is null; if implicit hydrogen atoms are to
      *                              be considered but the implicit hydrogen count of an atom is null
      * @throws IllegalArgumentException if the given threshold value is below zero
+     * @see #checkBondsOfSpecificBondOrderCount(IAtomContainer, IBond.Order, int, boolean, boolean)
      */
     public static boolean exceedsOrEqualsBondsOfSpecificBondOrderCount(IAtomContainer anAtomContainer,
                                                                        IBond.Order aBondOrder,
@@ -152,18 +347,220 @@ public class FilterUtils {
                                                                        boolean aConsiderImplicitHydrogens,
                                                                        boolean aConsiderPseudoAtoms)
             throws NullPointerException, IllegalArgumentException {
+        return FilterUtils.isThresholdReached(FilterUtils.checkBondsOfSpecificBondOrderCount(anAtomContainer,
+                aBondOrder, aThresholdValue, aConsiderImplicitHydrogens, aConsiderPseudoAtoms));
+    }
+
+    /**
+     * Checks the count of bonds of a specific bond order of a given atom container against the given threshold like
+     * {@link #exceedsOrEqualsBondsOfSpecificBondOrderCount(IAtomContainer, IBond.Order, int, boolean, boolean)}, but
+     * without signalling issues with the structure via exceptions. If bonds to implicit hydrogen atoms are relevant,
+     * an implicit hydrogen count being null results in {@link ThresholdCheckResults#IMPLICIT_HYDROGEN_COUNT_NULL},
+     * even if the explicit bonds already reach the threshold.
+     *
+     * @param anAtomContainer IAtomContainer instance to check
+     * @param aBondOrder Constant of IBond.Order to specify the bond order of the bonds to be counted; null or
+     *                   IBond.Order.UNSET are allowed
+     * @param aThresholdValue Integer value of the bond count threshold
+     * @param aConsiderImplicitHydrogens Boolean value whether to consider bonds to implicit hydrogen atoms; this is
+     *                                   only relevant when counting bonds of the order one / single
+     * @param aConsiderPseudoAtoms boolean value whether to consider pseudo-atoms
+     * @return ThresholdCheckResults constant
+     * @throws NullPointerException if the given instance of IAtomContainer is null
+     * @throws IllegalArgumentException if the given threshold value is below zero
+     */
+    public static ThresholdCheckResults checkBondsOfSpecificBondOrderCount(IAtomContainer anAtomContainer,
+                                                                           IBond.Order aBondOrder,
+                                                                           int aThresholdValue,
+                                                                           boolean aConsiderImplicitHydrogens,
+                                                                           boolean aConsiderPseudoAtoms)
+            throws NullPointerException, IllegalArgumentException {
         Objects.requireNonNull(anAtomContainer, ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name());
         if (aThresholdValue < 0) {
             throw new IllegalArgumentException(ErrorCodes.ILLEGAL_THRESHOLD_VALUE_ERROR.name());
         }
-        final int tmpBondCount = ChemUtils.getBondsOfSpecificBondOrderCount(anAtomContainer, aBondOrder,
-                aConsiderImplicitHydrogens, aConsiderPseudoAtoms);
-        return tmpBondCount >= aThresholdValue;
+        // pre-checks based on the count of explicit bonds
+        final boolean tmpConsiderBondsToImplicitHydrogens = aBondOrder == IBond.Order.SINGLE
+                && aConsiderImplicitHydrogens;
+        if (aThresholdValue == 0) {
+            return FilterUtils.getThresholdReachedResult(anAtomContainer, tmpConsiderBondsToImplicitHydrogens,
+                    aConsiderPseudoAtoms);
+        }
+        final int tmpExplicitBondCount = anAtomContainer.getBondCount();
+        if (!tmpConsiderBondsToImplicitHydrogens && tmpExplicitBondCount < aThresholdValue) {
+            return ThresholdCheckResults.THRESHOLD_NOT_REACHED;
+        }
+        // count the bonds of the specific bond order until the outcome is decided; the atoms participating in a bond
+        // are only checked for being pseudo-atoms if the bond is of the specific bond order
+        int tmpBondTypeCount = 0;
+        int tmpRemainingBondsCount = tmpExplicitBondCount;
+        for (IBond tmpBond : anAtomContainer.bonds()) {
+            tmpRemainingBondsCount--;
+            if (tmpBond.getOrder() != aBondOrder
+                    || (!aConsiderPseudoAtoms && FilterUtils.isBondToPseudoAtom(tmpBond))) {
+                if (!tmpConsiderBondsToImplicitHydrogens
+                        && tmpBondTypeCount + tmpRemainingBondsCount < aThresholdValue) {
+                    return ThresholdCheckResults.THRESHOLD_NOT_REACHED;
+                }
+                continue;
+            }
+            if (++tmpBondTypeCount >= aThresholdValue) {
+                return FilterUtils.getThresholdReachedResult(anAtomContainer, tmpConsiderBondsToImplicitHydrogens,
+                        aConsiderPseudoAtoms);
+            }
+        }
+        if (!tmpConsiderBondsToImplicitHydrogens) {
+            return ThresholdCheckResults.THRESHOLD_NOT_REACHED;
+        }
+        return FilterUtils.checkImplicitHydrogenCount(anAtomContainer, aThresholdValue - tmpBondTypeCount,
+                aConsiderPseudoAtoms);
+    }
+
+    /**
+     * Returns the error code of the first issue encountered with the implicit hydrogen counts of the atoms of the given
+     * atom container or null, if there is none. The implicit hydrogen counts of instances of {@link IPseudoAtom} may
+     * or may not be checked. Meant to be used to detect issues without the need of catching exceptions.
+     *
+     * @param anAtomContainer IAtomContainer instance to check
+     * @param aConsiderPseudoAtoms boolean value whether to check the implicit hydrogen counts of IPseudoAtom instances
+     * @return {@link ErrorCodes#IMPLICIT_HYDROGEN_COUNT_NULL_ERROR} if the implicit hydrogen count of an atom is null;
+     *         null otherwise
+     * @throws NullPointerException if the given instance of IAtomContainer is null
+     */
+    public static ErrorCodes getImplicitHydrogenCountIssue(IAtomContainer anAtomContainer,
+                                                           boolean aConsiderPseudoAtoms)
+            throws NullPointerException {
+        Objects.requireNonNull(anAtomContainer, ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name());
+        for (IAtom tmpAtom : anAtomContainer.atoms()) {
+            if (!aConsiderPseudoAtoms && tmpAtom instanceof IPseudoAtom) {
+                continue;
+            }
+            if (tmpAtom.getImplicitHydrogenCount() == null) {
+                return ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the total count of implicit hydrogen atoms of the given atom container exceeds or equals the given
+     * threshold value. All atoms are visited, since the implicit hydrogen count of every atom is checked for being
+     * null, even if the threshold is reached before. The implicit hydrogen counts assigned to instances of {@link
+     * IPseudoAtom} may or may not be taken into account.
+     *
+     * @param anAtomContainer IAtomContainer instance to check
+     * @param aThresholdValue integer value of the implicit hydrogen count threshold
+     * @param aConsiderPseudoAtoms boolean value whether to consider implicit hydrogen counts of IPseudoAtom instances
+     * @return ThresholdCheckResults constant; {@link ThresholdCheckResults#IMPLICIT_HYDROGEN_COUNT_NULL} if the
+     *         implicit hydrogen count of an atom is null
+     */
+    private static ThresholdCheckResults checkImplicitHydrogenCount(IAtomContainer anAtomContainer,
+                                                                    int aThresholdValue,
+                                                                    boolean aConsiderPseudoAtoms) {
+        int tmpImplicitHydrogenCount = 0;
+        Integer tmpNotNullInteger;
+        for (IAtom tmpAtom : anAtomContainer.atoms()) {
+            if (!aConsiderPseudoAtoms && tmpAtom instanceof IPseudoAtom) {
+                continue;
+            }
+            if ((tmpNotNullInteger = tmpAtom.getImplicitHydrogenCount()) == null) {
+                return ThresholdCheckResults.IMPLICIT_HYDROGEN_COUNT_NULL;
+            }
+            tmpImplicitHydrogenCount += tmpNotNullInteger;
+        }
+        return tmpImplicitHydrogenCount >= aThresholdValue ? ThresholdCheckResults.THRESHOLD_REACHED
+                : ThresholdCheckResults.THRESHOLD_NOT_REACHED;
+    }
+
+    /**
+     * Returns the result of a threshold check whose threshold has been reached. If implicit hydrogen atoms are
+     * considered, the implicit hydrogen counts of all atoms are checked for being null beforehand, as the count
+     * would not be computable otherwise.
+     *
+     * @param anAtomContainer IAtomContainer instance that has been checked
+     * @param aConsiderImplicitHydrogens boolean value whether implicit hydrogen atoms are considered
+     * @param aConsiderPseudoAtoms boolean value whether to consider implicit hydrogen counts of IPseudoAtom instances
+     * @return {@link ThresholdCheckResults#THRESHOLD_REACHED} or {@link
+     *         ThresholdCheckResults#IMPLICIT_HYDROGEN_COUNT_NULL}
+     */
+    private static ThresholdCheckResults getThresholdReachedResult(IAtomContainer anAtomContainer,
+                                                                   boolean aConsiderImplicitHydrogens,
+                                                                   boolean aConsiderPseudoAtoms) {
+        if (!aConsiderImplicitHydrogens) {
+            return ThresholdCheckResults.THRESHOLD_REACHED;
+        }
+        return FilterUtils.checkImplicitHydrogenCount(anAtomContainer, 0, aConsiderPseudoAtoms);
+    }
+
+    /**
+     * Returns whether the given result of a threshold check states the threshold to be reached; throws an exception
+     * with the name of the associated error code as message if the check was prevented by an issue.
+     *
+     * @param aResult ThresholdCheckResults constant returned by one of the check methods
+     * @return true, if the threshold is reached
+     * @throws NullPointerException if the check was prevented by an issue; all of these are related to values being
+     *                              null
+     */
+    private static boolean isThresholdReached(ThresholdCheckResults aResult) throws NullPointerException {
+        if (aResult.isIssue()) {
+            throw new NullPointerException(aResult.getErrorCode().name());
+        }
+        return aResult == ThresholdCheckResults.THRESHOLD_REACHED;
     }
 
-    //TODO: convenience method/filter that counts the frequency of elements and accepts element symbols (Strings) as params
+    /**
+     * Returns the error code of the first issue encountered with the data of the given atom that is needed to check
+     * its valence or null, if there is none. The atom is checked for itself, its atomic number, formal charge and
+     * implicit hydrogen count being null.
+     *
+     * @param anAtom IAtom instance to check
+     * @return ErrorCodes constant of the first encountered issue or null
+     */
+    private static ErrorCodes getValenceDataIssue(IAtom anAtom) {
+        if (anAtom == null) {
+            return ErrorCodes.ATOM_NULL_ERROR;
+        }
+        if (anAtom.getAtomicNumber() == null) {
+            return ErrorCodes.ATOMIC_NUMBER_NULL_ERROR;
+        }
+        if (anAtom.getFormalCharge() == null) {
+            return ErrorCodes.FORMAL_CHARGE_NULL_ERROR;
+        }
+        if (anAtom.getImplicitHydrogenCount() == null) {
+            return ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR;
+        }
+        return null;
+    }
 
-    //TODO: convenience method/filter that parses element symbols to atomic numbers (see parseAtomSymbol() method of class Atom) ?
+    /**
+     * Returns the exception the valence checking methods throw for the given issue with the data needed to check the
+     * valences; the name of the error code is used as message.
+     *
+     * @param anErrorCode error code of the issue
+     * @return IllegalArgumentException if the issue is a bond order being UNSET or unknown, NullPointerException
+     *         otherwise
+     */
+    public static RuntimeException getExceptionOfValenceDataIssue(ErrorCodes anErrorCode) {
+        return switch (anErrorCode) {
+            case BOND_ORDER_UNSET_ERROR, BOND_ORDER_UNKNOWN_ERROR -> new IllegalArgumentException(anErrorCode.name());
+            default -> new NullPointerException(anErrorCode.name());
+        };
+    }
+
+    /**
+     * Returns whether one of the atoms participating in the given bond is an instance of {@link IPseudoAtom}.
+     *
+     * @param aBond IBond instance to check
+     * @return true, if a pseudo-atom participates in the given bond
+     */
+    private static boolean isBondToPseudoAtom(IBond aBond) {
+        for (IAtom tmpAtom : aBond.atoms()) {
+            if (tmpAtom instanceof IPseudoAtom) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     //TODO: method containsWildcardElements()
 
@@ -261,20 +658,131 @@ public class FilterUtils {
     public static boolean hasAllValidValences(IAtomContainer anAtomContainer, boolean aWildcardAtomicNumberIsValid,
                                               IValenceModel aValenceModel)
             throws NullPointerException, UnsupportedOperationException {
+        final ValenceCheckResult tmpResult = FilterUtils.checkValences(anAtomContainer, aWildcardAtomicNumberIsValid,
+                aValenceModel);
+        if (tmpResult.isIssue()) {
+            throw FilterUtils.getExceptionOfValenceDataIssue(tmpResult.getErrorCode());
+        }
+        return tmpResult.hasAllValidValences();
+    }
+
+    /**
+     * Checks the valences of the atoms of the given atom container according to the given valence model without
+     * signalling issues with the structure via exceptions. Returns {@link ValenceCheckResult#ALL_VALID} if all atoms
+     * have valid valences; the check stops at the first atom with an invalid valence otherwise. Calls {@link
+     * #checkValences(IAtomContainer, boolean, IValenceModel, boolean)} without collecting the indices of the atoms
+     * with invalid valences for this.
+     *
+     * @param anAtomContainer              the atom container to check the valences of
+     * @param aWildcardAtomicNumberIsValid boolean value whether to generally consider atoms with wildcard atomic number
+     *                                     (zero) as having a valid valence
+     * @param aValenceModel                the valence model to check the valences for their validity with
+     * @return the result of the check
+     * @throws NullPointerException if the given atom container or valence model is null
+     * @throws UnsupportedOperationException if an IAtom instance of the given atom container does not support its bonds
+     *                                       to be queried ({@link IAtom#bonds()})
+     * @see #hasAllValidValences(IAtomContainer, boolean, IValenceModel)
+     */
+    public static ValenceCheckResult checkValences(IAtomContainer anAtomContainer,
+                                                   boolean aWildcardAtomicNumberIsValid,
+                                                   IValenceModel aValenceModel)
+            throws NullPointerException, UnsupportedOperationException {
+        return FilterUtils.checkValences(anAtomContainer, aWildcardAtomicNumberIsValid, aValenceModel, false);
+    }
+
+    /**
+     * Checks the valences of the atoms of the given atom container according to the given valence model without
+     * signalling issues with the structure via exceptions. Returns {@link ValenceCheckResult#ALL_VALID} if all atoms
+     * have valid valences. Without collecting the indices of the atoms with invalid valences, the check stops at the
+     * first such atom; otherwise, all atoms are checked and the returned result holds the indices (see {@link
+     * ValenceCheckResult#getInvalidAtomIndices()}).
+     * <br>
+     * The sigma and pi bonds of all atoms are counted in a single pass over the bonds, the atoms are checked in a
+     * single pass afterwards. The data needed to check the valences is validated within these passes: a bond or bond
+     * order being null or the bond order being UNSET as well as an atom, its atomic number, formal charge or implicit
+     * hydrogen count being null result in an issue result with the respective error code.
+     *
+     * @param anAtomContainer               the atom container to check the valences of
+     * @param aWildcardAtomicNumberIsValid  boolean value whether to generally consider atoms with wildcard atomic
+     *                                      number (zero) as having a valid valence
+     * @param aValenceModel                 the valence model to check the valences for their validity with
+     * @param aCollectingInvalidAtomIndices boolean value whether to check all atoms and collect the indices of the
+     *                                      atoms with invalid valences
+     * @return the result of the check
+     * @throws NullPointerException if the given atom container or valence model is null
+     * @throws UnsupportedOperationException if an IAtom instance of the given atom container does not support its bonds
+     *                                       to be queried ({@link IAtom#bonds()})
+     */
+    public static ValenceCheckResult checkValences(IAtomContainer anAtomContainer,
+                                                   boolean aWildcardAtomicNumberIsValid,
+                                                   IValenceModel aValenceModel,
+                                                   boolean aCollectingInvalidAtomIndices)
+            throws NullPointerException, UnsupportedOperationException {
         Objects.requireNonNull(anAtomContainer, ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name());
         Objects.requireNonNull(aValenceModel, ErrorCodes.VALENCE_MODEL_NULL_ERROR.name());
         //
-        for (IAtom tmpAtom : anAtomContainer.atoms()) {
-            if (!aValenceModel.hasValidValence(tmpAtom, aWildcardAtomicNumberIsValid)) {
-                // lines to analyse detected valence errors TODO: keep or remove them?
-                /*int[] tmpSigmaAndPiBondsCount = ChemUtils.getSigmaAndPiBondCounts(tmpAtom, true);
-                System.out.printf("%s:\t%d\t%d\t%d\t%d\t%d\n", tmpAtom.getSymbol(), tmpAtom.getAtomicNumber(),
-                        tmpAtom.getFormalCharge(), tmpSigmaAndPiBondsCount[1], tmpSigmaAndPiBondsCount[0],
-                        tmpAtom.getImplicitHydrogenCount());*/
-                return false;
+        // the sigma and pi bonds of all atoms are counted in a single pass over the bonds
+        final int tmpAtomCount = anAtomContainer.getAtomCount();
+        final int[] tmpSigmaBondCounts = new int[tmpAtomCount];
+        final int[] tmpPiBondCounts = new int[tmpAtomCount];
+        ErrorCodes tmpIssue = ChemUtils.tryFillSigmaAndPiBondCounts(anAtomContainer, tmpSigmaBondCounts,
+                tmpPiBondCounts);
+        if (tmpIssue != null) {
+            return ValenceCheckResult.issue(tmpIssue);
+        }
+        // the sigma bond counts array is reused to collect the indices of the atoms with invalid valences; the count of
+        // an atom is read before its slot may be overwritten, as the index of a slot never exceeds the atom index
+        int tmpInvalidAtomsCount = 0;
+        IAtom tmpAtom;
+        for (int i = 0; i < tmpAtomCount; i++) {
+            tmpAtom = anAtomContainer.getAtom(i);
+            if ((tmpIssue = FilterUtils.getValenceDataIssue(tmpAtom)) != null) {
+                return ValenceCheckResult.issue(tmpIssue);
+            }
+            if (!aValenceModel.hasValidValence(tmpAtom, tmpSigmaBondCounts[i], tmpPiBondCounts[i],
+                    aWildcardAtomicNumberIsValid)) {
+                if (!aCollectingInvalidAtomIndices) {
+                    return ValenceCheckResult.INVALID_VALENCE;
+                }
+                tmpSigmaBondCounts[tmpInvalidAtomsCount++] = i;
             }
         }
-        return true;
+        if (tmpInvalidAtomsCount == 0) {
+            return ValenceCheckResult.ALL_VALID;
+        }
+        return ValenceCheckResult.invalidValences(Arrays.copyOf(tmpSigmaBondCounts, tmpInvalidAtomsCount));
+    }
+
+    /**
+     * Returns the indices of all atoms of the given atom container that do not have a valid valence according to the
+     * given valence model. The valences are checked in a single pass that also validates the needed data (see {@link
+     * #checkValences(IAtomContainer, boolean, IValenceModel, boolean)}); in contrast to {@link
+     * #hasAllValidValences(IAtomContainer, boolean, IValenceModel)}, the check is not stopped at the first atom with an
+     * invalid valence. If all atoms have valid valences, an empty array is returned.
+     *
+     * @param anAtomContainer              the atom container to check the valences of
+     * @param aWildcardAtomicNumberIsValid boolean value whether to generally consider atoms with wildcard atomic number
+     *                                     (zero) as having a valid valence
+     * @param aValenceModel                the valence model to check the valences for their validity with
+     * @return array of the ascending indices of the atoms with invalid valences
+     * @throws NullPointerException if the given valence model, atom container or an atom contained by the atom
+     *                              container is null; if atomic number, formal charge or the implicit hydrogen count
+     *                              of an atom is null; if the bond order of a bond is null
+     * @throws IllegalArgumentException if the bond order of a bond is IBond.Order.UNSET
+     * @throws UnsupportedOperationException if an IAtom instance of the given atom container does not support its bonds
+     *                                       to be queried ({@link IAtom#bonds()})
+     * @see #hasAllValidValences(IAtomContainer, boolean, IValenceModel)
+     */
+    public static int[] getIndicesOfAtomsWithInvalidValences(IAtomContainer anAtomContainer,
+                                                            boolean aWildcardAtomicNumberIsValid,
+                                                            IValenceModel aValenceModel)
+            throws NullPointerException, IllegalArgumentException, UnsupportedOperationException {
+        final ValenceCheckResult tmpResult = FilterUtils.checkValences(anAtomContainer, aWildcardAtomicNumberIsValid,
+                aValenceModel, true);
+        if (tmpResult.isIssue()) {
+            throw FilterUtils.getExceptionOfValenceDataIssue(tmpResult.getErrorCode());
+        }
+        return tmpResult.hasAllValidValences() ? new int[0] : tmpResult.getInvalidAtomIndices();
     }
 
 }
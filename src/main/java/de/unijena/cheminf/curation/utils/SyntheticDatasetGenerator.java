@@ -0,0 +1,615 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.utils;
+
+import org.openscience.cdk.exception.CDKException;
+import org.openscience.cdk.interfaces.IAtomContainer;
+import org.openscience.cdk.io.SDFWriter;
+import org.openscience.cdk.silent.SilentChemObjectBuilder;
+import org.openscience.cdk.smiles.SmilesParser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded generator of synthetic structure datasets of arbitrary size, e.g. for benchmarks and load tests that are to
+ * reproduce the throughput and memory behaviour of large real-world datasets without access to them. The generator
+ * creates an endless, deterministic sequence of records; the same seed and settings always yield the same sequence,
+ * on any machine and in any output format.
+ * <br>
+ * The structures are built out of chain fragments (aliphatic and aromatic rings, heteroatoms, functional groups),
+ * with their heavy atom counts following a log-normal distribution around a configurable median within a
+ * configurable range. Configurable shares of the records
+ * <ul>
+ *     <li>contain a counter ion or water as additional component (salts),</li>
+ *     <li>contain a pseudo-atom,</li>
+ *     <li>contain an atom with invalid valence (a carbon atom with six bonds),</li>
+ *     <li>have an atom with unset implicit hydrogen count (only for atom containers returned by {@link
+ *     #nextAtomContainer()}, since SD and SMILES files cannot represent unset counts),</li>
+ *     <li>and lack the external identifier property.</li>
+ * </ul>
+ * Besides the external identifier ({@link #EXTERNAL_ID_PROPERTY_NAME}), each record holds the SD tags {@link
+ * #SOURCE_PROPERTY_NAME} and {@link #PURITY_PROPERTY_NAME}. Records are generated one at a time, so that files of
+ * any size are written with constant memory usage. Instances are not thread-safe.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public class SyntheticDatasetGenerator {
+
+    //<editor-fold desc="public static final constants" defaultstate="collapsed">
+    /**
+     * Name of the property holding the external identifier of a record.
+     */
+    public static final String EXTERNAL_ID_PROPERTY_NAME = "SYNTHETIC_ID";
+
+    /**
+     * Name of the property holding the (made-up) source of a record.
+     */
+    public static final String SOURCE_PROPERTY_NAME = "SOURCE";
+
+    /**
+     * Name of the property holding the (made-up) purity of a record.
+     */
+    public static final String PURITY_PROPERTY_NAME = "PURITY";
+
+    /**
+     * Default median of the heavy atom counts of the structures.
+     */
+    public static final int DEFAULT_MEDIAN_HEAVY_ATOM_COUNT = 25;
+
+    /**
+     * Default minimum heavy atom count of the structures.
+     */
+    public static final int DEFAULT_MINIMUM_HEAVY_ATOM_COUNT = 1;
+
+    /**
+     * Default maximum heavy atom count of the structures.
+     */
+    public static final int DEFAULT_MAXIMUM_HEAVY_ATOM_COUNT = 300;
+
+    /**
+     * Default share of salts.
+     */
+    public static final double DEFAULT_SALT_RATE = 0.05;
+
+    /**
+     * Default share of structures with a pseudo-atom.
+     */
+    public static final double DEFAULT_PSEUDO_ATOM_RATE = 0.01;
+
+    /**
+     * Default share of structures with an atom with invalid valence.
+     */
+    public static final double DEFAULT_INVALID_VALENCE_RATE = 0.01;
+
+    /**
+     * Default share of structures with an atom with unset implicit hydrogen count.
+     */
+    public static final double DEFAULT_MISSING_IMPLICIT_HYDROGEN_COUNT_RATE = 0.02;
+
+    /**
+     * Default share of records without external identifier.
+     */
+    public static final double DEFAULT_MISSING_EXTERNAL_ID_RATE = 0.01;
+    //</editor-fold>
+
+    //<editor-fold desc="private static final class constants" defaultstate="collapsed">
+    /**
+     * Standard deviation of the logarithm of the heavy atom counts.
+     */
+    private static final double HEAVY_ATOM_COUNT_LOG_SIGMA = 0.5;
+
+    /**
+     * Chain fragments; each bonds to the previous fragment with its first atom and to the next fragment with its last
+     * atom outside of branches.
+     */
+    private static final String[] CHAIN_FRAGMENTS = {"C", "CC", "C(C)", "C(C)(C)", "N", "O", "S", "C(=O)",
+            "C(=O)N", "C(=O)O", "C=C", "C(F)(F)", "S(=O)(=O)", "c1ccc(cc1)", "c1ccc(nc1)", "C1CCC(CC1)", "C1CCN(CC1)",
+            "c1ccc2ccccc2c1"};
+
+    /**
+     * Heavy atom counts of the chain fragments.
+     */
+    private static final int[] CHAIN_FRAGMENT_SIZES = {1, 2, 2, 3, 1, 1, 1, 2, 3, 3, 2, 3, 3, 6, 6, 6, 6, 10};
+
+    /**
+     * Terminal fragments ending the chains.
+     */
+    private static final String[] TERMINAL_FRAGMENTS = {"C", "N", "O", "F", "Cl", "Br", "C#N", "C(=O)O",
+            "C(F)(F)F", "c1ccccc1"};
+
+    /**
+     * Chain fragment with a pseudo-atom.
+     */
+    private static final String PSEUDO_ATOM_FRAGMENT = "C(*)";
+
+    /**
+     * Chain fragment with a carbon atom with six bonds.
+     */
+    private static final String INVALID_VALENCE_FRAGMENT = "C(C)(C)(C)(C)";
+
+    /**
+     * Additional components of salts.
+     */
+    private static final String[] SALT_COMPONENTS = {".[Na+]", ".[K+]", ".[Cl-]", ".Cl", ".[NH4+]", ".O"};
+
+    /**
+     * Values of the source property.
+     */
+    private static final String[] SOURCES = {"VendorA", "VendorB", "VendorC", "InHouse"};
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * Seed of the random number generator.
+     */
+    private final long seed;
+
+    /**
+     * SMILES parser creating the atom containers.
+     */
+    private final SmilesParser smilesParser;
+    //</editor-fold>
+
+    //<editor-fold desc="private variables" defaultstate="collapsed">
+    /**
+     * Random number generator splitting off the random number generators of the records.
+     */
+    private SplittableRandom random;
+
+    /**
+     * Random number generator of the current record; using one per record keeps the records independent of the
+     * output format, e.g. SD and SMILES files of the same seed contain the same structures and identifiers.
+     */
+    private SplittableRandom recordRandom;
+
+    /**
+     * Number of records generated since the construction or last reset.
+     */
+    private long recordCount;
+
+    /**
+     * Median of the heavy atom counts of the structures.
+     */
+    private int medianHeavyAtomCount = SyntheticDatasetGenerator.DEFAULT_MEDIAN_HEAVY_ATOM_COUNT;
+
+    /**
+     * Minimum heavy atom count of the structures.
+     */
+    private int minimumHeavyAtomCount = SyntheticDatasetGenerator.DEFAULT_MINIMUM_HEAVY_ATOM_COUNT;
+
+    /**
+     * Maximum heavy atom count of the structures.
+     */
+    private int maximumHeavyAtomCount = SyntheticDatasetGenerator.DEFAULT_MAXIMUM_HEAVY_ATOM_COUNT;
+
+    /**
+     * Share of salts.
+     */
+    private double saltRate = SyntheticDatasetGenerator.DEFAULT_SALT_RATE;
+
+    /**
+     * Share of structures with a pseudo-atom.
+     */
+    private double pseudoAtomRate = SyntheticDatasetGenerator.DEFAULT_PSEUDO_ATOM_RATE;
+
+    /**
+     * Share of structures with an atom with invalid valence.
+     */
+    private double invalidValenceRate = SyntheticDatasetGenerator.DEFAULT_INVALID_VALENCE_RATE;
+
+    /**
+     * Share of structures with an atom with unset implicit hydrogen count.
+     */
+    private double missingImplicitHydrogenCountRate =
+            SyntheticDatasetGenerator.DEFAULT_MISSING_IMPLICIT_HYDROGEN_COUNT_RATE;
+
+    /**
+     * Share of records without external identifier.
+     */
+    private double missingExternalIdRate = SyntheticDatasetGenerator.DEFAULT_MISSING_EXTERNAL_ID_RATE;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; the generator starts the sequence of records of the given seed.
+     *
+     * @param aSeed seed of the random number generator
+     */
+    public SyntheticDatasetGenerator(long aSeed) {
+        this.seed = aSeed;
+        this.smilesParser = new SmilesParser(SilentChemObjectBuilder.getInstance());
+        this.reset();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public methods" defaultstate="collapsed">
+    /**
+     * Restarts the sequence of records; the settings are kept.
+     */
+    public void reset() {
+        this.random = new SplittableRandom(this.seed);
+        this.recordCount = 0;
+    }
+
+    /**
+     * Returns the SMILES string of the next record, including a salt component, pseudo-atom or invalid valence
+     * according to the respective shares.
+     *
+     * @return SMILES string
+     */
+    public String nextSmiles() {
+        this.recordCount++;
+        this.recordRandom = this.random.split();
+        int tmpHeavyAtomCount = this.nextHeavyAtomCount();
+        boolean tmpHasPseudoAtom = this.recordRandom.nextDouble() < this.pseudoAtomRate;
+        boolean tmpHasInvalidValence = this.recordRandom.nextDouble() < this.invalidValenceRate;
+        boolean tmpIsSalt = this.recordRandom.nextDouble() < this.saltRate;
+        StringBuilder tmpSmilesBuilder = new StringBuilder("C");
+        int tmpSize = 1;
+        if (tmpHasPseudoAtom) {
+            tmpSmilesBuilder.append(SyntheticDatasetGenerator.PSEUDO_ATOM_FRAGMENT);
+            tmpSize += 2;
+        }
+        if (tmpHasInvalidValence) {
+            tmpSmilesBuilder.append(SyntheticDatasetGenerator.INVALID_VALENCE_FRAGMENT);
+            tmpSize += 5;
+        }
+        while (tmpSize < tmpHeavyAtomCount) {
+            int tmpIndex = this.recordRandom.nextInt(SyntheticDatasetGenerator.CHAIN_FRAGMENTS.length);
+            tmpSmilesBuilder.append(SyntheticDatasetGenerator.CHAIN_FRAGMENTS[tmpIndex]);
+            tmpSize += SyntheticDatasetGenerator.CHAIN_FRAGMENT_SIZES[tmpIndex];
+        }
+        if (tmpHeavyAtomCount > 1) {
+            tmpSmilesBuilder.append(SyntheticDatasetGenerator.TERMINAL_FRAGMENTS[this.recordRandom.nextInt(
+                    SyntheticDatasetGenerator.TERMINAL_FRAGMENTS.length)]);
+        }
+        if (tmpIsSalt) {
+            tmpSmilesBuilder.append(SyntheticDatasetGenerator.SALT_COMPONENTS[this.recordRandom.nextInt(
+                    SyntheticDatasetGenerator.SALT_COMPONENTS.length)]);
+        }
+        return tmpSmilesBuilder.toString();
+    }
+
+    /**
+     * Returns the atom container of the next record with title and SD tags; according to the respective share, the
+     * implicit hydrogen count of one of its atoms is unset.
+     *
+     * @return IAtomContainer instance
+     * @throws CDKException if the SMILES string of the record could not be parsed (not expected)
+     */
+    public IAtomContainer nextAtomContainer() throws CDKException {
+        return this.nextRecord(true);
+    }
+
+    /**
+     * Writes the given number of next records to an SD file at the given path; the records are generated and written
+     * one at a time.
+     *
+     * @param aFilePath     path of the file to write
+     * @param aRecordCount  number of records to write
+     * @throws NullPointerException     if the given path is null
+     * @throws IllegalArgumentException if the given record count is negative
+     * @throws IOException              if the file could not be written
+     * @throws CDKException             if a record could not be created or written
+     */
+    public void writeSdFile(Path aFilePath, long aRecordCount) throws NullPointerException, IllegalArgumentException,
+            IOException, CDKException {
+        Objects.requireNonNull(aFilePath, "aFilePath (instance of Path) is null.");
+        if (aRecordCount < 0) {
+            throw new IllegalArgumentException("aRecordCount (long value) is negative.");
+        }
+        try (BufferedWriter tmpWriter = Files.newBufferedWriter(aFilePath, StandardCharsets.UTF_8);
+             SDFWriter tmpSdfWriter = new SDFWriter(tmpWriter)) {
+            for (long i = 0; i < aRecordCount; i++) {
+                tmpSdfWriter.write(this.nextRecord(false));
+            }
+        }
+    }
+
+    /**
+     * Writes the given number of next records to a SMILES file at the given path, one record per line consisting of
+     * the SMILES string and, if present, the external identifier separated by a space; the structures are not
+     * parsed, which makes this considerably faster than writing an SD file.
+     *
+     * @param aFilePath     path of the file to write
+     * @param aRecordCount  number of records to write
+     * @throws NullPointerException     if the given path is null
+     * @throws IllegalArgumentException if the given record count is negative
+     * @throws IOException              if the file could not be written
+     */
+    public void writeSmilesFile(Path aFilePath, long aRecordCount) throws NullPointerException,
+            IllegalArgumentException, IOException {
+        Objects.requireNonNull(aFilePath, "aFilePath (instance of Path) is null.");
+        if (aRecordCount < 0) {
+            throw new IllegalArgumentException("aRecordCount (long value) is negative.");
+        }
+        try (BufferedWriter tmpWriter = Files.newBufferedWriter(aFilePath, StandardCharsets.UTF_8)) {
+            for (long i = 0; i < aRecordCount; i++) {
+                tmpWriter.write(this.nextSmiles());
+                String tmpExternalId = this.nextExternalId();
+                if (tmpExternalId != null) {
+                    tmpWriter.write(' ');
+                    tmpWriter.write(tmpExternalId);
+                }
+                tmpWriter.newLine();
+            }
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public properties" defaultstate="collapsed">
+    /**
+     * Returns the seed of the random number generator.
+     *
+     * @return long value
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Returns the number of records generated since the construction or last reset.
+     *
+     * @return long value
+     */
+    public long getRecordCount() {
+        return this.recordCount;
+    }
+
+    /**
+     * Returns the median of the heavy atom counts of the structures.
+     *
+     * @return integer value
+     */
+    public int getMedianHeavyAtomCount() {
+        return this.medianHeavyAtomCount;
+    }
+
+    /**
+     * Returns the minimum heavy atom count of the structures.
+     *
+     * @return integer value
+     */
+    public int getMinimumHeavyAtomCount() {
+        return this.minimumHeavyAtomCount;
+    }
+
+    /**
+     * Returns the maximum heavy atom count of the structures.
+     *
+     * @return integer value
+     */
+    public int getMaximumHeavyAtomCount() {
+        return this.maximumHeavyAtomCount;
+    }
+
+    /**
+     * Sets the distribution of the heavy atom counts of the structures; the counts follow a log-normal distribution
+     * around the given median and are clipped to the given range. Structures with pseudo-atom or invalid valence
+     * have at least three or six heavy atoms, respectively, and the counts may exceed the maximum by the size of a
+     * fragment. Defaults to a median of {@link #DEFAULT_MEDIAN_HEAVY_ATOM_COUNT} within {@link
+     * #DEFAULT_MINIMUM_HEAVY_ATOM_COUNT} and {@link #DEFAULT_MAXIMUM_HEAVY_ATOM_COUNT}.
+     *
+     * @param aMedian  median of the heavy atom counts
+     * @param aMinimum minimum heavy atom count
+     * @param aMaximum maximum heavy atom count
+     * @throws IllegalArgumentException if the minimum is less than one or the median is not within the range
+     */
+    public void setHeavyAtomCountDistribution(int aMedian, int aMinimum, int aMaximum)
+            throws IllegalArgumentException {
+        if (aMinimum < 1 || aMedian < aMinimum || aMaximum < aMedian) {
+            throw new IllegalArgumentException("The minimum (aMinimum) needs to be at least one and the median" +
+                    " (aMedian) needs to be within the minimum and the maximum (aMaximum).");
+        }
+        this.medianHeavyAtomCount = aMedian;
+        this.minimumHeavyAtomCount = aMinimum;
+        this.maximumHeavyAtomCount = aMaximum;
+    }
+
+    /**
+     * Returns the share of salts.
+     *
+     * @return double value
+     */
+    public double getSaltRate() {
+        return this.saltRate;
+    }
+
+    /**
+     * Sets the share of salts. Defaults to {@link #DEFAULT_SALT_RATE}.
+     *
+     * @param aRate share between zero and one
+     * @throws IllegalArgumentException if the given share is not between zero and one
+     */
+    public void setSaltRate(double aRate) throws IllegalArgumentException {
+        this.saltRate = SyntheticDatasetGenerator.checkRate(aRate);
+    }
+
+    /**
+     * Returns the share of structures with a pseudo-atom.
+     *
+     * @return double value
+     */
+    public double getPseudoAtomRate() {
+        return this.pseudoAtomRate;
+    }
+
+    /**
+     * Sets the share of structures with a pseudo-atom. Defaults to {@link #DEFAULT_PSEUDO_ATOM_RATE}.
+     *
+     * @param aRate share between zero and one
+     * @throws IllegalArgumentException if the given share is not between zero and one
+     */
+    public void setPseudoAtomRate(double aRate) throws IllegalArgumentException {
+        this.pseudoAtomRate = SyntheticDatasetGenerator.checkRate(aRate);
+    }
+
+    /**
+     * Returns the share of structures with an atom with invalid valence.
+     *
+     * @return double value
+     */
+    public double getInvalidValenceRate() {
+        return this.invalidValenceRate;
+    }
+
+    /**
+     * Sets the share of structures with an atom with invalid valence. Defaults to {@link
+     * #DEFAULT_INVALID_VALENCE_RATE}.
+     *
+     * @param aRate share between zero and one
+     * @throws IllegalArgumentException if the given share is not between zero and one
+     */
+    public void setInvalidValenceRate(double aRate) throws IllegalArgumentException {
+        this.invalidValenceRate = SyntheticDatasetGenerator.checkRate(aRate);
+    }
+
+    /**
+     * Returns the share of structures with an atom with unset implicit hydrogen count.
+     *
+     * @return double value
+     */
+    public double getMissingImplicitHydrogenCountRate() {
+        return this.missingImplicitHydrogenCountRate;
+    }
+
+    /**
+     * Sets the share of structures with an atom with unset implicit hydrogen count; only applies to {@link
+     * #nextAtomContainer()}. Defaults to {@link #DEFAULT_MISSING_IMPLICIT_HYDROGEN_COUNT_RATE}.
+     *
+     * @param aRate share between zero and one
+     * @throws IllegalArgumentException if the given share is not between zero and one
+     */
+    public void setMissingImplicitHydrogenCountRate(double aRate) throws IllegalArgumentException {
+        this.missingImplicitHydrogenCountRate = SyntheticDatasetGenerator.checkRate(aRate);
+    }
+
+    /**
+     * Returns the share of records without external identifier.
+     *
+     * @return double value
+     */
+    public double getMissingExternalIdRate() {
+        return this.missingExternalIdRate;
+    }
+
+    /**
+     * Sets the share of records without external identifier. Defaults to {@link #DEFAULT_MISSING_EXTERNAL_ID_RATE}.
+     *
+     * @param aRate share between zero and one
+     * @throws IllegalArgumentException if the given share is not between zero and one
+     */
+    public void setMissingExternalIdRate(double aRate) throws IllegalArgumentException {
+        this.missingExternalIdRate = SyntheticDatasetGenerator.checkRate(aRate);
+    }
+
+    /**
+     * Sets all shares of defective records (salts, pseudo-atoms, invalid valences, unset implicit hydrogen counts and
+     * missing external identifiers) to zero, e.g. to create clean datasets.
+     */
+    public void setNoDefects() {
+        this.saltRate = 0.0;
+        this.pseudoAtomRate = 0.0;
+        this.invalidValenceRate = 0.0;
+        this.missingImplicitHydrogenCountRate = 0.0;
+        this.missingExternalIdRate = 0.0;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private methods" defaultstate="collapsed">
+    /**
+     * Returns the atom container of the next record with title and SD tags.
+     *
+     * @param anUnsetImplicitHydrogenCount whether the implicit hydrogen count of an atom is to be unset according to
+     *                                     the respective share
+     * @return IAtomContainer instance
+     * @throws CDKException if the SMILES string of the record could not be parsed
+     */
+    private IAtomContainer nextRecord(boolean anUnsetImplicitHydrogenCount) throws CDKException {
+        IAtomContainer tmpAtomContainer = this.smilesParser.parseSmiles(this.nextSmiles());
+        tmpAtomContainer.setTitle("Synthetic_" + this.recordCount);
+        String tmpExternalId = this.nextExternalId();
+        if (tmpExternalId != null) {
+            tmpAtomContainer.setProperty(SyntheticDatasetGenerator.EXTERNAL_ID_PROPERTY_NAME, tmpExternalId);
+        }
+        tmpAtomContainer.setProperty(SyntheticDatasetGenerator.SOURCE_PROPERTY_NAME,
+                SyntheticDatasetGenerator.SOURCES[this.recordRandom.nextInt(SyntheticDatasetGenerator.SOURCES.length)]);
+        tmpAtomContainer.setProperty(SyntheticDatasetGenerator.PURITY_PROPERTY_NAME,
+                String.format(Locale.ROOT, "%.2f", 0.8 + 0.2 * this.recordRandom.nextDouble()));
+        if (anUnsetImplicitHydrogenCount && this.recordRandom.nextDouble() < this.missingImplicitHydrogenCountRate) {
+            tmpAtomContainer.getAtom(this.recordRandom.nextInt(tmpAtomContainer.getAtomCount()))
+                    .setImplicitHydrogenCount(null);
+        }
+        return tmpAtomContainer;
+    }
+
+    /**
+     * Returns the external identifier of the current record or null, according to the share of records without
+     * external identifier.
+     *
+     * @return string or null
+     */
+    private String nextExternalId() {
+        if (this.recordRandom.nextDouble() < this.missingExternalIdRate) {
+            return null;
+        }
+        return String.format(Locale.ROOT, "SYN-%09d", this.recordCount);
+    }
+
+    /**
+     * Draws the heavy atom count of the next structure from the log-normal distribution.
+     *
+     * @return integer value
+     */
+    private int nextHeavyAtomCount() {
+        double tmpCount = this.medianHeavyAtomCount * Math.exp(
+                SyntheticDatasetGenerator.HEAVY_ATOM_COUNT_LOG_SIGMA * this.recordRandom.nextGaussian());
+        return (int) Math.max(this.minimumHeavyAtomCount, Math.min(this.maximumHeavyAtomCount, Math.round(tmpCount)));
+    }
+
+    /**
+     * Checks whether the given share is between zero and one.
+     *
+     * @param aRate the share to check
+     * @return the given share
+     * @throws IllegalArgumentException if the given share is not between zero and one
+     */
+    private static double checkRate(double aRate) throws IllegalArgumentException {
+        if (!(aRate >= 0.0 && aRate <= 1.0)) {
+            throw new IllegalArgumentException("The given share (aRate) needs to be between zero and one.");
+        }
+        return aRate;
+    }
+    //</editor-fold>
+
+}
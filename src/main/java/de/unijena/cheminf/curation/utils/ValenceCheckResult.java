@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.utils;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+
+import java.util.Objects;
+
+/**
+ * Result of checking the valences of the atoms of a structure without signalling issues with the structure via
+ * exceptions (see {@link FilterUtils#checkValences}). Either all atoms have valid valences, at least one atom has an
+ * invalid valence, or the check is prevented by data needed to check the valences being null or invalid; such results
+ * are associated with the respective error code. If requested, the result of a structure with invalid valences holds
+ * the indices of all atoms with invalid valences.
+ * <br>
+ * Instances of this class are immutable. Except for the results holding atom indices, they are shared: there is one
+ * result of all valences being valid, one of an invalid valence without indices and one issue result per error code.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see FilterUtils#checkValences
+ */
+public final class ValenceCheckResult {
+
+    /**
+     * Result of a structure whose atoms all have valid valences.
+     */
+    public static final ValenceCheckResult ALL_VALID = new ValenceCheckResult(true, null, null);
+
+    /**
+     * Result of a structure with at least one atom with an invalid valence; the indices of the atoms are not held.
+     */
+    static final ValenceCheckResult INVALID_VALENCE = new ValenceCheckResult(false, null, null);
+
+    /**
+     * Array of the issue results indexed by the ordinal of their error code.
+     */
+    private static final ValenceCheckResult[] ISSUE_RESULTS;
+
+    static {
+        ErrorCodes[] tmpErrorCodes = ErrorCodes.values();
+        ISSUE_RESULTS = new ValenceCheckResult[tmpErrorCodes.length];
+        for (ErrorCodes tmpErrorCode : tmpErrorCodes) {
+            ValenceCheckResult.ISSUE_RESULTS[tmpErrorCode.ordinal()]
+                    = new ValenceCheckResult(false, tmpErrorCode, null);
+        }
+    }
+
+    /**
+     * Boolean value whether all atoms of the structure have valid valences.
+     */
+    private final boolean hasAllValidValences;
+
+    /**
+     * Error code of the issue that prevented the check; null if no issue occurred.
+     */
+    private final ErrorCodes errorCode;
+
+    /**
+     * Ascending indices of the atoms with invalid valences; null if they have not been collected.
+     */
+    private final int[] invalidAtomIndices;
+
+    /**
+     * Private constructor; instances are only obtainable via the constants and static methods of this class.
+     *
+     * @param aHasAllValidValences boolean value whether all atoms have valid valences
+     * @param anErrorCode error code of the issue or null
+     * @param anInvalidAtomIndices indices of the atoms with invalid valences or null
+     */
+    private ValenceCheckResult(boolean aHasAllValidValences, ErrorCodes anErrorCode, int[] anInvalidAtomIndices) {
+        this.hasAllValidValences = aHasAllValidValences;
+        this.errorCode = anErrorCode;
+        this.invalidAtomIndices = anInvalidAtomIndices;
+    }
+
+    /**
+     * Returns the result of a structure with atoms with invalid valences at the given indices; the given array is
+     * taken as it is.
+     *
+     * @param anInvalidAtomIndices ascending indices of the atoms with invalid valences; not empty
+     * @return ValenceCheckResult instance
+     */
+    static ValenceCheckResult invalidValences(int[] anInvalidAtomIndices) {
+        return new ValenceCheckResult(false, null, anInvalidAtomIndices);
+    }
+
+    /**
+     * Returns the result of a check that has been prevented by an issue with the given error code.
+     *
+     * @param anErrorCode error code of the issue
+     * @return ValenceCheckResult instance of the issue
+     * @throws NullPointerException if the given ErrorCodes constant is null
+     */
+    public static ValenceCheckResult issue(ErrorCodes anErrorCode) throws NullPointerException {
+        Objects.requireNonNull(anErrorCode, "anErrorCode (ErrorCodes constant) is null.");
+        return ValenceCheckResult.ISSUE_RESULTS[anErrorCode.ordinal()];
+    }
+
+    /**
+     * Returns whether all atoms of the structure have valid valences; false if the check was prevented by an issue.
+     *
+     * @return true, if all atoms have valid valences
+     */
+    public boolean hasAllValidValences() {
+        return this.hasAllValidValences;
+    }
+
+    /**
+     * Returns whether the check was prevented by an issue with the structure.
+     *
+     * @return true, if an issue occurred
+     */
+    public boolean isIssue() {
+        return this.errorCode != null;
+    }
+
+    /**
+     * Returns the error code of the issue that prevented the check or null, if no issue occurred.
+     *
+     * @return ErrorCodes constant or null
+     */
+    public ErrorCodes getErrorCode() {
+        return this.errorCode;
+    }
+
+    /**
+     * Returns the ascending indices of the atoms with invalid valences or null, if all atoms have valid valences, the
+     * check was prevented by an issue or the indices have not been collected.
+     *
+     * @return copy of the array of atom indices or null
+     */
+    public int[] getInvalidAtomIndices() {
+        return this.invalidAtomIndices == null ? null : this.invalidAtomIndices.clone();
+    }
+
+    @Override
+    public String toString() {
+        if (this.errorCode != null) {
+            return "ValenceCheckResult{ISSUE: " + this.errorCode.name() + "}";
+        }
+        return this.hasAllValidValences ? "ValenceCheckResult{ALL_VALID}" : "ValenceCheckResult{INVALID_VALENCE}";
+    }
+
+}
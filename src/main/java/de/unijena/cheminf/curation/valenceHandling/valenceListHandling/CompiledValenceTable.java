@@ -0,0 +1,229 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.valenceHandling.valenceListHandling;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Compiled form of a valence list wrapped by an instance of {@link ValenceListMatrixWrapper}. The valid atom
+ * configurations are stored in a dense lookup table that directly maps the combination of atomic number, charge,
+ * number of π bonds and number of σ bonds to the maximum number of implicit hydrogens; the lookup therefore is of
+ * constant time and does not require iterating over all configurations of an element.
+ * <br>
+ * For every element present in the valence list, the table spans the ranges of charges, π bond counts and σ bond
+ * counts that occur in the list entries of the element; combinations within these ranges that are not listed in the
+ * valence list are marked with {@link #NO_CONFIGURATION}. If the valence list contains multiple entries with the same
+ * combination of atomic number, charge, number of π bonds and number of σ bonds, the highest maximum number of
+ * implicit hydrogens is stored.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see ValenceListMatrixWrapper
+ */
+public class CompiledValenceTable {
+
+    //<editor-fold desc="public static final class constants" defaultstate="collapsed">
+    /**
+     * Integer value returned by {@link #getMaximumImplicitHydrogenCount(int, int, int, int)} if no atom configuration
+     * with the given values is present in the valence list.
+     */
+    public static final int NO_CONFIGURATION = -1;
+    //</editor-fold>
+
+    //<editor-fold desc="private static final class constants" defaultstate="collapsed">
+    /**
+     * Number of integer values stored per element in the {@link #elementDescriptors} array; these are: offset of the
+     * first value of the element in the lookup table (index 0), lowest charge (index 1), number of charges (index 2),
+     * number of π bond counts (index 3) and number of σ bond counts (index 4).
+     */
+    private static final int DESCRIPTOR_LENGTH = 5;
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * Array containing the layout of the lookup table section of every element in consecutive blocks of {@link
+     * #DESCRIPTOR_LENGTH} values; the block of an element starts at the index of its atomic number times the
+     * descriptor length. For elements not present in the valence list, the offset is set to {@link
+     * #NO_CONFIGURATION}.
+     */
+    private final int[] elementDescriptors;
+
+    /**
+     * Dense lookup table of the maximum numbers of implicit hydrogens. The value regarding the combination of charge,
+     * number of π bonds and number of σ bonds of an element is located at the index
+     * <pre>{@code
+     * offset + ((charge - lowestCharge) * piBondCountsCount + piBondCount) * sigmaBondCountsCount + sigmaBondCount
+     * }</pre>
+     */
+    private final int[] maximumImplicitHydrogenCounts;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; compiles the valence list wrapped by the given valence list matrix wrapper instance into a dense
+     * lookup table.
+     *
+     * @param aValenceListMatrixWrapper the valence list matrix wrapper instance to compile
+     * @throws NullPointerException if the given instance is null
+     * @throws IllegalArgumentException if a valence list entry does not map to a cell of the lookup table, i.e. it
+     *                                  contains a negative number of π or σ bonds
+     */
+    public CompiledValenceTable(ValenceListMatrixWrapper aValenceListMatrixWrapper) throws NullPointerException,
+            IllegalArgumentException {
+        Objects.requireNonNull(aValenceListMatrixWrapper, "The given valence list matrix wrapper instance" +
+                " (aValenceListMatrixWrapper) is null.");
+        final int[][] tmpValenceListMatrix = aValenceListMatrixWrapper.valenceListMatrix;
+        this.elementDescriptors = new int[(ValenceListMatrixWrapper.HIGHEST_KNOWN_ATOMIC_NUMBER + 1)
+                * CompiledValenceTable.DESCRIPTOR_LENGTH];
+        int tmpTableLength = 0;
+        for (int tmpAtomicNumber = 0; tmpAtomicNumber <= ValenceListMatrixWrapper.HIGHEST_KNOWN_ATOMIC_NUMBER;
+                tmpAtomicNumber++) {
+            int tmpDescriptorIndex = tmpAtomicNumber * CompiledValenceTable.DESCRIPTOR_LENGTH;
+            int tmpIndexOfFirstEntry = aValenceListMatrixWrapper.getValenceListElementPointer(tmpAtomicNumber);
+            int tmpNumberOfEntries = aValenceListMatrixWrapper.getAtomConfigurationsCountOfElement(tmpAtomicNumber);
+            if (tmpIndexOfFirstEntry == ValenceListMatrixWrapper.DEFAULT_POINTER_VALUE || tmpNumberOfEntries == 0) {
+                this.elementDescriptors[tmpDescriptorIndex] = CompiledValenceTable.NO_CONFIGURATION;
+                continue;
+            }
+            int tmpLowestCharge = Integer.MAX_VALUE;
+            int tmpHighestCharge = Integer.MIN_VALUE;
+            int tmpHighestPiBondCount = 0;
+            int tmpHighestSigmaBondCount = 0;
+            for (int i = tmpIndexOfFirstEntry; i < tmpIndexOfFirstEntry + tmpNumberOfEntries; i++) {
+                tmpLowestCharge = Math.min(tmpLowestCharge, tmpValenceListMatrix[i][1]);
+                tmpHighestCharge = Math.max(tmpHighestCharge, tmpValenceListMatrix[i][1]);
+                tmpHighestPiBondCount = Math.max(tmpHighestPiBondCount, tmpValenceListMatrix[i][2]);
+                tmpHighestSigmaBondCount = Math.max(tmpHighestSigmaBondCount, tmpValenceListMatrix[i][3]);
+            }
+            this.elementDescriptors[tmpDescriptorIndex] = tmpTableLength;
+            this.elementDescriptors[tmpDescriptorIndex + 1] = tmpLowestCharge;
+            this.elementDescriptors[tmpDescriptorIndex + 2] = tmpHighestCharge - tmpLowestCharge + 1;
+            this.elementDescriptors[tmpDescriptorIndex + 3] = tmpHighestPiBondCount + 1;
+            this.elementDescriptors[tmpDescriptorIndex + 4] = tmpHighestSigmaBondCount + 1;
+            tmpTableLength += (tmpHighestCharge - tmpLowestCharge + 1) * (tmpHighestPiBondCount + 1)
+                    * (tmpHighestSigmaBondCount + 1);
+        }
+        this.maximumImplicitHydrogenCounts = new int[tmpTableLength];
+        Arrays.fill(this.maximumImplicitHydrogenCounts, CompiledValenceTable.NO_CONFIGURATION);
+        for (int i = 0; i < tmpValenceListMatrix.length; i++) {
+            int[] tmpListEntry = tmpValenceListMatrix[i];
+            int tmpTableIndex = this.getTableIndex(tmpListEntry[0], tmpListEntry[1], tmpListEntry[2], tmpListEntry[3]);
+            if (tmpTableIndex == CompiledValenceTable.NO_CONFIGURATION) {
+                throw new IllegalArgumentException("The valence list entry at index " + i + " "
+                        + Arrays.toString(tmpListEntry) + " can not be compiled; it contains a negative number of"
+                        + " π or σ bonds.");
+            }
+            this.maximumImplicitHydrogenCounts[tmpTableIndex]
+                    = Math.max(this.maximumImplicitHydrogenCounts[tmpTableIndex], tmpListEntry[4]);
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public methods" defaultstate="collapsed">
+    /**
+     * Returns the maximum number of implicit hydrogens of the atom configuration with the given atomic number, charge,
+     * number of π bonds and number of σ bonds. If no such atom configuration is present in the valence list, {@link
+     * #NO_CONFIGURATION} is returned.
+     *
+     * @param anAtomicNumber atomic number of the atom
+     * @param aCharge formal charge of the atom
+     * @param aPiBondCount number of π bonds of the atom
+     * @param aSigmaBondCount number of σ bonds of the atom (including the bonds to implicit hydrogen atoms)
+     * @return maximum number of implicit hydrogens or {@link #NO_CONFIGURATION}
+     */
+    public int getMaximumImplicitHydrogenCount(int anAtomicNumber, int aCharge, int aPiBondCount,
+                                               int aSigmaBondCount) {
+        int tmpTableIndex = this.getTableIndex(anAtomicNumber, aCharge, aPiBondCount, aSigmaBondCount);
+        if (tmpTableIndex == CompiledValenceTable.NO_CONFIGURATION) {
+            return CompiledValenceTable.NO_CONFIGURATION;
+        }
+        return this.maximumImplicitHydrogenCounts[tmpTableIndex];
+    }
+
+    /**
+     * Checks whether the valence list contains an atom configuration with the given atomic number, charge, number of
+     * π bonds and number of σ bonds that allows the given number of implicit hydrogens.
+     *
+     * @param anAtomicNumber atomic number of the atom
+     * @param aCharge formal charge of the atom
+     * @param aPiBondCount number of π bonds of the atom
+     * @param aSigmaBondCount number of σ bonds of the atom (including the bonds to implicit hydrogen atoms)
+     * @param anImplicitHydrogenCount number of implicit hydrogens of the atom
+     * @return true, if a matching atom configuration is present in the valence list
+     */
+    public boolean isValidConfiguration(int anAtomicNumber, int aCharge, int aPiBondCount, int aSigmaBondCount,
+                                        int anImplicitHydrogenCount) {
+        int tmpMaximumImplicitHydrogenCount
+                = this.getMaximumImplicitHydrogenCount(anAtomicNumber, aCharge, aPiBondCount, aSigmaBondCount);
+        return tmpMaximumImplicitHydrogenCount != CompiledValenceTable.NO_CONFIGURATION
+                && anImplicitHydrogenCount <= tmpMaximumImplicitHydrogenCount;
+    }
+
+    /**
+     * Returns the number of cells of the dense lookup table.
+     *
+     * @return integer value
+     */
+    public int getTableSize() {
+        return this.maximumImplicitHydrogenCounts.length;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private methods" defaultstate="collapsed">
+    /**
+     * Returns the index of the given combination of atomic number, charge, number of π bonds and number of σ bonds in
+     * the lookup table; if the combination is outside the ranges spanned by the element, {@link #NO_CONFIGURATION} is
+     * returned.
+     *
+     * @param anAtomicNumber atomic number
+     * @param aCharge formal charge
+     * @param aPiBondCount number of π bonds
+     * @param aSigmaBondCount number of σ bonds
+     * @return index in the lookup table or {@link #NO_CONFIGURATION}
+     */
+    private int getTableIndex(int anAtomicNumber, int aCharge, int aPiBondCount, int aSigmaBondCount) {
+        if (anAtomicNumber < 0 || anAtomicNumber > ValenceListMatrixWrapper.HIGHEST_KNOWN_ATOMIC_NUMBER) {
+            return CompiledValenceTable.NO_CONFIGURATION;
+        }
+        final int tmpDescriptorIndex = anAtomicNumber * CompiledValenceTable.DESCRIPTOR_LENGTH;
+        final int tmpOffset = this.elementDescriptors[tmpDescriptorIndex];
+        if (tmpOffset == CompiledValenceTable.NO_CONFIGURATION) {
+            return CompiledValenceTable.NO_CONFIGURATION;
+        }
+        final int tmpChargeIndex = aCharge - this.elementDescriptors[tmpDescriptorIndex + 1];
+        final int tmpPiBondCountsCount = this.elementDescriptors[tmpDescriptorIndex + 3];
+        final int tmpSigmaBondCountsCount = this.elementDescriptors[tmpDescriptorIndex + 4];
+        if (tmpChargeIndex < 0 || tmpChargeIndex >= this.elementDescriptors[tmpDescriptorIndex + 2]
+                || aPiBondCount < 0 || aPiBondCount >= tmpPiBondCountsCount
+                || aSigmaBondCount < 0 || aSigmaBondCount >= tmpSigmaBondCountsCount) {
+            return CompiledValenceTable.NO_CONFIGURATION;
+        }
+        return tmpOffset + (tmpChargeIndex * tmpPiBondCountsCount + aPiBondCount) * tmpSigmaBondCountsCount
+                + aSigmaBondCount;
+    }
+    //</editor-fold>
+
+}
@@ -26,11 +26,18 @@
 package de.unijena.cheminf.curation.valenceHandling.valenceListHandling;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 
 /**
  * An extension of the {@link ValenceListMatrixWrapper} that specifically imports the PubChem valence list. This class
  * follows the Singleton pattern: To receive an instance of the class, the method {@link #getInstance()} is to be used.
- * An instance is only generated once during the class loading.
+ * An instance is only generated once, as the method is called for the first time.
+ * <br>
+ * The valence list is imported in its compiled binary format (see {@link
+ * ValenceListMatrixWrapper#writeCompiledValenceList(java.io.OutputStream)}) from the classpath, so no text file needs
+ * to be parsed and the import also works if the library is packaged as jar. The compiled resource is generated from the
+ * "PubChem_Valence_list.txt" file located next to it.
  * <br>
  * The valence list was received from the paper describing the PubChem standardization approaches. See:
  * <a href="https://doi.org/10.1186/s13321-018-0293-8"> "Hähnke, V.D., Kim, S., Bolton, E.E. PubChem chemical structure
@@ -43,61 +50,70 @@ import java.io.IOException;
 public class PubChemValenceListMatrixWrapper extends ValenceListMatrixWrapper {
 
     /**
-     * String of the path to the PubChem valence list text file.
+     * String of the classpath resource name of the compiled PubChem valence list.
      */
-    private static final String VALENCE_LIST_FILE_PATH
-            = "src/main/resources/de/unijena/cheminf/curation/valenceLists/PubChem_Valence_list.txt";
+    protected static final String COMPILED_VALENCE_LIST_RESOURCE_NAME
+            = "/de/unijena/cheminf/curation/valenceLists/PubChem_Valence_list.bin";
 
     /**
-     * Integer value of the number of lines contained by the PubChem valence list text file; 981 lines of content plus
-     * one headline.
+     * String of the classpath resource name of the PubChem valence list text file the compiled valence list is
+     * generated from.
      */
-    protected static final int NUMBER_OF_LINES_IN_FILE = 982;
+    protected static final String VALENCE_LIST_TEXT_RESOURCE_NAME
+            = "/de/unijena/cheminf/curation/valenceLists/PubChem_Valence_list.txt";
 
     /**
-     * Instance of ValenceListContainer; it is initialized in the static block.
+     * Holder of the PubChemValenceListMatrixWrapper instance; the instance is initialized as the holder class is
+     * loaded, which is the case as {@link #getInstance()} is called for the first time.
      */
-    protected static PubChemValenceListMatrixWrapper instance;
+    private static final class InstanceHolder {
+
+        /**
+         * The PubChemValenceListMatrixWrapper instance.
+         */
+        private static final PubChemValenceListMatrixWrapper INSTANCE;
 
-    static {
-        /* initializes the valence list matrix wrapper instance */
-        try {
-            PubChemValenceListMatrixWrapper.instance = new PubChemValenceListMatrixWrapper();
-        } catch (IOException anIOException) {
-            // e.g. the file cannot be found at the expected file path
-            // or the file differs from the expected format
-            throw new RuntimeException(anIOException);
+        static {
+            /* initializes the valence list matrix wrapper instance */
+            try (InputStream tmpInputStream = PubChemValenceListMatrixWrapper.class.getResourceAsStream(
+                    PubChemValenceListMatrixWrapper.COMPILED_VALENCE_LIST_RESOURCE_NAME)) {
+                if (tmpInputStream == null) {
+                    throw new IOException("The compiled PubChem valence list could not be found on the classpath.");
+                }
+                INSTANCE = new PubChemValenceListMatrixWrapper(tmpInputStream);
+            } catch (IOException anIOException) {
+                // e.g. the resource cannot be found or differs from the expected format
+                throw new UncheckedIOException(anIOException);
+            }
         }
+
     }
 
     /**
-     * Private constructor; calls the super constructor passing the file path of the "PubChem_Valence_list.txt" file and
-     * the number of lines in the file. For info on the source and a description of the file, see the class description.
+     * Private constructor; calls the super constructor passing the input stream of the compiled PubChem valence list.
+     * For info on the source and a description of the list, see the class description.
      *
-     * @throws IOException if a problem occurs loading the data from the valence list text file associated with this
-     * class, e.g. the file cannot be found at the expected file path or the file differs from the expected format
-     * @see #VALENCE_LIST_FILE_PATH
+     * @param aCompiledValenceListInputStream input stream of the compiled PubChem valence list
+     * @throws IOException if a problem occurs loading the data, e.g. the data differs from the expected format
+     * @see #COMPILED_VALENCE_LIST_RESOURCE_NAME
      */
-    private PubChemValenceListMatrixWrapper() throws IOException {
-        super(PubChemValenceListMatrixWrapper.VALENCE_LIST_FILE_PATH,
-                PubChemValenceListMatrixWrapper.NUMBER_OF_LINES_IN_FILE);
+    private PubChemValenceListMatrixWrapper(InputStream aCompiledValenceListInputStream) throws IOException {
+        super(aCompiledValenceListInputStream);
     }
 
     /**
-     * Returns a PubChemValenceListMatrixWrapper instance containing the data loaded from the "PubChem_Valence_list.txt"
-     * text file wrapped into two matrices. The file contains a list of valid valences and configurations of atoms with
-     * respect to atomic number, charge, number of π bonds, number of σ bonds and maximum number of implicit hydrogens.
+     * Returns a PubChemValenceListMatrixWrapper instance containing the data of the PubChem valence list wrapped into
+     * two matrices. The list contains valid valences and configurations of atoms with respect to atomic number, charge,
+     * number of π bonds, number of σ bonds and maximum number of implicit hydrogens.
      * <p>
-     * An instance is only generated once (as the class is loaded).
+     * An instance is only generated once (as the method is called for the first time).
      *
-     * @return ValenceListContainer
+     * @return PubChemValenceListMatrixWrapper instance
+     * @throws UncheckedIOException if the compiled valence list could not be loaded from the classpath
      * @see PubChemValenceListMatrixWrapper
      */
-    public static PubChemValenceListMatrixWrapper getInstance() {
-        if (PubChemValenceListMatrixWrapper.instance == null) {
-            throw new IllegalStateException("The PubChemValenceListContainer instance has not been initialized.");
-        }
-        return PubChemValenceListMatrixWrapper.instance;
+    public static PubChemValenceListMatrixWrapper getInstance() throws UncheckedIOException {
+        return InstanceHolder.INSTANCE;
     }
 
 }
@@ -27,10 +27,15 @@ package de.unijena.cheminf.curation.valenceHandling.valenceListHandling;
 
 import org.openscience.cdk.interfaces.IElement;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Objects;
 
 /**
@@ -49,6 +54,12 @@ import java.util.Objects;
  * </ul>
  * Exemplary for this format is the valence list published as part of the paper describing the PubChem standardization
  * approaches (link: <a href="https://doi.org/10.1186/s13321-018-0293-8">https://doi.org/10.1186/s13321-018-0293-8</a>).
+ * <br>
+ * Alternatively, valence lists may be imported from a compact binary format that does not need to be parsed; a valence
+ * list is compiled to this format via {@link #writeCompiledValenceList(OutputStream)} and imported via {@link
+ * #ValenceListMatrixWrapper(InputStream)}. The compiled format consists of the {@link
+ * #COMPILED_VALENCE_LIST_MAGIC_NUMBER} and the number of list entries (both four byte integers) followed by the five
+ * values of every list entry, each stored as one signed byte.
  *
  * @author Samuel Behr
  * @version 1.0.0.0
@@ -74,6 +85,11 @@ public class ValenceListMatrixWrapper {
      * Integer value of the highest currently known atomic number (118).
      */
     public static final int HIGHEST_KNOWN_ATOMIC_NUMBER = IElement.Og;   // 118
+
+    /**
+     * Integer value at the beginning of every compiled valence list (the ASCII characters "CVL1").
+     */
+    public static final int COMPILED_VALENCE_LIST_MAGIC_NUMBER = 0x43564C31;
     //</editor-fold>
 
     //<editor-fold desc="private final variables">
@@ -219,6 +235,52 @@ public class ValenceListMatrixWrapper {
         this.lowestAtomicNumberInList = this.valenceListMatrix[0][0];
         this.highestAtomicNumberInList = this.valenceListMatrix[this.valenceListMatrix.length - 1][0];
     }
+
+    /**
+     * Constructor; imports a compiled valence list (see {@link #writeCompiledValenceList(OutputStream)}) from the given
+     * input stream in a single bulk read and wraps the data into two matrices. The given input stream is read up to
+     * its end but not closed.
+     *
+     * @param aCompiledValenceListInputStream input stream of the compiled valence list
+     * @throws NullPointerException if the given input stream is null
+     * @throws IOException if a problem occurs reading the input stream, e.g. the data is not a compiled valence list,
+     *                     the list entries are not sorted according to their atomic numbers or an atomic number is
+     *                     below zero or exceeds the {@link #HIGHEST_KNOWN_ATOMIC_NUMBER}
+     * @see #writeCompiledValenceList(OutputStream)
+     */
+    public ValenceListMatrixWrapper(InputStream aCompiledValenceListInputStream) throws NullPointerException,
+            IOException {
+        Objects.requireNonNull(aCompiledValenceListInputStream, "aCompiledValenceListInputStream (instance of" +
+                " InputStream) is null.");
+        DataInputStream tmpDataInputStream
+                = new DataInputStream(new BufferedInputStream(aCompiledValenceListInputStream));
+        if (tmpDataInputStream.readInt() != ValenceListMatrixWrapper.COMPILED_VALENCE_LIST_MAGIC_NUMBER) {
+            throw new IOException("The given input stream does not contain a compiled valence list.");
+        }
+        final int tmpNumberOfEntries = tmpDataInputStream.readInt();
+        if (tmpNumberOfEntries < 1) {
+            throw new IOException("The compiled valence list does not contain any entries.");
+        }
+        final int tmpColumnsCount = ValenceListMatrixWrapper.NUMBER_OF_COLUMNS_PER_LINE_OF_FILE;
+        final byte[] tmpData = new byte[tmpNumberOfEntries * tmpColumnsCount];
+        tmpDataInputStream.readFully(tmpData);
+        if (tmpDataInputStream.read() != -1) {
+            throw new IOException("The compiled valence list contains more data than expected.");
+        }
+        //
+        this.numberOfLinesInFile = tmpNumberOfEntries + 1;
+        this.valenceListMatrix = new int[tmpNumberOfEntries][tmpColumnsCount];
+        for (int i = 0; i < tmpNumberOfEntries; i++) {
+            for (int j = 0; j < tmpColumnsCount; j++) {
+                this.valenceListMatrix[i][j] = tmpData[i * tmpColumnsCount + j];
+            }
+        }
+        this.valenceListPointerMatrix = new int[ValenceListMatrixWrapper.HIGHEST_KNOWN_ATOMIC_NUMBER + 1][2];
+        this.initializePointerMatrix();
+        //
+        this.lowestAtomicNumberInList = this.valenceListMatrix[0][0];
+        this.highestAtomicNumberInList = this.valenceListMatrix[this.valenceListMatrix.length - 1][0];
+    }
     //</editor-fold>
 
     //<editor-fold desc="public methods" defaultstate="collapsed">
@@ -395,6 +457,37 @@ public class ValenceListMatrixWrapper {
     public int getHighestAtomicNumberInList() {
         return this.highestAtomicNumberInList;
     }
+
+    /**
+     * Writes the wrapped valence list to the given output stream in the compiled binary format, which may be imported
+     * via {@link #ValenceListMatrixWrapper(InputStream)} without parsing a text file. The output stream is flushed but
+     * not closed.
+     *
+     * @param anOutputStream the output stream to write the compiled valence list to
+     * @throws NullPointerException if the given output stream is null
+     * @throws IOException if a problem occurs writing to the output stream or a value of the valence list exceeds the
+     *                     range of a signed byte
+     * @see #ValenceListMatrixWrapper(InputStream)
+     */
+    public void writeCompiledValenceList(OutputStream anOutputStream) throws NullPointerException, IOException {
+        Objects.requireNonNull(anOutputStream, "anOutputStream (instance of OutputStream) is null.");
+        final byte[] tmpData
+                = new byte[this.valenceListMatrix.length * ValenceListMatrixWrapper.NUMBER_OF_COLUMNS_PER_LINE_OF_FILE];
+        for (int i = 0; i < this.valenceListMatrix.length; i++) {
+            for (int j = 0; j < ValenceListMatrixWrapper.NUMBER_OF_COLUMNS_PER_LINE_OF_FILE; j++) {
+                if (this.valenceListMatrix[i][j] < Byte.MIN_VALUE || this.valenceListMatrix[i][j] > Byte.MAX_VALUE) {
+                    throw new IOException("A value of the valence list exceeds the range of the compiled format.");
+                }
+                tmpData[i * ValenceListMatrixWrapper.NUMBER_OF_COLUMNS_PER_LINE_OF_FILE + j]
+                        = (byte) this.valenceListMatrix[i][j];
+            }
+        }
+        DataOutputStream tmpDataOutputStream = new DataOutputStream(anOutputStream);
+        tmpDataOutputStream.writeInt(ValenceListMatrixWrapper.COMPILED_VALENCE_LIST_MAGIC_NUMBER);
+        tmpDataOutputStream.writeInt(this.valenceListMatrix.length);
+        tmpDataOutputStream.write(tmpData);
+        tmpDataOutputStream.flush();
+    }
     //</editor-fold>
 
     //<editor-fold desc="private methods" defaultstate="collapsed">
@@ -429,8 +522,6 @@ public class ValenceListMatrixWrapper {
         //
         String tmpLine;
         String[] tmpLineElements;
-        int tmpCurrentElementAtomicNumber = -1;
-        int tmpListEntryIndex = 0;
         for (int i = 0; i < this.numberOfLinesInFile - 1; i++) {
             if ((tmpLine = tmpBufferedReader.readLine()) == null) {
                 throw new IOException("The valence list text file does not have the expected number of lines.");
@@ -443,7 +534,29 @@ public class ValenceListMatrixWrapper {
             for (int j = 0; j < 5; j++) {
                 this.valenceListMatrix[i][j] = Integer.parseInt(tmpLineElements[j]);
             }
-            //
+        }
+        if (tmpBufferedReader.readLine() != null) {
+            throw new IOException("The valence list text file does not have the expected number of lines.");
+        }
+        tmpFileReader.close();
+        tmpBufferedReader.close();
+        //
+        this.initializePointerMatrix();
+    }
+
+    /**
+     * Initializes the {@link #valenceListPointerMatrix} based on the data of the {@link #valenceListMatrix}.
+     * <br>
+     * <b>Note:</b> If an atomic number is not present in the valence list, the pointer in the pointer matrix is set to
+     * the default pointer value ({@link #DEFAULT_POINTER_VALUE}.
+     *
+     * @throws IOException if the list entries are not sorted according to their atomic numbers, the lowest atomic
+     *                     number is below zero or the highest atomic number exceeds the {@link
+     *                     #HIGHEST_KNOWN_ATOMIC_NUMBER}
+     */
+    private void initializePointerMatrix() throws IOException {
+        int tmpCurrentElementAtomicNumber = -1;
+        for (int i = 0; i < this.valenceListMatrix.length; i++) {
             if (this.valenceListMatrix[i][0] != tmpCurrentElementAtomicNumber) {
                 if (this.valenceListMatrix[i][0] > ValenceListMatrixWrapper.HIGHEST_KNOWN_ATOMIC_NUMBER) {
                     throw new IOException("The atomic numbers contained by the valence list file exceed the highest" +
@@ -464,17 +577,10 @@ public class ValenceListMatrixWrapper {
                             = new int[]{ValenceListMatrixWrapper.DEFAULT_POINTER_VALUE, 0};
                     tmpCurrentElementAtomicNumber++;
                 }
-                this.valenceListPointerMatrix[tmpCurrentElementAtomicNumber] = new int[]{tmpListEntryIndex, 0};
+                this.valenceListPointerMatrix[tmpCurrentElementAtomicNumber] = new int[]{i, 0};
             }
             this.valenceListPointerMatrix[tmpCurrentElementAtomicNumber][1]++;
-            //
-            tmpListEntryIndex++;
-        }
-        if (tmpBufferedReader.readLine() != null) {
-            throw new IOException("The valence list text file does not have the expected number of lines.");
         }
-        tmpFileReader.close();
-        tmpBufferedReader.close();
         //
         // set the remaining pointers of the pointer matrix to the default pointer value
         tmpCurrentElementAtomicNumber++;
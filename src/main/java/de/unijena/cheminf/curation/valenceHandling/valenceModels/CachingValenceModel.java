@@ -0,0 +1,303 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.valenceHandling.valenceModels;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.utils.ChemUtils;
+import org.openscience.cdk.interfaces.IAtom;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Valence model wrapping another valence model and memorizing its verdicts with respect to the environment of the
+ * checked atoms. The environment of an atom consists of its atomic number, formal charge, number of π bonds, number of
+ * σ bonds (not including the bonds to implicit hydrogen atoms) and its implicit hydrogen count; together with whether
+ * wildcard atomic numbers are to be considered as valid, it is the key of the cached verdicts. As the number of
+ * distinct atom environments in a data set usually is small, repeated checks of the same environment are answered from
+ * the cache without consulting the wrapped valence model.
+ * <br>
+ * The cache is thread-safe and bounded; once the maximum number of entries is reached, no further verdicts are
+ * cached, while the already cached ones are still used. The numbers of cache hits and misses are counted.
+ * <br>
+ * <b>Note:</b> The wrapped valence model must base its verdicts on the atom environment only; valence models
+ * considering further properties of the atoms (e.g. aromaticity or neighbouring atoms) must not be wrapped.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see IValenceModel
+ */
+public class CachingValenceModel implements IValenceModel {
+
+    //<editor-fold desc="public static final class constants" defaultstate="collapsed">
+    /**
+     * Default value of the maximum number of cached verdicts.
+     */
+    public static final int DEFAULT_MAXIMUM_CACHE_SIZE = 65536;
+    //</editor-fold>
+
+    //<editor-fold desc="private static final class constants" defaultstate="collapsed">
+    /**
+     * Offset added to the formal charge to fit it into the eight bits reserved in the cache key.
+     */
+    private static final int CHARGE_OFFSET = 128;
+
+    /**
+     * Bit mask of the eight bits reserved for the atomic number, the shifted formal charge and the π bond count in the
+     * cache key.
+     */
+    private static final int BYTE_MASK = 0xFF;
+
+    /**
+     * Bit mask of the sixteen bits reserved for the σ bond count and the implicit hydrogen count in the cache key.
+     */
+    private static final int SHORT_MASK = 0xFFFF;
+    //</editor-fold>
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * The wrapped valence model whose verdicts are cached.
+     */
+    private final IValenceModel valenceModel;
+
+    /**
+     * Integer value of the maximum number of cached verdicts.
+     */
+    private final int maximumCacheSize;
+
+    /**
+     * Cache of the verdicts of the wrapped valence model with the encoded atom environments as keys.
+     */
+    private final ConcurrentHashMap<Long, Boolean> cache;
+
+    /**
+     * Counter of the checks answered from the cache.
+     */
+    private final LongAdder hitCounter;
+
+    /**
+     * Counter of the checks that needed to be passed to the wrapped valence model.
+     */
+    private final LongAdder missCounter;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; wraps the given valence model and caches up to the given number of its verdicts.
+     *
+     * @param aValenceModel     the valence model to cache the verdicts of
+     * @param aMaximumCacheSize maximum number of verdicts to cache
+     * @throws NullPointerException if the given valence model is null
+     * @throws IllegalArgumentException if the given maximum cache size is less than one
+     */
+    public CachingValenceModel(IValenceModel aValenceModel, int aMaximumCacheSize) throws NullPointerException,
+            IllegalArgumentException {
+        Objects.requireNonNull(aValenceModel, ErrorCodes.VALENCE_MODEL_NULL_ERROR.name());
+        if (aMaximumCacheSize < 1) {
+            throw new IllegalArgumentException("The maximum cache size (aMaximumCacheSize) needs to be at least one.");
+        }
+        this.valenceModel = aValenceModel;
+        this.maximumCacheSize = aMaximumCacheSize;
+        this.cache = new ConcurrentHashMap<>();
+        this.hitCounter = new LongAdder();
+        this.missCounter = new LongAdder();
+    }
+
+    /**
+     * Constructor; wraps the given valence model and caches up to {@link #DEFAULT_MAXIMUM_CACHE_SIZE} of its verdicts.
+     *
+     * @param aValenceModel the valence model to cache the verdicts of
+     * @throws NullPointerException if the given valence model is null
+     */
+    public CachingValenceModel(IValenceModel aValenceModel) throws NullPointerException {
+        this(aValenceModel, CachingValenceModel.DEFAULT_MAXIMUM_CACHE_SIZE);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public methods" defaultstate="collapsed">
+    /**
+     * @throws NullPointerException if the atom is null; if atomic number, formal charge or the implicit hydrogen count
+     *                              of the atom is null; if the bond order of a bond is null
+     * @throws IllegalArgumentException if the bond order of a bond is IBond.Order.UNSET
+     * @throws UnsupportedOperationException if the given IAtom instance does not support the bonds of the atom being
+     *                                       queried ({@link IAtom#bonds()})
+     */
+    @Override
+    public boolean hasValidValence(IAtom anAtom) throws NullPointerException, IllegalArgumentException,
+            UnsupportedOperationException {
+        return this.hasValidValence(anAtom, false);
+    }
+
+    /**
+     * @throws NullPointerException if the atom is null; if atomic number, formal charge or the implicit hydrogen count
+     *                              of the atom is null; if the bond order of a bond is null
+     * @throws IllegalArgumentException if the bond order of a bond is IBond.Order.UNSET
+     * @throws UnsupportedOperationException if the given IAtom instance does not support the bonds of the atom being
+     *                                       queried ({@link IAtom#bonds()})
+     */
+    @Override
+    public boolean hasValidValence(IAtom anAtom, boolean aWildcardAtomicNumberIsValid) throws NullPointerException,
+            IllegalArgumentException, UnsupportedOperationException {
+        Objects.requireNonNull(anAtom, ErrorCodes.ATOM_NULL_ERROR.name());
+        boolean tmpConsiderImplicitHydrogens = false;
+        int[] tmpSigmaAndPiBondCounts = ChemUtils.getSigmaAndPiBondCounts(anAtom, tmpConsiderImplicitHydrogens);
+        return this.hasValidValence(anAtom, tmpSigmaAndPiBondCounts[0], tmpSigmaAndPiBondCounts[1],
+                aWildcardAtomicNumberIsValid);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * If the environment of the atom is not cached yet, the wrapped valence model is consulted and its verdict is
+     * cached, given the maximum cache size is not reached. Atoms with a null atomic number, formal charge or implicit
+     * hydrogen count or with values exceeding the ranges of the cache key are passed to the wrapped valence model
+     * without being cached.
+     */
+    @Override
+    public boolean hasValidValence(IAtom anAtom, int aSigmaBondCount, int aPiBondCount,
+                                   boolean aWildcardAtomicNumberIsValid) throws NullPointerException {
+        Objects.requireNonNull(anAtom, ErrorCodes.ATOM_NULL_ERROR.name());
+        Integer tmpAtomicNumber = anAtom.getAtomicNumber();
+        Integer tmpFormalCharge = anAtom.getFormalCharge();
+        Integer tmpImplicitHydrogenCount = anAtom.getImplicitHydrogenCount();
+        if (tmpAtomicNumber == null || tmpFormalCharge == null || tmpImplicitHydrogenCount == null) {
+            // the wrapped valence model decides how to handle missing values
+            return this.valenceModel.hasValidValence(anAtom, aSigmaBondCount, aPiBondCount,
+                    aWildcardAtomicNumberIsValid);
+        }
+        long tmpKey = CachingValenceModel.encodeAtomEnvironment(tmpAtomicNumber, tmpFormalCharge, aPiBondCount,
+                aSigmaBondCount, tmpImplicitHydrogenCount, aWildcardAtomicNumberIsValid);
+        if (tmpKey < 0) {
+            this.missCounter.increment();
+            return this.valenceModel.hasValidValence(anAtom, aSigmaBondCount, aPiBondCount,
+                    aWildcardAtomicNumberIsValid);
+        }
+        Boolean tmpCachedVerdict = this.cache.get(tmpKey);
+        if (tmpCachedVerdict != null) {
+            this.hitCounter.increment();
+            return tmpCachedVerdict;
+        }
+        this.missCounter.increment();
+        boolean tmpVerdict = this.valenceModel.hasValidValence(anAtom, aSigmaBondCount, aPiBondCount,
+                aWildcardAtomicNumberIsValid);
+        // the bound may be exceeded slightly by concurrent insertions
+        if (this.cache.size() < this.maximumCacheSize) {
+            this.cache.putIfAbsent(tmpKey, tmpVerdict);
+        }
+        return tmpVerdict;
+    }
+
+    /**
+     * Removes all cached verdicts and resets the hit and miss counters.
+     */
+    public void clear() {
+        this.cache.clear();
+        this.hitCounter.reset();
+        this.missCounter.reset();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public properties" defaultstate="collapsed">
+    /**
+     * Returns the wrapped valence model whose verdicts are cached.
+     *
+     * @return IValenceModel instance
+     */
+    public IValenceModel getValenceModel() {
+        return this.valenceModel;
+    }
+
+    /**
+     * Returns the maximum number of cached verdicts.
+     *
+     * @return integer value
+     */
+    public int getMaximumCacheSize() {
+        return this.maximumCacheSize;
+    }
+
+    /**
+     * Returns the number of currently cached verdicts.
+     *
+     * @return integer value
+     */
+    public int getCacheSize() {
+        return this.cache.size();
+    }
+
+    /**
+     * Returns the number of checks answered from the cache.
+     *
+     * @return long value
+     */
+    public long getHitCount() {
+        return this.hitCounter.sum();
+    }
+
+    /**
+     * Returns the number of checks that needed to be passed to the wrapped valence model.
+     *
+     * @return long value
+     */
+    public long getMissCount() {
+        return this.missCounter.sum();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private static methods" defaultstate="collapsed">
+    /**
+     * Encodes the given atom environment into a single long value to be used as cache key. If a value exceeds the
+     * range reserved for it, -1 is returned.
+     *
+     * @param anAtomicNumber               atomic number
+     * @param aFormalCharge                formal charge
+     * @param aPiBondCount                 number of π bonds
+     * @param aSigmaBondCount              number of σ bonds, not including the bonds to implicit hydrogen atoms
+     * @param anImplicitHydrogenCount      implicit hydrogen count
+     * @param aWildcardAtomicNumberIsValid whether wildcard atomic numbers are considered as valid
+     * @return non-negative long value or -1
+     */
+    private static long encodeAtomEnvironment(int anAtomicNumber, int aFormalCharge, int aPiBondCount,
+                                              int aSigmaBondCount, int anImplicitHydrogenCount,
+                                              boolean aWildcardAtomicNumberIsValid) {
+        int tmpShiftedCharge = aFormalCharge + CachingValenceModel.CHARGE_OFFSET;
+        if ((anAtomicNumber & ~CachingValenceModel.BYTE_MASK) != 0
+                || (tmpShiftedCharge & ~CachingValenceModel.BYTE_MASK) != 0
+                || (aPiBondCount & ~CachingValenceModel.BYTE_MASK) != 0
+                || (aSigmaBondCount & ~CachingValenceModel.SHORT_MASK) != 0
+                || (anImplicitHydrogenCount & ~CachingValenceModel.SHORT_MASK) != 0) {
+            return -1;
+        }
+        return ((long) anAtomicNumber << 49)
+                | ((long) tmpShiftedCharge << 41)
+                | ((long) aPiBondCount << 33)
+                | ((long) aSigmaBondCount << 17)
+                | ((long) anImplicitHydrogenCount << 1)
+                | (aWildcardAtomicNumberIsValid ? 1L : 0L);
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,243 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.valenceHandling.valenceModels;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.utils.ChemUtils;
+import org.openscience.cdk.interfaces.IAtom;
+import org.openscience.cdk.interfaces.IAtomContainer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Valence model composed of multiple valence models, e.g. valence list based valence models of different standards.
+ * The σ and π bond counts of an atom are determined once and passed to all composed valence models (see {@link
+ * IValenceModel#hasValidValence(IAtom, int, int, boolean)}), so that checking the valences against multiple standards
+ * costs about as much as checking them against a single one. The verdicts of the single valence models are returned
+ * per model by the methods {@link #getValenceValidities(IAtom, boolean)} and {@link
+ * #hasAllValidValencesPerModel(IAtomContainer, boolean)}.
+ * <br>
+ * When used as an {@link IValenceModel}, the valence of an atom is considered as valid if it is considered as valid
+ * by all composed valence models.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see IValenceModel
+ */
+public class CompositeValenceModel implements IValenceModel {
+
+    //<editor-fold desc="private final variables" defaultstate="collapsed">
+    /**
+     * The composed valence models in the order they were given.
+     */
+    private final IValenceModel[] valenceModels;
+
+    /**
+     * Unmodifiable list view of the composed valence models.
+     */
+    private final List<IValenceModel> valenceModelsList;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors" defaultstate="collapsed">
+    /**
+     * Constructor; composes the given valence models. The verdicts of the models are returned in the order the models
+     * are given in.
+     *
+     * @param aValenceModels the valence models to compose
+     * @throws NullPointerException if the given array or one of the given valence models is null
+     * @throws IllegalArgumentException if no valence model is given
+     */
+    public CompositeValenceModel(IValenceModel... aValenceModels) throws NullPointerException,
+            IllegalArgumentException {
+        Objects.requireNonNull(aValenceModels, "The given array of valence models (aValenceModels) is null.");
+        if (aValenceModels.length == 0) {
+            throw new IllegalArgumentException("At least one valence model needs to be given.");
+        }
+        for (IValenceModel tmpValenceModel : aValenceModels) {
+            Objects.requireNonNull(tmpValenceModel, ErrorCodes.VALENCE_MODEL_NULL_ERROR.name());
+        }
+        this.valenceModels = aValenceModels.clone();
+        this.valenceModelsList = Collections.unmodifiableList(Arrays.asList(this.valenceModels));
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public methods" defaultstate="collapsed">
+    /**
+     * @throws NullPointerException if the atom is null; if any value accessed by one of the composed valence models is
+     *                              null; if the bond order of a bond is null
+     * @throws IllegalArgumentException if the bond order of a bond is IBond.Order.UNSET
+     */
+    @Override
+    public boolean hasValidValence(IAtom anAtom) throws NullPointerException, IllegalArgumentException {
+        return this.hasValidValence(anAtom, false);
+    }
+
+    /**
+     * Returns true if the valence of the given atom is considered as valid by all composed valence models.
+     *
+     * @throws NullPointerException if the atom is null; if any value accessed by one of the composed valence models is
+     *                              null; if the bond order of a bond is null
+     * @throws IllegalArgumentException if the bond order of a bond is IBond.Order.UNSET
+     */
+    @Override
+    public boolean hasValidValence(IAtom anAtom, boolean aWildcardAtomicNumberIsValid) throws NullPointerException,
+            IllegalArgumentException {
+        Objects.requireNonNull(anAtom, ErrorCodes.ATOM_NULL_ERROR.name());
+        int[] tmpSigmaAndPiBondCounts = ChemUtils.getSigmaAndPiBondCounts(anAtom, false);
+        return this.hasValidValence(anAtom, tmpSigmaAndPiBondCounts[0], tmpSigmaAndPiBondCounts[1],
+                aWildcardAtomicNumberIsValid);
+    }
+
+    /**
+     * Returns true if the valence of the given atom is considered as valid by all composed valence models. The check
+     * stops at the first model considering the valence as invalid.
+     *
+     * @throws NullPointerException if the atom is null; if any value accessed by one of the composed valence models is
+     *                              null
+     */
+    @Override
+    public boolean hasValidValence(IAtom anAtom, int aSigmaBondCount, int aPiBondCount,
+                                   boolean aWildcardAtomicNumberIsValid) throws NullPointerException {
+        Objects.requireNonNull(anAtom, ErrorCodes.ATOM_NULL_ERROR.name());
+        for (IValenceModel tmpValenceModel : this.valenceModels) {
+            if (!tmpValenceModel.hasValidValence(anAtom, aSigmaBondCount, aPiBondCount,
+                    aWildcardAtomicNumberIsValid)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the verdicts of all composed valence models on the validity of the valence of the given atom. The σ and
+     * π bond counts of the atom are determined once for all models.
+     *
+     * @param anAtom                       the atom to check
+     * @param aWildcardAtomicNumberIsValid boolean value whether to generally consider atoms with wildcard atomic number
+     *                                     (zero) as having a valid valence
+     * @return array of the verdicts in the order of the composed valence models
+     * @throws NullPointerException if the atom is null; if any value accessed by one of the composed valence models is
+     *                              null; if the bond order of a bond is null
+     * @throws IllegalArgumentException if the bond order of a bond is IBond.Order.UNSET
+     */
+    public boolean[] getValenceValidities(IAtom anAtom, boolean aWildcardAtomicNumberIsValid)
+            throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(anAtom, ErrorCodes.ATOM_NULL_ERROR.name());
+        int[] tmpSigmaAndPiBondCounts = ChemUtils.getSigmaAndPiBondCounts(anAtom, false);
+        return this.getValenceValidities(anAtom, tmpSigmaAndPiBondCounts[0], tmpSigmaAndPiBondCounts[1],
+                aWildcardAtomicNumberIsValid);
+    }
+
+    /**
+     * Returns the verdicts of all composed valence models on the validity of the valence of the given atom using the
+     * given, already determined σ and π bond counts of the atom.
+     *
+     * @param anAtom                       the atom to check
+     * @param aSigmaBondCount              the sigma bond count of the atom, not including the bonds to implicit
+     *                                     hydrogen atoms
+     * @param aPiBondCount                 the pi bond count of the atom
+     * @param aWildcardAtomicNumberIsValid boolean value whether to generally consider atoms with wildcard atomic number
+     *                                     (zero) as having a valid valence
+     * @return array of the verdicts in the order of the composed valence models
+     * @throws NullPointerException if the atom is null; if any value accessed by one of the composed valence models is
+     *                              null
+     */
+    public boolean[] getValenceValidities(IAtom anAtom, int aSigmaBondCount, int aPiBondCount,
+                                          boolean aWildcardAtomicNumberIsValid) throws NullPointerException {
+        Objects.requireNonNull(anAtom, ErrorCodes.ATOM_NULL_ERROR.name());
+        boolean[] tmpValidities = new boolean[this.valenceModels.length];
+        for (int i = 0; i < this.valenceModels.length; i++) {
+            tmpValidities[i] = this.valenceModels[i].hasValidValence(anAtom, aSigmaBondCount, aPiBondCount,
+                    aWildcardAtomicNumberIsValid);
+        }
+        return tmpValidities;
+    }
+
+    /**
+     * Returns per composed valence model whether all atoms of the given atom container have a valence considered as
+     * valid by the model. The σ and π bonds of all atoms are counted in a single pass over the bonds of the atom
+     * container (see {@link ChemUtils#fillSigmaAndPiBondCounts(IAtomContainer, int[], int[])}); models that already
+     * considered the valence of an atom as invalid are not consulted on the remaining atoms.
+     *
+     * @param anAtomContainer              the atom container to check the valences of
+     * @param aWildcardAtomicNumberIsValid boolean value whether to generally consider atoms with wildcard atomic number
+     *                                     (zero) as having a valid valence
+     * @return array of the verdicts in the order of the composed valence models
+     * @throws NullPointerException if the given atom container or an atom contained by it is null; if any value
+     *                              accessed by one of the composed valence models is null; if the bond order of a
+     *                              bond is null
+     * @throws IllegalArgumentException if the bond order of a bond is IBond.Order.UNSET
+     */
+    public boolean[] hasAllValidValencesPerModel(IAtomContainer anAtomContainer, boolean aWildcardAtomicNumberIsValid)
+            throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(anAtomContainer, ErrorCodes.ATOM_CONTAINER_NULL_ERROR.name());
+        final int tmpAtomCount = anAtomContainer.getAtomCount();
+        final int[] tmpSigmaBondCounts = new int[tmpAtomCount];
+        final int[] tmpPiBondCounts = new int[tmpAtomCount];
+        ChemUtils.fillSigmaAndPiBondCounts(anAtomContainer, tmpSigmaBondCounts, tmpPiBondCounts);
+        //
+        boolean[] tmpValidities = new boolean[this.valenceModels.length];
+        Arrays.fill(tmpValidities, true);
+        int tmpRemainingValidModelsCount = this.valenceModels.length;
+        IAtom tmpAtom;
+        for (int i = 0; i < tmpAtomCount && tmpRemainingValidModelsCount > 0; i++) {
+            tmpAtom = anAtomContainer.getAtom(i);
+            Objects.requireNonNull(tmpAtom, ErrorCodes.ATOM_NULL_ERROR.name());
+            for (int j = 0; j < this.valenceModels.length; j++) {
+                if (tmpValidities[j] && !this.valenceModels[j].hasValidValence(tmpAtom, tmpSigmaBondCounts[i],
+                        tmpPiBondCounts[i], aWildcardAtomicNumberIsValid)) {
+                    tmpValidities[j] = false;
+                    tmpRemainingValidModelsCount--;
+                }
+            }
+        }
+        return tmpValidities;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="public properties" defaultstate="collapsed">
+    /**
+     * Returns an unmodifiable list of the composed valence models in the order their verdicts are returned in.
+     *
+     * @return list of IValenceModel instances
+     */
+    public List<IValenceModel> getValenceModels() {
+        return this.valenceModelsList;
+    }
+
+    /**
+     * Returns the number of composed valence models.
+     *
+     * @return integer value
+     */
+    public int getValenceModelCount() {
+        return this.valenceModels.length;
+    }
+    //</editor-fold>
+
+}
@@ -62,4 +62,26 @@ public interface IValenceModel {
      */
     public boolean hasValidValence(IAtom anAtom, boolean aWildcardAtomicNumberIsValid) throws NullPointerException;
 
+    /**
+     * Checks whether the valence of the given atom is considered as valid according to the valence model, using the
+     * given, already determined sigma and pi bond counts of the atom instead of querying its bonds. This allows the
+     * bonds of a whole molecule to be counted in a single pass (see {@link
+     * de.unijena.cheminf.curation.utils.ChemUtils#fillSigmaAndPiBondCounts}).
+     * <br>
+     * The default implementation ignores the given counts and calls {@link #hasValidValence(IAtom, boolean)}.
+     *
+     * @param anAtom                       the atom to check
+     * @param aSigmaBondCount              the sigma bond count of the atom, not including the bonds to implicit
+     *                                     hydrogen atoms
+     * @param aPiBondCount                 the pi bond count of the atom
+     * @param aWildcardAtomicNumberIsValid boolean value whether to generally consider atoms with wildcard atomic number
+     *                                     (zero) as having a valid valence
+     * @return true, if the valence is considered as valid
+     * @throws NullPointerException if the atom or any value accessed by the valence model is null
+     */
+    public default boolean hasValidValence(IAtom anAtom, int aSigmaBondCount, int aPiBondCount,
+                                           boolean aWildcardAtomicNumberIsValid) throws NullPointerException {
+        return this.hasValidValence(anAtom, aWildcardAtomicNumberIsValid);
+    }
+
 }
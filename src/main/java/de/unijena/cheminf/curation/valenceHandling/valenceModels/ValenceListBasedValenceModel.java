@@ -27,6 +27,7 @@ package de.unijena.cheminf.curation.valenceHandling.valenceModels;
 
 import de.unijena.cheminf.curation.enums.ErrorCodes;
 import de.unijena.cheminf.curation.utils.ChemUtils;
+import de.unijena.cheminf.curation.valenceHandling.valenceListHandling.CompiledValenceTable;
 import de.unijena.cheminf.curation.valenceHandling.valenceListHandling.ValenceListMatrixWrapper;
 import org.openscience.cdk.interfaces.IAtom;
 import org.openscience.cdk.interfaces.IElement;
@@ -56,12 +57,17 @@ public class ValenceListBasedValenceModel implements IValenceModel {
      * is checked on.
      */
     private final ValenceListMatrixWrapper valenceListMatrixWrapper;
+
+    /**
+     * The compiled form of the valence list used for the constant time lookup of the valid atom configurations.
+     */
+    private final CompiledValenceTable compiledValenceTable;
     //</editor-fold>
 
     //<editor-fold desc="Constructors" defaultstate="collapsed">
     /**
      * Main constructor; initializes the valence model and sets the valence list matrix wrapper instance based on which
-     * the validity of the valences is checked on.
+     * the validity of the valences is checked on. The valence list is compiled into a {@link CompiledValenceTable}.
      *
      * @param aValenceListMatrixWrapper the valence list matrix wrapper instance based on which the validity of valences
      *                                  shall be checked on
@@ -74,6 +80,7 @@ public class ValenceListBasedValenceModel implements IValenceModel {
         Objects.requireNonNull(aValenceListMatrixWrapper, "The given valence list matrix wrapper instance" +
                 " (aValenceListMatrixWrapper) is null.");
         this.valenceListMatrixWrapper = aValenceListMatrixWrapper;
+        this.compiledValenceTable = new CompiledValenceTable(aValenceListMatrixWrapper);
     }
 
     /**
@@ -161,6 +168,20 @@ public class ValenceListBasedValenceModel implements IValenceModel {
     public boolean hasValidValence(IAtom anAtom, boolean aWildcardAtomicNumberIsValid) throws NullPointerException,
             IllegalArgumentException, UnsupportedOperationException {
         Objects.requireNonNull(anAtom, ErrorCodes.ATOM_NULL_ERROR.name());
+        boolean tmpConsiderImplicitHydrogens = false;
+        int[] tmpSigmaAndPiBondCounts = ChemUtils.getSigmaAndPiBondCounts(anAtom, tmpConsiderImplicitHydrogens);
+        return this.hasValidValence(anAtom, tmpSigmaAndPiBondCounts[0], tmpSigmaAndPiBondCounts[1],
+                aWildcardAtomicNumberIsValid);
+    }
+
+    /**
+     * @throws NullPointerException if the atom is null; if atomic number, formal charge or the implicit hydrogen count
+     *                              of the atom is null
+     */
+    @Override
+    public boolean hasValidValence(IAtom anAtom, int aSigmaBondCount, int aPiBondCount,
+                                   boolean aWildcardAtomicNumberIsValid) throws NullPointerException {
+        Objects.requireNonNull(anAtom, ErrorCodes.ATOM_NULL_ERROR.name());
         Integer tmpNotNullInteger;
         //<editor-fold desc="atomic number" defaultstate="collapsed">
         if ((tmpNotNullInteger = anAtom.getAtomicNumber()) == null) {
@@ -180,33 +201,13 @@ public class ValenceListBasedValenceModel implements IValenceModel {
         }
         final int tmpImplicitHydrogenCount = tmpNotNullInteger;
         //</editor-fold>
-        //<editor-fold desc="sigma and pi bond counts" defaultstate="collapsed">
-        boolean tmpConsiderImplicitHydrogens = true;
-        int[] tmpSigmaAndPiBondCounts = ChemUtils.getSigmaAndPiBondCounts(anAtom, tmpConsiderImplicitHydrogens);
-        final int tmpSigmaBondCount = tmpSigmaAndPiBondCounts[0];
-        final int tmpPiBondCount = tmpSigmaAndPiBondCounts[1];
-        //</editor-fold>
         //
         if (aWildcardAtomicNumberIsValid && tmpAtomicNumber == IElement.Wildcard) {
             return true;
         }
-        //
-        int tmpIndexOfFirstEntry = this.valenceListMatrixWrapper.getValenceListElementPointer(tmpAtomicNumber);
-        if (tmpIndexOfFirstEntry == ValenceListMatrixWrapper.DEFAULT_POINTER_VALUE) {
-            // case: no valid valence / atom configuration defined for the specific atomic number
-            return false;
-        }
-        //
-        int tmpNumberOfEntries = this.valenceListMatrixWrapper.getAtomConfigurationsCountOfElement(tmpAtomicNumber);
-        for (int i = 0; i < tmpNumberOfEntries; i++) {
-            if (tmpFormalCharge == this.valenceListMatrixWrapper.getValenceListEntry(tmpIndexOfFirstEntry + i, 1)
-                    && tmpPiBondCount == this.valenceListMatrixWrapper.getValenceListEntry(tmpIndexOfFirstEntry + i, 2)
-                    && tmpSigmaBondCount == this.valenceListMatrixWrapper.getValenceListEntry(tmpIndexOfFirstEntry + i, 3)
-                    && tmpImplicitHydrogenCount <= this.valenceListMatrixWrapper.getValenceListEntry(tmpIndexOfFirstEntry + i, 4)) {
-                return true;
-            }
-        }
-        return false;
+        // the bonds to implicit hydrogen atoms are sigma bonds
+        return this.compiledValenceTable.isValidConfiguration(tmpAtomicNumber, tmpFormalCharge, aPiBondCount,
+                aSigmaBondCount + tmpImplicitHydrogenCount, tmpImplicitHydrogenCount);
     }
     //</editor-fold>
 
@@ -219,6 +220,15 @@ public class ValenceListBasedValenceModel implements IValenceModel {
     public ValenceListMatrixWrapper getValenceListMatrixWrapper() {
         return this.valenceListMatrixWrapper;
     }
+
+    /**
+     * Returns the compiled valence table the validity of the valences is checked with.
+     *
+     * @return CompiledValenceTable instance
+     */
+    public CompiledValenceTable getCompiledValenceTable() {
+        return this.compiledValenceTable;
+    }
     //</editor-fold>
 
 }
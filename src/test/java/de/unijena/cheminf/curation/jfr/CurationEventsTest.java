@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.jfr;
+
+import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.fileReaders.CustomIteratingSDFReader;
+import de.unijena.cheminf.curation.processingSteps.CurationPipeline;
+import de.unijena.cheminf.curation.processingSteps.IProcessingStep;
+import de.unijena.cheminf.curation.reporter.MarkDownReporter;
+import de.unijena.cheminf.curation.utils.SyntheticDatasetGenerator;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openscience.cdk.interfaces.IAtomContainerSet;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test class for the JDK Flight Recorder events emitted during the import, processing and reporting.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public class CurationEventsTest {
+
+    /**
+     * Tests whether importing and processing an SD file emits one import event per chunk of records, one event per
+     * processing step, one event for the report and one for the whole run, with the respective counts.
+     *
+     * @param aTempDirectoryPath path of a temporary directory
+     * @throws Exception if anything goes wrong
+     */
+    @Test
+    public void importAndProcessTest_emitsEventsOfAllStages(@TempDir Path aTempDirectoryPath) throws Exception {
+        int tmpRecordCount = 2 * CustomIteratingSDFReader.IMPORT_EVENT_CHUNK_SIZE + 500;
+        SyntheticDatasetGenerator tmpGenerator = new SyntheticDatasetGenerator(42L);
+        tmpGenerator.setNoDefects();
+        tmpGenerator.setHeavyAtomCountDistribution(8, 3, 15);
+        Path tmpSdFilePath = aTempDirectoryPath.resolve("synthetic.sdf");
+        tmpGenerator.writeSdFile(tmpSdFilePath, tmpRecordCount);
+        CurationPipeline tmpPipeline = new CurationPipeline(new MarkDownReporter(aTempDirectoryPath.toString()))
+                .withMaxHeavyAtomCountFilter(10, false)
+                .withMinHeavyAtomCountFilter(5, false);
+        List<RecordedEvent> tmpEventsList;
+        IAtomContainerSet tmpResultingACSet;
+        try (Recording tmpRecording = new Recording()) {
+            tmpRecording.enable(SdfImportChunkEvent.class);
+            tmpRecording.enable(ProcessingStepEvent.class);
+            tmpRecording.enable(ReportGenerationEvent.class);
+            tmpRecording.enable(CurationRunEvent.class);
+            tmpRecording.start();
+            tmpResultingACSet = tmpPipeline.importAndProcess(tmpSdFilePath.toString());
+            tmpRecording.stop();
+            Path tmpRecordingFilePath = aTempDirectoryPath.resolve("recording.jfr");
+            tmpRecording.dump(tmpRecordingFilePath);
+            tmpEventsList = RecordingFile.readAllEvents(tmpRecordingFilePath);
+        }
+        //
+        List<RecordedEvent> tmpImportEventsList = this.getEventsOfType(tmpEventsList,
+                "de.unijena.cheminf.curation.SdfImportChunk");
+        Assertions.assertEquals(3, tmpImportEventsList.size());
+        Assertions.assertEquals(0, tmpImportEventsList.get(0).getInt("firstRecordIndex"));
+        Assertions.assertEquals(1, tmpImportEventsList.get(0).getInt("firstLineNumber"));
+        Assertions.assertEquals(CustomIteratingSDFReader.IMPORT_EVENT_CHUNK_SIZE,
+                tmpImportEventsList.get(0).getInt("recordCount"));
+        Assertions.assertEquals(2 * CustomIteratingSDFReader.IMPORT_EVENT_CHUNK_SIZE,
+                tmpImportEventsList.get(2).getInt("firstRecordIndex"));
+        Assertions.assertEquals(500, tmpImportEventsList.get(2).getInt("recordCount"));
+        Assertions.assertEquals(0, tmpImportEventsList.get(2).getInt("failedRecordCount"));
+        Assertions.assertTrue(tmpImportEventsList.get(0).getLong("parsingTime") > 0);
+        //
+        List<RecordedEvent> tmpStepEventsList = this.getEventsOfType(tmpEventsList,
+                "de.unijena.cheminf.curation.ProcessingStep");
+        Assertions.assertEquals(2, tmpStepEventsList.size());
+        Assertions.assertEquals("0", tmpStepEventsList.get(0).getString("processingStepID"));
+        Assertions.assertEquals(tmpRecordCount, tmpStepEventsList.get(0).getInt("inputCount"));
+        Assertions.assertEquals("1", tmpStepEventsList.get(1).getString("processingStepID"));
+        Assertions.assertEquals(tmpResultingACSet.getAtomContainerCount(),
+                tmpStepEventsList.get(1).getInt("outputCount"));
+        Assertions.assertFalse(tmpStepEventsList.get(1).getBoolean("failed"));
+        //
+        List<RecordedEvent> tmpReportEventsList = this.getEventsOfType(tmpEventsList,
+                "de.unijena.cheminf.curation.ReportGeneration");
+        Assertions.assertEquals(1, tmpReportEventsList.size());
+        Assertions.assertEquals(0, tmpReportEventsList.get(0).getLong("reportedIssueCount"));
+        Assertions.assertNotNull(tmpReportEventsList.get(0).getString("reportFilePath"));
+        //
+        List<RecordedEvent> tmpRunEventsList = this.getEventsOfType(tmpEventsList,
+                "de.unijena.cheminf.curation.CurationRun");
+        Assertions.assertEquals(1, tmpRunEventsList.size());
+        Assertions.assertEquals(tmpRecordCount, tmpRunEventsList.get(0).getInt("structuresInFileCount"));
+        Assertions.assertEquals(tmpResultingACSet.getAtomContainerCount(),
+                tmpRunEventsList.get(0).getInt("outputCount"));
+        Assertions.assertTrue(tmpRunEventsList.get(0).getDuration().toNanos()
+                >= tmpRunEventsList.get(0).getLong("importTime"));
+    }
+
+    /**
+     * Tests whether the processing by a processing step that is not part of a pipeline emits an event without
+     * processing step identifier.
+     *
+     * @param aTempDirectoryPath path of a temporary directory
+     * @throws Exception if anything goes wrong
+     */
+    @Test
+    public void processTest_standaloneProcessingStep_emitsEvent(@TempDir Path aTempDirectoryPath) throws Exception {
+        IProcessingStep tmpFilter = TestUtils.getAllTrueOrFalseFilter(true);
+        tmpFilter.setReporter(TestUtils.getTestReporterInstance());
+        List<RecordedEvent> tmpEventsList;
+        try (Recording tmpRecording = new Recording()) {
+            tmpRecording.enable(ProcessingStepEvent.class);
+            tmpRecording.start();
+            tmpFilter.process(TestUtils.getSetOfEmptyAtomContainers(4), true);
+            tmpRecording.stop();
+            Path tmpRecordingFilePath = aTempDirectoryPath.resolve("recording.jfr");
+            tmpRecording.dump(tmpRecordingFilePath);
+            tmpEventsList = RecordingFile.readAllEvents(tmpRecordingFilePath);
+        }
+        Assertions.assertEquals(1, tmpEventsList.size());
+        RecordedEvent tmpEvent = tmpEventsList.get(0);
+        Assertions.assertNull(tmpEvent.getString("processingStepID"));
+        Assertions.assertEquals(4, tmpEvent.getInt("inputCount"));
+        Assertions.assertEquals(0, tmpEvent.getInt("outputCount"));
+        Assertions.assertTrue(tmpEvent.getBoolean("cloned"));
+    }
+
+    /**
+     * Returns the events of the given type in the order of their start time.
+     *
+     * @param anEventsList list of recorded events
+     * @param anEventName  name of the event type
+     * @return list of RecordedEvent instances
+     */
+    private List<RecordedEvent> getEventsOfType(List<RecordedEvent> anEventsList, String anEventName) {
+        return anEventsList.stream()
+                .filter(anEvent -> anEvent.getEventType().getName().equals(anEventName))
+                .sorted((anEvent1, anEvent2) -> anEvent1.getStartTime().compareTo(anEvent2.getStartTime()))
+                .collect(Collectors.toList());
+    }
+
+}
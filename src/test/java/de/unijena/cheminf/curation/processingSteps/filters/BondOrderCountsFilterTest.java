@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.processingSteps.filters;
+
+import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openscience.cdk.exception.InvalidSmilesException;
+import org.openscience.cdk.interfaces.IAtomContainer;
+import org.openscience.cdk.interfaces.IAtomContainerSet;
+import org.openscience.cdk.interfaces.IBond;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Test class for class BondOrderCountsFilter.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public class BondOrderCountsFilterTest {
+
+    /**
+     * Tests whether the .isFiltered() method of class BondOrderCountsFilter filters atom containers that exceed a max
+     * count or fall short of a min count of any of the given bond orders; atom containers equaling the thresholds pass.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     * @throws Exception if an unexpected exception occurs
+     */
+    @Test
+    public void isFilteredMethodTest_multipleBondOrders() throws InvalidSmilesException, Exception {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings(
+                "C=CC=C",       // 2 double, 0 triple
+                "C=CC=CC=C",    // 3 double, 0 triple - filtered (max double)
+                "C=CC#N",       // 1 double, 1 triple
+                "CCC#N",        // 0 double - filtered (min double)
+                "C#CC(=C)C#N"   // 1 double, 2 triple - filtered (max triple)
+        );
+        boolean[] tmpIsFilteredArray = new boolean[]{false, true, false, true, true};
+        Map<IBond.Order, Integer> tmpMaxCounts = new EnumMap<>(IBond.Order.class);
+        tmpMaxCounts.put(IBond.Order.DOUBLE, 2);
+        tmpMaxCounts.put(IBond.Order.TRIPLE, 1);
+        Map<IBond.Order, Integer> tmpMinCounts = new EnumMap<>(IBond.Order.class);
+        tmpMinCounts.put(IBond.Order.DOUBLE, 1);
+        IFilter tmpFilter = new BondOrderCountsFilter(tmpMaxCounts, tmpMinCounts, true, true,
+                TestUtils.getTestReporterInstance());
+        for (int i = 0; i < tmpIsFilteredArray.length; i++) {
+            Assertions.assertEquals(tmpIsFilteredArray[i], tmpFilter.isFiltered(tmpAtomContainerSet.getAtomContainer(i)));
+        }
+    }
+
+    /**
+     * Tests whether the .isFiltered() method of class BondOrderCountsFilter considers bonds to implicit hydrogen atoms
+     * and to pseudo-atoms according to the boolean parameters.
+     *
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     * @throws Exception if an unexpected exception occurs
+     */
+    @Test
+    public void isFilteredMethodTest_implicitHydrogensAndPseudoAtoms() throws InvalidSmilesException, Exception {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("*CC*");  // 3 single bonds, 4 implicit Hs
+        Map<IBond.Order, Integer> tmpMaxCounts = new EnumMap<>(IBond.Order.class);
+        tmpMaxCounts.put(IBond.Order.SINGLE, 2);
+        Assertions.assertTrue(new BondOrderCountsFilter(tmpMaxCounts, null, true, false,
+                TestUtils.getTestReporterInstance()).isFiltered(tmpAtomContainer));
+        Assertions.assertTrue(new BondOrderCountsFilter(tmpMaxCounts, null, false, true,
+                TestUtils.getTestReporterInstance()).isFiltered(tmpAtomContainer));
+        Assertions.assertFalse(new BondOrderCountsFilter(tmpMaxCounts, null, false, false,
+                TestUtils.getTestReporterInstance()).isFiltered(tmpAtomContainer));
+    }
+
+    /**
+     * Tests whether the .evaluate() method of class BondOrderCountsFilter returns the issue outcome of error code
+     * IMPLICIT_HYDROGEN_COUNT_NULL_ERROR only if bonds to implicit hydrogen atoms are relevant.
+     *
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     */
+    @Test
+    public void evaluateMethodTest_implicitHydrogenCountNull() throws InvalidSmilesException {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("C=CC");
+        tmpAtomContainer.getAtom(2).setImplicitHydrogenCount(null);
+        Map<IBond.Order, Integer> tmpMinCounts = new EnumMap<>(IBond.Order.class);
+        tmpMinCounts.put(IBond.Order.SINGLE, 1);
+        Assertions.assertSame(FilterOutcome.issue(ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR),
+                new BondOrderCountsFilter(null, tmpMinCounts, true, true, TestUtils.getTestReporterInstance())
+                        .evaluate(tmpAtomContainer));
+        Assertions.assertSame(FilterOutcome.PASSED,
+                new BondOrderCountsFilter(null, tmpMinCounts, false, true, TestUtils.getTestReporterInstance())
+                        .evaluate(tmpAtomContainer));
+        Map<IBond.Order, Integer> tmpMaxCounts = new EnumMap<>(IBond.Order.class);
+        tmpMaxCounts.put(IBond.Order.DOUBLE, 0);
+        Assertions.assertSame(FilterOutcome.FILTERED,
+                new BondOrderCountsFilter(tmpMaxCounts, null, true, true, TestUtils.getTestReporterInstance())
+                        .evaluate(tmpAtomContainer));
+    }
+
+    /**
+     * Tests whether the constructor of class BondOrderCountsFilter throws an IllegalArgumentException if a threshold is
+     * negative or a min count exceeds the respective max count.
+     */
+    @Test
+    public void constructorTest_illegalThresholds_throwsIllegalArgumentException() {
+        Map<IBond.Order, Integer> tmpNegativeCounts = new EnumMap<>(IBond.Order.class);
+        tmpNegativeCounts.put(IBond.Order.DOUBLE, -1);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BondOrderCountsFilter(tmpNegativeCounts,
+                null, true, true, TestUtils.getTestReporterInstance()));
+        Map<IBond.Order, Integer> tmpMaxCounts = new EnumMap<>(IBond.Order.class);
+        tmpMaxCounts.put(IBond.Order.DOUBLE, 1);
+        Map<IBond.Order, Integer> tmpMinCounts = new EnumMap<>(IBond.Order.class);
+        tmpMinCounts.put(IBond.Order.DOUBLE, 2);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BondOrderCountsFilter(tmpMaxCounts,
+                tmpMinCounts, true, true, TestUtils.getTestReporterInstance()));
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.processingSteps.filters;
+
+import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.utils.AtomicNumbersMask;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openscience.cdk.exception.InvalidSmilesException;
+import org.openscience.cdk.interfaces.IAtomContainer;
+import org.openscience.cdk.interfaces.IAtomContainerSet;
+import org.openscience.cdk.interfaces.IElement;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test class for class ElementCompositionFilter.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public class ElementCompositionFilterTest {
+
+    /**
+     * Tests whether the .isFiltered() method of class ElementCompositionFilter in organic subset mode filters atom
+     * containers containing atoms of elements outside the organic subset.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     * @throws Exception if an unexpected exception occurs
+     */
+    @Test
+    public void isFilteredMethodTest_organicSubsetMode() throws InvalidSmilesException, Exception {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings(
+                "CCO",
+                "c1ccccc1Cl",
+                "[Na+].[Cl-]",
+                "CC[Fe]CC",
+                "B(O)(O)O"
+        );
+        boolean[] tmpIsFilteredArray = new boolean[]{false, false, true, true, false};
+        IFilter tmpFilter = new ElementCompositionFilter(TestUtils.getTestReporterInstance());
+        for (int i = 0; i < tmpIsFilteredArray.length; i++) {
+            Assertions.assertEquals(tmpIsFilteredArray[i], tmpFilter.isFiltered(tmpAtomContainerSet.getAtomContainer(i)));
+        }
+    }
+
+    /**
+     * Tests whether the .isFiltered() method of class ElementCompositionFilter filters atom containers that exceed the
+     * max count of an element; atom containers that equal the max count do not get filtered.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     * @throws Exception if an unexpected exception occurs
+     */
+    @Test
+    public void isFilteredMethodTest_maxCountsOfElements() throws InvalidSmilesException, Exception {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings(
+                "CCO",          // 1 O
+                "OCCO",         // 2 O
+                "OC(O)CO",      // 3 O
+                "ClCCCl"        // 2 Cl
+        );
+        boolean[] tmpIsFilteredArray = new boolean[]{false, false, true, true};
+        Map<Integer, Integer> tmpMaxCounts = new HashMap<>();
+        tmpMaxCounts.put(IElement.O, 2);
+        tmpMaxCounts.put(IElement.Cl, 1);
+        IFilter tmpFilter = new ElementCompositionFilter(AtomicNumbersMask.ORGANIC_SUBSET, tmpMaxCounts, false,
+                TestUtils.getTestReporterInstance());
+        for (int i = 0; i < tmpIsFilteredArray.length; i++) {
+            Assertions.assertEquals(tmpIsFilteredArray[i], tmpFilter.isFiltered(tmpAtomContainerSet.getAtomContainer(i)));
+        }
+    }
+
+    /**
+     * Tests whether the .isFiltered() method of class ElementCompositionFilter takes implicit hydrogen atoms into
+     * account for the max count of hydrogen atoms and the whitelist if they are to be considered.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     * @throws Exception if an unexpected exception occurs
+     */
+    @Test
+    public void isFilteredMethodTest_implicitHydrogens() throws InvalidSmilesException, Exception {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("CC");   // 6 implicit Hs
+        Map<Integer, Integer> tmpMaxCounts = new HashMap<>();
+        tmpMaxCounts.put(IElement.H, 5);
+        Assertions.assertTrue(new ElementCompositionFilter(AtomicNumbersMask.ORGANIC_SUBSET, tmpMaxCounts, true,
+                TestUtils.getTestReporterInstance()).isFiltered(tmpAtomContainer));
+        Assertions.assertFalse(new ElementCompositionFilter(AtomicNumbersMask.ORGANIC_SUBSET, tmpMaxCounts, false,
+                TestUtils.getTestReporterInstance()).isFiltered(tmpAtomContainer));
+        AtomicNumbersMask tmpCarbonOnlyMask = new AtomicNumbersMask(IElement.C);
+        Assertions.assertTrue(new ElementCompositionFilter(tmpCarbonOnlyMask, null, true,
+                TestUtils.getTestReporterInstance()).isFiltered(tmpAtomContainer));
+        Assertions.assertFalse(new ElementCompositionFilter(tmpCarbonOnlyMask, null, false,
+                TestUtils.getTestReporterInstance()).isFiltered(tmpAtomContainer));
+    }
+
+    /**
+     * Tests whether the .isFiltered() method of class ElementCompositionFilter throws a NullPointerException with the
+     * respective error code as message if implicit hydrogens are to be considered but an implicit hydrogen count is
+     * null.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     * @throws Exception if an unexpected exception occurs
+     */
+    @Test
+    public void isFilteredMethodTest_implicitHydrogenCountNull_throwsNullPointerException() throws InvalidSmilesException, Exception {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("CC");
+        tmpAtomContainer.getAtom(0).setImplicitHydrogenCount(null);
+        IFilter tmpFilter = new ElementCompositionFilter(AtomicNumbersMask.ORGANIC_SUBSET, null, true,
+                TestUtils.getTestReporterInstance());
+        NullPointerException tmpException = Assertions.assertThrows(NullPointerException.class,
+                () -> tmpFilter.isFiltered(tmpAtomContainer));
+        Assertions.assertEquals(ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR.name(), tmpException.getMessage());
+    }
+
+    /**
+     * Tests whether the constructor of class ElementCompositionFilter throws an IllegalArgumentException if a max count
+     * is negative or a key of the map is no valid atomic number.
+     */
+    @Test
+    public void constructorTest_illegalMaxCounts_throwsIllegalArgumentException() {
+        Map<Integer, Integer> tmpNegativeCount = new HashMap<>();
+        tmpNegativeCount.put(IElement.C, -1);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ElementCompositionFilter(
+                AtomicNumbersMask.ORGANIC_SUBSET, tmpNegativeCount, false, TestUtils.getTestReporterInstance()));
+        Map<Integer, Integer> tmpInvalidAtomicNumber = new HashMap<>();
+        tmpInvalidAtomicNumber.put(200, 1);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ElementCompositionFilter(
+                AtomicNumbersMask.ORGANIC_SUBSET, tmpInvalidAtomicNumber, false, TestUtils.getTestReporterInstance()));
+    }
+
+}
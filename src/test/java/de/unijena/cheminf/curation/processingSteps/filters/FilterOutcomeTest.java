@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.processingSteps.filters;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for class FilterOutcome.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public class FilterOutcomeTest {
+
+    /**
+     * Tests whether the .of() method of class FilterOutcome returns the constants FILTERED and PASSED and whether
+     * these return the expected values.
+     */
+    @Test
+    public void ofMethodTest_returnsPlainOutcomes() {
+        Assertions.assertSame(FilterOutcome.FILTERED, FilterOutcome.of(true));
+        Assertions.assertSame(FilterOutcome.PASSED, FilterOutcome.of(false));
+        Assertions.assertTrue(FilterOutcome.PASSED.isPassed());
+        Assertions.assertFalse(FilterOutcome.PASSED.isFiltered());
+        Assertions.assertFalse(FilterOutcome.PASSED.isIssue());
+        Assertions.assertNull(FilterOutcome.PASSED.getErrorCode());
+        Assertions.assertFalse(FilterOutcome.FILTERED.isPassed());
+        Assertions.assertTrue(FilterOutcome.FILTERED.isFiltered());
+        Assertions.assertFalse(FilterOutcome.FILTERED.isIssue());
+        Assertions.assertNull(FilterOutcome.FILTERED.getErrorCode());
+    }
+
+    /**
+     * Tests whether the .issue() method of class FilterOutcome returns the same instance for every call with the same
+     * error code and whether the returned outcomes are filtered issue outcomes holding the respective error code.
+     */
+    @Test
+    public void issueMethodTest_returnsSharedIssueOutcomePerErrorCode() {
+        for (ErrorCodes tmpErrorCode : ErrorCodes.values()) {
+            FilterOutcome tmpOutcome = FilterOutcome.issue(tmpErrorCode);
+            Assertions.assertSame(tmpOutcome, FilterOutcome.issue(tmpErrorCode));
+            Assertions.assertTrue(tmpOutcome.isIssue());
+            Assertions.assertTrue(tmpOutcome.isFiltered());
+            Assertions.assertFalse(tmpOutcome.isPassed());
+            Assertions.assertSame(tmpErrorCode, tmpOutcome.getErrorCode());
+        }
+    }
+
+    /**
+     * Tests whether the .issue() method of class FilterOutcome throws a NullPointerException if the given error code
+     * is null.
+     */
+    @Test
+    public void issueMethodTest_errorCodeNull_throwsNullPointerException() {
+        Assertions.assertThrows(NullPointerException.class, () -> FilterOutcome.issue(null));
+    }
+
+    /**
+     * Tests whether the .invert() method swaps the constants FILTERED and PASSED and returns issue outcomes as they
+     * are.
+     */
+    @Test
+    public void invertMethodTest_swapsPlainOutcomes_keepsIssueOutcomes() {
+        Assertions.assertSame(FilterOutcome.PASSED, FilterOutcome.FILTERED.invert());
+        Assertions.assertSame(FilterOutcome.FILTERED, FilterOutcome.PASSED.invert());
+        for (ErrorCodes tmpErrorCode : ErrorCodes.values()) {
+            FilterOutcome tmpOutcome = FilterOutcome.issue(tmpErrorCode);
+            Assertions.assertSame(tmpOutcome, tmpOutcome.invert());
+        }
+    }
+
+}
@@ -26,6 +26,9 @@
 package de.unijena.cheminf.curation.processingSteps.filters;
 
 import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.reporter.TestReporter;
+import de.unijena.cheminf.curation.utils.ProcessingStepUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.openscience.cdk.exception.InvalidSmilesException;
@@ -251,6 +254,79 @@ public class MaxAtomCountFilterTest {
         }
     }
 
+    /**
+     * Tests whether the .evaluate() method returns the issue outcome of error code IMPLICIT_HYDROGEN_COUNT_NULL_ERROR
+     * if implicit hydrogen atoms are to be considered and the implicit hydrogen count of an atom is null; the outcome
+     * of atom containers without issues equals the return value of .isFiltered().
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void evaluateMethodTest_implicitHydrogenCountNull_returnsIssueOutcome() throws InvalidSmilesException, Exception {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings("CCO", "c1ccccc1");
+        tmpAtomContainerSet.getAtomContainer(0).getAtom(2).setImplicitHydrogenCount(null);
+        IFilter tmpMaxAtomCountFilter = new MaxAtomCountFilter(10, true, true, TestUtils.getTestReporterInstance());
+        Assertions.assertSame(FilterOutcome.issue(ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR),
+                tmpMaxAtomCountFilter.evaluate(tmpAtomContainerSet.getAtomContainer(0)));
+        Assertions.assertSame(FilterOutcome.FILTERED,
+                tmpMaxAtomCountFilter.evaluate(tmpAtomContainerSet.getAtomContainer(1)));
+        // not considering implicit hydrogen atoms, the missing implicit hydrogen count is no issue
+        tmpMaxAtomCountFilter = new MaxAtomCountFilter(10, false, true, TestUtils.getTestReporterInstance());
+        Assertions.assertSame(FilterOutcome.PASSED,
+                tmpMaxAtomCountFilter.evaluate(tmpAtomContainerSet.getAtomContainer(0)));
+    }
+
+    /**
+     * Tests whether the .process() method reports an atom container with an implicit hydrogen count being null with
+     * the respective error code and does not let it pass the filter.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void filterMethodTest_implicitHydrogenCountNull_reportedAndFiltered() throws InvalidSmilesException, Exception {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings("CCO", "CC");
+        tmpAtomContainerSet.getAtomContainer(0).getAtom(0).setImplicitHydrogenCount(null);
+        TestReporter tmpReporter = new TestReporter(ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR);
+        IFilter tmpMaxAtomCountFilter = new MaxAtomCountFilter(10, true, true, tmpReporter);
+        // initialize the report without finishing it to be able to check the count of reported issues
+        tmpMaxAtomCountFilter.setIsReporterSelfContained(false);
+        tmpReporter.initializeNewReport();
+        ProcessingStepUtils.assignMolIdToAtomContainers(tmpAtomContainerSet);
+        IAtomContainerSet tmpFilteredACSet = tmpMaxAtomCountFilter.process(tmpAtomContainerSet, false);
+        Assertions.assertEquals(1, tmpFilteredACSet.getAtomContainerCount());
+        Assertions.assertSame(tmpAtomContainerSet.getAtomContainer(1), tmpFilteredACSet.getAtomContainer(0));
+        Assertions.assertEquals(1, tmpReporter.getAllowedErrorCodesCount());
+        Assertions.assertEquals(0, tmpReporter.getNotAllowedErrorCodesCount());
+    }
+
+    /**
+     * Tests whether an issue outcome with an error code the filter considers as fatal still aborts the processing,
+     * just as an exception of the same error code thrown by the .isFiltered() method did.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     */
+    @Test
+    public void filterMethodTest_fatalIssueOutcome_rethrown() throws InvalidSmilesException {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings("CCO", "CC");
+        TestReporter tmpReporter = new TestReporter(ErrorCodes.ILLEGAL_THRESHOLD_VALUE_ERROR);
+        IFilter tmpMaxAtomCountFilter = new MaxAtomCountFilter(10, true, true, tmpReporter) {
+            @Override
+            public FilterOutcome evaluate(IAtomContainer anAtomContainer) {
+                return FilterOutcome.issue(ErrorCodes.ILLEGAL_THRESHOLD_VALUE_ERROR);
+            }
+        };
+        tmpMaxAtomCountFilter.setIsReporterSelfContained(false);
+        tmpReporter.initializeNewReport();
+        ProcessingStepUtils.assignMolIdToAtomContainers(tmpAtomContainerSet);
+        Exception tmpException = Assertions.assertThrows(Exception.class,
+                () -> tmpMaxAtomCountFilter.process(tmpAtomContainerSet, false));
+        Assertions.assertEquals(ErrorCodes.ILLEGAL_THRESHOLD_VALUE_ERROR.name(), tmpException.getMessage());
+        // the processing was aborted after the first structure
+        Assertions.assertEquals(1, tmpReporter.getAllowedErrorCodesCount());
+    }
+
     /**
      * Tests whether the .filter() method throws a NullPointerException if the given IAtomContainerSet instance is null.
      */
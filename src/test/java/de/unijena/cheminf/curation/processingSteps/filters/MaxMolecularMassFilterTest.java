@@ -26,6 +26,7 @@
 package de.unijena.cheminf.curation.processingSteps.filters;
 
 import de.unijena.cheminf.curation.utils.ChemUtils;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
 import de.unijena.cheminf.curation.enums.MassComputationFlavours;
 import de.unijena.cheminf.curation.TestUtils;
 import org.junit.jupiter.api.Assertions;
@@ -293,4 +294,21 @@ public class MaxMolecularMassFilterTest {
         );
     }
 
+    /**
+     * Tests whether the .evaluate() method returns an issue outcome instead of throwing an exception if the implicit
+     * hydrogen count of an atom is null.
+     */
+    @Test
+    public void evaluateMethodTest_implicitHydrogenCountNull_returnsIssueOutcome() throws InvalidSmilesException {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("CCO");
+        tmpAtomContainer.getAtom(1).setImplicitHydrogenCount(null);
+        for (MassComputationFlavours tmpFlavour : MassComputationFlavours.values()) {
+            MaxMolecularMassFilter tmpMaxMolecularMassFilter = new MaxMolecularMassFilter(30.0, tmpFlavour,
+                    TestUtils.getTestReporterInstance());
+            FilterOutcome tmpOutcome = tmpMaxMolecularMassFilter.evaluate(tmpAtomContainer);
+            Assertions.assertTrue(tmpOutcome.isIssue());
+            Assertions.assertSame(ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR, tmpOutcome.getErrorCode());
+        }
+    }
+
 }
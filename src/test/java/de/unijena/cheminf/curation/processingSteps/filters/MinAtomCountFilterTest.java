@@ -26,6 +26,9 @@
 package de.unijena.cheminf.curation.processingSteps.filters;
 
 import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.reporter.TestReporter;
+import de.unijena.cheminf.curation.utils.ProcessingStepUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.openscience.cdk.exception.InvalidSmilesException;
@@ -249,6 +252,32 @@ public class MinAtomCountFilterTest {
         }
     }
 
+    /**
+     * Tests whether the .process() method reports an atom container with an implicit hydrogen count being null with
+     * the respective error code and does not let it pass the filter, although its explicit atoms alone already exceed
+     * the threshold.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void filterMethodTest_implicitHydrogenCountNullAboveThreshold_reportedAndFiltered()
+            throws InvalidSmilesException, Exception {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings("CCCCCC", "CCCCC");
+        tmpAtomContainerSet.getAtomContainer(0).getAtom(5).setImplicitHydrogenCount(null);
+        TestReporter tmpReporter = new TestReporter(ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR);
+        IFilter tmpMinAtomCountFilter = new MinAtomCountFilter(3, true, true, tmpReporter);
+        // initialize the report without finishing it to be able to check the count of reported issues
+        tmpMinAtomCountFilter.setIsReporterSelfContained(false);
+        tmpReporter.initializeNewReport();
+        ProcessingStepUtils.assignMolIdToAtomContainers(tmpAtomContainerSet);
+        IAtomContainerSet tmpFilteredACSet = tmpMinAtomCountFilter.process(tmpAtomContainerSet, false);
+        Assertions.assertEquals(1, tmpFilteredACSet.getAtomContainerCount());
+        Assertions.assertSame(tmpAtomContainerSet.getAtomContainer(1), tmpFilteredACSet.getAtomContainer(0));
+        Assertions.assertEquals(1, tmpReporter.getAllowedErrorCodesCount());
+        Assertions.assertEquals(0, tmpReporter.getNotAllowedErrorCodesCount());
+    }
+
     /**
      * Tests whether the .filter() method throws a NullPointerException if the given IAtomContainerSet instance is null.
      */
@@ -0,0 +1,222 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.processingSteps.filters;
+
+import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.reporter.IReporter;
+import de.unijena.cheminf.curation.reporter.ReportDataObject;
+import de.unijena.cheminf.curation.reporter.TestReporter;
+import de.unijena.cheminf.curation.utils.ProcessingStepUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openscience.cdk.exception.InvalidSmilesException;
+import org.openscience.cdk.interfaces.IAtomContainer;
+import org.openscience.cdk.interfaces.IAtomContainerSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class of the filters HasAllValidValencesFilter and HasInvalidValencesFilter.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public class ValenceValidityFiltersTest {
+
+    /**
+     * Tests whether no listener is set by default and the .evaluate() method of both filters returns the outcomes
+     * matching the .isFiltered() method.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void evaluateMethodTest_noListener_matchesIsFilteredMethod() throws InvalidSmilesException, Exception {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings("CC(C)(C)(C)(C)C", "CCO");
+        HasAllValidValencesFilter tmpFilter1 = new HasAllValidValencesFilter(false,
+                TestUtils.getTestReporterInstance());
+        HasInvalidValencesFilter tmpFilter2 = new HasInvalidValencesFilter(false, TestUtils.getTestReporterInstance());
+        Assertions.assertNull(tmpFilter1.getInvalidValenceAtomsListener());
+        for (IAtomContainer tmpAtomContainer : tmpAtomContainerSet.atomContainers()) {
+            Assertions.assertEquals(tmpFilter1.isFiltered(tmpAtomContainer),
+                    tmpFilter1.evaluate(tmpAtomContainer).isFiltered());
+            Assertions.assertEquals(tmpFilter2.isFiltered(tmpAtomContainer),
+                    tmpFilter2.evaluate(tmpAtomContainer).isFiltered());
+        }
+    }
+
+    /**
+     * Tests whether the .evaluate() method of class HasAllValidValencesFilter passes the indices of the atoms with
+     * invalid valences to the listener and still returns the plain outcomes; the listener is not called for
+     * structures with all valid valences and no property is left on the atom containers.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     */
+    @Test
+    public void evaluateMethodTest_hasAllValidValencesFilter_listener_getsIndicesAndOutcomesStayPlain()
+            throws InvalidSmilesException {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings("CC(C)(C)(C)(C)CO[C+5]", "CCO");
+        HasAllValidValencesFilter tmpFilter = new HasAllValidValencesFilter(false, TestUtils.getTestReporterInstance());
+        List<int[]> tmpRecordedIndices = new ArrayList<>(2);
+        tmpFilter.setInvalidValenceAtomsListener((anAtomContainer, anIndices) -> {
+            Assertions.assertSame(tmpAtomContainerSet.getAtomContainer(0), anAtomContainer);
+            tmpRecordedIndices.add(anIndices);
+        });
+        int tmpPropertyCount = tmpAtomContainerSet.getAtomContainer(0).getProperties().size();
+        Assertions.assertSame(FilterOutcome.FILTERED, tmpFilter.evaluate(tmpAtomContainerSet.getAtomContainer(0)));
+        Assertions.assertSame(FilterOutcome.PASSED, tmpFilter.evaluate(tmpAtomContainerSet.getAtomContainer(1)));
+        Assertions.assertEquals(1, tmpRecordedIndices.size());
+        Assertions.assertArrayEquals(new int[]{1, 8}, tmpRecordedIndices.get(0));
+        Assertions.assertEquals(tmpPropertyCount, tmpAtomContainerSet.getAtomContainer(0).getProperties().size());
+    }
+
+    /**
+     * Tests whether the .evaluate() method of class HasInvalidValencesFilter lets structures with invalid valences
+     * pass with the indices of the respective atoms passed to the listener.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     */
+    @Test
+    public void evaluateMethodTest_hasInvalidValencesFilter_listener_passesWithIndicesRecorded()
+            throws InvalidSmilesException {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings("O[C+5]", "CCO");
+        HasInvalidValencesFilter tmpFilter = new HasInvalidValencesFilter(false, TestUtils.getTestReporterInstance());
+        List<int[]> tmpRecordedIndices = new ArrayList<>(2);
+        tmpFilter.setInvalidValenceAtomsListener((anAtomContainer, anIndices) -> tmpRecordedIndices.add(anIndices));
+        Assertions.assertSame(FilterOutcome.PASSED, tmpFilter.evaluate(tmpAtomContainerSet.getAtomContainer(0)));
+        Assertions.assertSame(FilterOutcome.FILTERED, tmpFilter.evaluate(tmpAtomContainerSet.getAtomContainer(1)));
+        Assertions.assertEquals(1, tmpRecordedIndices.size());
+        Assertions.assertArrayEquals(new int[]{1}, tmpRecordedIndices.get(0));
+    }
+
+    /**
+     * Tests whether the .process() method of class HasAllValidValencesFilter does not report structures filtered due
+     * to invalid valences if a listener is set, while the listener gets the indices of the respective atoms.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void processMethodTest_hasAllValidValencesFilter_listener_doesNotReportFilteredStructures()
+            throws InvalidSmilesException, Exception {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings("CCO", "OC(C)(C)(C)(C)C");
+        TestReporter tmpReporter = new TestReporter();
+        HasAllValidValencesFilter tmpFilter = new HasAllValidValencesFilter(false, tmpReporter);
+        List<int[]> tmpRecordedIndices = new ArrayList<>(2);
+        tmpFilter.setInvalidValenceAtomsListener((anAtomContainer, anIndices) -> tmpRecordedIndices.add(anIndices));
+        // initialize the report without finishing it to be able to check the count of reported issues
+        tmpFilter.setIsReporterSelfContained(false);
+        tmpReporter.initializeNewReport();
+        ProcessingStepUtils.assignMolIdToAtomContainers(tmpAtomContainerSet);
+        IAtomContainerSet tmpFilteredACSet = tmpFilter.process(tmpAtomContainerSet, false);
+        Assertions.assertEquals(1, tmpFilteredACSet.getAtomContainerCount());
+        Assertions.assertSame(tmpAtomContainerSet.getAtomContainer(0), tmpFilteredACSet.getAtomContainer(0));
+        Assertions.assertEquals(0, tmpReporter.getAllowedErrorCodesCount());
+        Assertions.assertEquals(0, tmpReporter.getNotAllowedErrorCodesCount());
+        Assertions.assertEquals(1, tmpRecordedIndices.size());
+        Assertions.assertArrayEquals(new int[]{1}, tmpRecordedIndices.get(0));
+    }
+
+    /**
+     * Tests whether the .process() method of class HasAllValidValencesFilter reports structures with invalid valences
+     * with the indices of the respective atoms attached to the report data object if requested, while the verdict of
+     * the filter stays the same.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void processMethodTest_hasAllValidValencesFilter_reportingInvalidValenceAtoms_reportsIndices()
+            throws InvalidSmilesException, Exception {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings("CCO", "OC(C)(C)(C)(C)C");
+        List<ReportDataObject> tmpReportDataObjects = new ArrayList<>(2);
+        HasAllValidValencesFilter tmpFilter = new HasAllValidValencesFilter(false,
+                ValenceValidityFiltersTest.getCollectingReporter(tmpReportDataObjects));
+        Assertions.assertFalse(tmpFilter.isReportingInvalidValenceAtoms());
+        tmpFilter.setReportingInvalidValenceAtoms(true);
+        ProcessingStepUtils.assignMolIdToAtomContainers(tmpAtomContainerSet);
+        IAtomContainerSet tmpFilteredACSet = tmpFilter.process(tmpAtomContainerSet, false);
+        Assertions.assertEquals(1, tmpFilteredACSet.getAtomContainerCount());
+        Assertions.assertSame(tmpAtomContainerSet.getAtomContainer(0), tmpFilteredACSet.getAtomContainer(0));
+        Assertions.assertEquals(1, tmpReportDataObjects.size());
+        Assertions.assertSame(ErrorCodes.INVALID_VALENCE_ERROR, tmpReportDataObjects.get(0).getErrorCode());
+        Assertions.assertSame(tmpAtomContainerSet.getAtomContainer(1),
+                tmpReportDataObjects.get(0).getAtomContainer());
+        Assertions.assertArrayEquals(new int[]{1}, tmpReportDataObjects.get(0).getAffectedAtomIndices());
+    }
+
+    /**
+     * Tests whether the .isFiltered() and .evaluate() methods of class HasInvalidValencesFilter do not report the
+     * structures with invalid valences if requested, as these pass the filter, and return the same verdict as without
+     * reporting.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     */
+    @Test
+    public void isFilteredMethodTest_hasInvalidValencesFilter_reportingInvalidValenceAtoms_reportsNothing()
+            throws InvalidSmilesException {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings("O[C+5]", "CCO");
+        ProcessingStepUtils.assignMolIdToAtomContainers(tmpAtomContainerSet);
+        List<ReportDataObject> tmpReportDataObjects = new ArrayList<>(2);
+        HasInvalidValencesFilter tmpFilter = new HasInvalidValencesFilter(false,
+                ValenceValidityFiltersTest.getCollectingReporter(tmpReportDataObjects));
+        tmpFilter.setReportingInvalidValenceAtoms(true);
+        Assertions.assertFalse(tmpFilter.isFiltered(tmpAtomContainerSet.getAtomContainer(0)));
+        Assertions.assertTrue(tmpFilter.isFiltered(tmpAtomContainerSet.getAtomContainer(1)));
+        Assertions.assertSame(FilterOutcome.PASSED, tmpFilter.evaluate(tmpAtomContainerSet.getAtomContainer(0)));
+        Assertions.assertSame(FilterOutcome.FILTERED, tmpFilter.evaluate(tmpAtomContainerSet.getAtomContainer(1)));
+        Assertions.assertTrue(tmpReportDataObjects.isEmpty());
+    }
+
+    /**
+     * Returns a reporter that adds all appended report data objects to the given list.
+     *
+     * @param aReportDataObjects list to add the report data objects to
+     * @return IReporter instance
+     */
+    private static IReporter getCollectingReporter(List<ReportDataObject> aReportDataObjects) {
+        return new IReporter() {
+            @Override
+            public void initializeNewReport() {
+            }
+
+            @Override
+            public void appendReport(ReportDataObject aReportDataObject) {
+                aReportDataObjects.add(aReportDataObject);
+            }
+
+            @Override
+            public void report() {
+            }
+
+            @Override
+            public void clear() {
+            }
+        };
+    }
+
+}
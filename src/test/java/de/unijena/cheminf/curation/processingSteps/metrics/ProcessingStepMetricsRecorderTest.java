@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.processingSteps.metrics;
+
+import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.processingSteps.CurationPipeline;
+import de.unijena.cheminf.curation.processingSteps.IProcessingStep;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openscience.cdk.interfaces.IAtomContainerSet;
+
+import java.util.List;
+
+/**
+ * Test class for the ProcessingStepMetricsRecorder and the notification of metrics listeners by processing steps.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public class ProcessingStepMetricsRecorderTest {
+
+    /**
+     * Tests whether the metrics of a pipeline and its processing steps are recorded with correct counts, in the order
+     * of the steps followed by the pipeline.
+     *
+     * @throws Exception if anything goes wrong
+     */
+    @Test
+    public void pipelineProcessTest_metricsOfStepsAndPipelineAreRecorded() throws Exception {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings("CC", "CCCCCCCC", "CCC", "CO");
+        tmpAtomContainerSet.getAtomContainer(2).getAtom(1).setImplicitHydrogenCount(null);
+        CurationPipeline tmpPipeline = new CurationPipeline(TestUtils.getTestReporterInstance(
+                ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR))
+                .withMaxAtomCountFilter(5, false, true);
+        ProcessingStepMetricsRecorder tmpRecorder = new ProcessingStepMetricsRecorder();
+        tmpPipeline.setMetricsListener(tmpRecorder);
+        // the listener is also set to steps added afterwards
+        tmpPipeline.withHasAllValidValencesFilter(false);
+        for (IProcessingStep tmpProcessingStep : tmpPipeline.getListOfPipelineSteps()) {
+            Assertions.assertSame(tmpRecorder, tmpProcessingStep.getMetricsListener());
+        }
+        IAtomContainerSet tmpResultingACSet = tmpPipeline.process(tmpAtomContainerSet, true);
+        Assertions.assertEquals(2, tmpResultingACSet.getAtomContainerCount());
+        //
+        List<ProcessingStepMetrics> tmpMetricsList = tmpRecorder.getSnapshot();
+        Assertions.assertEquals(3, tmpMetricsList.size());
+        ProcessingStepMetrics tmpFirstStepMetrics = tmpMetricsList.get(0);
+        Assertions.assertEquals("0", tmpFirstStepMetrics.getProcessingStepID());
+        Assertions.assertEquals(1, tmpFirstStepMetrics.getInvocationCount());
+        Assertions.assertEquals(4, tmpFirstStepMetrics.getInputCount());
+        Assertions.assertEquals(3, tmpFirstStepMetrics.getOutputCount());
+        Assertions.assertEquals(0.75, tmpFirstStepMetrics.getPassRate());
+        Assertions.assertEquals(0, tmpFirstStepMetrics.getTotalIssueCount());
+        ProcessingStepMetrics tmpSecondStepMetrics = tmpMetricsList.get(1);
+        Assertions.assertEquals("1", tmpSecondStepMetrics.getProcessingStepID());
+        Assertions.assertEquals(3, tmpSecondStepMetrics.getInputCount());
+        Assertions.assertEquals(2, tmpSecondStepMetrics.getOutputCount());
+        Assertions.assertEquals(1, tmpSecondStepMetrics.getIssueCount(ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR));
+        Assertions.assertEquals(1, tmpSecondStepMetrics.getTotalIssueCount());
+        Assertions.assertEquals(1, tmpSecondStepMetrics.getIssueCounts().size());
+        ProcessingStepMetrics tmpPipelineMetrics = tmpMetricsList.get(2);
+        Assertions.assertNull(tmpPipelineMetrics.getProcessingStepID());
+        Assertions.assertSame(CurationPipeline.class, tmpPipelineMetrics.getProcessingStepClass());
+        Assertions.assertEquals(4, tmpPipelineMetrics.getInputCount());
+        Assertions.assertEquals(2, tmpPipelineMetrics.getOutputCount());
+        Assertions.assertTrue(tmpPipelineMetrics.getWallTimeNanos() > 0);
+        Assertions.assertTrue(tmpPipelineMetrics.getWallTimeNanos() >= tmpFirstStepMetrics.getWallTimeNanos()
+                + tmpSecondStepMetrics.getWallTimeNanos());
+        Assertions.assertTrue(tmpPipelineMetrics.getMoleculesPerSecond() > 0);
+    }
+
+    /**
+     * Tests whether the metrics are summed over multiple invocations and discarded by .reset().
+     *
+     * @throws Exception if anything goes wrong
+     */
+    @Test
+    public void processTest_metricsAreSummedAndReset() throws Exception {
+        IProcessingStep tmpFilter = TestUtils.getAllTrueOrFalseFilter(false);
+        tmpFilter.setReporter(TestUtils.getTestReporterInstance());
+        ProcessingStepMetricsRecorder tmpRecorder = new ProcessingStepMetricsRecorder();
+        Assertions.assertNull(tmpFilter.getMetricsListener());
+        tmpFilter.process(TestUtils.getSetOfEmptyAtomContainers(3), false);
+        Assertions.assertNull(tmpRecorder.getMetrics(tmpFilter));
+        tmpFilter.setMetricsListener(tmpRecorder);
+        tmpFilter.setReporter(TestUtils.getTestReporterInstance());
+        tmpFilter.process(TestUtils.getSetOfEmptyAtomContainers(3), false);
+        tmpFilter.setReporter(TestUtils.getTestReporterInstance());
+        tmpFilter.process(TestUtils.getSetOfEmptyAtomContainers(5), false);
+        ProcessingStepMetrics tmpMetrics = tmpRecorder.getMetrics(tmpFilter);
+        Assertions.assertEquals(2, tmpMetrics.getInvocationCount());
+        Assertions.assertEquals(8, tmpMetrics.getInputCount());
+        Assertions.assertEquals(8, tmpMetrics.getOutputCount());
+        Assertions.assertEquals(1.0, tmpMetrics.getPassRate());
+        tmpRecorder.reset();
+        Assertions.assertNull(tmpRecorder.getMetrics(tmpFilter));
+        Assertions.assertTrue(tmpRecorder.getSnapshot().isEmpty());
+    }
+
+    /**
+     * Tests whether the summary table contains a header, a separator and one row per processing step including the
+     * counts of the reported issues per error code.
+     *
+     * @throws Exception if anything goes wrong
+     */
+    @Test
+    public void getSummaryTableMethodTest() throws Exception {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings("CC", "CCC");
+        tmpAtomContainerSet.getAtomContainer(1).getAtom(1).setImplicitHydrogenCount(null);
+        CurationPipeline tmpPipeline = new CurationPipeline(TestUtils.getTestReporterInstance(
+                ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR))
+                .withHasAllValidValencesFilter(false);
+        ProcessingStepMetricsRecorder tmpRecorder = new ProcessingStepMetricsRecorder(true);
+        tmpPipeline.setMetricsListener(tmpRecorder);
+        tmpPipeline.process(tmpAtomContainerSet, false);
+        String[] tmpLines = tmpRecorder.getSummaryTable().split("\n");
+        Assertions.assertEquals(4, tmpLines.length);
+        Assertions.assertTrue(tmpLines[0].startsWith("| Step ID | Processing Step |"));
+        Assertions.assertTrue(tmpLines[2].startsWith("| 0 | HasAllValidValencesFilter | 1 | 2 | 1 | 50.0 % | 1" +
+                " (IMPLICIT_HYDROGEN_COUNT_NULL_ERROR: 1) |"));
+        Assertions.assertTrue(tmpLines[3].startsWith("| - | CurationPipeline | 1 | 2 | 1 | 50.0 % | 0 |"));
+    }
+
+}
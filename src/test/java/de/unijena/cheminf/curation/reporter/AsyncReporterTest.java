@@ -0,0 +1,251 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ReportOverflowPolicies;
+import de.unijena.cheminf.curation.processingSteps.filters.MaxAtomCountFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class of the AsyncReporter class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see AsyncReporter
+ */
+public class AsyncReporterTest {
+
+    /**
+     * Reporter recording the appended ReportDataObjects; the first call of .appendReports() waits until the reporter
+     * is released, if a release latch is given.
+     */
+    private static class BlockingRecordingReporter implements IReporter {
+        private final List<ReportDataObject> appendedReports = new ArrayList<>();
+        private final CountDownLatch enteredLatch = new CountDownLatch(1);
+        private final CountDownLatch releaseLatch;
+        private int reportsCount = 0;
+        BlockingRecordingReporter(CountDownLatch aReleaseLatch) {
+            this.releaseLatch = aReleaseLatch;
+        }
+        @Override
+        public void initializeNewReport() {
+            this.clear();
+        }
+        @Override
+        public void appendReport(ReportDataObject aReportDataObject) {
+            this.appendedReports.add(aReportDataObject);
+        }
+        @Override
+        public void appendReports(Collection<ReportDataObject> aReportDataObjects) {
+            this.enteredLatch.countDown();
+            try {
+                if (this.releaseLatch != null) {
+                    this.releaseLatch.await();
+                }
+            } catch (InterruptedException anInterruptedException) {
+                throw new IllegalStateException(anInterruptedException);
+            }
+            this.appendedReports.addAll(aReportDataObjects);
+        }
+        @Override
+        public void report() {
+            this.reportsCount++;
+        }
+        @Override
+        public void clear() {
+            this.appendedReports.clear();
+        }
+    }
+
+    /**
+     * Tests whether all data appended concurrently to an AsyncReporter with the BLOCK overflow policy and a small
+     * ring buffer is passed to the wrapped reporter before it generates the report.
+     *
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void reportTest_blockPolicy_concurrentAppends_allPassed() throws Exception {
+        BlockingRecordingReporter tmpRecordingReporter = new BlockingRecordingReporter(null);
+        AsyncReporter tmpAsyncReporter = new AsyncReporter(tmpRecordingReporter, 4, ReportOverflowPolicies.BLOCK);
+        ExecutorService tmpExecutorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> tmpFutures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                tmpFutures.add(tmpExecutorService.submit(() -> {
+                    for (int j = 0; j < 250; j++) {
+                        tmpAsyncReporter.appendReport(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR,
+                                MaxAtomCountFilter.class, "0"));
+                    }
+                }));
+            }
+            for (Future<?> tmpFuture : tmpFutures) {
+                tmpFuture.get();
+            }
+        } finally {
+            tmpExecutorService.shutdown();
+        }
+        tmpAsyncReporter.report();
+        Assertions.assertEquals(1000, tmpRecordingReporter.appendedReports.size());
+        Assertions.assertEquals(1, tmpRecordingReporter.reportsCount);
+        Assertions.assertEquals(0, tmpAsyncReporter.getDroppedReportsCount());
+        Assertions.assertEquals(0, tmpAsyncReporter.getPendingReportsCount());
+    }
+
+    /**
+     * Tests whether an AsyncReporter with the DROP overflow policy discards and counts the data appended while its
+     * ring buffer is full.
+     *
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void reportTest_dropPolicy_fullRingBuffer_droppedAndCounted() throws Exception {
+        CountDownLatch tmpReleaseLatch = new CountDownLatch(1);
+        BlockingRecordingReporter tmpRecordingReporter = new BlockingRecordingReporter(tmpReleaseLatch);
+        AsyncReporter tmpAsyncReporter = new AsyncReporter(tmpRecordingReporter, 2, ReportOverflowPolicies.DROP);
+        this.appendWhileConsumerIsBlocked(tmpAsyncReporter, tmpRecordingReporter, tmpReleaseLatch);
+        tmpAsyncReporter.report();
+        Assertions.assertEquals(3, tmpRecordingReporter.appendedReports.size());
+        Assertions.assertEquals(3, tmpAsyncReporter.getDroppedReportsCount());
+        Assertions.assertEquals(0, tmpAsyncReporter.getSpilledReportsCount());
+    }
+
+    /**
+     * Tests whether an AsyncReporter with the SPILL_TO_DISK overflow policy passes snapshots of the data appended
+     * while its ring buffer is full to the wrapped reporter on generating the report.
+     *
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void reportTest_spillPolicy_fullRingBuffer_spilledSnapshotsPassed() throws Exception {
+        CountDownLatch tmpReleaseLatch = new CountDownLatch(1);
+        BlockingRecordingReporter tmpRecordingReporter = new BlockingRecordingReporter(tmpReleaseLatch);
+        AsyncReporter tmpAsyncReporter = new AsyncReporter(tmpRecordingReporter, 2,
+                ReportOverflowPolicies.SPILL_TO_DISK);
+        this.appendWhileConsumerIsBlocked(tmpAsyncReporter, tmpRecordingReporter, tmpReleaseLatch);
+        tmpAsyncReporter.report();
+        Assertions.assertEquals(6, tmpRecordingReporter.appendedReports.size());
+        Assertions.assertEquals(0, tmpAsyncReporter.getDroppedReportsCount());
+        Assertions.assertEquals(3, tmpAsyncReporter.getSpilledReportsCount());
+        // the spilled snapshots are passed after the published ones, not in append order
+        for (ReportDataObject tmpReportDataObject : tmpRecordingReporter.appendedReports.subList(3, 6)) {
+            Assertions.assertTrue(tmpReportDataObject.isSnapshot());
+            Assertions.assertEquals(ErrorCodes.CLONE_ERROR, tmpReportDataObject.getErrorCode());
+            Assertions.assertEquals(MaxAtomCountFilter.class, tmpReportDataObject.getClassOfProcessingStep());
+            Assertions.assertEquals("1", tmpReportDataObject.getProcessingStepIdentifier());
+            Assertions.assertEquals("MolID", tmpReportDataObject.getIdentifier());
+            Assertions.assertEquals("ExternalID", tmpReportDataObject.getExternalIdentifier());
+            Assertions.assertEquals("CCO", tmpReportDataObject.getSmiles());
+        }
+    }
+
+    /**
+     * Tests whether an Error thrown by the wrapped reporter neither blocks the appending thread of an AsyncReporter
+     * with the BLOCK overflow policy and a full ring buffer nor the generation of the report; the failure is recorded,
+     * all data is counted as dropped and the failure is reset on the initialization of a new report.
+     *
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void reportTest_blockPolicy_wrappedReporterThrowsError_appendsAndReportDoNotBlock() throws Exception {
+        CountDownLatch tmpReleaseLatch = new CountDownLatch(1);
+        BlockingRecordingReporter tmpFailingReporter = new BlockingRecordingReporter(tmpReleaseLatch) {
+            @Override
+            public void appendReports(Collection<ReportDataObject> aReportDataObjects) {
+                super.appendReports(aReportDataObjects);
+                throw new StackOverflowError("test failure");
+            }
+        };
+        AsyncReporter tmpAsyncReporter = new AsyncReporter(tmpFailingReporter, 2, ReportOverflowPolicies.BLOCK);
+        ReportDataObject tmpReportDataObject = new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR,
+                MaxAtomCountFilter.class, "0");
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            tmpAsyncReporter.appendReport(tmpReportDataObject);
+            Assertions.assertTrue(tmpFailingReporter.enteredLatch.await(10, TimeUnit.SECONDS));
+            // the ring buffer only holds two of these appends and is only freed by the consumer after it recorded
+            // its failure, so the third append cannot return before the failure is recorded
+            ExecutorService tmpExecutorService = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> tmpFuture = tmpExecutorService.submit(() -> {
+                    for (int i = 0; i < 3; i++) {
+                        tmpAsyncReporter.appendReport(tmpReportDataObject);
+                    }
+                });
+                tmpReleaseLatch.countDown();
+                tmpFuture.get();
+            } finally {
+                tmpExecutorService.shutdown();
+            }
+            Assertions.assertNotNull(tmpAsyncReporter.getConsumerFailure());
+            tmpAsyncReporter.appendReport(tmpReportDataObject);
+            tmpAsyncReporter.report();
+        });
+        Assertions.assertInstanceOf(StackOverflowError.class, tmpAsyncReporter.getConsumerFailure());
+        Assertions.assertEquals(1, tmpFailingReporter.reportsCount);
+        // the batch the wrapped reporter failed on is counted as dropped as well
+        Assertions.assertEquals(5, tmpAsyncReporter.getDroppedReportsCount());
+        Assertions.assertEquals(0, tmpAsyncReporter.getPendingReportsCount());
+        tmpAsyncReporter.initializeNewReport();
+        Assertions.assertNull(tmpAsyncReporter.getConsumerFailure());
+        Assertions.assertEquals(0, tmpAsyncReporter.getDroppedReportsCount());
+    }
+
+    /**
+     * Appends one ReportDataObject, waits for the consumer to get blocked in the wrapped reporter, appends five more
+     * ReportDataObjects (filling the ring buffer of capacity two and overflowing it by three) and releases the
+     * consumer.
+     *
+     * @param anAsyncReporter    the reporter to append to
+     * @param aRecordingReporter the wrapped reporter
+     * @param aReleaseLatch      latch releasing the wrapped reporter
+     * @throws Exception if something went wrong
+     */
+    private void appendWhileConsumerIsBlocked(AsyncReporter anAsyncReporter,
+                                              BlockingRecordingReporter aRecordingReporter,
+                                              CountDownLatch aReleaseLatch) throws Exception {
+        ReportDataObject tmpReportDataObject = new ReportDataObject(ErrorCodes.CLONE_ERROR, MaxAtomCountFilter.class,
+                "1", TestUtils.parseSmilesString("OCC"), "MolID", "ExternalID");
+        anAsyncReporter.appendReport(tmpReportDataObject);
+        Assertions.assertTrue(aRecordingReporter.enteredLatch.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            anAsyncReporter.appendReport(tmpReportDataObject);
+        }
+        Assertions.assertEquals(2, anAsyncReporter.getPendingReportsCount());
+        aReleaseLatch.countDown();
+    }
+
+}
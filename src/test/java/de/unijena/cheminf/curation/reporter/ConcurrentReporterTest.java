@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.processingSteps.filters.MaxAtomCountFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openscience.cdk.silent.AtomContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test class of the ConcurrentReporter class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see ConcurrentReporter
+ */
+public class ConcurrentReporterTest {
+
+    /**
+     * Reporter recording the appended ReportDataObjects and the number of generated reports.
+     */
+    private static class RecordingReporter implements IReporter {
+        private final List<ReportDataObject> appendedReports = new ArrayList<>();
+        private int reportsCount = 0;
+        @Override
+        public void initializeNewReport() {
+            this.clear();
+        }
+        @Override
+        public void appendReport(ReportDataObject aReportDataObject) {
+            this.appendedReports.add(aReportDataObject);
+        }
+        @Override
+        public void report() {
+            this.reportsCount++;
+        }
+        @Override
+        public void clear() {
+            this.appendedReports.clear();
+        }
+    }
+
+    /**
+     * Tests whether the data appended to a ConcurrentReporter by multiple threads concurrently is passed to the
+     * wrapped reporter completely and in the deterministic merge order on calling .report().
+     *
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void reportTest_concurrentAppends_allPassedInMergeOrder() throws Exception {
+        RecordingReporter tmpRecordingReporter = new RecordingReporter();
+        ConcurrentReporter tmpReporter = new ConcurrentReporter(tmpRecordingReporter);
+        tmpReporter.initializeNewReport();
+        final int tmpThreadCount = 4;
+        final int tmpReportsPerThread = 250;
+        ExecutorService tmpExecutorService = Executors.newFixedThreadPool(tmpThreadCount);
+        try {
+            List<Future<?>> tmpFutures = new ArrayList<>();
+            for (int i = 0; i < tmpThreadCount; i++) {
+                final int tmpThreadIndex = i;
+                tmpFutures.add(tmpExecutorService.submit(() -> {
+                    List<ReportDataObject> tmpBatch = new ArrayList<>();
+                    for (int j = 0; j < tmpReportsPerThread; j++) {
+                        String tmpMolID = String.format("%04d", j * tmpThreadCount + tmpThreadIndex);
+                        ReportDataObject tmpReportDataObject = new ReportDataObject(
+                                ErrorCodes.ATOM_CONTAINER_NULL_ERROR, MaxAtomCountFilter.class, "1",
+                                new AtomContainer(), tmpMolID, "ExternalID");
+                        if (j % 2 == 0) {
+                            tmpReporter.appendReport(tmpReportDataObject);
+                        } else {
+                            tmpBatch.add(tmpReportDataObject);
+                        }
+                    }
+                    tmpReporter.appendReports(tmpBatch);
+                }));
+            }
+            for (Future<?> tmpFuture : tmpFutures) {
+                tmpFuture.get();
+            }
+        } finally {
+            tmpExecutorService.shutdown();
+        }
+        Assertions.assertEquals(tmpThreadCount * tmpReportsPerThread, tmpReporter.getBufferedReportsCount());
+        tmpReporter.report();
+        //
+        Assertions.assertEquals(1, tmpRecordingReporter.reportsCount);
+        Assertions.assertEquals(tmpThreadCount * tmpReportsPerThread, tmpRecordingReporter.appendedReports.size());
+        for (int i = 0; i < tmpRecordingReporter.appendedReports.size(); i++) {
+            Assertions.assertEquals(String.format("%04d", i),
+                    tmpRecordingReporter.appendedReports.get(i).getIdentifier());
+        }
+        Assertions.assertEquals(0, tmpReporter.getBufferedReportsCount());
+    }
+
+    /**
+     * Tests whether the .clear() method of ConcurrentReporter discards the buffered data.
+     */
+    @Test
+    public void clearTest_bufferedDataDiscarded() {
+        RecordingReporter tmpRecordingReporter = new RecordingReporter();
+        ConcurrentReporter tmpReporter = new ConcurrentReporter(tmpRecordingReporter);
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR, MaxAtomCountFilter.class,
+                "1"));
+        Assertions.assertEquals(1, tmpReporter.getBufferedReportsCount());
+        tmpReporter.clear();
+        Assertions.assertEquals(0, tmpReporter.getBufferedReportsCount());
+        Assertions.assertThrows(NullPointerException.class, () -> tmpReporter.appendReport(null));
+    }
+
+    /**
+     * Tests whether the .report() method of ConcurrentReporter orders MolIDs consisting of digits only by their
+     * numeric value ahead of the other MolIDs and whether a thread appending again after the merge starts a new
+     * buffer.
+     *
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void reportTest_numericMolIDs_orderedNumerically() throws Exception {
+        RecordingReporter tmpRecordingReporter = new RecordingReporter();
+        ConcurrentReporter tmpReporter = new ConcurrentReporter(tmpRecordingReporter);
+        tmpReporter.initializeNewReport();
+        for (String tmpMolID : new String[] {"B", "10", "A10", "9", "010"}) {
+            tmpReporter.appendReport(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR,
+                    MaxAtomCountFilter.class, "1", new AtomContainer(), tmpMolID, "ExternalID"));
+        }
+        tmpReporter.report();
+        List<String> tmpMolIDs = new ArrayList<>();
+        for (ReportDataObject tmpReportDataObject : tmpRecordingReporter.appendedReports) {
+            tmpMolIDs.add(tmpReportDataObject.getIdentifier());
+        }
+        Assertions.assertEquals(List.of("9", "010", "10", "A10", "B"), tmpMolIDs);
+        //
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR, MaxAtomCountFilter.class,
+                "1"));
+        Assertions.assertEquals(1, tmpReporter.getBufferedReportsCount());
+    }
+
+}
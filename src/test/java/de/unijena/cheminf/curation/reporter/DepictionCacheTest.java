@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class of the DepictionCache class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see DepictionCache
+ */
+public class DepictionCacheTest {
+
+    /**
+     * Tests whether the .getDepictionAsString() method of DepictionCache depicts structures with the same canonical
+     * SMILES string only once and counts the hits and misses accordingly.
+     *
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void getDepictionAsStringTest_sameStructure_depictedOnce() throws Exception {
+        DepictionCache tmpDepictionCache = new DepictionCache();
+        String tmpDepiction1 = tmpDepictionCache.getDepictionAsString(TestUtils.parseSmilesString("CCO"));
+        String tmpDepiction2 = tmpDepictionCache.getDepictionAsString(TestUtils.parseSmilesString("OCC"));
+        Assertions.assertSame(tmpDepiction1, tmpDepiction2);
+        Assertions.assertEquals(1, tmpDepictionCache.getCacheSize());
+        Assertions.assertEquals(1, tmpDepictionCache.getHitCount());
+        Assertions.assertEquals(1, tmpDepictionCache.getMissCount());
+        //
+        String tmpDepiction3 = tmpDepictionCache.getDepictionAsString(TestUtils.parseSmilesString("CCN"));
+        Assertions.assertNotEquals(tmpDepiction1, tmpDepiction3);
+        Assertions.assertEquals(2, tmpDepictionCache.getCacheSize());
+        Assertions.assertEquals(2, tmpDepictionCache.getMissCount());
+        //
+        tmpDepictionCache.clear();
+        Assertions.assertEquals(0, tmpDepictionCache.getCacheSize());
+        Assertions.assertEquals(0, tmpDepictionCache.getHitCount());
+    }
+
+    /**
+     * Tests whether the cache of DepictionCache does not grow beyond the maximum cache size while still returning
+     * depictions of the structures not cached.
+     *
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void getDepictionAsStringTest_maximumCacheSizeReached_notCachedButDepicted() throws Exception {
+        DepictionCache tmpDepictionCache = new DepictionCache(1);
+        tmpDepictionCache.getDepictionAsString(TestUtils.parseSmilesString("CCO"));
+        Assertions.assertNotNull(tmpDepictionCache.getDepictionAsString(TestUtils.parseSmilesString("CCN")));
+        Assertions.assertEquals(1, tmpDepictionCache.getCacheSize());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DepictionCache(0));
+    }
+
+    /**
+     * Tests whether the error message image of ReportDepictionUtils is created once and reused afterwards.
+     *
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void getErrorMessageImageTest_reusedInstance() throws Exception {
+        Assertions.assertSame(ReportDepictionUtils.getErrorMessageImage(), ReportDepictionUtils.getErrorMessageImage());
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class of the DepictionWorkerPool class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see DepictionWorkerPool
+ */
+public class DepictionWorkerPoolTest {
+
+    /**
+     * Tests whether the worker of an abandoned task that ignores interrupts is replaced, so that a task submitted
+     * afterwards to a pool of a single worker thread is still run while the abandoned task is stuck.
+     *
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void abandonTest_stuckTask_workerReplaced() throws Exception {
+        DepictionWorkerPool tmpDepictionWorkerPool = new DepictionWorkerPool("DepictionWorkerPoolTest", 1);
+        CountDownLatch tmpStartedLatch = new CountDownLatch(1);
+        CountDownLatch tmpReleaseLatch = new CountDownLatch(1);
+        Future<String> tmpStuckFuture = tmpDepictionWorkerPool.submit(() -> {
+            tmpStartedLatch.countDown();
+            // ignores interrupts like the rendering of CDK does
+            boolean tmpIsReleased = false;
+            while (!tmpIsReleased) {
+                try {
+                    tmpReleaseLatch.await();
+                    tmpIsReleased = true;
+                } catch (InterruptedException anInterruptedException) {
+                    // ignored on purpose
+                }
+            }
+            return "stuck";
+        });
+        try {
+            Assertions.assertTrue(tmpStartedLatch.await(10, TimeUnit.SECONDS));
+            tmpDepictionWorkerPool.abandon(tmpStuckFuture);
+            Assertions.assertTrue(tmpStuckFuture.isCancelled());
+            Assertions.assertEquals(1, tmpDepictionWorkerPool.getReplacedWorkersCount());
+            Future<String> tmpFuture = tmpDepictionWorkerPool.submit(() -> "rendered");
+            Assertions.assertEquals("rendered",
+                    Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> tmpFuture.get()));
+        } finally {
+            tmpReleaseLatch.countDown();
+        }
+    }
+
+    /**
+     * Tests whether abandoning a task that has not been started yet or already ended does not add a worker thread.
+     *
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void abandonTest_taskNotRunning_noWorkerReplaced() throws Exception {
+        DepictionWorkerPool tmpDepictionWorkerPool = new DepictionWorkerPool("DepictionWorkerPoolTest", 1);
+        Future<String> tmpEndedFuture = tmpDepictionWorkerPool.submit(() -> "rendered");
+        Assertions.assertEquals("rendered", tmpEndedFuture.get(10, TimeUnit.SECONDS));
+        CountDownLatch tmpReleaseLatch = new CountDownLatch(1);
+        Future<Boolean> tmpBlockingFuture = tmpDepictionWorkerPool.submit(
+                () -> tmpReleaseLatch.await(10, TimeUnit.SECONDS));
+        Future<String> tmpQueuedFuture = tmpDepictionWorkerPool.submit(() -> "queued");
+        try {
+            tmpDepictionWorkerPool.abandon(tmpQueuedFuture);
+            Assertions.assertTrue(tmpQueuedFuture.isCancelled());
+            Assertions.assertEquals(0, tmpDepictionWorkerPool.getReplacedWorkersCount());
+        } finally {
+            tmpReleaseLatch.countDown();
+        }
+        Assertions.assertTrue(tmpBlockingFuture.get(10, TimeUnit.SECONDS));
+        Assertions.assertThrows(NullPointerException.class, () -> tmpDepictionWorkerPool.abandon(null));
+    }
+
+    /**
+     * Tests whether a task submitted before the pool is shut down is still run and tasks submitted afterwards are
+     * rejected.
+     *
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void shutdownTest_submittedTaskRun_furtherTasksRejected() throws Exception {
+        DepictionWorkerPool tmpDepictionWorkerPool = new DepictionWorkerPool("DepictionWorkerPoolTest", 1);
+        Future<String> tmpFuture = tmpDepictionWorkerPool.submit(() -> "rendered");
+        tmpDepictionWorkerPool.shutdown();
+        Assertions.assertTrue(tmpDepictionWorkerPool.isShutdown());
+        Assertions.assertEquals("rendered", tmpFuture.get(10, TimeUnit.SECONDS));
+        Assertions.assertThrows(RejectedExecutionException.class,
+                () -> tmpDepictionWorkerPool.submit(() -> "rejected"));
+    }
+
+}
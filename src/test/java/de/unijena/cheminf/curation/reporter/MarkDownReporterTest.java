@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.DepictionFormats;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ReportSamplingModes;
+import de.unijena.cheminf.curation.enums.ReportSnapshotModes;
+import de.unijena.cheminf.curation.processingSteps.filters.MinBondCountFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test class of the MarkDownReporter class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see MarkDownReporter
+ */
+public class MarkDownReporterTest {
+
+    /**
+     * Tests whether the entries of a report with depictions rendered on multiple worker threads are written in the
+     * order the ReportDataObjects have been appended in and each contain a depiction.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void reportTest_parallelDepictionRendering_entriesInAppendedOrder(@TempDir Path aTempDirectoryPath)
+            throws Exception {
+        MarkDownReporter tmpReporter = new MarkDownReporter(aTempDirectoryPath.toString());
+        tmpReporter.setDepictionThreadCount(3);
+        String[] tmpSmilesStrings = {"CCC", "c1ccccc1", "CCO", "CC(=O)O", "C1CC1", "CN", "OCCO", "C#N", "CCCC"};
+        for (int i = 0; i < tmpSmilesStrings.length; i++) {
+            tmpReporter.appendReport(new ReportDataObject(ErrorCodes.CLONE_ERROR, MinBondCountFilter.class, "1",
+                    TestUtils.parseSmilesString(tmpSmilesStrings[i]), "MolID_" + i, "ExternalID_" + i));
+        }
+        tmpReporter.report();
+        List<Path> tmpReportFiles;
+        try (Stream<Path> tmpFiles = Files.list(aTempDirectoryPath)) {
+            tmpReportFiles = tmpFiles.collect(Collectors.toList());
+        }
+        Assertions.assertEquals(1, tmpReportFiles.size());
+        String tmpReport = Files.readString(tmpReportFiles.get(0), StandardCharsets.UTF_8);
+        int tmpLastIndex = -1;
+        for (int i = 0; i < tmpSmilesStrings.length; i++) {
+            int tmpIndex = tmpReport.indexOf("* **Identifier:** MolID_" + i + "\n");
+            Assertions.assertTrue(tmpIndex > tmpLastIndex);
+            tmpLastIndex = tmpIndex;
+        }
+        Assertions.assertEquals(tmpSmilesStrings.length, tmpReport.split("!\\[Molecule Depiction]", -1).length - 1);
+    }
+
+    /**
+     * Tests whether the setters of the depiction thread count and timeout throw an IllegalArgumentException if the
+     * given value is less than one.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     */
+    @Test
+    public void depictionSettersTest_valueLessThanOne_throwsIllegalArgumentException(@TempDir Path aTempDirectoryPath) {
+        MarkDownReporter tmpReporter = new MarkDownReporter(aTempDirectoryPath.toString());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tmpReporter.setDepictionThreadCount(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tmpReporter.setDepictionTimeoutMillis(0));
+        Assertions.assertEquals(MarkDownReporter.DEFAULT_DEPICTION_TIMEOUT_MILLIS,
+                tmpReporter.getDepictionTimeoutMillis());
+    }
+
+    /**
+     * Tests whether the depictions of a report are embedded as SVG images if the SVG depiction format is set.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void reportTest_svgDepictionFormat_svgImagesEmbedded(@TempDir Path aTempDirectoryPath) throws Exception {
+        MarkDownReporter tmpReporter = new MarkDownReporter(aTempDirectoryPath.toString());
+        tmpReporter.setDepictionFormat(DepictionFormats.SVG);
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.CLONE_ERROR, MinBondCountFilter.class, "1",
+                TestUtils.parseSmilesString("CCO"), "MolID", "ExternalID"));
+        tmpReporter.report();
+        String tmpReport;
+        try (Stream<Path> tmpFiles = Files.list(aTempDirectoryPath)) {
+            tmpReport = Files.readString(tmpFiles.findFirst().orElseThrow(), StandardCharsets.UTF_8);
+        }
+        Assertions.assertTrue(tmpReport.contains("![Molecule Depiction](data:image/svg+xml;base64,"));
+    }
+
+    /**
+     * Tests whether a report storing snapshots with SMILES strings depicts the structures out of the SMILES strings.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void reportTest_snapshotsWithSmiles_depictedOutOfSmiles(@TempDir Path aTempDirectoryPath) throws Exception {
+        MarkDownReporter tmpReporter = new MarkDownReporter(aTempDirectoryPath.toString());
+        tmpReporter.setSnapshotMode(ReportSnapshotModes.IDENTIFIERS_AND_SMILES);
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.CLONE_ERROR, MinBondCountFilter.class, "1",
+                TestUtils.parseSmilesString("CCO"), "MolID", "ExternalID"));
+        tmpReporter.report();
+        String tmpReport;
+        try (Stream<Path> tmpFiles = Files.list(aTempDirectoryPath)) {
+            tmpReport = Files.readString(tmpFiles.findFirst().orElseThrow(), StandardCharsets.UTF_8);
+        }
+        Assertions.assertTrue(tmpReport.contains("![Molecule Depiction](data:image/png;base64,"));
+    }
+
+    /**
+     * Tests whether a report with sampling policy depicts only the sampled entries and lists the numbers of reported
+     * and rendered issues.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void reportTest_samplingPolicy_onlySampleDepicted(@TempDir Path aTempDirectoryPath) throws Exception {
+        MarkDownReporter tmpReporter = new MarkDownReporter(aTempDirectoryPath.toString());
+        tmpReporter.setSamplingPolicy(new ReportSamplingPolicy(ReportSamplingModes.FIRST_N, 2, true));
+        for (int i = 0; i < 10; i++) {
+            tmpReporter.appendReport(new ReportDataObject(ErrorCodes.CLONE_ERROR, MinBondCountFilter.class, "1",
+                    TestUtils.parseSmilesString("CCO"), "MolID" + i, "ExternalID"));
+        }
+        tmpReporter.report();
+        String tmpReport;
+        try (Stream<Path> tmpFiles = Files.list(aTempDirectoryPath)) {
+            tmpReport = Files.readString(tmpFiles.findFirst().orElseThrow(), StandardCharsets.UTF_8);
+        }
+        Assertions.assertEquals(2, tmpReport.split("!\\[Molecule Depiction]", -1).length - 1);
+        Assertions.assertTrue(tmpReport.contains("Number of errors: 10"));
+        Assertions.assertTrue(tmpReport.contains("| 1 | CLONE_ERROR | 10 | 2 |"));
+    }
+
+}
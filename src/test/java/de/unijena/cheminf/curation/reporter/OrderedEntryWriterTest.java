@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.processingSteps.filters.MaxAtomCountFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Test class of the OrderedEntryWriter class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see OrderedEntryWriter
+ */
+public class OrderedEntryWriterTest {
+
+    /**
+     * Tests whether an entry whose depiction exceeds the timeout is written without depiction and the entries after
+     * it are still written in append order, while the stuck rendering is abandoned.
+     *
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void finishTest_depictionTimedOut_entryWrittenWithoutDepiction() throws Exception {
+        DepictionWorkerPool tmpDepictionWorkerPool = new DepictionWorkerPool("OrderedEntryWriterTest", 1);
+        CountDownLatch tmpReleaseLatch = new CountDownLatch(1);
+        List<String> tmpWrittenEntries = Collections.synchronizedList(new ArrayList<>());
+        OrderedEntryWriter<String> tmpEntryWriter = new OrderedEntryWriter<>("OrderedEntryWriterTest-writer",
+                tmpDepictionWorkerPool, 4, 100L,
+                aReportDataObject -> {
+                    if ("1".equals(aReportDataObject.getIdentifier())) {
+                        // ignores interrupts like the rendering of CDK does
+                        boolean tmpIsReleased = false;
+                        while (!tmpIsReleased) {
+                            try {
+                                tmpReleaseLatch.await();
+                                tmpIsReleased = true;
+                            } catch (InterruptedException anInterruptedException) {
+                                // ignored on purpose
+                            }
+                        }
+                    }
+                    return "depiction_" + aReportDataObject.getIdentifier();
+                },
+                (aReportDataObject, aDepiction) -> tmpWrittenEntries.add(aReportDataObject.getIdentifier() + ":"
+                        + aDepiction));
+        try {
+            tmpEntryWriter.append(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR, MaxAtomCountFilter.class,
+                    "1", "1"));
+            tmpEntryWriter.append(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR, MaxAtomCountFilter.class,
+                    "1", "2"));
+            Assertions.assertNull(tmpEntryWriter.finish());
+            Assertions.assertEquals(List.of("1:null", "2:depiction_2"), tmpWrittenEntries);
+            Assertions.assertEquals(1, tmpDepictionWorkerPool.getReplacedWorkersCount());
+        } finally {
+            tmpReleaseLatch.countDown();
+        }
+    }
+
+}
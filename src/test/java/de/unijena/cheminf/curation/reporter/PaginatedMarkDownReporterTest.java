@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.processingSteps.filters.MaxAtomCountFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Test class of the PaginatedMarkDownReporter class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see PaginatedMarkDownReporter
+ */
+public class PaginatedMarkDownReporterTest {
+
+    /**
+     * Tests whether the entries are split into detail pages of the given size linking each other in append order, the
+     * depictions are written as image files of their own, shared by the entries of the same structure, and the index
+     * page lists the summaries and all pages.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void reportTest_fiveEntriesTwoPerPage_threePagesIndexAndImages(@TempDir Path aTempDirectoryPath)
+            throws Exception {
+        PaginatedMarkDownReporter tmpReporter = new PaginatedMarkDownReporter(aTempDirectoryPath.toString(), 2);
+        tmpReporter.initializeNewReport();
+        for (int i = 0; i < 4; i++) {
+            tmpReporter.appendReport(new ReportDataObject(ErrorCodes.CLONE_ERROR, MaxAtomCountFilter.class, "1",
+                    TestUtils.parseSmilesString("CCO"), "MolID" + i, "ExternalID"));
+        }
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR,
+                MaxAtomCountFilter.class, "2"));
+        tmpReporter.report();
+        Path tmpReportDirectoryPath = tmpReporter.getLastReportDirectoryPath();
+        Assertions.assertNotNull(tmpReportDirectoryPath);
+        String tmpIndex = Files.readString(tmpReportDirectoryPath.resolve(PaginatedMarkDownReporter.INDEX_FILE_NAME),
+                StandardCharsets.UTF_8);
+        Assertions.assertTrue(tmpIndex.contains("| 1 | CLONE_ERROR | 4 | [Page 1](page_1.md) |"));
+        Assertions.assertTrue(tmpIndex.contains("| 2 | ATOM_CONTAINER_NULL_ERROR | 1 | [Page 3](page_3.md) |"));
+        Assertions.assertTrue(tmpIndex.contains("| CLONE_ERROR | 4 |"));
+        Assertions.assertTrue(tmpIndex.contains("| [Page 3](page_3.md) | 5 - 5 |"));
+        String tmpFirstPage = Files.readString(tmpReportDirectoryPath.resolve("page_1.md"), StandardCharsets.UTF_8);
+        Assertions.assertTrue(tmpFirstPage.contains("[Next page](page_2.md)"));
+        Assertions.assertTrue(tmpFirstPage.indexOf("MolID0") < tmpFirstPage.indexOf("MolID1"));
+        Assertions.assertTrue(tmpFirstPage.contains("![Molecule Depiction](images/entry_1.png)"));
+        Assertions.assertFalse(tmpFirstPage.contains("base64"));
+        String tmpSecondPage = Files.readString(tmpReportDirectoryPath.resolve("page_2.md"), StandardCharsets.UTF_8);
+        Assertions.assertTrue(tmpSecondPage.indexOf("MolID2") < tmpSecondPage.indexOf("MolID3"));
+        Assertions.assertTrue(tmpSecondPage.contains("![Molecule Depiction](images/entry_1.png)"));
+        String tmpLastPage = Files.readString(tmpReportDirectoryPath.resolve("page_3.md"), StandardCharsets.UTF_8);
+        Assertions.assertTrue(tmpLastPage.contains("[Previous page](page_2.md)"));
+        Assertions.assertFalse(tmpLastPage.contains("[Next page]"));
+        Assertions.assertTrue(tmpLastPage.contains("images/depiction_error.png"));
+        try (Stream<Path> tmpImages = Files.list(tmpReportDirectoryPath.resolve(
+                PaginatedMarkDownReporter.IMAGES_DIRECTORY_NAME))) {
+            // one image file of the shared depiction of the four entries of the same structure and the error image
+            Assertions.assertEquals(2, tmpImages.count());
+        }
+    }
+
+    /**
+     * Tests whether the index page of a report created after a fatal exception notes that the report is incomplete.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void reportAfterFatalExceptionTest_indexNotesFatalException(@TempDir Path aTempDirectoryPath)
+            throws Exception {
+        PaginatedMarkDownReporter tmpReporter = new PaginatedMarkDownReporter(aTempDirectoryPath.toString());
+        tmpReporter.initializeNewReport();
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR,
+                MaxAtomCountFilter.class, "1"));
+        tmpReporter.reportAfterFatalException();
+        String tmpIndex = Files.readString(tmpReporter.getLastReportDirectoryPath().resolve(
+                PaginatedMarkDownReporter.INDEX_FILE_NAME), StandardCharsets.UTF_8);
+        Assertions.assertTrue(tmpIndex.contains("fatal exception"));
+    }
+
+    /**
+     * Tests whether clearing the reporter deletes the directory of an unfinished report.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void clearTest_unfinishedReport_directoryDeleted(@TempDir Path aTempDirectoryPath) throws Exception {
+        PaginatedMarkDownReporter tmpReporter = new PaginatedMarkDownReporter(aTempDirectoryPath.toString());
+        tmpReporter.initializeNewReport();
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.CLONE_ERROR, MaxAtomCountFilter.class, "1",
+                TestUtils.parseSmilesString("CCO"), "MolID", "ExternalID"));
+        tmpReporter.clear();
+        try (Stream<Path> tmpFiles = Files.list(aTempDirectoryPath)) {
+            Assertions.assertEquals(0, tmpFiles.count());
+        }
+        Assertions.assertNull(tmpReporter.getLastReportDirectoryPath());
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ReportSnapshotModes;
+import de.unijena.cheminf.curation.processingSteps.filters.HasAllValidAtomicNumbersFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openscience.cdk.exception.InvalidSmilesException;
+import org.openscience.cdk.interfaces.IAtomContainer;
+
+/**
+ * Test class of the ReportDataObject class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see ReportDataObject
+ */
+public class ReportDataObjectTest {
+
+    /**
+     * Tests whether the .toSnapshot() method of ReportDataObject returns a report data object without atom container
+     * that holds the identifiers, the error code, the affected atom indices and the captured SMILES string.
+     *
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     */
+    @Test
+    public void toSnapshotTest_capturingSmiles_holdsDataButNoAtomContainer() throws InvalidSmilesException {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("OCC");
+        ReportDataObject tmpReportDataObject = new ReportDataObject(ErrorCodes.INVALID_ATOMIC_NUMBER_ERROR,
+                HasAllValidAtomicNumbersFilter.class, "3", tmpAtomContainer, "MolID", "ExternalID");
+        int[] tmpAffectedAtomIndices = new int[]{0, 2};
+        tmpReportDataObject.setAffectedAtomIndices(tmpAffectedAtomIndices);
+        ReportDataObject tmpSnapshot = tmpReportDataObject.toSnapshot(true);
+        // later changes of the given array and the report data object do not affect the snapshot
+        tmpAffectedAtomIndices[0] = 1;
+        tmpReportDataObject.setAffectedAtomIndices(new int[]{1});
+        Assertions.assertArrayEquals(new int[]{1}, tmpReportDataObject.getAffectedAtomIndices());
+        Assertions.assertTrue(tmpSnapshot.isSnapshot());
+        Assertions.assertNull(tmpSnapshot.getAtomContainer());
+        Assertions.assertEquals("CCO", tmpSnapshot.getSmiles());
+        Assertions.assertArrayEquals(new int[]{0, 2}, tmpSnapshot.getAffectedAtomIndices());
+        Assertions.assertEquals(ErrorCodes.INVALID_ATOMIC_NUMBER_ERROR, tmpSnapshot.getErrorCode());
+        Assertions.assertEquals(HasAllValidAtomicNumbersFilter.class, tmpSnapshot.getClassOfProcessingStep());
+        Assertions.assertEquals("3", tmpSnapshot.getProcessingStepIdentifier());
+        Assertions.assertEquals("MolID", tmpSnapshot.getIdentifier());
+        Assertions.assertEquals("ExternalID", tmpSnapshot.getExternalIdentifier());
+        Assertions.assertSame(tmpSnapshot, tmpSnapshot.toSnapshot(true));
+    }
+
+    /**
+     * Tests whether the snapshot modes store the report data objects as they are or as snapshots with or without
+     * SMILES string.
+     *
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     */
+    @Test
+    public void reportSnapshotModesApplyTest() throws InvalidSmilesException {
+        ReportDataObject tmpReportDataObject = new ReportDataObject(ErrorCodes.INVALID_ATOMIC_NUMBER_ERROR,
+                HasAllValidAtomicNumbersFilter.class, TestUtils.parseSmilesString("CCO"), "MolID");
+        Assertions.assertSame(tmpReportDataObject, ReportSnapshotModes.FULL.apply(tmpReportDataObject));
+        ReportDataObject tmpSnapshot = ReportSnapshotModes.IDENTIFIERS_ONLY.apply(tmpReportDataObject);
+        Assertions.assertTrue(tmpSnapshot.isSnapshot());
+        Assertions.assertNull(tmpSnapshot.getSmiles());
+        Assertions.assertNull(tmpSnapshot.getAffectedAtomIndices());
+        Assertions.assertEquals("CCO",
+                ReportSnapshotModes.IDENTIFIERS_AND_SMILES.apply(tmpReportDataObject).getSmiles());
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.DepictionFormats;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Test class of the ReportDepictionUtils class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see ReportDepictionUtils
+ */
+public class ReportDepictionUtilsTest {
+
+    /**
+     * Tests whether the .getDepictionSize() method of ReportDepictionUtils returns a size growing with the atom count
+     * as long as the maximum width is not exceeded.
+     */
+    @Test
+    public void getDepictionSizeTest_belowMaximumWidth_sizePerAtom() {
+        Assertions.assertArrayEquals(new int[]{150, 90}, ReportDepictionUtils.getDepictionSize(3, 1000));
+        Assertions.assertArrayEquals(new int[]{1000, 600}, ReportDepictionUtils.getDepictionSize(20, 1000));
+    }
+
+    /**
+     * Tests whether the .getDepictionSize() method of ReportDepictionUtils caps the size at the maximum width while
+     * preserving the aspect ratio, also for atom counts whose uncapped size would exceed the integer range.
+     */
+    @Test
+    public void getDepictionSizeTest_aboveMaximumWidth_cappedWithAspectRatio() {
+        Assertions.assertArrayEquals(new int[]{1000, 600}, ReportDepictionUtils.getDepictionSize(1000, 1000));
+        Assertions.assertArrayEquals(new int[]{500, 300},
+                ReportDepictionUtils.getDepictionSize(Integer.MAX_VALUE, 500));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ReportDepictionUtils.getDepictionSize(3, 0));
+    }
+
+    /**
+     * Tests whether the .getDepictionAsString() method of ReportDepictionUtils returns a base64 encoded SVG image if
+     * the SVG format is requested.
+     *
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void getDepictionAsStringTest_svgFormat_returnsBase64EncodedSvg() throws Exception {
+        String tmpDepiction = ReportDepictionUtils.getDepictionAsString(TestUtils.parseSmilesString("c1ccccc1O"),
+                DepictionFormats.SVG, 1000);
+        String tmpSvg = new String(Base64.getDecoder().decode(tmpDepiction), StandardCharsets.UTF_8);
+        Assertions.assertTrue(tmpSvg.contains("<svg"));
+    }
+
+}
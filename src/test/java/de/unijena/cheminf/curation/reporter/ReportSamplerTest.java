@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.ReportSamplingModes;
+import de.unijena.cheminf.curation.enums.ReportSnapshotModes;
+import de.unijena.cheminf.curation.processingSteps.filters.MaxAtomCountFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test class of the ReportSampler class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see ReportSampler
+ * @see ReportSamplingPolicy
+ */
+public class ReportSamplerTest {
+
+    /**
+     * Tests whether the FIRST_N mode keeps the first N ReportDataObjects per error code and counts all.
+     */
+    @Test
+    public void offerTest_firstN_firstSampledPerErrorCode() {
+        ReportSampler tmpSampler = new ReportSampler(new ReportSamplingPolicy(ReportSamplingModes.FIRST_N, 2, false));
+        this.offer(tmpSampler, ErrorCodes.ATOM_CONTAINER_NULL_ERROR, "1", 5);
+        this.offer(tmpSampler, ErrorCodes.ATOM_CONTAINER_NULL_ERROR, "2", 5);
+        this.offer(tmpSampler, ErrorCodes.UNEXPECTED_EXCEPTION_ERROR, "1", 1);
+        List<ReportDataObject> tmpSample = tmpSampler.getSampledReportDataObjects();
+        Assertions.assertEquals(11, tmpSampler.getTotalCount());
+        Assertions.assertEquals(3, tmpSample.size());
+        Assertions.assertEquals(List.of("1", "1", "1"), tmpSample.stream()
+                .map(ReportDataObject::getProcessingStepIdentifier).collect(Collectors.toList()));
+        Assertions.assertTrue(tmpSampler.hasOmittedIssues());
+    }
+
+    /**
+     * Tests whether the stratification by step keeps a sample per processing step and error code and whether
+     * specific sample sizes per error code are respected.
+     */
+    @Test
+    public void offerTest_stratifiedByStep_samplePerStepAndSpecificSampleSize() {
+        ReportSamplingPolicy tmpPolicy = new ReportSamplingPolicy(ReportSamplingModes.FIRST_N, 2, true);
+        tmpPolicy.setSampleSize(ErrorCodes.UNEXPECTED_EXCEPTION_ERROR, 0);
+        ReportSampler tmpSampler = new ReportSampler(tmpPolicy);
+        this.offer(tmpSampler, ErrorCodes.ATOM_CONTAINER_NULL_ERROR, "1", 5);
+        this.offer(tmpSampler, ErrorCodes.ATOM_CONTAINER_NULL_ERROR, "2", 5);
+        this.offer(tmpSampler, ErrorCodes.UNEXPECTED_EXCEPTION_ERROR, "1", 3);
+        Assertions.assertEquals(4, tmpSampler.getSampledReportDataObjects().size());
+        Assertions.assertEquals(3, tmpSampler.getGroups().get("1").get(ErrorCodes.UNEXPECTED_EXCEPTION_ERROR)
+                .getCount());
+        Assertions.assertEquals(0, tmpSampler.getGroups().get("1").get(ErrorCodes.UNEXPECTED_EXCEPTION_ERROR)
+                .getSampleSize());
+    }
+
+    /**
+     * Tests whether a specific sample size per processing step is respected by a policy stratified by step, with the
+     * smaller of the sample sizes per step and per error code applying, and ignored by a policy that is not.
+     */
+    @Test
+    public void offerTest_sampleSizeOfStep_respectedIfStratifiedByStep() {
+        ReportSamplingPolicy tmpPolicy = new ReportSamplingPolicy(ReportSamplingModes.FIRST_N, 3, true);
+        tmpPolicy.setSampleSizeOfStep("1", 1);
+        tmpPolicy.setSampleSize(ErrorCodes.UNEXPECTED_EXCEPTION_ERROR, 0);
+        ReportSampler tmpSampler = new ReportSampler(tmpPolicy);
+        this.offer(tmpSampler, ErrorCodes.ATOM_CONTAINER_NULL_ERROR, "1", 5);
+        this.offer(tmpSampler, ErrorCodes.ATOM_CONTAINER_NULL_ERROR, "2", 5);
+        this.offer(tmpSampler, ErrorCodes.UNEXPECTED_EXCEPTION_ERROR, "1", 5);
+        Assertions.assertEquals(1, tmpSampler.getGroups().get("1").get(ErrorCodes.ATOM_CONTAINER_NULL_ERROR)
+                .getSampleSize());
+        Assertions.assertEquals(3, tmpSampler.getGroups().get("2").get(ErrorCodes.ATOM_CONTAINER_NULL_ERROR)
+                .getSampleSize());
+        Assertions.assertEquals(0, tmpSampler.getGroups().get("1").get(ErrorCodes.UNEXPECTED_EXCEPTION_ERROR)
+                .getSampleSize());
+        //
+        ReportSamplingPolicy tmpNotStratifiedPolicy = new ReportSamplingPolicy(ReportSamplingModes.FIRST_N, 3, false);
+        tmpNotStratifiedPolicy.setSampleSizeOfStep("1", 1);
+        Assertions.assertEquals(3, tmpNotStratifiedPolicy.getSampleSize("1", ErrorCodes.ATOM_CONTAINER_NULL_ERROR));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tmpPolicy.setSampleSizeOfStep("1", -1));
+    }
+
+    /**
+     * Tests whether the sampler copies its policy, so that changing the policy afterwards does not affect it.
+     */
+    @Test
+    public void constructorTest_policyChangedAfterwards_samplerUnaffected() {
+        ReportSamplingPolicy tmpPolicy = new ReportSamplingPolicy(ReportSamplingModes.FIRST_N, 2, false);
+        ReportSampler tmpSampler = new ReportSampler(tmpPolicy);
+        tmpPolicy.setSampleSize(ErrorCodes.ATOM_CONTAINER_NULL_ERROR, 0);
+        tmpPolicy.setSeed(1L);
+        this.offer(tmpSampler, ErrorCodes.ATOM_CONTAINER_NULL_ERROR, "1", 5);
+        Assertions.assertEquals(2, tmpSampler.getSampledReportDataObjects().size());
+        Assertions.assertEquals(ReportSamplingPolicy.DEFAULT_SEED, tmpSampler.getPolicy().getSeed());
+    }
+
+    /**
+     * Tests whether the RESERVOIR mode keeps a sample of the given size that is reproducible for the same seed and
+     * not restricted to the first ReportDataObjects.
+     */
+    @Test
+    public void offerTest_reservoir_reproducibleSampleOfGivenSize() {
+        List<String> tmpFirstSample = null;
+        for (int i = 0; i < 2; i++) {
+            ReportSampler tmpSampler = new ReportSampler(new ReportSamplingPolicy(ReportSamplingModes.RESERVOIR, 10,
+                    false));
+            for (int j = 0; j < 1000; j++) {
+                tmpSampler.offer(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR, MaxAtomCountFilter.class,
+                        String.valueOf(j)), ReportSnapshotModes.FULL);
+            }
+            List<String> tmpSample = tmpSampler.getSampledReportDataObjects().stream()
+                    .map(ReportDataObject::getProcessingStepIdentifier).collect(Collectors.toList());
+            Assertions.assertEquals(10, tmpSample.size());
+            Assertions.assertEquals(1000, tmpSampler.getTotalCount());
+            if (tmpFirstSample == null) {
+                tmpFirstSample = tmpSample;
+            } else {
+                Assertions.assertEquals(tmpFirstSample, tmpSample);
+            }
+        }
+        Assertions.assertTrue(tmpFirstSample.stream().anyMatch(aStepId -> Integer.parseInt(aStepId) >= 10));
+    }
+
+    /**
+     * Offers the given number of ReportDataObjects with the given error code and processing step identifier to the
+     * given sampler.
+     *
+     * @param aSampler                  the sampler to offer to
+     * @param anErrorCode               error code of the ReportDataObjects
+     * @param aProcessingStepIdentifier processing step identifier of the ReportDataObjects
+     * @param aCount                    number of ReportDataObjects to offer
+     */
+    private void offer(ReportSampler aSampler, ErrorCodes anErrorCode, String aProcessingStepIdentifier,
+                       int aCount) {
+        for (int i = 0; i < aCount; i++) {
+            aSampler.offer(new ReportDataObject(anErrorCode, MaxAtomCountFilter.class, aProcessingStepIdentifier),
+                    ReportSnapshotModes.FULL);
+        }
+    }
+
+}
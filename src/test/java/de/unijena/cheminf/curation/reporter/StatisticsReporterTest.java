@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.processingSteps.filters.MaxAtomCountFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openscience.cdk.silent.AtomContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Test class of the StatisticsReporter class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see StatisticsReporter
+ */
+public class StatisticsReporterTest {
+
+    /**
+     * Tests whether the .appendReport() method of StatisticsReporter counts the issues per processing step identifier
+     * and error code and keeps a bounded sample of the reported MolIDs.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     */
+    @Test
+    public void appendReportTest_countsAndSamples(@TempDir Path aTempDirectoryPath) {
+        StatisticsReporter tmpReporter = new StatisticsReporter(aTempDirectoryPath.toString(), 3);
+        Set<String> tmpAppendedMolIDs = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            tmpReporter.appendReport(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR,
+                    MaxAtomCountFilter.class, "1", new AtomContainer(), "MolID_" + i, "ExternalID"));
+            tmpAppendedMolIDs.add("MolID_" + i);
+        }
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.CLONE_ERROR, MaxAtomCountFilter.class, "2",
+                new AtomContainer(), "MolID_X", "ExternalID"));
+        Assertions.assertEquals(101, tmpReporter.getTotalCount());
+        Assertions.assertEquals(100, tmpReporter.getCount("1", ErrorCodes.ATOM_CONTAINER_NULL_ERROR));
+        Assertions.assertEquals(0, tmpReporter.getCount("1", ErrorCodes.CLONE_ERROR));
+        Assertions.assertEquals(1, tmpReporter.getCount("2", ErrorCodes.CLONE_ERROR));
+        String[] tmpSample = tmpReporter.getSampleMolIDs("1", ErrorCodes.ATOM_CONTAINER_NULL_ERROR);
+        Assertions.assertEquals(3, tmpSample.length);
+        Assertions.assertTrue(tmpAppendedMolIDs.containsAll(Arrays.asList(tmpSample)));
+        Assertions.assertArrayEquals(new String[]{"MolID_X"}, tmpReporter.getSampleMolIDs("2",
+                ErrorCodes.CLONE_ERROR));
+        Assertions.assertEquals(0, tmpReporter.getSampleMolIDs("3", ErrorCodes.CLONE_ERROR).length);
+    }
+
+    /**
+     * Tests whether the .report() method of StatisticsReporter writes the counts to the report file and clears the
+     * statistics afterwards.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void reportTest_countsWrittenAndCleared(@TempDir Path aTempDirectoryPath) throws Exception {
+        StatisticsReporter tmpReporter = new StatisticsReporter(aTempDirectoryPath.toString());
+        tmpReporter.initializeNewReport();
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR, MaxAtomCountFilter.class,
+                "1", new AtomContainer(), "MolID_1", "ExternalID"));
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR, MaxAtomCountFilter.class,
+                "1", new AtomContainer(), "MolID_2", "ExternalID"));
+        tmpReporter.report();
+        String tmpReport = Files.readString(tmpReporter.getLastReportFilePath(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(tmpReport.contains("| 1 | ATOM_CONTAINER_NULL_ERROR | 2 | MolID_1, MolID_2 |"));
+        Assertions.assertEquals(0, tmpReporter.getTotalCount());
+    }
+
+    /**
+     * Tests whether issues without MolID and external identifier are counted but do not take part in the reservoir
+     * sampling, so that the sample is filled with the first issues with identifier instead of leaving gaps.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     */
+    @Test
+    public void appendReportTest_issuesWithoutIdentifier_doNotDisplaceSampledMolIDs(@TempDir Path aTempDirectoryPath) {
+        StatisticsReporter tmpReporter = new StatisticsReporter(aTempDirectoryPath.toString(), 3);
+        for (int i = 0; i < 10; i++) {
+            tmpReporter.appendReport(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR,
+                    MaxAtomCountFilter.class, "1"));
+        }
+        for (int i = 0; i < 3; i++) {
+            tmpReporter.appendReport(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR,
+                    MaxAtomCountFilter.class, "1", new AtomContainer(), "MolID_" + i, "ExternalID"));
+        }
+        Assertions.assertEquals(13, tmpReporter.getCount("1", ErrorCodes.ATOM_CONTAINER_NULL_ERROR));
+        Assertions.assertArrayEquals(new String[]{"MolID_0", "MolID_1", "MolID_2"},
+                tmpReporter.getSampleMolIDs("1", ErrorCodes.ATOM_CONTAINER_NULL_ERROR));
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.enums.LineReportFormats;
+import de.unijena.cheminf.curation.processingSteps.filters.MaxAtomCountFilter;
+import de.unijena.cheminf.curation.processingSteps.filters.MinBondCountFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Test class of the StreamingLineReporter class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see StreamingLineReporter
+ */
+public class StreamingLineReporterTest {
+
+    /**
+     * Tests whether the StreamingLineReporter writes one CSV line per appended ReportDataObject, with values containing
+     * commas being quoted, and a summary sorted by processing step identifier and error code.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void reportTest_csvFormat_linesAndSortedSummary(@TempDir Path aTempDirectoryPath) throws Exception {
+        StreamingLineReporter tmpReporter = new StreamingLineReporter(aTempDirectoryPath.toString(),
+                LineReportFormats.CSV, true, true);
+        tmpReporter.initializeNewReport();
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.CLONE_ERROR, MinBondCountFilter.class, "2",
+                TestUtils.parseSmilesString("OCC"), "MolID_1", "Name, with comma"));
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR, MaxAtomCountFilter.class,
+                "1"));
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.CLONE_ERROR, MinBondCountFilter.class, "2",
+                TestUtils.parseSmilesString("CCN"), "MolID_3", "ExternalID_3"));
+        tmpReporter.report();
+        //
+        List<String> tmpLines = Files.readAllLines(tmpReporter.getLastReportFilePath(), StandardCharsets.UTF_8);
+        Assertions.assertEquals(4, tmpLines.size());
+        Assertions.assertEquals("processing_step_id,processing_step_class,error_code,mol_id,external_id,smiles",
+                tmpLines.get(0));
+        Assertions.assertEquals("2," + MinBondCountFilter.class.getName() + ",CLONE_ERROR,MolID_1,"
+                + "\"Name, with comma\",CCO", tmpLines.get(1));
+        Assertions.assertEquals("1," + MaxAtomCountFilter.class.getName() + ",ATOM_CONTAINER_NULL_ERROR,,,",
+                tmpLines.get(2));
+        List<String> tmpSummaryLines = Files.readAllLines(tmpReporter.getLastSummaryFilePath(),
+                StandardCharsets.UTF_8);
+        Assertions.assertEquals(List.of("processing_step_id,error_code,count,first_line",
+                "1,ATOM_CONTAINER_NULL_ERROR,1,2", "2,CLONE_ERROR,2,1"), tmpSummaryLines);
+    }
+
+    /**
+     * Tests whether the StreamingLineReporter writes one JSON object per line without SMILES string by default, with
+     * the numeric summary fields as JSON numbers, and marks the files as incomplete if the report is finished after a
+     * fatal exception.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     * @throws Exception if something went wrong
+     */
+    @Test
+    public void reportAfterFatalExceptionTest_jsonLinesFormat_incompleteFiles(@TempDir Path aTempDirectoryPath)
+            throws Exception {
+        StreamingLineReporter tmpReporter = new StreamingLineReporter(aTempDirectoryPath.toString(),
+                LineReportFormats.JSON_LINES);
+        tmpReporter.initializeNewReport();
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.CLONE_ERROR, MinBondCountFilter.class, "2",
+                TestUtils.parseSmilesString("CCO"), "Mol\"ID", "ExternalID"));
+        tmpReporter.reportAfterFatalException();
+        //
+        Path tmpReportFilePath = tmpReporter.getLastReportFilePath();
+        Assertions.assertTrue(tmpReportFilePath.getFileName().toString().endsWith("_incomplete.jsonl"));
+        Assertions.assertEquals(List.of("{\"processing_step_id\":\"2\",\"processing_step_class\":\""
+                + MinBondCountFilter.class.getName() + "\",\"error_code\":\"CLONE_ERROR\",\"mol_id\":\"Mol\\\"ID\","
+                + "\"external_id\":\"ExternalID\"}"), Files.readAllLines(tmpReportFilePath, StandardCharsets.UTF_8));
+        Assertions.assertTrue(tmpReporter.getLastSummaryFilePath().getFileName().toString()
+                .endsWith("_summary_incomplete.jsonl"));
+        Assertions.assertEquals(List.of("{\"processing_step_id\":\"2\",\"error_code\":\"CLONE_ERROR\",\"count\":1,"
+                + "\"first_line\":1}"), Files.readAllLines(tmpReporter.getLastSummaryFilePath(),
+                StandardCharsets.UTF_8));
+        Assertions.assertThrows(NullPointerException.class, () -> tmpReporter.appendReport(new ReportDataObject(
+                ErrorCodes.ATOM_CONTAINER_NULL_ERROR, MinBondCountFilter.class, "2")));
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.reporter;
+
+import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import de.unijena.cheminf.curation.processingSteps.filters.MaxAtomCountFilter;
+import de.unijena.cheminf.curation.processingSteps.filters.MinBondCountFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openscience.cdk.exception.InvalidSmilesException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.stream.Stream;
+
+/**
+ * Test class of the StreamingMarkDownReporter class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see StreamingMarkDownReporter
+ */
+public class StreamingMarkDownReporterTest {
+
+    /**
+     * Tests whether the .report() method of StreamingMarkDownReporter creates a report file containing the summary and
+     * the entries of all appended ReportDataObjects and whether the temporary entries file is deleted afterwards.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     * @throws IOException if an error occurs while accessing or writing the report file
+     */
+    @Test
+    public void reportTest_reportFileContainsSummaryAndAllEntries(@TempDir Path aTempDirectoryPath)
+            throws InvalidSmilesException, IOException {
+        StreamingMarkDownReporter tmpReporter = new StreamingMarkDownReporter(aTempDirectoryPath.toString());
+        tmpReporter.initializeNewReport();
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.CLONE_ERROR, MinBondCountFilter.class, "1",
+                TestUtils.parseSmilesString("CCC"), "MolID_1", "ExternalID_1"));
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR, MaxAtomCountFilter.class,
+                "2"));
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR, MaxAtomCountFilter.class,
+                "2"));
+        tmpReporter.report();
+        //
+        Path tmpReportFilePath = tmpReporter.getLastReportFilePath();
+        Assertions.assertNotNull(tmpReportFilePath);
+        try (Stream<Path> tmpFiles = Files.list(aTempDirectoryPath)) {
+            Assertions.assertEquals(1, tmpFiles.count());
+        }
+        String tmpReport = Files.readString(tmpReportFilePath, StandardCharsets.UTF_8);
+        Assertions.assertTrue(tmpReport.contains("| 1 | CLONE_ERROR | 1 |"));
+        Assertions.assertTrue(tmpReport.contains("| 2 | ATOM_CONTAINER_NULL_ERROR | 2 |"));
+        Assertions.assertTrue(tmpReport.contains(ResourceBundle.getBundle("ReportStringLiterals",
+                Locale.getDefault()).getString("NUMBEROFERRORS") + "3\n"));
+        Assertions.assertTrue(tmpReport.contains("* **External Identifier:** ExternalID_1"));
+        Assertions.assertFalse(tmpReport.contains("**The processing ended with a fatal exception"));
+        Assertions.assertEquals(0, tmpReporter.getErrorCount());
+    }
+
+    /**
+     * Tests whether the .reportAfterFatalException() method of StreamingMarkDownReporter creates a report file
+     * containing the entries appended so far and a notification of the fatal exception.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     * @throws IOException if an error occurs while accessing or writing the report file
+     */
+    @Test
+    public void reportAfterFatalExceptionTest_partialReportWithNotification(@TempDir Path aTempDirectoryPath)
+            throws IOException {
+        StreamingMarkDownReporter tmpReporter = new StreamingMarkDownReporter(aTempDirectoryPath.toString());
+        tmpReporter.initializeNewReport();
+        tmpReporter.appendReport(new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR, MaxAtomCountFilter.class,
+                "2"));
+        tmpReporter.reportAfterFatalException();
+        String tmpReport = Files.readString(tmpReporter.getLastReportFilePath(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(tmpReport.contains("**The processing ended with a fatal exception"));
+        Assertions.assertTrue(tmpReport.contains("* **Error Code:** ATOM_CONTAINER_NULL_ERROR"));
+    }
+
+    /**
+     * Tests whether the .appendReport() method of StreamingMarkDownReporter throws a NullPointerException if the
+     * report has not been initialized and whether the constructor throws an IllegalArgumentException if the given path
+     * does not denote a directory.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     */
+    @Test
+    public void appendReportTest_notInitialized_throwsNullPointerException(@TempDir Path aTempDirectoryPath) {
+        StreamingMarkDownReporter tmpReporter = new StreamingMarkDownReporter(aTempDirectoryPath.toString());
+        Assertions.assertThrows(NullPointerException.class, () -> tmpReporter.appendReport(
+                new ReportDataObject(ErrorCodes.ATOM_CONTAINER_NULL_ERROR, MaxAtomCountFilter.class, "2")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new StreamingMarkDownReporter(
+                aTempDirectoryPath.resolve("notExisting").toString()));
+    }
+
+    /**
+     * Tests whether the .report() method of StreamingMarkDownReporter lists the entries in the order they have been
+     * appended, with a details header stating this order, although their depictions are rendered off the appending
+     * thread.
+     *
+     * @param aTempDirectoryPath temporary directory to create the report in
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     * @throws IOException if an error occurs while accessing or writing the report file
+     */
+    @Test
+    public void reportTest_entriesInAppendOrder(@TempDir Path aTempDirectoryPath)
+            throws InvalidSmilesException, IOException {
+        StreamingMarkDownReporter tmpReporter = new StreamingMarkDownReporter(aTempDirectoryPath.toString());
+        tmpReporter.initializeNewReport();
+        int tmpEntriesCount = tmpReporter.getPendingEntriesCapacity() * 2 + 1;
+        for (int i = 0; i < tmpEntriesCount; i++) {
+            tmpReporter.appendReport(new ReportDataObject(ErrorCodes.CLONE_ERROR, MinBondCountFilter.class,
+                    String.valueOf(i % 2), TestUtils.parseSmilesString(i % 2 == 0 ? "CCO" : "c1ccccc1"),
+                    "MolID_" + i, "ExternalID_" + i));
+        }
+        tmpReporter.report();
+        String tmpReport = Files.readString(tmpReporter.getLastReportFilePath(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(tmpReport.contains("in the order the errors were reported"));
+        Assertions.assertFalse(tmpReport.contains("sorted by the ProcessingStep"));
+        int tmpLastIndex = -1;
+        for (int i = 0; i < tmpEntriesCount; i++) {
+            int tmpIndex = tmpReport.indexOf("* **Identifier:** MolID_" + i + "\n");
+            Assertions.assertTrue(tmpIndex > tmpLastIndex);
+            tmpLastIndex = tmpIndex;
+        }
+        Assertions.assertEquals(tmpEntriesCount, tmpReport.split("!\\[Molecule Depiction]").length - 1);
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openscience.cdk.interfaces.IElement;
+
+/**
+ * Test class for class AtomicNumbersMask.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public class AtomicNumbersMaskTest {
+
+    /**
+     * Tests whether the .contains() method of class AtomicNumbersMask returns true for all atomic numbers the mask has
+     * been created with and false for all others; atomic numbers of both halves of the mask are tested.
+     */
+    @Test
+    public void containsMethodTest_returnsTrueOnlyForGivenAtomicNumbers() {
+        int[] tmpAtomicNumbers = new int[]{0, IElement.C, 63, 64, IElement.U, IElement.Og};
+        AtomicNumbersMask tmpMask = new AtomicNumbersMask(tmpAtomicNumbers);
+        int tmpContainedCount = 0;
+        for (int i = 0; i <= AtomicNumbersMask.HIGHEST_ATOMIC_NUMBER; i++) {
+            if (tmpMask.contains(i)) {
+                tmpContainedCount++;
+            }
+        }
+        Assertions.assertEquals(tmpAtomicNumbers.length, tmpContainedCount);
+        for (int tmpAtomicNumber : tmpAtomicNumbers) {
+            Assertions.assertTrue(tmpMask.contains(tmpAtomicNumber));
+        }
+        Assertions.assertEquals(tmpAtomicNumbers.length, tmpMask.getCount());
+    }
+
+    /**
+     * Tests whether the .contains() method of class AtomicNumbersMask returns false for integer values outside the
+     * range of valid atomic numbers.
+     */
+    @Test
+    public void containsMethodTest_returnsFalseForInvalidAtomicNumbers() {
+        AtomicNumbersMask tmpMask = new AtomicNumbersMask(0, IElement.Og);
+        Assertions.assertFalse(tmpMask.contains(-1));
+        Assertions.assertFalse(tmpMask.contains(119));
+        Assertions.assertFalse(tmpMask.contains(127));
+        Assertions.assertFalse(tmpMask.contains(128));
+    }
+
+    /**
+     * Tests whether the constructor of class AtomicNumbersMask throws an IllegalArgumentException if a given integer
+     * value is no valid atomic number.
+     */
+    @Test
+    public void constructorTest_invalidAtomicNumber_throwsIllegalArgumentException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AtomicNumbersMask(IElement.C, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AtomicNumbersMask(119));
+    }
+
+    /**
+     * Tests whether the .ofElementSymbols() method of class AtomicNumbersMask parses the element symbols to the
+     * respective atomic numbers and throws an IllegalArgumentException for unknown symbols.
+     */
+    @Test
+    public void ofElementSymbolsMethodTest_parsesSymbols_throwsIllegalArgumentExceptionForUnknownSymbol() {
+        AtomicNumbersMask tmpMask = AtomicNumbersMask.ofElementSymbols("C", "Cl", "Og");
+        Assertions.assertEquals(new AtomicNumbersMask(IElement.C, IElement.Cl, IElement.Og), tmpMask);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> AtomicNumbersMask.ofElementSymbols("Xy"));
+    }
+
+    /**
+     * Tests whether the .union() and .toArray() methods of class AtomicNumbersMask return the expected results.
+     */
+    @Test
+    public void unionAndToArrayMethodsTest_returnsSortedAtomicNumbersOfBothMasks() {
+        AtomicNumbersMask tmpMask = new AtomicNumbersMask(IElement.O, IElement.Fe)
+                .union(new AtomicNumbersMask(IElement.C, IElement.O));
+        Assertions.assertArrayEquals(new int[]{IElement.C, IElement.O, IElement.Fe}, tmpMask.toArray());
+        Assertions.assertFalse(tmpMask.isEmpty());
+        Assertions.assertTrue(new AtomicNumbersMask().isEmpty());
+    }
+
+}
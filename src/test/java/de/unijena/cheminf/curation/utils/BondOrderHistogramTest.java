@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.utils;
+
+import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openscience.cdk.exception.InvalidSmilesException;
+import org.openscience.cdk.interfaces.IAtomContainer;
+import org.openscience.cdk.interfaces.IAtomContainerSet;
+import org.openscience.cdk.interfaces.IBond;
+import org.openscience.cdk.interfaces.IPseudoAtom;
+
+/**
+ * Test class for class BondOrderHistogram.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public class BondOrderHistogramTest {
+
+    /**
+     * Tests whether the .getCount() method of class BondOrderHistogram returns the same counts as the
+     * .getBondsOfSpecificBondOrderCount() method of class ChemUtils did before (counting each bond order separately);
+     * tested for all bond orders, null and all combinations of the boolean parameters.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     */
+    @Test
+    public void getCountMethodTest_countsEqualSeparateCounting() throws InvalidSmilesException {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings(
+                "CC=CC#N",
+                "*C=C(*)O",
+                "[*]=C=[*]",
+                "c1ccccc1*"
+        );
+        tmpAtomContainerSet.getAtomContainer(0).getBond(0).setOrder(IBond.Order.UNSET);
+        tmpAtomContainerSet.getAtomContainer(1).getBond(2).setOrder(null);
+        for (IAtomContainer tmpAtomContainer : tmpAtomContainerSet.atomContainers()) {
+            BondOrderHistogram tmpHistogram = new BondOrderHistogram(tmpAtomContainer, true);
+            for (boolean tmpConsiderImplicitHydrogens : new boolean[]{true, false}) {
+                for (boolean tmpConsiderPseudoAtoms : new boolean[]{true, false}) {
+                    int tmpTotalCount = 0;
+                    for (IBond.Order tmpBondOrder : IBond.Order.values()) {
+                        int tmpExpectedCount = BondOrderHistogramTest.countBonds(tmpAtomContainer, tmpBondOrder,
+                                tmpConsiderImplicitHydrogens, tmpConsiderPseudoAtoms);
+                        Assertions.assertEquals(tmpExpectedCount, tmpHistogram.getCount(tmpBondOrder,
+                                tmpConsiderImplicitHydrogens, tmpConsiderPseudoAtoms));
+                        tmpTotalCount += tmpExpectedCount;
+                    }
+                    tmpTotalCount += tmpHistogram.getCount(null, tmpConsiderImplicitHydrogens,
+                            tmpConsiderPseudoAtoms);
+                    Assertions.assertEquals(ChemUtils.getBondCount(tmpAtomContainer, tmpConsiderImplicitHydrogens,
+                            tmpConsiderPseudoAtoms), tmpTotalCount);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests whether the histogram counts bonds with bond order null.
+     *
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     */
+    @Test
+    public void getCountMethodTest_countsBondsOfBondOrderNull() throws InvalidSmilesException {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("CCCC");
+        tmpAtomContainer.getBond(0).setOrder(null);
+        tmpAtomContainer.getBond(2).setOrder(null);
+        BondOrderHistogram tmpHistogram = new BondOrderHistogram(tmpAtomContainer, false);
+        Assertions.assertEquals(2, tmpHistogram.getCount(null, false, true));
+        Assertions.assertEquals(1, tmpHistogram.getCount(IBond.Order.SINGLE, false, true));
+    }
+
+    /**
+     * Tests whether an implicit hydrogen count being null does not cause an exception on construction but is detected
+     * by the .isImplicitHydrogenCountMissing() method and causes a NullPointerException with the respective error
+     * code as message when querying the count of single bonds including bonds to implicit hydrogen atoms; the implicit
+     * hydrogen counts of pseudo-atoms are only relevant if pseudo-atoms are to be considered.
+     *
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     */
+    @Test
+    public void implicitHydrogenCountNullTest() throws InvalidSmilesException {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("*CC");
+        tmpAtomContainer.getAtom(0).setImplicitHydrogenCount(null);
+        BondOrderHistogram tmpHistogram = new BondOrderHistogram(tmpAtomContainer, true);
+        Assertions.assertTrue(tmpHistogram.isImplicitHydrogenCountMissing(true));
+        Assertions.assertFalse(tmpHistogram.isImplicitHydrogenCountMissing(false));
+        Assertions.assertEquals(6, tmpHistogram.getCount(IBond.Order.SINGLE, true, false));
+        Assertions.assertEquals(2, tmpHistogram.getCount(IBond.Order.SINGLE, false, true));
+        NullPointerException tmpException = Assertions.assertThrows(NullPointerException.class,
+                () -> tmpHistogram.getCount(IBond.Order.SINGLE, true, true));
+        Assertions.assertEquals(ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR.name(), tmpException.getMessage());
+    }
+
+    /**
+     * Tests whether the .getCount() method of class BondOrderHistogram throws an IllegalStateException if the count of
+     * single bonds including bonds to implicit hydrogen atoms is queried but the implicit hydrogen atoms have not been
+     * counted.
+     *
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     */
+    @Test
+    public void getCountMethodTest_implicitHydrogensNotCounted_throwsIllegalStateException()
+            throws InvalidSmilesException {
+        BondOrderHistogram tmpHistogram = new BondOrderHistogram(TestUtils.parseSmilesString("CC"), false);
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> tmpHistogram.getCount(IBond.Order.SINGLE, true, true));
+        Assertions.assertEquals(0, tmpHistogram.getCount(IBond.Order.DOUBLE, true, true));
+    }
+
+    /**
+     * Counts the bonds of the given bond order by separately traversing the bonds; reference implementation for the
+     * tests of this class.
+     *
+     * @param anAtomContainer atom container to count the bonds of
+     * @param aBondOrder the bond order
+     * @param aConsiderImplicitHydrogens whether to consider bonds to implicit hydrogen atoms
+     * @param aConsiderPseudoAtoms whether to consider bonds to pseudo-atoms
+     * @return the count of bonds
+     */
+    private static int countBonds(IAtomContainer anAtomContainer, IBond.Order aBondOrder,
+                                  boolean aConsiderImplicitHydrogens, boolean aConsiderPseudoAtoms) {
+        int tmpCount = 0;
+        for (IBond tmpBond : anAtomContainer.bonds()) {
+            if (tmpBond.getOrder() != aBondOrder) {
+                continue;
+            }
+            if (!aConsiderPseudoAtoms && (tmpBond.getBegin() instanceof IPseudoAtom
+                    || tmpBond.getEnd() instanceof IPseudoAtom)) {
+                continue;
+            }
+            tmpCount++;
+        }
+        if (aBondOrder == IBond.Order.SINGLE && aConsiderImplicitHydrogens) {
+            tmpCount += ChemUtils.getImplicitHydrogenCount(anAtomContainer, aConsiderPseudoAtoms);
+        }
+        return tmpCount;
+    }
+
+}
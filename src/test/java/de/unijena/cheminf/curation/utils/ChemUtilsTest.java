@@ -1302,4 +1302,78 @@ public class ChemUtilsTest {
     }
     //</editor-fold>
 
+    //<editor-fold desc="fillSigmaAndPiBondCounts() method tests" defaultstate="collapsed">
+    /**
+     * Tests whether the fillSigmaAndPiBondCounts() method of ChemUtils writes the same counts to the given arrays as
+     * the getSigmaAndPiBondCounts() method returns for each atom when not considering implicit hydrogen atoms.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     */
+    @Test
+    public void fillSigmaAndPiBondCountsTest_equalsGetSigmaAndPiBondCountsOfEachAtom() throws InvalidSmilesException {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings(
+                "C=CC#N", "O=C(O)c1ccccc1", "[Na+].[O-]C(=O)C", "C[S](=O)(=O)C", "*C(=O)N"
+        );
+        // arrays are reused for all atom containers and longer than needed
+        int[] tmpSigmaBondCounts = new int[20];
+        int[] tmpPiBondCounts = new int[20];
+        for (IAtomContainer tmpAtomContainer : tmpAtomContainerSet.atomContainers()) {
+            ChemUtils.fillSigmaAndPiBondCounts(tmpAtomContainer, tmpSigmaBondCounts, tmpPiBondCounts);
+            for (int i = 0; i < tmpAtomContainer.getAtomCount(); i++) {
+                int[] tmpExpectedCounts = ChemUtils.getSigmaAndPiBondCounts(tmpAtomContainer.getAtom(i), false);
+                Assertions.assertEquals(tmpExpectedCounts[0], tmpSigmaBondCounts[i]);
+                Assertions.assertEquals(tmpExpectedCounts[1], tmpPiBondCounts[i]);
+            }
+        }
+    }
+
+    /**
+     * Tests whether the fillSigmaAndPiBondCounts() method of ChemUtils throws an IllegalArgumentException if one of
+     * the given arrays is shorter than the atom count of the given atom container.
+     *
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     */
+    @Test
+    public void fillSigmaAndPiBondCountsTest_arrayTooShort_throwsIllegalArgumentException()
+            throws InvalidSmilesException {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("CCO");
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ChemUtils.fillSigmaAndPiBondCounts(tmpAtomContainer, new int[3], new int[2]));
+    }
+
+    /**
+     * Tests whether the fillSigmaAndPiBondCounts() method of ChemUtils throws a NullPointerException with the
+     * respective error code as message if the bond order of a bond is null.
+     *
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     */
+    @Test
+    public void fillSigmaAndPiBondCountsTest_bondOrderNull_throwsNullPointerExceptionWithErrorCode()
+            throws InvalidSmilesException {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("CC");
+        tmpAtomContainer.getBond(0).setOrder(null);
+        try {
+            ChemUtils.fillSigmaAndPiBondCounts(tmpAtomContainer, new int[2], new int[2]);
+            Assertions.fail();
+        } catch (NullPointerException aNullPointerException) {
+            Assertions.assertEquals(ErrorCodes.BOND_ORDER_NULL_ERROR.name(), aNullPointerException.getMessage());
+        }
+    }
+
+    /**
+     * Tests whether the fillSigmaAndPiBondCounts() method of ChemUtils throws an IllegalArgumentException if the bond
+     * order of a bond is IBond.Order.UNSET.
+     *
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     */
+    @Test
+    public void fillSigmaAndPiBondCountsTest_bondOrderUNSET_throwsIllegalArgumentException()
+            throws InvalidSmilesException {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("CC");
+        tmpAtomContainer.getBond(0).setOrder(IBond.Order.UNSET);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ChemUtils.fillSigmaAndPiBondCounts(tmpAtomContainer, new int[2], new int[2]));
+    }
+    //</editor-fold>
+
 }
@@ -26,6 +26,7 @@
 package de.unijena.cheminf.curation.utils;
 
 import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
 import de.unijena.cheminf.curation.valenceHandling.valenceModels.IValenceModel;
 import de.unijena.cheminf.curation.valenceHandling.valenceModels.PubChemValenceModel;
 import de.unijena.cheminf.curation.valenceHandling.valenceModels.ValenceListBasedValenceModel;
@@ -594,6 +595,190 @@ public class FilterUtilsTest {
     }
     //</editor-fold>
 
+    //<editor-fold desc="threshold-aware counting tests" defaultstate="collapsed">
+    /**
+     * Tests whether the results of the exceedsOrEquals...() methods of class FilterUtils that stop counting as soon as
+     * the outcome is decided equal the results of comparing the full counts determined via the respective methods of
+     * class ChemUtils with the threshold; tested for atom containers with and without pseudo-atoms, all combinations of
+     * the boolean parameters and threshold values from zero to above the maximum possible count.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     */
+    @Test
+    public void exceedsOrEqualsMethodsTest_resultsEqualComparisonOfFullCounts() throws InvalidSmilesException {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings(
+                "CCO",
+                "*CC(*)O",
+                "[H]C([H])([H])C(=O)N*",
+                "c1ccccc1C=CC#N",
+                "*",
+                "[*]=C=[*]"
+        );
+        IBond.Order[] tmpBondOrders = new IBond.Order[]{IBond.Order.SINGLE, IBond.Order.DOUBLE, IBond.Order.TRIPLE};
+        for (IAtomContainer tmpAtomContainer : tmpAtomContainerSet.atomContainers()) {
+            for (boolean tmpConsiderImplicitHydrogens : new boolean[]{true, false}) {
+                for (boolean tmpConsiderPseudoAtoms : new boolean[]{true, false}) {
+                    int tmpAtomCount = ChemUtils.getAtomCount(tmpAtomContainer, tmpConsiderImplicitHydrogens,
+                            tmpConsiderPseudoAtoms);
+                    int tmpHeavyAtomCount = ChemUtils.getHeavyAtomCount(tmpAtomContainer, tmpConsiderPseudoAtoms);
+                    int tmpBondCount = ChemUtils.getBondCount(tmpAtomContainer, tmpConsiderImplicitHydrogens,
+                            tmpConsiderPseudoAtoms);
+                    for (int tmpThreshold = 0; tmpThreshold <= tmpAtomCount + tmpBondCount + 2; tmpThreshold++) {
+                        Assertions.assertEquals(tmpAtomCount >= tmpThreshold, FilterUtils.exceedsOrEqualsAtomCount(
+                                tmpAtomContainer, tmpThreshold, tmpConsiderImplicitHydrogens, tmpConsiderPseudoAtoms));
+                        Assertions.assertEquals(tmpHeavyAtomCount >= tmpThreshold,
+                                FilterUtils.exceedsOrEqualsHeavyAtomCount(tmpAtomContainer, tmpThreshold,
+                                        tmpConsiderPseudoAtoms));
+                        Assertions.assertEquals(tmpBondCount >= tmpThreshold, FilterUtils.exceedsOrEqualsBondCount(
+                                tmpAtomContainer, tmpThreshold, tmpConsiderImplicitHydrogens, tmpConsiderPseudoAtoms));
+                        for (IBond.Order tmpBondOrder : tmpBondOrders) {
+                            Assertions.assertEquals(
+                                    ChemUtils.getBondsOfSpecificBondOrderCount(tmpAtomContainer, tmpBondOrder,
+                                            tmpConsiderImplicitHydrogens, tmpConsiderPseudoAtoms) >= tmpThreshold,
+                                    FilterUtils.exceedsOrEqualsBondsOfSpecificBondOrderCount(tmpAtomContainer,
+                                            tmpBondOrder, tmpThreshold, tmpConsiderImplicitHydrogens,
+                                            tmpConsiderPseudoAtoms)
+                            );
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests whether the .exceedsOrEqualsAtomCount() method of class FilterUtils throws a NullPointerException if
+     * implicit hydrogen atoms are considered and the implicit hydrogen count of the last atom is null, even though the
+     * threshold is reached before the atom is visited; the count is decided without the atom if implicit hydrogen
+     * atoms are not considered.
+     *
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     */
+    @Test
+    public void exceedsOrEqualsAtomCountTest_implicitHydrogenCountNullBeyondThreshold() throws InvalidSmilesException {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("CCCO");
+        tmpAtomContainer.getAtom(3).setImplicitHydrogenCount(null);
+        Assertions.assertThrows(NullPointerException.class,
+                () -> FilterUtils.exceedsOrEqualsAtomCount(tmpAtomContainer, 5, true, true));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> FilterUtils.exceedsOrEqualsAtomCount(tmpAtomContainer, 20, true, true));
+        Assertions.assertTrue(FilterUtils.exceedsOrEqualsAtomCount(tmpAtomContainer, 3, false, true));
+    }
+
+    /**
+     * Tests whether the .exceedsOrEqualsBondCount() method of class FilterUtils decides the outcome based on the
+     * count of explicit bonds if implicit hydrogen atoms are not considered, and throws a NullPointerException if they
+     * are considered, even though the explicit bonds already reach the threshold; the implicit hydrogen counts of all
+     * atoms are null.
+     *
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     */
+    @Test
+    public void exceedsOrEqualsBondCountTest_preCheckOnExplicitBondCount() throws InvalidSmilesException {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("CCCO");
+        for (IAtom tmpAtom : tmpAtomContainer.atoms()) {
+            tmpAtom.setImplicitHydrogenCount(null);
+        }
+        Assertions.assertTrue(FilterUtils.exceedsOrEqualsBondCount(tmpAtomContainer, 3, false, true));
+        Assertions.assertFalse(FilterUtils.exceedsOrEqualsBondCount(tmpAtomContainer, 4, false, true));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> FilterUtils.exceedsOrEqualsBondCount(tmpAtomContainer, 3, true, true));
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="getImplicitHydrogenCountIssue() and checkValences() method tests" defaultstate="collapsed">
+    /**
+     * Tests whether the .getImplicitHydrogenCountIssue() method of class FilterUtils returns the error code
+     * IMPLICIT_HYDROGEN_COUNT_NULL_ERROR if the implicit hydrogen count of an atom is null and null otherwise;
+     * implicit hydrogen counts of pseudo-atoms are only checked if pseudo-atoms are to be considered.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     */
+    @Test
+    public void getImplicitHydrogenCountIssueMethodTest() throws InvalidSmilesException {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("*CCO");
+        Assertions.assertNull(FilterUtils.getImplicitHydrogenCountIssue(tmpAtomContainer, true));
+        tmpAtomContainer.getAtom(0).setImplicitHydrogenCount(null);
+        Assertions.assertSame(ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR,
+                FilterUtils.getImplicitHydrogenCountIssue(tmpAtomContainer, true));
+        Assertions.assertNull(FilterUtils.getImplicitHydrogenCountIssue(tmpAtomContainer, false));
+        tmpAtomContainer.getAtom(3).setImplicitHydrogenCount(null);
+        Assertions.assertSame(ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR,
+                FilterUtils.getImplicitHydrogenCountIssue(tmpAtomContainer, false));
+    }
+
+    /**
+     * Tests whether the .checkValences() method of class FilterUtils returns the issue results of missing atomic
+     * numbers, formal charges, implicit hydrogen counts and bond orders and of bond orders being UNSET and the result
+     * of all valences being valid if there is no issue.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     */
+    @Test
+    public void checkValencesMethodTest_missingData_returnsIssueResults() throws InvalidSmilesException {
+        IValenceModel tmpValenceModel = new PubChemValenceModel();
+        Assertions.assertSame(ValenceCheckResult.ALL_VALID,
+                FilterUtils.checkValences(TestUtils.parseSmilesString("C=CO"), false, tmpValenceModel));
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("C=CO");
+        tmpAtomContainer.getAtom(1).setAtomicNumber(null);
+        Assertions.assertSame(ValenceCheckResult.issue(ErrorCodes.ATOMIC_NUMBER_NULL_ERROR),
+                FilterUtils.checkValences(tmpAtomContainer, false, tmpValenceModel));
+        tmpAtomContainer = TestUtils.parseSmilesString("C=CO");
+        tmpAtomContainer.getAtom(1).setFormalCharge(null);
+        Assertions.assertSame(ValenceCheckResult.issue(ErrorCodes.FORMAL_CHARGE_NULL_ERROR),
+                FilterUtils.checkValences(tmpAtomContainer, false, tmpValenceModel));
+        tmpAtomContainer = TestUtils.parseSmilesString("C=CO");
+        tmpAtomContainer.getAtom(2).setImplicitHydrogenCount(null);
+        Assertions.assertSame(ValenceCheckResult.issue(ErrorCodes.IMPLICIT_HYDROGEN_COUNT_NULL_ERROR),
+                FilterUtils.checkValences(tmpAtomContainer, false, tmpValenceModel));
+        tmpAtomContainer = TestUtils.parseSmilesString("C=CO");
+        tmpAtomContainer.getBond(0).setOrder(null);
+        Assertions.assertSame(ValenceCheckResult.issue(ErrorCodes.BOND_ORDER_NULL_ERROR),
+                FilterUtils.checkValences(tmpAtomContainer, false, tmpValenceModel));
+        tmpAtomContainer = TestUtils.parseSmilesString("C=CO");
+        tmpAtomContainer.getBond(1).setOrder(IBond.Order.UNSET);
+        Assertions.assertSame(ValenceCheckResult.issue(ErrorCodes.BOND_ORDER_UNSET_ERROR),
+                FilterUtils.checkValences(tmpAtomContainer, false, tmpValenceModel));
+    }
+
+    /**
+     * Tests whether the .checkValences() method of class FilterUtils stops at the first atom with an invalid valence
+     * if the indices of the invalid atoms are not to be collected, so that missing data of subsequent atoms goes
+     * unnoticed, and checks all atoms otherwise, so that it is detected.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     */
+    @Test
+    public void checkValencesMethodTest_collectingIndicesDecidesWhetherToStopAtFirstInvalidAtom()
+            throws InvalidSmilesException {
+        IValenceModel tmpValenceModel = new PubChemValenceModel();
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("[C+5]CO");
+        tmpAtomContainer.getAtom(2).setFormalCharge(null);
+        ValenceCheckResult tmpResult = FilterUtils.checkValences(tmpAtomContainer, false, tmpValenceModel);
+        Assertions.assertFalse(tmpResult.hasAllValidValences());
+        Assertions.assertFalse(tmpResult.isIssue());
+        Assertions.assertSame(ValenceCheckResult.issue(ErrorCodes.FORMAL_CHARGE_NULL_ERROR),
+                FilterUtils.checkValences(tmpAtomContainer, false, tmpValenceModel, true));
+    }
+
+    /**
+     * Tests whether the .checkValences() method of class FilterUtils returns the indices of all atoms with an invalid
+     * valence if they are to be collected.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     */
+    @Test
+    public void checkValencesMethodTest_collectingIndices_returnsIndicesOfAllInvalidAtoms()
+            throws InvalidSmilesException {
+        IValenceModel tmpValenceModel = new PubChemValenceModel();
+        ValenceCheckResult tmpResult = FilterUtils.checkValences(
+                TestUtils.parseSmilesString("CC(C)(C)(C)(C)CO[C+5]"), false, tmpValenceModel, true);
+        Assertions.assertFalse(tmpResult.hasAllValidValences());
+        Assertions.assertFalse(tmpResult.isIssue());
+        Assertions.assertArrayEquals(new int[]{1, 8}, tmpResult.getInvalidAtomIndices());
+    }
+    //</editor-fold>
+
     //<editor-fold desc="hasValidAtomicNumber(IAtom, boolean) method tests" defaultstate="collapsed">
     /**
      * Tests whether the .hasValidAtomicNumber() method of class FilterUtils returns true if the given atom has a valid
@@ -948,4 +1133,29 @@ public class FilterUtilsTest {
     }
     //</editor-fold>
 
+    //<editor-fold desc="getIndicesOfAtomsWithInvalidValences() method tests" defaultstate="collapsed">
+    /**
+     * Tests whether the .getIndicesOfAtomsWithInvalidValences() method of class FilterUtils returns the ascending
+     * indices of all atoms with invalid valences and an empty array if all valences are valid.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     */
+    @Test
+    public void getIndicesOfAtomsWithInvalidValencesTest_returnsIndicesOfAllAtomsWithInvalidValences()
+            throws InvalidSmilesException {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings("CC(C)(C)(C)(C)CO[C+5]", "CCO");
+        IValenceModel tmpValenceModel = new PubChemValenceModel();
+        Assertions.assertArrayEquals(new int[]{1, 8}, FilterUtils.getIndicesOfAtomsWithInvalidValences(
+                tmpAtomContainerSet.getAtomContainer(0), false, tmpValenceModel));
+        Assertions.assertArrayEquals(new int[0], FilterUtils.getIndicesOfAtomsWithInvalidValences(
+                tmpAtomContainerSet.getAtomContainer(1), false, tmpValenceModel));
+        // the result is consistent with the .hasAllValidValences() method
+        for (IAtomContainer tmpAtomContainer : tmpAtomContainerSet.atomContainers()) {
+            Assertions.assertEquals(FilterUtils.hasAllValidValences(tmpAtomContainer, false, tmpValenceModel),
+                    FilterUtils.getIndicesOfAtomsWithInvalidValences(tmpAtomContainer, false, tmpValenceModel)
+                            .length == 0);
+        }
+    }
+    //</editor-fold>
+
 }
@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.utils;
+
+import de.unijena.cheminf.curation.fileReaders.CustomIteratingSDFReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openscience.cdk.exception.CDKException;
+import org.openscience.cdk.graph.ConnectivityChecker;
+import org.openscience.cdk.interfaces.IAtom;
+import org.openscience.cdk.interfaces.IAtomContainer;
+import org.openscience.cdk.interfaces.IPseudoAtom;
+import org.openscience.cdk.silent.SilentChemObjectBuilder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Test class for the SyntheticDatasetGenerator.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ */
+public class SyntheticDatasetGeneratorTest {
+
+    /**
+     * Tests whether two generators with the same seed yield the same sequence of SMILES strings and whether
+     * .reset() restarts the sequence.
+     */
+    @Test
+    public void sameSeedYieldsSameSequenceTest() {
+        SyntheticDatasetGenerator tmpGenerator1 = new SyntheticDatasetGenerator(7L);
+        SyntheticDatasetGenerator tmpGenerator2 = new SyntheticDatasetGenerator(7L);
+        String[] tmpSmilesArray = new String[50];
+        for (int i = 0; i < tmpSmilesArray.length; i++) {
+            tmpSmilesArray[i] = tmpGenerator1.nextSmiles();
+            Assertions.assertEquals(tmpSmilesArray[i], tmpGenerator2.nextSmiles());
+        }
+        Assertions.assertEquals(50, tmpGenerator1.getRecordCount());
+        tmpGenerator1.reset();
+        Assertions.assertEquals(0, tmpGenerator1.getRecordCount());
+        for (String tmpSmiles : tmpSmilesArray) {
+            Assertions.assertEquals(tmpSmiles, tmpGenerator1.nextSmiles());
+        }
+    }
+
+    /**
+     * Tests whether the generated structures of a clean dataset are valid, single-component and within the set range
+     * of heavy atom counts plus the size of a fragment.
+     *
+     * @throws CDKException if a SMILES string could not be parsed
+     */
+    @Test
+    public void cleanDatasetTest() throws CDKException {
+        SyntheticDatasetGenerator tmpGenerator = new SyntheticDatasetGenerator(42L);
+        tmpGenerator.setNoDefects();
+        tmpGenerator.setHeavyAtomCountDistribution(20, 5, 50);
+        for (int i = 0; i < 200; i++) {
+            IAtomContainer tmpAtomContainer = tmpGenerator.nextAtomContainer();
+            Assertions.assertTrue(FilterUtils.hasAllValidValences(tmpAtomContainer, false));
+            Assertions.assertTrue(ConnectivityChecker.isConnected(tmpAtomContainer));
+            Assertions.assertTrue(tmpAtomContainer.getAtomCount() >= 5);
+            Assertions.assertTrue(tmpAtomContainer.getAtomCount() <= 50 + 10);
+            Assertions.assertNotNull(tmpAtomContainer.getProperty(
+                    SyntheticDatasetGenerator.EXTERNAL_ID_PROPERTY_NAME));
+            for (IAtom tmpAtom : tmpAtomContainer.atoms()) {
+                Assertions.assertNotNull(tmpAtom.getImplicitHydrogenCount());
+            }
+        }
+    }
+
+    /**
+     * Tests whether the defects are introduced if their shares are set to one.
+     *
+     * @throws CDKException if a SMILES string could not be parsed
+     */
+    @Test
+    public void defectRatesOfOneTest() throws CDKException {
+        SyntheticDatasetGenerator tmpGenerator = new SyntheticDatasetGenerator(42L);
+        tmpGenerator.setSaltRate(1.0);
+        tmpGenerator.setPseudoAtomRate(1.0);
+        tmpGenerator.setInvalidValenceRate(1.0);
+        tmpGenerator.setMissingImplicitHydrogenCountRate(0.0);
+        tmpGenerator.setMissingExternalIdRate(1.0);
+        for (int i = 0; i < 50; i++) {
+            IAtomContainer tmpAtomContainer = tmpGenerator.nextAtomContainer();
+            Assertions.assertFalse(ConnectivityChecker.isConnected(tmpAtomContainer));
+            Assertions.assertFalse(FilterUtils.hasAllValidValences(tmpAtomContainer, true));
+            Assertions.assertNull(tmpAtomContainer.getProperty(SyntheticDatasetGenerator.EXTERNAL_ID_PROPERTY_NAME));
+            boolean tmpHasPseudoAtom = false;
+            for (IAtom tmpAtom : tmpAtomContainer.atoms()) {
+                tmpHasPseudoAtom |= tmpAtom instanceof IPseudoAtom;
+            }
+            Assertions.assertTrue(tmpHasPseudoAtom);
+        }
+        tmpGenerator.setMissingImplicitHydrogenCountRate(1.0);
+        for (int i = 0; i < 50; i++) {
+            boolean tmpHasUnsetImplicitHydrogenCount = false;
+            for (IAtom tmpAtom : tmpGenerator.nextAtomContainer().atoms()) {
+                tmpHasUnsetImplicitHydrogenCount |= tmpAtom.getImplicitHydrogenCount() == null;
+            }
+            Assertions.assertTrue(tmpHasUnsetImplicitHydrogenCount);
+        }
+    }
+
+    /**
+     * Tests whether .setSaltRate() throws an IllegalArgumentException if the given share is not between zero and one.
+     */
+    @Test
+    public void setSaltRateMethodTest_invalidRate_throwsIllegalArgumentException() {
+        SyntheticDatasetGenerator tmpGenerator = new SyntheticDatasetGenerator(42L);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tmpGenerator.setSaltRate(1.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tmpGenerator.setSaltRate(Double.NaN));
+    }
+
+    /**
+     * Tests whether a written SD file contains the given number of records with their SD tags.
+     *
+     * @param aTempDirectoryPath path of a temporary directory
+     * @throws Exception if anything goes wrong
+     */
+    @Test
+    public void writeSdFileMethodTest(@TempDir Path aTempDirectoryPath) throws Exception {
+        SyntheticDatasetGenerator tmpGenerator = new SyntheticDatasetGenerator(42L);
+        tmpGenerator.setMissingExternalIdRate(0.0);
+        Path tmpFilePath = aTempDirectoryPath.resolve("synthetic.sdf");
+        tmpGenerator.writeSdFile(tmpFilePath, 100);
+        int tmpCount = 0;
+        try (Reader tmpReader = Files.newBufferedReader(tmpFilePath, StandardCharsets.UTF_8);
+             CustomIteratingSDFReader tmpSdfReader = new CustomIteratingSDFReader(tmpReader,
+                     SilentChemObjectBuilder.getInstance())) {
+            while (tmpSdfReader.hasNext()) {
+                IAtomContainer tmpAtomContainer = tmpSdfReader.next();
+                tmpCount++;
+                Assertions.assertNotNull(tmpAtomContainer);
+                Assertions.assertEquals(String.format("SYN-%09d", tmpCount),
+                        tmpAtomContainer.getProperty(SyntheticDatasetGenerator.EXTERNAL_ID_PROPERTY_NAME));
+                Assertions.assertNotNull(tmpAtomContainer.getProperty(SyntheticDatasetGenerator.SOURCE_PROPERTY_NAME));
+                Assertions.assertNotNull(tmpAtomContainer.getProperty(SyntheticDatasetGenerator.PURITY_PROPERTY_NAME));
+            }
+        }
+        Assertions.assertEquals(100, tmpCount);
+    }
+
+    /**
+     * Tests whether a written SMILES file contains one line per record with SMILES string and external identifier and
+     * whether the records equal the ones of the other output formats.
+     *
+     * @param aTempDirectoryPath path of a temporary directory
+     * @throws IOException  if the file could not be written or read
+     * @throws CDKException if a SMILES string could not be parsed
+     */
+    @Test
+    public void writeSmilesFileMethodTest(@TempDir Path aTempDirectoryPath) throws IOException, CDKException {
+        SyntheticDatasetGenerator tmpGenerator = new SyntheticDatasetGenerator(42L);
+        tmpGenerator.setMissingExternalIdRate(0.0);
+        Path tmpFilePath = aTempDirectoryPath.resolve("synthetic.smi");
+        tmpGenerator.writeSmilesFile(tmpFilePath, 100);
+        List<String> tmpLines = Files.readAllLines(tmpFilePath, StandardCharsets.UTF_8);
+        Assertions.assertEquals(100, tmpLines.size());
+        Assertions.assertTrue(tmpLines.get(99).endsWith(" SYN-000000100"));
+        SyntheticDatasetGenerator tmpOtherGenerator = new SyntheticDatasetGenerator(42L);
+        tmpOtherGenerator.nextAtomContainer();
+        Assertions.assertEquals(tmpOtherGenerator.nextSmiles() + " SYN-000000002", tmpLines.get(1));
+    }
+
+}
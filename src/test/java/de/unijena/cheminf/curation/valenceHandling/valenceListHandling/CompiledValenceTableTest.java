@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.valenceHandling.valenceListHandling;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openscience.cdk.interfaces.IElement;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Test class of the CompiledValenceTable class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see CompiledValenceTable
+ */
+public class CompiledValenceTableTest {
+
+    /**
+     * Tests whether the compiled valence table returns the same results as a linear scan over all entries of the
+     * PubChem valence list for every combination of atomic number, charge, number of π bonds, number of σ bonds and
+     * number of implicit hydrogens in a range exceeding the values present in the list.
+     */
+    @Test
+    public void isValidConfigurationTest_pubChemValenceList_equalsLinearScanOverAllEntries() {
+        ValenceListMatrixWrapper tmpWrapper = PubChemValenceListMatrixWrapper.getInstance();
+        CompiledValenceTable tmpCompiledValenceTable = new CompiledValenceTable(tmpWrapper);
+        for (int tmpAtomicNumber = -1; tmpAtomicNumber <= ValenceListMatrixWrapper.HIGHEST_KNOWN_ATOMIC_NUMBER + 1;
+                tmpAtomicNumber++) {
+            for (int tmpCharge = -5; tmpCharge <= 9; tmpCharge++) {
+                for (int tmpPiBondCount = 0; tmpPiBondCount <= 6; tmpPiBondCount++) {
+                    for (int tmpSigmaBondCount = 0; tmpSigmaBondCount <= 9; tmpSigmaBondCount++) {
+                        for (int tmpImplicitHydrogenCount = 0; tmpImplicitHydrogenCount <= 5;
+                                tmpImplicitHydrogenCount++) {
+                            Assertions.assertEquals(
+                                    this.isValidConfigurationByLinearScan(tmpWrapper, tmpAtomicNumber, tmpCharge,
+                                            tmpPiBondCount, tmpSigmaBondCount, tmpImplicitHydrogenCount),
+                                    tmpCompiledValenceTable.isValidConfiguration(tmpAtomicNumber, tmpCharge,
+                                            tmpPiBondCount, tmpSigmaBondCount, tmpImplicitHydrogenCount)
+                            );
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests whether the .getMaximumImplicitHydrogenCount() method returns the value of column five of every entry of
+     * the PubChem valence list.
+     */
+    @Test
+    public void getMaximumImplicitHydrogenCountTest_pubChemValenceList_returnsValueOfEveryListEntry() {
+        ValenceListMatrixWrapper tmpWrapper = PubChemValenceListMatrixWrapper.getInstance();
+        CompiledValenceTable tmpCompiledValenceTable = new CompiledValenceTable(tmpWrapper);
+        for (int i = 0; i < tmpWrapper.getLengthOfValenceList(); i++) {
+            int[] tmpEntry = tmpWrapper.getValenceListEntry(i);
+            Assertions.assertTrue(tmpEntry[4] <= tmpCompiledValenceTable.getMaximumImplicitHydrogenCount(
+                    tmpEntry[0], tmpEntry[1], tmpEntry[2], tmpEntry[3]));
+        }
+    }
+
+    /**
+     * Tests whether the .getMaximumImplicitHydrogenCount() method returns the expected values for a carbon atom in
+     * methane and for a configuration not present in the valence list.
+     */
+    @Test
+    public void getMaximumImplicitHydrogenCountTest_carbon() {
+        CompiledValenceTable tmpCompiledValenceTable
+                = new CompiledValenceTable(PubChemValenceListMatrixWrapper.getInstance());
+        Assertions.assertEquals(4, tmpCompiledValenceTable.getMaximumImplicitHydrogenCount(IElement.C, 0, 0, 4));
+        Assertions.assertEquals(CompiledValenceTable.NO_CONFIGURATION,
+                tmpCompiledValenceTable.getMaximumImplicitHydrogenCount(IElement.C, 0, 0, 9));
+        Assertions.assertEquals(CompiledValenceTable.NO_CONFIGURATION,
+                tmpCompiledValenceTable.getMaximumImplicitHydrogenCount(IElement.Og + 1, 0, 0, 4));
+    }
+
+    /**
+     * Tests whether the constructor throws a NullPointerException if the given valence list matrix wrapper is null.
+     */
+    @Test
+    public void constructorTest_nullWrapper_throwsNullPointerException() {
+        Assertions.assertThrows(
+                NullPointerException.class,
+                () -> new CompiledValenceTable(null)
+        );
+    }
+
+    /**
+     * Tests whether the constructor throws an IllegalArgumentException if the valence list contains an entry with a
+     * negative number of π bonds that can not be mapped to a cell of the lookup table.
+     *
+     * @throws IOException if a problem occurs writing or importing the compiled valence list
+     */
+    @Test
+    public void constructorTest_negativePiBondCount_throwsIllegalArgumentException() throws IOException {
+        ByteArrayOutputStream tmpOutputStream = new ByteArrayOutputStream();
+        DataOutputStream tmpDataOutputStream = new DataOutputStream(tmpOutputStream);
+        tmpDataOutputStream.writeInt(ValenceListMatrixWrapper.COMPILED_VALENCE_LIST_MAGIC_NUMBER);
+        tmpDataOutputStream.writeInt(2);
+        tmpDataOutputStream.write(new byte[]{IElement.C, 0, 0, 4, 4});
+        tmpDataOutputStream.write(new byte[]{IElement.C, 0, -1, 4, 0});
+        tmpDataOutputStream.flush();
+        ValenceListMatrixWrapper tmpWrapper
+                = new ValenceListMatrixWrapper(new ByteArrayInputStream(tmpOutputStream.toByteArray()));
+        IllegalArgumentException tmpException = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new CompiledValenceTable(tmpWrapper)
+        );
+        Assertions.assertTrue(tmpException.getMessage().contains("index 1"));
+    }
+
+    /**
+     * Checks the validity of the given atom configuration by iterating over all entries of the given valence list.
+     *
+     * @param aWrapper valence list matrix wrapper
+     * @param anAtomicNumber atomic number
+     * @param aCharge formal charge
+     * @param aPiBondCount number of π bonds
+     * @param aSigmaBondCount number of σ bonds
+     * @param anImplicitHydrogenCount number of implicit hydrogens
+     * @return true, if a matching entry is present in the list
+     */
+    private boolean isValidConfigurationByLinearScan(ValenceListMatrixWrapper aWrapper, int anAtomicNumber,
+                                                     int aCharge, int aPiBondCount, int aSigmaBondCount,
+                                                     int anImplicitHydrogenCount) {
+        for (int i = 0; i < aWrapper.getLengthOfValenceList(); i++) {
+            if (aWrapper.getValenceListEntry(i, 0) == anAtomicNumber
+                    && aWrapper.getValenceListEntry(i, 1) == aCharge
+                    && aWrapper.getValenceListEntry(i, 2) == aPiBondCount
+                    && aWrapper.getValenceListEntry(i, 3) == aSigmaBondCount
+                    && anImplicitHydrogenCount <= aWrapper.getValenceListEntry(i, 4)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -31,6 +31,8 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import java.io.IOException;
+
 /**
  * Test class of the PubChemValenceListMatrixWrapper class.
  *
@@ -52,34 +54,60 @@ public class PubChemValenceListMatrixWrapperTest {
     public static final int LOWEST_ATOMIC_NUMBER_IN_LIST = 1;
 
     /**
-     * Tests whether the static class variable {@link PubChemValenceListMatrixWrapper#instance} gets initialized via
-     * a static block and therefore never is null.
+     * Integer value of the number of entries of the PubChem valence list.
+     */
+    public static final int NUMBER_OF_ENTRIES_IN_LIST = 981;
+
+    /**
+     * String containing the file path of the PubChem valence list text file the compiled resource is generated from.
+     */
+    public static final String VALENCE_LIST_TEXT_FILE_PATH_STRING
+            = "src/main/resources/de/unijena/cheminf/curation/valenceLists/PubChem_Valence_list.txt";
+
+    /**
+     * Tests whether the .getInstance() method of class PubChemValenceListMatrixWrapper never returns null.
      */
     @Test
     @Order(1)
-    public void staticBlockTest_classVariableInstanceIsNeverNull() {
-        Assertions.assertNotNull(PubChemValenceListMatrixWrapper.instance);
+    public void getInstanceMethodTest_neverReturnsNull() {
+        Assertions.assertNotNull(PubChemValenceListMatrixWrapper.getInstance());
     }
 
     /**
-     * Tests whether the .getInstance() method of class PubChemValenceListContainer returns the static class variable
-     * "instance".
+     * Tests whether the .getInstance() method of class PubChemValenceListMatrixWrapper returns the same instance on
+     * every call.
      */
     @Test
-    public void getInstanceMethodTest_returnsStaticClassVarInstance() {
+    public void getInstanceMethodTest_returnsSameInstanceOnEveryCall() {
         Assertions.assertSame(
-                PubChemValenceListMatrixWrapper.instance,
+                PubChemValenceListMatrixWrapper.getInstance(),
                 PubChemValenceListMatrixWrapper.getInstance()
         );
     }
 
+    /**
+     * Tests whether the compiled PubChem valence list loaded from the classpath contains the same data as the PubChem
+     * valence list text file, i.e. whether the compiled resource is up-to-date.
+     *
+     * @throws IOException if the valence list text file could not be read
+     */
+    @Test
+    public void compiledResourceTest_equalsValenceListTextFile() throws IOException {
+        ValenceListMatrixWrapper tmpTextFileWrapper = new ValenceListMatrixWrapper(
+                PubChemValenceListMatrixWrapperTest.VALENCE_LIST_TEXT_FILE_PATH_STRING);
+        ValenceListMatrixWrapper tmpCompiledResourceWrapper = PubChemValenceListMatrixWrapper.getInstance();
+        Assertions.assertArrayEquals(tmpTextFileWrapper.valenceListMatrix, tmpCompiledResourceWrapper.valenceListMatrix);
+        Assertions.assertArrayEquals(tmpTextFileWrapper.valenceListPointerMatrix,
+                tmpCompiledResourceWrapper.valenceListPointerMatrix);
+    }
+
     /**
      * Tests whether the valenceListMatrix has the expected dimensions (number of lines in file - 1 x 5).
      */
     @Test
     public void dimensionsOfValenceListMatrixTest_981x5() {
         ValenceListMatrixWrapper tmpValenceListContainer = PubChemValenceListMatrixWrapper.getInstance();
-        Assertions.assertEquals(PubChemValenceListMatrixWrapper.NUMBER_OF_LINES_IN_FILE - 1,
+        Assertions.assertEquals(PubChemValenceListMatrixWrapperTest.NUMBER_OF_ENTRIES_IN_LIST,
                 tmpValenceListContainer.valenceListMatrix.length);
         Assertions.assertEquals(ValenceListMatrixWrapper.NUMBER_OF_COLUMNS_PER_LINE_OF_FILE,
                 tmpValenceListContainer.valenceListMatrix[0].length);
@@ -28,7 +28,10 @@ package de.unijena.cheminf.curation.valenceHandling.valenceListHandling;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * Test class of the ValenceListMatrixWrapper class and of classes extending it.
@@ -378,4 +381,52 @@ public class ValenceListMatrixWrapperTest extends ValenceListMatrixWrapper {
                 this.getHighestAtomicNumberInList());
     }
 
+    /**
+     * Tests whether a valence list written in the compiled format via .writeCompiledValenceList() and imported via
+     * the respective constructor contains the same data as the original valence list.
+     *
+     * @throws IOException if a problem occurs writing or reading the compiled valence list
+     */
+    @Test
+    public void writeCompiledValenceListMethodTest_importedViaInputStreamConstructor_sameData() throws IOException {
+        ByteArrayOutputStream tmpOutputStream = new ByteArrayOutputStream();
+        this.writeCompiledValenceList(tmpOutputStream);
+        Assertions.assertEquals(8 + (ValenceListMatrixWrapperTest.NUMBER_OF_LINES_IN_TEST_FILE - 1)
+                * ValenceListMatrixWrapper.NUMBER_OF_COLUMNS_PER_LINE_OF_FILE, tmpOutputStream.size());
+        ValenceListMatrixWrapper tmpCompiledInstance
+                = new ValenceListMatrixWrapper(new ByteArrayInputStream(tmpOutputStream.toByteArray()));
+        Assertions.assertEquals(this.getLengthOfValenceList(), tmpCompiledInstance.getLengthOfValenceList());
+        Assertions.assertEquals(this.getLowestAtomicNumberInList(), tmpCompiledInstance.getLowestAtomicNumberInList());
+        Assertions.assertEquals(this.getHighestAtomicNumberInList(),
+                tmpCompiledInstance.getHighestAtomicNumberInList());
+        Assertions.assertArrayEquals(this.valenceListMatrix, tmpCompiledInstance.valenceListMatrix);
+        Assertions.assertArrayEquals(this.valenceListPointerMatrix, tmpCompiledInstance.valenceListPointerMatrix);
+    }
+
+    /**
+     * Tests whether the input stream constructor of class ValenceListMatrixWrapper throws an IOException if the data
+     * does not start with the magic number of compiled valence lists or is truncated; two tests.
+     *
+     * @throws IOException if a problem occurs writing the compiled valence list
+     */
+    @Test
+    public void inputStreamConstructorTest_invalidData_throwsIOException() throws IOException {
+        ByteArrayOutputStream tmpOutputStream = new ByteArrayOutputStream();
+        this.writeCompiledValenceList(tmpOutputStream);
+        byte[] tmpCompiledValenceList = tmpOutputStream.toByteArray();
+        //test 1: wrong magic number
+        byte[] tmpWrongMagicNumber = tmpCompiledValenceList.clone();
+        tmpWrongMagicNumber[0]++;
+        Assertions.assertThrows(
+                IOException.class,
+                () -> new ValenceListMatrixWrapper(new ByteArrayInputStream(tmpWrongMagicNumber))
+        );
+        //test 2: truncated data
+        byte[] tmpTruncatedData = Arrays.copyOf(tmpCompiledValenceList, tmpCompiledValenceList.length - 1);
+        Assertions.assertThrows(
+                IOException.class,
+                () -> new ValenceListMatrixWrapper(new ByteArrayInputStream(tmpTruncatedData))
+        );
+    }
+
 }
@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.valenceHandling.valenceModels;
+
+import de.unijena.cheminf.curation.TestUtils;
+import de.unijena.cheminf.curation.enums.ErrorCodes;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openscience.cdk.exception.InvalidSmilesException;
+import org.openscience.cdk.interfaces.IAtom;
+import org.openscience.cdk.interfaces.IAtomContainer;
+import org.openscience.cdk.interfaces.IAtomContainerSet;
+
+/**
+ * Test class of the CachingValenceModel class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see CachingValenceModel
+ */
+public class CachingValenceModelTest {
+
+    /**
+     * Tests whether the .hasValidValence() method of CachingValenceModel returns the same verdicts as the wrapped
+     * PubChem valence model; the atoms are checked twice to also cover the cached verdicts.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     */
+    @Test
+    public void hasValidValenceTest_equalsVerdictsOfWrappedModel() throws InvalidSmilesException {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings(
+                "C1=CC=CC=C1", "[H+]", "CC(=O)[O-].[Na+]", "C[N](C)(C)(C)C", "[C+5]", "C=[N+]=O", "*CC"
+        );
+        IValenceModel tmpValenceModel = new PubChemValenceModel();
+        CachingValenceModel tmpCachingValenceModel = new CachingValenceModel(tmpValenceModel);
+        for (int i = 0; i < 2; i++) {
+            for (IAtomContainer tmpAtomContainer : tmpAtomContainerSet.atomContainers()) {
+                for (IAtom tmpAtom : tmpAtomContainer.atoms()) {
+                    Assertions.assertEquals(tmpValenceModel.hasValidValence(tmpAtom),
+                            tmpCachingValenceModel.hasValidValence(tmpAtom));
+                    Assertions.assertEquals(tmpValenceModel.hasValidValence(tmpAtom, true),
+                            tmpCachingValenceModel.hasValidValence(tmpAtom, true));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests whether the wrapped valence model is consulted only once per distinct atom environment and whether the
+     * hits and misses are counted accordingly.
+     *
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     */
+    @Test
+    public void hasValidValenceTest_repeatedAtomEnvironment_wrappedModelConsultedOnce_countsHitsAndMisses()
+            throws InvalidSmilesException {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("c1ccccc1");
+        final int[] tmpCallsCount = new int[1];
+        IValenceModel tmpPubChemValenceModel = new PubChemValenceModel();
+        IValenceModel tmpCountingValenceModel = new IValenceModel() {
+            @Override
+            public boolean hasValidValence(IAtom anAtom) {
+                return this.hasValidValence(anAtom, false);
+            }
+            @Override
+            public boolean hasValidValence(IAtom anAtom, boolean aWildcardAtomicNumberIsValid) {
+                tmpCallsCount[0]++;
+                return tmpPubChemValenceModel.hasValidValence(anAtom, aWildcardAtomicNumberIsValid);
+            }
+        };
+        CachingValenceModel tmpCachingValenceModel = new CachingValenceModel(tmpCountingValenceModel);
+        for (IAtom tmpAtom : tmpAtomContainer.atoms()) {
+            Assertions.assertTrue(tmpCachingValenceModel.hasValidValence(tmpAtom));
+        }
+        Assertions.assertEquals(1, tmpCallsCount[0]);
+        Assertions.assertEquals(1, tmpCachingValenceModel.getMissCount());
+        Assertions.assertEquals(5, tmpCachingValenceModel.getHitCount());
+        Assertions.assertEquals(1, tmpCachingValenceModel.getCacheSize());
+        //
+        tmpCachingValenceModel.clear();
+        Assertions.assertEquals(0, tmpCachingValenceModel.getMissCount());
+        Assertions.assertEquals(0, tmpCachingValenceModel.getHitCount());
+        Assertions.assertEquals(0, tmpCachingValenceModel.getCacheSize());
+    }
+
+    /**
+     * Tests whether no more verdicts than the maximum cache size are cached.
+     *
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     */
+    @Test
+    public void hasValidValenceTest_maximumCacheSizeReached_noFurtherVerdictsCached() throws InvalidSmilesException {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("OCC=O");
+        CachingValenceModel tmpCachingValenceModel = new CachingValenceModel(new PubChemValenceModel(), 2);
+        for (int i = 0; i < 2; i++) {
+            for (IAtom tmpAtom : tmpAtomContainer.atoms()) {
+                tmpCachingValenceModel.hasValidValence(tmpAtom);
+            }
+        }
+        Assertions.assertEquals(2, tmpCachingValenceModel.getCacheSize());
+        Assertions.assertEquals(2, tmpCachingValenceModel.getHitCount());
+        Assertions.assertEquals(6, tmpCachingValenceModel.getMissCount());
+    }
+
+    /**
+     * Tests whether the .hasValidValence() method of CachingValenceModel passes atoms with an atomic number of null to
+     * the wrapped valence model, which throws a NullPointerException with the respective error code as message.
+     *
+     * @throws InvalidSmilesException if the SMILES string could not be parsed
+     */
+    @Test
+    public void hasValidValenceTest_atomicNumberNull_throwsNullPointerExceptionOfWrappedModel()
+            throws InvalidSmilesException {
+        IAtomContainer tmpAtomContainer = TestUtils.parseSmilesString("C");
+        tmpAtomContainer.getAtom(0).setAtomicNumber(null);
+        CachingValenceModel tmpCachingValenceModel = new CachingValenceModel(new PubChemValenceModel());
+        try {
+            tmpCachingValenceModel.hasValidValence(tmpAtomContainer.getAtom(0));
+            Assertions.fail();
+        } catch (NullPointerException aNullPointerException) {
+            Assertions.assertEquals(ErrorCodes.ATOMIC_NUMBER_NULL_ERROR.name(), aNullPointerException.getMessage());
+        }
+        Assertions.assertEquals(0, tmpCachingValenceModel.getCacheSize());
+    }
+
+    /**
+     * Tests whether the constructor throws a NullPointerException if the given valence model is null and an
+     * IllegalArgumentException if the given maximum cache size is less than one.
+     */
+    @Test
+    public void constructorTest_invalidArguments_throwsExceptions() {
+        Assertions.assertThrows(NullPointerException.class, () -> new CachingValenceModel(null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new CachingValenceModel(new PubChemValenceModel(), 0));
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Samuel Behr, Felix Baensch, Jonas Schaub, Christoph Steinbeck, and Achim Zielesny
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.unijena.cheminf.curation.valenceHandling.valenceModels;
+
+import de.unijena.cheminf.curation.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openscience.cdk.exception.InvalidSmilesException;
+import org.openscience.cdk.interfaces.IAtom;
+import org.openscience.cdk.interfaces.IAtomContainer;
+import org.openscience.cdk.interfaces.IAtomContainerSet;
+
+/**
+ * Test class of the CompositeValenceModel class.
+ *
+ * @author Samuel Behr
+ * @version 1.0.0.0
+ * @see CompositeValenceModel
+ */
+public class CompositeValenceModelTest {
+
+    /**
+     * Valence model that considers the valences of charged atoms as invalid and otherwise returns the verdicts of the
+     * PubChem valence model.
+     */
+    private static final IValenceModel UNCHARGED_PUBCHEM_VALENCE_MODEL = new IValenceModel() {
+        private final IValenceModel pubChemValenceModel = new PubChemValenceModel();
+        @Override
+        public boolean hasValidValence(IAtom anAtom) {
+            return this.hasValidValence(anAtom, false);
+        }
+        @Override
+        public boolean hasValidValence(IAtom anAtom, boolean aWildcardAtomicNumberIsValid) {
+            return anAtom.getFormalCharge() == 0
+                    && this.pubChemValenceModel.hasValidValence(anAtom, aWildcardAtomicNumberIsValid);
+        }
+    };
+
+    /**
+     * Tests whether the .getValenceValidities() method of CompositeValenceModel returns the verdicts of the single
+     * composed valence models in the order of the models and whether the .hasValidValence() method returns their
+     * conjunction.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     */
+    @Test
+    public void getValenceValiditiesTest_returnsVerdictsOfComposedModels() throws InvalidSmilesException {
+        IAtomContainerSet tmpAtomContainerSet = TestUtils.parseSmilesStrings(
+                "C1=CC=CC=C1", "CC(=O)[O-].[Na+]", "C[N](C)(C)(C)C", "[C+5]", "*CC"
+        );
+        IValenceModel tmpPubChemValenceModel = new PubChemValenceModel();
+        CompositeValenceModel tmpCompositeValenceModel = new CompositeValenceModel(tmpPubChemValenceModel,
+                CompositeValenceModelTest.UNCHARGED_PUBCHEM_VALENCE_MODEL);
+        Assertions.assertEquals(2, tmpCompositeValenceModel.getValenceModelCount());
+        boolean[] tmpValidities;
+        for (IAtomContainer tmpAtomContainer : tmpAtomContainerSet.atomContainers()) {
+            for (IAtom tmpAtom : tmpAtomContainer.atoms()) {
+                tmpValidities = tmpCompositeValenceModel.getValenceValidities(tmpAtom, true);
+                Assertions.assertEquals(tmpPubChemValenceModel.hasValidValence(tmpAtom, true), tmpValidities[0]);
+                Assertions.assertEquals(CompositeValenceModelTest.UNCHARGED_PUBCHEM_VALENCE_MODEL.hasValidValence(
+                        tmpAtom, true), tmpValidities[1]);
+                Assertions.assertEquals(tmpValidities[0] && tmpValidities[1],
+                        tmpCompositeValenceModel.hasValidValence(tmpAtom, true));
+            }
+        }
+    }
+
+    /**
+     * Tests whether the .hasAllValidValencesPerModel() method of CompositeValenceModel returns per composed valence
+     * model whether all atoms of the atom container have valid valences.
+     *
+     * @throws InvalidSmilesException if a SMILES string could not be parsed
+     */
+    @Test
+    public void hasAllValidValencesPerModelTest() throws InvalidSmilesException {
+        CompositeValenceModel tmpCompositeValenceModel = new CompositeValenceModel(new PubChemValenceModel(),
+                CompositeValenceModelTest.UNCHARGED_PUBCHEM_VALENCE_MODEL);
+        Assertions.assertArrayEquals(new boolean[]{true, true}, tmpCompositeValenceModel.hasAllValidValencesPerModel(
+                TestUtils.parseSmilesString("CCO"), false));
+        Assertions.assertArrayEquals(new boolean[]{true, false}, tmpCompositeValenceModel.hasAllValidValencesPerModel(
+                TestUtils.parseSmilesString("CC(=O)[O-].[Na+]"), false));
+        Assertions.assertArrayEquals(new boolean[]{false, false}, tmpCompositeValenceModel.hasAllValidValencesPerModel(
+                TestUtils.parseSmilesString("CC(C)(C)(C)(C)C"), false));
+    }
+
+    /**
+     * Tests whether the constructor of CompositeValenceModel throws an IllegalArgumentException if no valence model
+     * is given and a NullPointerException if one of the given valence models is null.
+     */
+    @Test
+    public void constructorTest_invalidArguments_throwsExceptions() {
+        Assertions.assertThrows(IllegalArgumentException.class, CompositeValenceModel::new);
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new CompositeValenceModel(new PubChemValenceModel(), null));
+    }
+
+}